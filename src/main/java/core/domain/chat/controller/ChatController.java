@@ -7,6 +7,7 @@ import core.global.config.CustomUserDetails;
 import core.global.dto.ApiResponse;
 
 import core.global.metrics.FeatureUsageMetrics;
+import core.global.pagination.CursorPageResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -88,17 +89,18 @@ public class ChatController {
     }
 
 
-    @Operation(summary = "채팅방 메시지 조회 (무한 스크롤 위로 스크롤올릴때 호출하는 api )")
+    @Operation(summary = "채팅방 메시지 조회 (무한 스크롤 위로 스크롤올릴때 호출하는 api )",
+            description = "메시지 ID 내림차순으로 20개씩 조회합니다. 다음 페이지는 응답의 nextCursor 를 lastMessageId 로 넘겨 요청합니다.")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "성공",
-                    content = @Content(schema = @Schema(implementation = ChatMessageResponse.class))
+                    content = @Content(schema = @Schema(implementation = CursorPageResponse.class))
             ),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "존재하지 않는 채팅방 또는 유저",
                     content = @Content(schema = @Schema(implementation = Object.class))
             )
     })
     @GetMapping("/rooms/{roomId}/messages")
-    public ResponseEntity<ApiResponse<List<ChatMessageResponse>>> getMessages(
+    public ResponseEntity<ApiResponse<CursorPageResponse<ChatMessageResponse>>> getMessages(
             @PathVariable Long roomId,
             @RequestParam(required = false) Long lastMessageId
     ) {
@@ -106,7 +108,7 @@ public class ChatController {
         CustomUserDetails principal = (CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
         Long userId = principal.getUserId();
 
-        List<ChatMessageResponse> responses = chatService.getMessages(roomId, userId, lastMessageId);
+        CursorPageResponse<ChatMessageResponse> responses = chatService.getMessages(roomId, userId, lastMessageId);
         featureUsageMetrics.recordChatUsage();
         return ResponseEntity.ok(ApiResponse.success(responses));
     }
@@ -180,12 +182,13 @@ public class ChatController {
     
     public ResponseEntity<ApiResponse<List<ChatMessageResponse>>> searchMessages(
             @RequestParam Long roomId,
-            @RequestParam String keyword
+            @RequestParam String keyword,
+            @RequestParam(required = false) Long lastMessageId
     ) {
         CustomUserDetails principal = (CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
         Long userId = principal.getUserId();
 
-        List<ChatMessageResponse> responses = chatService.searchMessages(roomId, userId, keyword);
+        List<ChatMessageResponse> responses = chatService.searchMessages(roomId, userId, keyword, lastMessageId);
         featureUsageMetrics.recordChatUsage();
         return ResponseEntity.ok(ApiResponse.success(responses));
     }
@@ -214,6 +217,26 @@ public class ChatController {
         return ResponseEntity.ok(ApiResponse.success(responses));
     }
 
+    @Operation(summary = "재연결 시 놓친 메시지 조회", description = "클라이언트가 마지막으로 받은 메시지 순번(seq) 이후의 메시지만 순번 순서대로 반환합니다. hasMore 가 true 이면 lastSeq 로 이어서 요청합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "성공",
+                    content = @Content(schema = @Schema(implementation = ChatMessageSinceResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "채팅방 참여자가 아님",
+                    content = @Content(schema = @Schema(implementation = Object.class))
+            )
+    })
+    @GetMapping("/rooms/{roomId}/messages/since")
+    public ResponseEntity<ApiResponse<ChatMessageSinceResponse>> getMessagesSince(
+            @PathVariable Long roomId,
+            @RequestParam Long seq
+    ) {
+        CustomUserDetails principal = (CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        Long userId = principal.getUserId();
+
+        return ResponseEntity.ok(ApiResponse.success(chatService.getMessagesSince(roomId, userId, seq)));
+    }
+
 
     @Operation(summary = "그룹 채팅 상세 정보 조회", description = "그룹 채팅방의 상세 정보(이름, 오너, 참여자 목록 등)를 조회합니다.")
     @GetMapping("/rooms/group/{roomId}")
@@ -224,11 +247,13 @@ public class ChatController {
         featureUsageMetrics.recordChatUsage();
         return ResponseEntity.ok(ApiResponse.success(response));
     }
-    @Operation(summary = "그룹 채팅방 검색", description = "채팅방 이름 키워드를 통해 그룹 채팅방을 검색합니다.")
+    @Operation(summary = "그룹 채팅방 검색", description = "채팅방 이름 키워드를 통해 그룹 채팅방을 최신순으로 검색합니다. 다음 페이지는 마지막 방 ID 를 lastChatRoomId 로 넘깁니다.")
     @GetMapping("/rooms/group/search")
     
-    public ResponseEntity<ApiResponse<List<GroupChatSearchResponse>>> searchGroupChats(@RequestParam String keyword) {
-        List<GroupChatSearchResponse> response = chatService.searchGroupChatRooms(keyword);
+    public ResponseEntity<ApiResponse<List<GroupChatSearchResponse>>> searchGroupChats(
+            @RequestParam String keyword,
+            @RequestParam(required = false) Long lastChatRoomId) {
+        List<GroupChatSearchResponse> response = chatService.searchGroupChatRooms(keyword, lastChatRoomId);
         featureUsageMetrics.recordChatUsage();
         return ResponseEntity.ok(ApiResponse.success(response));
     }
@@ -266,7 +291,7 @@ public class ChatController {
     }
 
 
-    @Operation(summary = "인기 그룹 채팅방 10개 조회", description = "참여자가 가장 많은 그룹 채팅방 10개를 조회합니다.")
+    @Operation(summary = "인기 그룹 채팅방 10개 조회", description = "참여자가 가장 많은 그룹 채팅방을 10개씩 조회합니다. page 는 0부터 시작합니다.")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "성공",
                     content = @Content(schema = @Schema(implementation = GroupChatSearchResponse.class))
@@ -274,8 +299,9 @@ public class ChatController {
     })
     @GetMapping("/group/popular")
     
-    public ResponseEntity<ApiResponse<List<GroupChatMainResponse>>> getPopularGroupChats() {
-        List<GroupChatMainResponse> response = chatService.getPopularGroupChats(10);
+    public ResponseEntity<ApiResponse<List<GroupChatMainResponse>>> getPopularGroupChats(
+            @RequestParam(defaultValue = "0") int page) {
+        List<GroupChatMainResponse> response = chatService.getPopularGroupChats(Math.max(page, 0), 10);
         featureUsageMetrics.recordChatUsage();
         return ResponseEntity.ok(ApiResponse.success(response));
     }
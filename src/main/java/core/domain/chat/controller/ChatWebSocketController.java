@@ -3,6 +3,7 @@ package core.domain.chat.controller;
 import core.domain.chat.dto.*;
 import core.domain.chat.entity.ChatRoom;
 import core.domain.chat.service.ChatService;
+import core.domain.chat.service.TypingAggregator;
 import core.global.config.CustomUserDetails;
 import core.global.service.TranslationService;
 import core.domain.user.repository.UserRepository;
@@ -12,7 +13,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
-import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
@@ -23,7 +23,7 @@ import org.springframework.stereotype.Controller;
 public class ChatWebSocketController {
 
     private final ChatService chatService;
-    private final SimpMessageSendingOperations template;
+    private final TypingAggregator typingAggregator;
     private final Logger log = LoggerFactory.getLogger(ChatWebSocketController.class);
     /**
      * @apiNote 새로운 메시지를 전송하고, 해당 채팅방의 구독자들에게 브로드캐스트합니다.
@@ -35,19 +35,20 @@ public class ChatWebSocketController {
         try {
             chatService.processAndSendChatMessage(req);
 
-            log.info("메시지 및 요약 전송 성공: roomId={}, senderId={}", req.roomId(), req.senderId());
+            log.info("메시지 저장 완료, 전송 파이프라인으로 넘김: roomId={}, senderId={}", req.roomId(), req.senderId());
         } catch (Exception e) {
             log.error("메시지 전송 실패", e);
         }
     }
     /**
-     * @apiNote 사용자가 메시지를 입력 중임을 알리는 이벤트를 다른 참여자에게 전송합니다.
+     * @apiNote 사용자가 메시지를 입력 중임을 알리는 이벤트를 방별로 모아,
+     * 입력 중인 사용자 목록(TypingSnapshotResponse)을 주기당 최대 한 번 다른 참여자에게 전송합니다.
      *
      * @param event 타이핑 이벤트 정보 (roomId, userId, isTyping)
      */
     @MessageMapping("/chat.typing")
     public void handleTypingEvent(@Payload TypingEvent event) {
-        template.convertAndSend("/topic/chatrooms/" + event.roomId(), event);
+        typingAggregator.onEvent(event);
     }
 
     /**
@@ -1,11 +1,7 @@
 package core.domain.chat.dto;
 
 import core.domain.chat.entity.ChatMessage;
-import core.domain.chat.entity.ChatRoom;
 import core.domain.user.entity.User;
-import core.global.enums.ImageType;
-import core.global.image.entity.Image;
-import core.global.image.repository.ImageRepository;
 
 import java.time.Instant;
 
@@ -17,16 +13,11 @@ public record ChatMessageFirstResponse(
         String senderLastName,
         String senderImageUrl,
         String content,
-        Instant sentAt
+        Instant sentAt,
+        Long seq
 ) {
-    public static ChatMessageFirstResponse fromEntity(ChatMessage message, ChatRoom room, ImageRepository imageRepository) {
+    public static ChatMessageFirstResponse fromEntity(ChatMessage message, String senderImageUrl) {
         User sender = message.getSender();
-        String senderImageUrl;
-        senderImageUrl = imageRepository.findFirstByImageTypeAndRelatedIdOrderByOrderIndexAsc(ImageType.USER, sender.getId())
-                .map(Image::getUrl)
-                .orElse(null);
-
-
         return new ChatMessageFirstResponse(
                 message.getId(),
                 message.getChatRoom().getId(),
@@ -35,7 +26,8 @@ public record ChatMessageFirstResponse(
                 sender.getLastName(),
                 senderImageUrl,
                 message.getContent(),
-                message.getSentAt()
+                message.getSentAt(),
+                message.getSeq()
         );
     }
 }
\ No newline at end of file
@@ -14,6 +14,7 @@ public record ChatMessageResponse(
         String senderFirstName,
         String senderLastName,
         String senderImageUrl,
-        MessageType messageType) {
+        MessageType messageType,
+        Long seq) {
 
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package core.domain.chat.dto;
+
+import java.util.List;
+
+/**
+ * 재연결 동기화 응답.
+ *
+ * @param messages 요청한 순번 이후의 메시지 (순번 오름차순)
+ * @param lastSeq  이번 응답까지 확인한 마지막 순번. 다음 요청의 seq 로 사용합니다.
+ * @param hasMore  아직 남은 메시지가 있는지 여부
+ */
+public record ChatMessageSinceResponse(
+        List<ChatMessageResponse> messages,
+        Long lastSeq,
+        boolean hasMore
+) {
+}
@@ -5,6 +5,7 @@ public record ChatRoomParticipantsResponse(
         String firstName,
         String lastName,
         String userImageUrl,
-        boolean isHost
+        boolean isHost,
+        boolean online
 ) {
 }
\ No newline at end of file
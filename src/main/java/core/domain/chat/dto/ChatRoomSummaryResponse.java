@@ -1,5 +1,6 @@
 package core.domain.chat.dto;
 
+import core.domain.chat.entity.ChatInbox;
 import core.domain.chat.entity.ChatParticipant;
 import core.domain.chat.entity.ChatRoom;
 import core.domain.user.entity.User;
@@ -17,4 +18,16 @@ public record ChatRoomSummaryResponse(
         String roomImageUrl,
         int unreadCount,
         int participantCount
-) {}
\ No newline at end of file
+) {
+    public static ChatRoomSummaryResponse from(ChatInbox inbox) {
+        return new ChatRoomSummaryResponse(
+                inbox.getChatRoomId(),
+                inbox.getRoomName(),
+                inbox.getLastMessageContent() != null ? inbox.getLastMessageContent() : "새로운 메시지가 없습니다.",
+                inbox.getLastMessageAt(),
+                inbox.getRoomImageUrl(),
+                inbox.getUnreadCount(),
+                inbox.getParticipantCount()
+        );
+    }
+}
\ No newline at end of file
@@ -0,0 +1,12 @@
+package core.domain.chat.dto;
+
+/**
+ * 번역이 지연 예산을 넘겨 원문으로 먼저 보낸 메시지의 번역 결과를 뒤늦게 전달하는 프레임.
+ */
+public record ChatTranslationReadyResponse(
+        Long messageId,
+        Long roomId,
+        String targetLanguage,
+        String targetContent) {
+
+}
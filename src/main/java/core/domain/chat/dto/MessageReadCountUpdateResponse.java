@@ -1,5 +0,0 @@
-package core.domain.chat.dto;
-
-import java.util.List;
-
-public record MessageReadCountUpdateResponse(List<ReadCountInfo> readCounts) {}
@@ -1,3 +0,0 @@
-package core.domain.chat.dto;
-
-public record ReadCountInfo(Long messageId, int unreadCount) {}
\ No newline at end of file
@@ -0,0 +1,7 @@
+package core.domain.chat.dto;
+
+/**
+ * 순번이 fromSeq ~ toSeq (양끝 포함) 인 메시지의 안 읽은 수는 모두 unreadCount 입니다.
+ */
+public record ReadCountRange(long fromSeq, long toSeq, int unreadCount) {
+}
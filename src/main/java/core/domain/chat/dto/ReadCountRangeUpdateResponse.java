@@ -0,0 +1,10 @@
+package core.domain.chat.dto;
+
+import java.util.List;
+
+/**
+ * 읽음 수 변경 브로드캐스트. 안 읽은 수가 바뀐 순번 구간만 절대값으로 담습니다.
+ * 같은 구간을 다시 받아도 결과가 같으므로 클라이언트는 받은 값으로 덮어쓰면 됩니다.
+ */
+public record ReadCountRangeUpdateResponse(Long roomId, List<ReadCountRange> ranges) {
+}
@@ -0,0 +1,12 @@
+package core.domain.chat.dto;
+
+import java.util.List;
+
+/**
+ * 방에서 지금 입력 중인 사용자 전체. 매번 전체 목록을 보내므로 클라이언트는 받은 값으로 덮어쓰면 됩니다.
+ */
+public record TypingSnapshotResponse(Long roomId, List<TypingUser> typingUsers) {
+
+    public record TypingUser(Long userId, String name) {
+    }
+}
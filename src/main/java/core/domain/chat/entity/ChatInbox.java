@@ -0,0 +1,62 @@
+package core.domain.chat.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 사용자별 채팅방 목록 읽기 모델입니다. (user, room) 당 한 행.
+ * 채팅방 목록 / 요약 푸시에 필요한 값을 미리 계산해 두며,
+ * 메시지 저장·읽음·입장·퇴장 트랜잭션 안에서 {@link core.domain.chat.repository.ChatInboxRepository}의
+ * 네이티브 쿼리로 갱신됩니다. 엔티티 자체는 조회 전용입니다.
+ */
+@Entity
+@Table(name = "chat_inbox",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_chat_inbox_user_room", columnNames = {"user_id", "chatroom_id"})
+        },
+        indexes = {
+                @Index(name = "idx_chat_inbox_room", columnList = "chatroom_id")
+        }
+)
+@Getter
+@NoArgsConstructor
+public class ChatInbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "chat_inbox_id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "chatroom_id", nullable = false)
+    private Long chatRoomId;
+
+    /** 1:1 채팅방의 상대방 ID (그룹이면 null) */
+    @Column(name = "opponent_id")
+    private Long opponentId;
+
+    @Column(name = "room_name")
+    private String roomName;
+
+    @Column(name = "room_image_url", length = 150)
+    private String roomImageUrl;
+
+    @Column(name = "last_message_content", columnDefinition = "TEXT")
+    private String lastMessageContent;
+
+    @Column(name = "last_message_at")
+    private Instant lastMessageAt;
+
+    @Column(name = "unread_count", nullable = false)
+    private int unreadCount;
+
+    @Column(name = "participant_count", nullable = false)
+    private int participantCount;
+
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+}
@@ -36,6 +36,12 @@ public class ChatMessage {
     @Column(name = "message_type", nullable = false)
     private MessageType messageType;
 
+    /**
+     * 방 안에서 1부터 빈틈없이 증가하는 순번
+     */
+    @Column(name = "seq", nullable = false, updatable = false)
+    private Long seq;
+
     public ChatMessage(ChatRoom chatRoom, User sender, String content) {
         this.chatRoom = chatRoom;
         this.sender = sender;
@@ -54,4 +60,7 @@ public class ChatMessage {
         this.sentAt = Instant.now();
     }
 
+    public void assignSeq(Long seq) {
+        this.seq = seq;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package core.domain.chat.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 채팅 메시지의 언어별 번역 결과. (message, language) 당 한 행.
+ * 실시간 전송이나 기록 조회에서 처음 번역될 때 저장해 두고 이후에는 다시 번역하지 않습니다.
+ */
+@Entity
+@Table(name = "chat_message_translation",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_chat_message_translation_message_lang", columnNames = {"message_id", "language"})
+        },
+        indexes = {
+                @Index(name = "idx_chat_message_translation_room_lang", columnList = "chatroom_id, language")
+        }
+)
+@Getter
+@NoArgsConstructor
+public class ChatMessageTranslation {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "translation_id")
+    private Long id;
+
+    @Column(name = "message_id", nullable = false)
+    private Long messageId;
+
+    @Column(name = "chatroom_id", nullable = false)
+    private Long chatRoomId;
+
+    @Column(name = "language", nullable = false, length = 16)
+    private String language;
+
+    @Column(name = "content", columnDefinition = "TEXT", nullable = false)
+    private String content;
+
+    @Column(name = "created_at", updatable = false)
+    private Instant createdAt;
+}
@@ -36,12 +36,21 @@ public class ChatParticipant {
     @Column(name = "last_read_message_id")
     private Long lastReadMessageId;
 
+    @Column(name = "last_read_seq", nullable = false)
+    private long lastReadSeq;
+
     @Enumerated(EnumType.STRING)
     private ChatParticipantStatus status;
 
     @Column(name = "last_left_at")
     private Instant lastLeftAt;
 
+    /**
+     * 나간 시점의 방 마지막 메시지 ID. 나간 상태에서는 이보다 큰 ID 의 메시지만 보입니다.
+     */
+    @Column(name = "left_after_message_id")
+    private Long leftAfterMessageId;
+
     @Column(name = "translate_enabled", nullable = false)
     private boolean translateEnabled = false;
 
@@ -64,20 +73,45 @@ public class ChatParticipant {
     }
 
 
-    public void leave() {
+    /**
+     * @param lastMessageId 나가는 시점의 방 마지막 메시지 ID (메시지가 없으면 null)
+     */
+    public void leave(Long lastMessageId) {
         this.status = ChatParticipantStatus.LEFT;
         this.lastLeftAt = Instant.now();
+        this.leftAfterMessageId = lastMessageId == null ? 0L : lastMessageId;
     }
 
     public void reJoin() {
         this.status = ChatParticipantStatus.ACTIVE;
         this.lastLeftAt = null;
+        this.leftAfterMessageId = null;
+    }
+
+    /**
+     * @return 볼 수 있는 메시지 ID 의 하한(제외). 나간 상태가 아니면 0
+     */
+    public long visibleMessageIdFloor() {
+        if (status != ChatParticipantStatus.LEFT || leftAfterMessageId == null) {
+            return 0L;
+        }
+        return leftAfterMessageId;
     }
 
     public void setLastReadMessageId(Long messageId) {
         this.lastReadMessageId = messageId;
     }
 
+    /**
+     * 해당 메시지까지 읽음 처리합니다. 읽음 위치는 뒤로 가지 않습니다.
+     */
+    public void markReadUpTo(ChatMessage message) {
+        if (message.getSeq() != null && message.getSeq() > this.lastReadSeq) {
+            this.lastReadSeq = message.getSeq();
+            this.lastReadMessageId = message.getId();
+        }
+    }
+
     /**
      * 이 참여자의 채팅방 알림 설정을 변경합니다.
      * @param enabled 알림을 활성화할지 여부 (true: 켬, false: 끔)
@@ -29,6 +29,26 @@ public class ChatRoom {
     @Column(name = "description")
     private String description;
 
+    /**
+     * 이 방에서 마지막으로 발급한 메시지 순번. ChatRoomRepository#nextMessageSeq 로만 증가시킵니다.
+     */
+    @Column(name = "last_seq", nullable = false, insertable = false, updatable = false)
+    private long lastSeq;
+
+    /**
+     * ACTIVE 참여자 수. 그룹 채팅방의 생성/입장/퇴장 때 ChatRoomRepository#refreshParticipantCount 로만 갱신합니다.
+     * (1:1 방은 생성/재입장 때 갱신하지 않으므로 순위/목록 용도로만 씁니다)
+     */
+    @Column(name = "participant_count", nullable = false, insertable = false, updatable = false)
+    private int participantCount;
+
+    /**
+     * 1:1 채팅방의 두 사용자 키 (directPairKey 참고). 그룹 방은 null 입니다.
+     * ChatRoomRepository#insertDirectRoomIfAbsent 로만 저장합니다.
+     */
+    @Column(name = "direct_pair_key", length = 40, insertable = false, updatable = false)
+    private String directPairKey;
+
     @OneToMany(mappedBy = "chatRoom", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ChatParticipant> participants = new ArrayList<>();
 
@@ -77,6 +97,13 @@ public class ChatRoom {
         this.description = description;
         this.owner = owner;
     }
+    /**
+     * 두 사용자의 1:1 채팅방 키. 순서와 무관하게 같은 값이 나오도록 작은 ID 를 앞에 둡니다.
+     */
+    public static String directPairKey(Long userId1, Long userId2) {
+        return Math.min(userId1, userId2) + ":" + Math.max(userId1, userId2);
+    }
+
     public void changeOwner(User newOwner) {
         if (newOwner != null) {
             this.owner = newOwner;
@@ -0,0 +1,7 @@
+package core.domain.chat.event;
+
+/**
+ * 채팅방 참여자 행이 추가되거나 방이 삭제되었습니다. 방의 읽음 상태를 다시 적재해야 합니다.
+ */
+public record ChatMembershipChangedEvent(Long roomId) {
+}
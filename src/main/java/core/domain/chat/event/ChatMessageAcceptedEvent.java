@@ -0,0 +1,12 @@
+package core.domain.chat.event;
+
+import core.domain.chat.dto.ChatMessageResponse;
+
+/**
+ * 텍스트 메시지 저장이 끝나 전송 파이프라인으로 넘길 수 있습니다.
+ *
+ * @param message        원문 전송 프레임 (번역문 없음)
+ * @param acceptedAtNanos 수신 시각 (System.nanoTime). 단계별 지연 측정용
+ */
+public record ChatMessageAcceptedEvent(ChatMessageResponse message, long acceptedAtNanos) {
+}
@@ -0,0 +1,9 @@
+package core.domain.chat.event;
+
+import core.domain.chat.entity.ChatMessage;
+
+/**
+ * 채팅 메시지가 저장되었습니다. (순번 부여 완료, 발신자 로딩 완료)
+ */
+public record ChatMessageSavedEvent(ChatMessage message) {
+}
@@ -0,0 +1,11 @@
+package core.domain.chat.event;
+
+/**
+ * 채팅방의 메시지가 삭제되었습니다. roomId 가 null 이면 여러 방에 걸친 삭제(회원 탈퇴 등)입니다.
+ */
+public record ChatMessagesDeletedEvent(Long roomId) {
+
+    public static ChatMessagesDeletedEvent allRooms() {
+        return new ChatMessagesDeletedEvent(null);
+    }
+}
@@ -0,0 +1,7 @@
+package core.domain.chat.event;
+
+/**
+ * 참여자가 채팅방을 나갔습니다. 이미 열려 있는 방 토픽 구독으로 더 받지 않도록 합니다.
+ */
+public record ChatParticipantLeftEvent(Long roomId, Long userId) {
+}
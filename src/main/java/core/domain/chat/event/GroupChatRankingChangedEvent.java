@@ -0,0 +1,17 @@
+package core.domain.chat.event;
+
+/**
+ * 그룹 채팅방의 참여자 수가 바뀌었거나(생성/입장/퇴장) 방이 삭제되었을 때 발행합니다.
+ *
+ * @param participantCount 바뀐 ACTIVE 참여자 수. null 이면 방이 삭제됨
+ */
+public record GroupChatRankingChangedEvent(Long roomId, Integer participantCount) {
+
+    public static GroupChatRankingChangedEvent removed(Long roomId) {
+        return new GroupChatRankingChangedEvent(roomId, null);
+    }
+
+    public boolean isRemoved() {
+        return participantCount == null;
+    }
+}
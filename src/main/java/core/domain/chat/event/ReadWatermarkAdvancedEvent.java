@@ -0,0 +1,8 @@
+package core.domain.chat.event;
+
+/**
+ * 참여자의 읽은 순번이 fromSeq 에서 toSeq 로 앞으로 이동했습니다.
+ * 순번이 (fromSeq, toSeq] 인 메시지의 안 읽은 수가 바뀝니다.
+ */
+public record ReadWatermarkAdvancedEvent(Long roomId, Long userId, long fromSeq, long toSeq) {
+}
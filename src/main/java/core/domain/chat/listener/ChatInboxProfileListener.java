@@ -0,0 +1,49 @@
+package core.domain.chat.listener;
+
+import core.domain.chat.repository.ChatInboxRepository;
+import core.domain.user.event.UserNameChangedEvent;
+import core.global.enums.ImageType;
+import core.global.image.event.ProfileImageChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * chat_inbox 에 복사해 둔 방 이름/방 이미지를 커밋된 프로필 변경에 맞춰 갱신합니다.
+ * 갱신이 실패해도 프로필 변경 자체는 이미 커밋되었으므로 로그만 남기고, 다음 upsert 때 다시 맞춰집니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatInboxProfileListener {
+
+    private final ChatInboxRepository chatInboxRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onImageChanged(ProfileImageChangedEvent e) {
+        try {
+            switch (e.imageType()) {
+                case USER -> chatInboxRepository.refreshOpponentImage(e.relatedId(), ImageType.USER.ordinal());
+                case CHAT_ROOM -> chatInboxRepository.refreshRoomImage(e.relatedId(), ImageType.CHAT_ROOM.ordinal());
+                default -> { }
+            }
+        } catch (RuntimeException ex) {
+            log.warn("채팅 목록 방 이미지 갱신 실패 type={}, relatedId={}", e.imageType(), e.relatedId(), ex);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onNameChanged(UserNameChangedEvent e) {
+        try {
+            chatInboxRepository.refreshOpponentName(e.userId());
+        } catch (RuntimeException ex) {
+            log.warn("채팅 목록 방 이름 갱신 실패 userId={}", e.userId(), ex);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package core.domain.chat.listener;
+
+import core.domain.chat.event.ChatMessageAcceptedEvent;
+import core.domain.chat.service.ChatMessagePipeline;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커밋된 메시지만 전송 파이프라인에 넣습니다. (롤백된 메시지가 전송되지 않도록)
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatMessagePipelineListener {
+
+    private final ChatMessagePipeline chatMessagePipeline;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAccepted(ChatMessageAcceptedEvent e) {
+        chatMessagePipeline.submit(e);
+    }
+}
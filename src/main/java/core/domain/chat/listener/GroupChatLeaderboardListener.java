@@ -0,0 +1,27 @@
+package core.domain.chat.listener;
+
+import core.domain.chat.event.GroupChatRankingChangedEvent;
+import core.domain.chat.service.GroupChatLeaderboard;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커밋된 그룹 채팅방 생성/입장/퇴장/삭제만 순위표에 반영합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class GroupChatLeaderboardListener {
+
+    private final GroupChatLeaderboard groupChatLeaderboard;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRankingChanged(GroupChatRankingChangedEvent e) {
+        if (e.isRemoved()) {
+            groupChatLeaderboard.remove(e.roomId());
+        } else {
+            groupChatLeaderboard.update(e.roomId(), e.participantCount());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package core.domain.chat.listener;
+
+import core.domain.chat.event.ChatMessageSavedEvent;
+import core.domain.chat.event.ChatMessagesDeletedEvent;
+import core.domain.chat.service.HotMessageBuffer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커밋된 메시지 저장/삭제만 최근 메시지 버퍼에 반영합니다. (롤백된 메시지가 버퍼에 남지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HotMessageListener {
+
+    private final HotMessageBuffer hotMessageBuffer;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSaved(ChatMessageSavedEvent e) {
+        try {
+            hotMessageBuffer.append(e.message());
+        } catch (RuntimeException ex) {
+            log.warn("최근 메시지 버퍼 반영 실패 messageId={}", e.message().getId(), ex);
+            hotMessageBuffer.invalidate(e.message().getChatRoom().getId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDeleted(ChatMessagesDeletedEvent e) {
+        hotMessageBuffer.invalidate(e.roomId());
+    }
+}
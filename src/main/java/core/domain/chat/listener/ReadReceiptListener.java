@@ -0,0 +1,42 @@
+package core.domain.chat.listener;
+
+import core.domain.chat.event.ChatMembershipChangedEvent;
+import core.domain.chat.event.ReadWatermarkAdvancedEvent;
+import core.domain.chat.service.ReadReceiptBroadcaster;
+import core.domain.chat.service.ReadWatermarkStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커밋된 읽음/참여자 변경만 Redis 워터마크에 반영하고 읽음 수 브로드캐스트를 예약합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReadReceiptListener {
+
+    private final ReadWatermarkStore readWatermarkStore;
+    private final ReadReceiptBroadcaster readReceiptBroadcaster;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAdvanced(ReadWatermarkAdvancedEvent e) {
+        try {
+            readWatermarkStore.advance(e.roomId(), e.userId(), e.toSeq());
+            readReceiptBroadcaster.enqueue(e.roomId(), e.fromSeq() + 1, e.toSeq());
+        } catch (RuntimeException ex) {
+            log.warn("읽음 워터마크 반영 실패 roomId={}, userId={}", e.roomId(), e.userId(), ex);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMembershipChanged(ChatMembershipChangedEvent e) {
+        try {
+            readWatermarkStore.invalidate(e.roomId());
+        } catch (RuntimeException ex) {
+            log.warn("읽음 워터마크 초기화 실패 roomId={}", e.roomId(), ex);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package core.domain.chat.listener;
+
+import core.domain.chat.event.ChatParticipantLeftEvent;
+import core.global.config.RoomBroadcastFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커밋된 방 나가기만 방 토픽 구독 권한에서 뺍니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomSubscriptionListener {
+
+    private final RoomBroadcastFilter roomBroadcastFilter;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onLeft(ChatParticipantLeftEvent e) {
+        try {
+            roomBroadcastFilter.revoke(e.roomId(), e.userId());
+        } catch (RuntimeException ex) {
+            log.warn("방 토픽 구독 해제 실패 roomId={}, userId={}", e.roomId(), e.userId(), ex);
+        }
+    }
+}
@@ -0,0 +1,342 @@
+package core.domain.chat.repository;
+
+import core.domain.chat.entity.ChatInbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * chat_inbox 읽기 모델 저장소.
+ * 쓰기는 모두 네이티브 벌크 쿼리로 처리하므로, 같은 트랜잭션에서 갱신 전에 로드한 ChatInbox 엔티티는 다시 조회해야 합니다.
+ */
+@Repository
+public interface ChatInboxRepository extends JpaRepository<ChatInbox, Long> {
+
+    /**
+     * 채팅방 목록 조회. 내가 차단한 상대와의 1:1 방은 제외하고 마지막 메시지 시각 역순으로 정렬합니다.
+     */
+    @Query("""
+            SELECT ci FROM ChatInbox ci
+            WHERE ci.userId = :userId
+              AND NOT EXISTS (
+                  SELECT 1 FROM BlockUser b
+                  WHERE b.user.id = :userId AND b.blocked.id = ci.opponentId
+              )
+            ORDER BY ci.lastMessageAt DESC NULLS LAST
+            """)
+    List<ChatInbox> findVisibleByUserId(@Param("userId") Long userId);
+
+    /**
+     * 내 채팅방 목록을 방 이름으로 검색합니다. 1:1 방의 방 이름은 상대 이름("이름 성")이므로 공백을 뺀 이름으로도 찾습니다.
+     */
+    @Query("""
+            SELECT ci FROM ChatInbox ci
+            WHERE ci.userId = :userId
+              AND (ci.roomName LIKE CONCAT('%', :keyword, '%')
+                   OR REPLACE(ci.roomName, ' ', '') LIKE CONCAT('%', :keyword, '%'))
+              AND NOT EXISTS (
+                  SELECT 1 FROM BlockUser b
+                  WHERE b.user.id = :userId AND b.blocked.id = ci.opponentId
+              )
+            ORDER BY ci.lastMessageAt DESC NULLS LAST
+            """)
+    List<ChatInbox> searchVisibleByUserIdAndRoomName(@Param("userId") Long userId, @Param("keyword") String keyword);
+
+    List<ChatInbox> findByChatRoomId(Long chatRoomId);
+
+    Optional<ChatInbox> findByUserIdAndChatRoomId(Long userId, Long chatRoomId);
+
+    /**
+     * (user, room) 행을 원본 테이블 기준으로 다시 계산해 넣거나 덮어씁니다.
+     * 새로 입장/재입장한 참여자, 새로 만든 방, 차단 변경 등 행 전체를 맞춰야 할 때 사용합니다.
+     * SYSTEM 사용자가 있는 방(AI 채팅방)은 목록에 나오지 않으므로 만들지 않습니다.
+     * 마지막 메시지는 (chatroom_id, message_id DESC) 인덱스로 바로 찾도록 sent_at 이 아니라 message_id 순으로 고릅니다.
+     * 오래된 달은 chat_message_archive 로 옮겨지므로 최근 테이블과 보관 테이블에서 각각 한 건씩 뽑아 더 최신 것을 씁니다.
+     *
+     * @param userImageType  사용자 이미지 타입 (ImageType.USER ordinal)
+     * @param roomImageType  채팅방 이미지 타입 (ImageType.CHAT_ROOM ordinal)
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO chat_inbox (user_id, chatroom_id, opponent_id, room_name, room_image_url,
+                                    last_message_content, last_message_at, unread_count, participant_count, updated_at)
+            SELECT me.user_id,
+                   cr.chatroom_id,
+                   opp.user_id,
+                   CASE WHEN cr.is_group THEN cr.room_name
+                        WHEN opp.user_id IS NULL THEN '(알 수 없는 사용자)'
+                        ELSE COALESCE(opp.first_name, '') || ' ' || COALESCE(opp.last_name, '') END,
+                   img.url,
+                   lm.content,
+                   lt.sent_at,
+                   GREATEST(cr.last_seq - me.last_read_seq, 0),
+                   pc.participant_count,
+                   now()
+            FROM chat_participant me
+            JOIN chat_room cr ON cr.chatroom_id = me.chatroom_id
+            CROSS JOIN LATERAL (
+                SELECT COUNT(*) AS participant_count
+                FROM chat_participant p
+                WHERE p.chatroom_id = cr.chatroom_id
+            ) pc
+            LEFT JOIN LATERAL (
+                SELECT u.user_id, u.first_name, u.last_name
+                FROM chat_participant p
+                JOIN users u ON u.user_id = p.user_id
+                WHERE p.chatroom_id = cr.chatroom_id
+                  AND p.user_id <> me.user_id
+                  AND cr.is_group = false
+                ORDER BY p.joined_at ASC
+                LIMIT 1
+            ) opp ON true
+            LEFT JOIN LATERAL (
+                SELECT x.sent_at
+                FROM ((SELECT m.message_id, m.sent_at
+                       FROM chat_message m
+                       WHERE m.chatroom_id = cr.chatroom_id
+                       ORDER BY m.message_id DESC
+                       LIMIT 1)
+                      UNION ALL
+                      (SELECT a.message_id, a.sent_at
+                       FROM chat_message_archive a
+                       WHERE a.chatroom_id = cr.chatroom_id
+                       ORDER BY a.message_id DESC
+                       LIMIT 1)) x
+                ORDER BY x.message_id DESC
+                LIMIT 1
+            ) lt ON true
+            LEFT JOIN LATERAL (
+                SELECT x.content
+                FROM ((SELECT m.message_id, m.content
+                       FROM chat_message m
+                       WHERE m.chatroom_id = cr.chatroom_id
+                         AND NOT EXISTS (
+                             SELECT 1 FROM block_user b
+                             WHERE b.user_id = me.user_id AND b.people_id = m.sender_id
+                         )
+                       ORDER BY m.message_id DESC
+                       LIMIT 1)
+                      UNION ALL
+                      (SELECT a.message_id, a.content
+                       FROM chat_message_archive a
+                       WHERE a.chatroom_id = cr.chatroom_id
+                         AND NOT EXISTS (
+                             SELECT 1 FROM block_user b
+                             WHERE b.user_id = me.user_id AND b.people_id = a.sender_id
+                         )
+                       ORDER BY a.message_id DESC
+                       LIMIT 1)) x
+                ORDER BY x.message_id DESC
+                LIMIT 1
+            ) lm ON true
+            LEFT JOIN LATERAL (
+                SELECT i.url
+                FROM image i
+                WHERE (cr.is_group = true AND i.image_type = :roomImageType AND i.related_id = cr.chatroom_id)
+                   OR (cr.is_group = false AND i.image_type = :userImageType AND i.related_id = opp.user_id)
+                ORDER BY i.order_index ASC
+                LIMIT 1
+            ) img ON true
+            WHERE me.user_id = :userId
+              AND me.chatroom_id = :roomId
+              AND NOT EXISTS (
+                  SELECT 1 FROM chat_participant sp
+                  JOIN users su ON su.user_id = sp.user_id
+                  WHERE sp.chatroom_id = cr.chatroom_id AND su.provider = 'SYSTEM'
+              )
+            ON CONFLICT (user_id, chatroom_id) DO UPDATE
+            SET opponent_id          = EXCLUDED.opponent_id,
+                room_name            = EXCLUDED.room_name,
+                room_image_url       = EXCLUDED.room_image_url,
+                last_message_content = EXCLUDED.last_message_content,
+                last_message_at      = EXCLUDED.last_message_at,
+                unread_count         = EXCLUDED.unread_count,
+                participant_count    = EXCLUDED.participant_count,
+                updated_at           = EXCLUDED.updated_at
+            """, nativeQuery = true)
+    int upsert(@Param("userId") Long userId,
+               @Param("roomId") Long roomId,
+               @Param("userImageType") int userImageType,
+               @Param("roomImageType") int roomImageType);
+
+    /**
+     * 새 메시지를 방의 모든 행에 반영합니다. (참여자 수만큼의 행 갱신 한 번)
+     * 보낸 사람은 이 메시지까지 읽은 것으로 처리되므로 안 읽은 수를 0으로,
+     * 나머지는 1 증가시킵니다. 보낸 사람을 차단한 사용자의 미리보기는 바꾸지 않습니다.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE chat_inbox ci
+            SET last_message_at = :sentAt,
+                last_message_content = CASE
+                    WHEN EXISTS (
+                        SELECT 1 FROM block_user b
+                        WHERE b.user_id = ci.user_id AND b.people_id = :senderId
+                    ) THEN ci.last_message_content
+                    ELSE :content END,
+                unread_count = CASE WHEN ci.user_id = :senderId THEN 0 ELSE ci.unread_count + 1 END,
+                updated_at = now()
+            WHERE ci.chatroom_id = :roomId
+            """, nativeQuery = true)
+    int applyNewMessage(@Param("roomId") Long roomId,
+                        @Param("senderId") Long senderId,
+                        @Param("content") String content,
+                        @Param("sentAt") Instant sentAt);
+
+    /**
+     * 읽음 처리 후 해당 사용자 행의 안 읽은 수를 다시 계산합니다.
+     * 메시지를 세지 않고 방의 마지막 순번과 참여자의 읽은 순번 차이로 구합니다.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE chat_inbox ci
+            SET unread_count = (
+                    SELECT GREATEST(r.last_seq - p.last_read_seq, 0)
+                    FROM chat_room r
+                    JOIN chat_participant p ON p.chatroom_id = r.chatroom_id AND p.user_id = ci.user_id
+                    WHERE r.chatroom_id = ci.chatroom_id
+                ),
+                updated_at = now()
+            WHERE ci.user_id = :userId
+              AND ci.chatroom_id = :roomId
+            """, nativeQuery = true)
+    int refreshUnreadCount(@Param("userId") Long userId, @Param("roomId") Long roomId);
+
+    /**
+     * 메시지 삭제 등으로 마지막 메시지가 바뀌었을 때 방의 모든 행의 미리보기/시각/안 읽은 수를 다시 계산합니다.
+     * {@link #upsert} 와 같이 보관 테이블(chat_message_archive)까지 봅니다.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE chat_inbox ci
+            SET last_message_at = (
+                    SELECT x.sent_at
+                    FROM ((SELECT m.message_id, m.sent_at FROM chat_message m
+                           WHERE m.chatroom_id = ci.chatroom_id
+                           ORDER BY m.message_id DESC
+                           LIMIT 1)
+                          UNION ALL
+                          (SELECT a.message_id, a.sent_at FROM chat_message_archive a
+                           WHERE a.chatroom_id = ci.chatroom_id
+                           ORDER BY a.message_id DESC
+                           LIMIT 1)) x
+                    ORDER BY x.message_id DESC
+                    LIMIT 1
+                ),
+                last_message_content = (
+                    SELECT x.content
+                    FROM ((SELECT m.message_id, m.content FROM chat_message m
+                           WHERE m.chatroom_id = ci.chatroom_id
+                             AND NOT EXISTS (
+                                 SELECT 1 FROM block_user b
+                                 WHERE b.user_id = ci.user_id AND b.people_id = m.sender_id
+                             )
+                           ORDER BY m.message_id DESC
+                           LIMIT 1)
+                          UNION ALL
+                          (SELECT a.message_id, a.content FROM chat_message_archive a
+                           WHERE a.chatroom_id = ci.chatroom_id
+                             AND NOT EXISTS (
+                                 SELECT 1 FROM block_user b
+                                 WHERE b.user_id = ci.user_id AND b.people_id = a.sender_id
+                             )
+                           ORDER BY a.message_id DESC
+                           LIMIT 1)) x
+                    ORDER BY x.message_id DESC
+                    LIMIT 1
+                ),
+                unread_count = (
+                    SELECT GREATEST(r.last_seq - p.last_read_seq, 0)
+                    FROM chat_room r
+                    JOIN chat_participant p ON p.chatroom_id = r.chatroom_id AND p.user_id = ci.user_id
+                    WHERE r.chatroom_id = ci.chatroom_id
+                ),
+                updated_at = now()
+            WHERE ci.chatroom_id = :roomId
+            """, nativeQuery = true)
+    int refreshLastMessage(@Param("roomId") Long roomId);
+
+    /**
+     * 참여자 입장 후 방의 모든 행의 참여자 수를 맞춥니다.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE chat_inbox ci
+            SET participant_count = (
+                    SELECT COUNT(*) FROM chat_participant p
+                    WHERE p.chatroom_id = ci.chatroom_id
+                ),
+                updated_at = now()
+            WHERE ci.chatroom_id = :roomId
+            """, nativeQuery = true)
+    int refreshParticipantCount(@Param("roomId") Long roomId);
+
+    /**
+     * 사용자 이름이 바뀌었을 때 그 사용자를 상대로 둔 1:1 방 행들의 방 이름을 다시 맞춥니다.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE chat_inbox ci
+            SET room_name = COALESCE(u.first_name, '') || ' ' || COALESCE(u.last_name, ''),
+                updated_at = now()
+            FROM users u
+            WHERE u.user_id = :userId
+              AND ci.opponent_id = :userId
+            """, nativeQuery = true)
+    int refreshOpponentName(@Param("userId") Long userId);
+
+    /**
+     * 사용자 프로필 이미지가 바뀌었을 때 그 사용자를 상대로 둔 1:1 방 행들의 방 이미지를 다시 맞춥니다.
+     *
+     * @param userImageType 사용자 이미지 타입 (ImageType.USER ordinal)
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE chat_inbox ci
+            SET room_image_url = (
+                    SELECT i.url FROM image i
+                    WHERE i.image_type = :userImageType AND i.related_id = :userId
+                    ORDER BY i.order_index ASC
+                    LIMIT 1
+                ),
+                updated_at = now()
+            WHERE ci.opponent_id = :userId
+            """, nativeQuery = true)
+    int refreshOpponentImage(@Param("userId") Long userId, @Param("userImageType") int userImageType);
+
+    /**
+     * 그룹 채팅방 이미지가 바뀌었을 때 방의 모든 행의 방 이미지를 다시 맞춥니다.
+     *
+     * @param roomImageType 채팅방 이미지 타입 (ImageType.CHAT_ROOM ordinal)
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE chat_inbox ci
+            SET room_image_url = (
+                    SELECT i.url FROM image i
+                    WHERE i.image_type = :roomImageType AND i.related_id = :roomId
+                    ORDER BY i.order_index ASC
+                    LIMIT 1
+                ),
+                updated_at = now()
+            FROM chat_room r
+            WHERE r.chatroom_id = :roomId
+              AND r.is_group = true
+              AND ci.chatroom_id = :roomId
+            """, nativeQuery = true)
+    int refreshRoomImage(@Param("roomId") Long roomId, @Param("roomImageType") int roomImageType);
+
+    @Modifying
+    @Query("DELETE FROM ChatInbox ci WHERE ci.userId = :userId AND ci.chatRoomId = :roomId")
+    int deleteByUserIdAndChatRoomId(@Param("userId") Long userId, @Param("roomId") Long roomId);
+
+    @Modifying
+    @Query("DELETE FROM ChatInbox ci WHERE ci.chatRoomId = :roomId")
+    int deleteByChatRoomId(@Param("roomId") Long roomId);
+}
@@ -2,7 +2,6 @@ package core.domain.chat.repository;
 
 import core.domain.chat.entity.ChatMessage;
 import core.domain.user.entity.User;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -10,7 +9,6 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,24 +25,45 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
     List<ChatMessage> findByChatRoomIdOrderByIdAsc(Long chatRoomId);
 
     /**
-     * 특정 채팅방에서 주어진 키워드가 포함된 메시지를 검색합니다.
-     * (SQL의 LIKE '%keyword%'와 동일)
+     * 특정 채팅방에서 키워드가 포함된 메시지를 검색합니다. (PGroonga 인덱스 사용)
      *
-     * @param chatRoomId 검색할 채팅방의 ID
-     * @param keyword 검색할 키워드 문자열
-     * @return 키워드가 포함된 메시지 리스트
+     * @param beforeId 커서. 이 ID 보다 이전 메시지만 (첫 페이지는 Long.MAX_VALUE)
+     * @return 메시지 ID 내림차순(최신순) 최대 limit 개
      */
-    List<ChatMessage> findByChatRoomIdAndContentContaining(Long chatRoomId, String keyword);
+    @Query(value = """
+            SELECT m.*
+            FROM chat_message m
+            WHERE m.chatroom_id = :roomId
+              AND m.message_id < :beforeId
+              AND pgroonga_match(m.content, :keyword)
+            ORDER BY m.message_id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<ChatMessage> searchInRoom(@Param("roomId") Long roomId,
+                                   @Param("keyword") String keyword,
+                                   @Param("beforeId") Long beforeId,
+                                   @Param("limit") int limit);
 
-    List<ChatMessage> findByChatRoomIdAndSentAtAfterAndIdBefore(Long roomId, Instant lastLeftAt, Long lastMessageId, PageRequest sentAt);
-
-    List<ChatMessage> findByChatRoomIdAndSentAtAfter(Long roomId, Instant lastLeftAt, PageRequest sentAt);
-
-    List<ChatMessage> findByChatRoomIdAndIdBefore(Long roomId, Long lastMessageId, PageRequest sentAt);
-
-    List<ChatMessage> findByChatRoomId(Long roomId, PageRequest sentAt);
+    /**
+     * 채팅 기록 키셋 페이지. (floorId, beforeId) 구간을 메시지 ID 내림차순으로 조회합니다.
+     * (chatroom_id, message_id DESC) 인덱스의 범위 스캔 한 번으로 끝나고, 페이지 크기 + 1 개만 읽어 hasNext 를 정합니다.
+     *
+     * @param beforeId 커서. 이 ID 보다 이전 메시지 (첫 페이지는 Long.MAX_VALUE)
+     * @param floorId  이 ID 이하 메시지는 제외 (나간 참여자의 하한, 없으면 0)
+     */
+    @Query("""
+            SELECT m FROM ChatMessage m
+            WHERE m.chatRoom.id = :roomId
+              AND m.id < :beforeId
+              AND m.id > :floorId
+            ORDER BY m.id DESC
+            """)
+    Slice<ChatMessage> findPageBefore(@Param("roomId") Long roomId,
+                                      @Param("beforeId") Long beforeId,
+                                      @Param("floorId") Long floorId,
+                                      Pageable pageable);
 
-    List<ChatMessage> findTop50ByChatRoomIdOrderBySentAtDesc(Long chatRoomId);
+    List<ChatMessage> findTop50ByChatRoomIdOrderByIdDesc(Long chatRoomId);
 
 
     Optional<ChatMessage> findTopByChatRoomIdOrderBySentAtDesc(Long roomId);
@@ -56,13 +75,6 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
      * @return 가장 최근 메시지가 담긴 Optional 객체
      */
     Optional<ChatMessage> findFirstByChatRoomIdOrderBySentAtDesc(Long chatRoomId);
-    @Query("SELECT COUNT(m) FROM ChatMessage m " +
-            "WHERE m.chatRoom.id = :roomId " +
-            "  AND m.id > :lastReadId " +
-            "  AND m.sender.id != :userId")
-    int countUnreadMessages(@Param("roomId") Long roomId,
-                            @Param("lastReadId") Long lastReadId,
-                            @Param("userId") Long userId);
     /**
      * 특정 채팅방(chatRoomId)에서, 특정 메시지 ID(id)보다 큰 ID를 가진 메시지들의 개수를 반환합니다.
      * Spring Data JPA가 메서드 이름을 분석하여 아래와 유사한 쿼리를 자동으로 생성합니다:
@@ -74,9 +86,9 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
     void deleteAllBySenderId(@Param("userId") Long userId);
 
     /**
-     * 특정 메시지 ID보다 작은(이전) 메시지들을 최신순으로 20개 조회합니다.
+     * 특정 메시지와 그 이전 메시지들을 최신순으로 21개 조회합니다. (첫 행이 대상 메시지)
      */
-    List<ChatMessage> findTop20ByChatRoomIdAndIdLessThanOrderByIdDesc(Long roomId, Long messageId);
+    List<ChatMessage> findTop21ByChatRoomIdAndIdLessThanEqualOrderByIdDesc(Long roomId, Long messageId);
 
     /**
      * 특정 메시지 ID보다 큰(이후) 메시지들을 순서대로 20개 조회합니다.
@@ -98,4 +110,88 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
 
     List<ChatMessage> findByChatRoomIdAndIdGreaterThanAndIdLessThanEqualOrderByIdAsc(
             Long roomId, Long startId, Long endId);
+
+    /**
+     * 재연결 동기화용. 클라이언트가 마지막으로 받은 순번 이후의 메시지를 순번 순서대로 조회합니다.
+     * (chatroom_id, seq) 유니크 인덱스를 그대로 타므로 방 크기와 무관하게 놓친 메시지 수만큼만 읽습니다.
+     */
+    List<ChatMessage> findByChatRoomIdAndSeqGreaterThanOrderBySeqAsc(Long roomId, Long seq, Pageable pageable);
+
+    /**
+     * 최근 메시지 버퍼 적재용. 트랜잭션 밖에서도 발신자 이름을 읽을 수 있도록 발신자를 함께 가져옵니다.
+     */
+    @Query("""
+            SELECT m FROM ChatMessage m
+            JOIN FETCH m.sender
+            WHERE m.chatRoom.id = :roomId
+            ORDER BY m.seq DESC
+            """)
+    List<ChatMessage> findRecentWithSender(@Param("roomId") Long roomId, Pageable pageable);
+
+    /**
+     * 최근 메시지 버퍼 따라잡기용. afterSeq 다음 메시지부터 순번 순서대로, 발신자와 함께 가져옵니다.
+     */
+    @Query("""
+            SELECT m FROM ChatMessage m
+            JOIN FETCH m.sender
+            WHERE m.chatRoom.id = :roomId AND m.seq > :afterSeq
+            ORDER BY m.seq ASC
+            """)
+    List<ChatMessage> findNewerWithSender(@Param("roomId") Long roomId, @Param("afterSeq") long afterSeq, Pageable pageable);
+
+    /**
+     * 보관 메시지(chat_message_archive) 키셋 페이지. {@link #findPageBefore} 와 같은 조건을 보관 테이블에서 조회합니다.
+     *
+     * @return 메시지 ID 내림차순 최대 limit 개
+     */
+    @Query(value = """
+            SELECT m.*
+            FROM chat_message_archive m
+            WHERE m.chatroom_id = :roomId
+              AND m.message_id < :beforeId
+              AND m.message_id > :floorId
+            ORDER BY m.message_id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<ChatMessage> findArchivedBefore(@Param("roomId") Long roomId,
+                                         @Param("beforeId") Long beforeId,
+                                         @Param("floorId") Long floorId,
+                                         @Param("limit") int limit);
+
+    /**
+     * @return 보관 테이블에서 messageId 이후 메시지를 ID 오름차순으로 최대 limit 개
+     */
+    @Query(value = """
+            SELECT m.*
+            FROM chat_message_archive m
+            WHERE m.chatroom_id = :roomId
+              AND m.message_id > :messageId
+            ORDER BY m.message_id ASC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<ChatMessage> findArchivedAfter(@Param("roomId") Long roomId,
+                                        @Param("messageId") Long messageId,
+                                        @Param("limit") int limit);
+
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM chat_message_archive m WHERE m.chatroom_id = :roomId)", nativeQuery = true)
+    boolean existsArchivedByChatRoomId(@Param("roomId") Long roomId);
+
+    @Query(value = "SELECT m.* FROM chat_message_archive m WHERE m.message_id = :messageId", nativeQuery = true)
+    Optional<ChatMessage> findArchivedById(@Param("messageId") Long messageId);
+
+    @Modifying
+    @Query("DELETE FROM ChatMessage m WHERE m.id = :messageId")
+    int deleteRecentById(@Param("messageId") Long messageId);
+
+    @Modifying
+    @Query(value = "DELETE FROM chat_message_archive WHERE message_id = :messageId", nativeQuery = true)
+    int deleteArchivedById(@Param("messageId") Long messageId);
+
+    @Modifying
+    @Query(value = "DELETE FROM chat_message_archive WHERE chatroom_id = :roomId", nativeQuery = true)
+    void deleteArchivedByChatRoomId(@Param("roomId") Long roomId);
+
+    @Modifying
+    @Query(value = "DELETE FROM chat_message_archive WHERE sender_id = :userId", nativeQuery = true)
+    void deleteArchivedBySenderId(@Param("userId") Long userId);
 }
\ No newline at end of file
@@ -0,0 +1,72 @@
+package core.domain.chat.repository;
+
+import core.domain.chat.entity.ChatMessageTranslation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ChatMessageTranslationRepository extends JpaRepository<ChatMessageTranslation, Long> {
+
+    List<ChatMessageTranslation> findByMessageIdInAndLanguage(Collection<Long> messageIds, String language);
+
+    /**
+     * 번역 결과를 저장합니다. 같은 (message, language) 가 이미 있으면 먼저 저장된 값을 유지합니다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO chat_message_translation (message_id, chatroom_id, language, content, created_at)
+            VALUES (:messageId, :roomId, :language, :content, now())
+            ON CONFLICT (message_id, language) DO NOTHING
+            """, nativeQuery = true)
+    int insertIgnore(@Param("messageId") Long messageId,
+                     @Param("roomId") Long roomId,
+                     @Param("language") String language,
+                     @Param("content") String content);
+
+    /**
+     * 저장된 번역문에서 키워드를 검색합니다. (PGroonga 인덱스 사용)
+     *
+     * @param beforeId 커서. 이 ID 보다 이전 메시지만 (첫 페이지는 Long.MAX_VALUE)
+     * @return 일치하는 메시지 ID (최신순) 최대 limit 개
+     */
+    @Query(value = """
+            SELECT t.message_id
+            FROM chat_message_translation t
+            WHERE t.chatroom_id = :roomId
+              AND t.language = :language
+              AND t.message_id < :beforeId
+              AND pgroonga_match(t.content, :keyword)
+            ORDER BY t.message_id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Long> searchMessageIds(@Param("roomId") Long roomId,
+                                @Param("language") String language,
+                                @Param("keyword") String keyword,
+                                @Param("beforeId") Long beforeId,
+                                @Param("limit") int limit);
+
+    @Modifying
+    @Query("DELETE FROM ChatMessageTranslation t WHERE t.messageId = :messageId")
+    void deleteByMessageId(@Param("messageId") Long messageId);
+
+    @Modifying
+    @Query("DELETE FROM ChatMessageTranslation t WHERE t.chatRoomId = :roomId")
+    void deleteByChatRoomId(@Param("roomId") Long roomId);
+
+    @Modifying
+    @Query(value = """
+            DELETE FROM chat_message_translation t
+            WHERE t.message_id IN (
+                SELECT m.message_id FROM chat_message m WHERE m.sender_id = :userId
+                UNION ALL
+                SELECT a.message_id FROM chat_message_archive a WHERE a.sender_id = :userId
+            )
+            """, nativeQuery = true)
+    void deleteAllBySenderId(@Param("userId") Long userId);
+}
@@ -21,26 +21,23 @@ public interface ChatParticipantRepository extends JpaRepository<ChatParticipant
 
     Optional<ChatParticipant> findByChatRoomIdAndUserId(Long chatRoomId, Long userId);
 
+    /**
+     * 방 참여자별 읽은 순번. 메시지별 안 읽은 수 계산에 사용합니다.
+     */
+    @Query("SELECT p.user.id AS userId, p.lastReadSeq AS lastReadSeq FROM ChatParticipant p WHERE p.chatRoom.id = :roomId")
+    List<ReadWatermark> findReadWatermarks(@Param("roomId") Long roomId);
+
+    interface ReadWatermark {
+        Long getUserId();
+
+        Long getLastReadSeq();
+    }
+
 
 
 
     long countByChatRoomIdAndStatus(Long roomId, ChatParticipantStatus status);
 
-    @Query(
-        "SELECT cr FROM ChatRoom cr " +
-                "WHERE cr.id IN (SELECT cp.chatRoom.id FROM ChatParticipant cp WHERE cp.user.id = :userId) " +
-                "AND (" +
-                "   (cr.group = true AND cr.roomName LIKE %:keyword%) " +
-                "   OR " +
-                "   (cr.group = false AND EXISTS (" +
-                "       SELECT 1 FROM ChatParticipant cp2 " +
-                "       JOIN cp2.user u " +
-                "       WHERE cp2.chatRoom = cr AND cp2.user.id != :userId " +
-                "       AND CONCAT(u.firstName, u.lastName) LIKE %:keyword%" +
-                "   ))" +
-                ")"
-    )
-    List<ChatRoom> findChatRoomsByUserIdAndRoomName(@Param("userId") Long userId, @Param("keyword") String keyword);
     List<ChatParticipant> findByChatRoom(ChatRoom chatRoom);
     @Modifying
     @Query("DELETE FROM ChatParticipant p WHERE p.user.id = :userId")
@@ -50,4 +47,15 @@ public interface ChatParticipantRepository extends JpaRepository<ChatParticipant
 
     List<ChatParticipant> findAllByChatRoomIdAndUserIdNot(Long chatRoomId, Long userId);
 
+    /**
+     * 두 사용자가 함께 참여 중인 채팅방 ID 목록 (userId 기준 ACTIVE 참여만)
+     */
+    @Query("SELECT cp.chatRoom.id FROM ChatParticipant cp " +
+            "WHERE cp.user.id = :userId AND cp.status = :status " +
+            "AND EXISTS (SELECT 1 FROM ChatParticipant other " +
+            "            WHERE other.chatRoom = cp.chatRoom AND other.user.id = :otherUserId)")
+    List<Long> findSharedChatRoomIds(@Param("userId") Long userId,
+                                     @Param("otherUserId") Long otherUserId,
+                                     @Param("status") ChatParticipantStatus status);
+
 }
\ No newline at end of file
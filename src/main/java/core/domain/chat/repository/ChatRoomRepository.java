@@ -3,25 +3,52 @@ package core.domain.chat.repository;
 import core.domain.chat.entity.ChatParticipant;
 import core.domain.chat.entity.ChatRoom;
 import core.global.enums.ChatParticipantStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
 
-    @Query("SELECT cr FROM ChatRoom cr WHERE cr.group = true AND LOWER(cr.roomName) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    List<ChatRoom> findGroupChatRoomsByKeyword(@Param("keyword") String keyword);
+    /**
+     * 그룹 채팅방을 이름으로 검색합니다. (PGroonga 인덱스 사용)
+     *
+     * @param beforeId 커서. 이 ID 보다 작은 방만 (첫 페이지는 Long.MAX_VALUE)
+     * @return 방 ID 내림차순(최신순) 최대 limit 개
+     */
+    @Query(value = """
+            SELECT cr.*
+            FROM chat_room cr
+            WHERE cr.is_group = true
+              AND pgroonga_match(cr.room_name, :keyword)
+              AND cr.chatroom_id < :beforeId
+            ORDER BY cr.chatroom_id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<ChatRoom> searchGroupRooms(@Param("keyword") String keyword,
+                                    @Param("beforeId") Long beforeId,
+                                    @Param("limit") int limit);
     List<ChatRoom> findTop10ByGroupTrueOrderByCreatedAtDesc();
-    @Query("SELECT cr FROM ChatRoom cr " +
-            "WHERE cr.group = true " +
-            "ORDER BY SIZE(cr.participants) DESC")
-    List<ChatRoom> findTopByGroupTrueOrderByParticipantCountDesc(int limit);
+
+    /**
+     * 인기 그룹 채팅방 한 페이지. 유지되는 participant_count 컬럼으로 정렬합니다. (순위표를 쓸 수 없을 때)
+     */
+    List<ChatRoom> findByGroupTrueOrderByParticipantCountDescIdDesc(Pageable pageable);
+
+    /**
+     * 그룹 채팅방 순위표 재구성용 (방 ID, 참여자 수)
+     */
+    @Query("SELECT cr.id, cr.participantCount FROM ChatRoom cr WHERE cr.group = true")
+    List<Object[]> findGroupRanking();
+
     List<ChatRoom> findTop10ByGroupTrueAndIdLessThanOrderByCreatedAtDesc(Long id);
     /**
      * 특정 사용자가 ACTIVE 상태로 참여하고 있는 채팅방 목록을 조회합니다.
@@ -42,32 +69,58 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
     @Query("SELECT cr FROM ChatRoom cr JOIN FETCH cr.participants p JOIN FETCH p.user WHERE cr.id = :roomId")
     Optional<ChatRoom> findByIdWithParticipantsAndUsers(@Param("roomId") Long roomId);
 
+    /**
+     * 두 사용자의 1:1 채팅방을 direct_pair_key 유니크 인덱스로 조회합니다.
+     *
+     * @param directPairKey ChatRoom#directPairKey 로 만든 키
+     */
     @EntityGraph(attributePaths = {"participants", "participants.user"})
-    @Query("""
-        select cr
-        from ChatRoom cr
-        where cr.group = false
-          and (
-            select count(distinct cpA.user.id)
-            from ChatParticipant cpA
-            where cpA.chatRoom = cr
-              and cpA.user.id in :userIds
-          ) = 2
-          and (
-            select count(distinct cpB.user.id)
-            from ChatParticipant cpB
-            where cpB.chatRoom = cr
-          ) = 2
-    """)
-    List<ChatRoom> findOneToOneRoomByParticipantIds(@Param("userIds") List<Long> userIds);
+    Optional<ChatRoom> findByDirectPairKey(String directPairKey);
+
     List<ChatRoom> findAllByOwnerId(Long ownerId);
 
-    @Query("SELECT cr FROM ChatRoom cr " +
-            "JOIN cr.participants p1 " +
-            "JOIN cr.participants p2 " +
-            "WHERE cr.group = false " +
-            "AND p1.user.id = :userId1 " +
-            "AND p2.user.id = :userId2")
-    Optional<ChatRoom> findOneToOneChatRoomByParticipants(@Param("userId1") Long userId1, @Param("userId2") Long userId2);
+    /**
+     * 1:1 채팅방 행을 만듭니다. 같은 키의 방이 이미 있거나 동시에 만들어지면 아무것도 하지 않습니다.
+     * 동시 요청은 유니크 인덱스에서 먼저 커밋한 쪽을 기다리므로, 0 이 반환되면 findByDirectPairKey 로 그 방을 읽으면 됩니다.
+     *
+     * @return 새로 만들었으면 1, 이미 있었으면 0
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO chat_room (is_group, created_at, room_name, direct_pair_key)
+            VALUES (false, :createdAt, :roomName, :directPairKey)
+            ON CONFLICT (direct_pair_key) DO NOTHING
+            """, nativeQuery = true)
+    int insertDirectRoomIfAbsent(@Param("directPairKey") String directPairKey,
+                                 @Param("roomName") String roomName,
+                                 @Param("createdAt") Instant createdAt);
 
-}
\ No newline at end of file
+    /**
+     * 방의 다음 메시지 순번을 발급합니다. 방 행 잠금으로 같은 방의 동시 전송을 직렬화하므로
+     * 순번은 커밋 순서대로 빈틈없이 증가합니다. (트랜잭션 안에서 호출해야 합니다)
+     */
+    @Query(value = """
+            UPDATE chat_room
+            SET last_seq = last_seq + 1
+            WHERE chatroom_id = :roomId
+            RETURNING last_seq
+            """, nativeQuery = true)
+    long nextMessageSeq(@Param("roomId") Long roomId);
+
+    /**
+     * 방의 ACTIVE 참여자 수를 다시 세어 저장합니다. 입장/퇴장/생성처럼 참여자가 바뀐 뒤 호출합니다.
+     *
+     * @return 저장된 참여자 수
+     */
+    @Query(value = """
+            UPDATE chat_room
+            SET participant_count = (
+                SELECT COUNT(*) FROM chat_participant p
+                WHERE p.chatroom_id = :roomId
+                  AND p.status = 'ACTIVE'
+            )
+            WHERE chatroom_id = :roomId
+            RETURNING participant_count
+            """, nativeQuery = true)
+    int refreshParticipantCount(@Param("roomId") Long roomId);
+}
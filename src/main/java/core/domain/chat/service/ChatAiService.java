@@ -4,7 +4,10 @@ import core.domain.chat.dto.*;
 import core.domain.chat.entity.ChatMessage;
 import core.domain.chat.entity.ChatParticipant;
 import core.domain.chat.entity.ChatRoom;
+import core.domain.chat.event.ChatMessageSavedEvent;
+import core.domain.chat.event.ChatMessagesDeletedEvent;
 import core.domain.chat.repository.ChatMessageRepository;
+import core.domain.chat.repository.ChatMessageTranslationRepository;
 import core.domain.chat.repository.ChatParticipantRepository;
 import core.domain.chat.repository.ChatRoomRepository;
 import core.domain.user.entity.User;
@@ -12,6 +15,7 @@ import core.domain.user.repository.UserRepository;
 import core.global.enums.ErrorCode;
 import core.global.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -21,6 +25,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -32,10 +37,15 @@ public class ChatAiService {
 
     private static final Long AI_USER_ID = 1L;
     private static final int PAGE_SIZE = 50;
+    private static final int HISTORY_SIZE = 10;
     private final ChatRoomRepository chatRoomRepository;
     private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageTranslationRepository chatMessageTranslationRepository;
     private final UserRepository userRepository;
     private final ClovaXService clovaXService;
+    private final HotMessageBuffer hotMessageBuffer;
+    private final ChatMessageHistory chatMessageHistory;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * AI와 1:1 채팅방 생성
@@ -52,7 +62,8 @@ public class ChatAiService {
         }
 
 
-        Optional<ChatRoom> existingRoomOptional = chatRoomRepository.findOneToOneChatRoomByParticipants(userId, AI_USER_ID);
+        String pairKey = ChatRoom.directPairKey(userId, AI_USER_ID);
+        Optional<ChatRoom> existingRoomOptional = chatRoomRepository.findByDirectPairKey(pairKey);
         if (existingRoomOptional.isPresent()) {
             ChatRoom existingRoom = existingRoomOptional.get();
             return ChatAiRoomResponse.of(existingRoom, false);
@@ -60,7 +71,13 @@ public class ChatAiService {
 //            User user = findUserById(userId);
             User aiUser = findUserById(AI_USER_ID);
 
-            ChatRoom newRoom = new ChatRoom(false, Instant.now(), "AI Chat");
+            // 같은 사용자의 동시 요청은 한 방으로 합쳐집니다.
+            boolean created = chatRoomRepository.insertDirectRoomIfAbsent(pairKey, "AI Chat", Instant.now()) == 1;
+            ChatRoom newRoom = chatRoomRepository.findByDirectPairKey(pairKey)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.CHAT_ROOM_NOT_FOUND));
+            if (!created) {
+                return ChatAiRoomResponse.of(newRoom, false);
+            }
 
             ChatParticipant userParticipant = new ChatParticipant(newRoom, user);
             ChatParticipant aiParticipant = new ChatParticipant(newRoom, aiUser);
@@ -92,11 +109,24 @@ public class ChatAiService {
         validateParticipant(userId, chatRoom);
 
 
+        // 버퍼는 커밋된 메시지만 담으므로, 이번 메시지를 저장하기 전에 이전 대화를 꺼내 둡니다.
+        Optional<List<ChatMessage>> previousMessages = hotMessageBuffer.latest(roomId, HISTORY_SIZE - 1);
+
         ChatMessage userMessage = new ChatMessage(chatRoom, sender, request.content());
+        userMessage.assignSeq(chatRoomRepository.nextMessageSeq(roomId));
         chatMessageRepository.save(userMessage);
+        eventPublisher.publishEvent(new ChatMessageSavedEvent(userMessage));
 
 
-        List<ChatMessage> recentMessages = chatMessageRepository.findTop10ByChatRoomIdOrderBySentAtDesc(roomId);
+        List<ChatMessage> recentMessages = previousMessages
+                .map(previous -> {
+                    List<ChatMessage> messages = new ArrayList<>(HISTORY_SIZE);
+                    messages.add(userMessage);
+                    messages.addAll(previous);
+                    return messages;
+                })
+                .orElseGet(() -> new ArrayList<>(
+                        chatMessageHistory.pageBefore(roomId, Long.MAX_VALUE, 0L, HISTORY_SIZE).getContent()));
 
         Collections.reverse(recentMessages);
 
@@ -114,7 +144,9 @@ public class ChatAiService {
 
         User aiUser = findUserById(AI_USER_ID);
         ChatMessage aiMessage = new ChatMessage(chatRoom, aiUser, aiContent);
+        aiMessage.assignSeq(chatRoomRepository.nextMessageSeq(roomId));
         chatMessageRepository.save(aiMessage);
+        eventPublisher.publishEvent(new ChatMessageSavedEvent(aiMessage));
 
         return AiMessageResponse.from(aiMessage);
     }
@@ -146,8 +178,11 @@ public class ChatAiService {
 
         ChatRoom chatRoom = findChatRoomById(roomId);
         validateParticipant(userId, chatRoom);
+        chatMessageTranslationRepository.deleteByChatRoomId(roomId);
         chatMessageRepository.deleteByChatRoomId(roomId);
+        chatMessageRepository.deleteArchivedByChatRoomId(roomId);
         chatRoomRepository.delete(chatRoom);
+        eventPublisher.publishEvent(new ChatMessagesDeletedEvent(roomId));
     }
 
     private User findUserById(Long userId) {
@@ -222,5 +257,6 @@ public class ChatAiService {
             throw new BusinessException(ErrorCode.FORBIDDEN_MESSAGE_DELETE);
         }
         chatMessageRepository.delete(message);
+        eventPublisher.publishEvent(new ChatMessagesDeletedEvent(message.getChatRoom().getId()));
     }
 }
\ No newline at end of file
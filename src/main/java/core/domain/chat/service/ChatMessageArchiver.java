@@ -0,0 +1,209 @@
+package core.domain.chat.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * chat_message 월 파티션(chat_message_pYYYYMM, UTC 기준) 관리.
+ * <ul>
+ *     <li>이번 달부터 premakeMonths 개월 뒤까지 파티션을 미리 만듭니다. 보관을 끈 상태(app.chat.archive.enabled=false)에서도 만듭니다.
+ *     그 달 파티션이 없으면 메시지는 기본 파티션(chat_message_default)에 쌓이므로, 다음 달 파티션이 없으면
+ *     chat_message_partition_months_ahead 게이지가 0 이하가 되고 오류 로그를 남깁니다.</li>
+ *     <li>이번 달 기준 hotMonths 개월보다 오래된 달은 chat_message_archive 로 복사한 뒤 파티션을 떼어 내 통째로 지웁니다.
+ *     행 단위 DELETE 가 아니므로 최근 테이블에 죽은 튜플이나 인덱스 부풀음이 남지 않습니다.</li>
+ * </ul>
+ * 파티션 하나를 옮기는 작업은 한 트랜잭션이라 중간에 실패해도 다음 실행에서 처음부터 다시 합니다.
+ * 여러 노드에서 동시에 돌아도 pg_try_advisory_xact_lock 으로 한 노드만 작업합니다.
+ */
+@Slf4j
+@Component
+public class ChatMessageArchiver {
+
+    /** 다른 advisory lock 과 겹치지 않게 "chatarch" 를 키로 씁니다. */
+    static final long LOCK_KEY = 0x6368617461726368L;
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("^chat_message_p(\\d{4})(\\d{2})$");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final Counter archivedMessages;
+    /** 이번 달부터 몇 달 뒤까지 파티션이 빈틈없이 있는지. 다음 달 파티션이 없으면 0, 이번 달도 없으면 -1 */
+    private final AtomicInteger monthsAhead = new AtomicInteger(-1);
+    private final boolean enabled;
+    private final int hotMonths;
+    private final int premakeMonths;
+    private final long lockTimeoutMillis;
+
+    public ChatMessageArchiver(JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.chat.archive.enabled:true}") boolean enabled,
+                               @Value("${app.chat.archive.hot-months:6}") int hotMonths,
+                               @Value("${app.chat.archive.premake-months:3}") int premakeMonths,
+                               @Value("${app.chat.archive.lock-timeout-ms:3000}") long lockTimeoutMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.archivedMessages = Counter.builder("chat_archive_messages_total")
+                .description("Chat messages moved from monthly partitions to chat_message_archive")
+                .register(meterRegistry);
+        Gauge.builder("chat_message_partition_months_ahead", monthsAhead, AtomicInteger::get)
+                .description("Months after the current one that already have a chat_message partition")
+                .register(meterRegistry);
+        this.enabled = enabled;
+        this.hotMonths = hotMonths;
+        this.premakeMonths = premakeMonths;
+        this.lockTimeoutMillis = lockTimeoutMillis;
+    }
+
+    /** 배포 직후 다음 달 파티션이 없는 상태로 달이 바뀌지 않도록 시작할 때도 한 번 돌립니다. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmup() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${app.chat.archive.cron:0 30 4 * * *}", zone = "UTC")
+    public void maintain() {
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        try {
+            createUpcoming(current);
+        } catch (RuntimeException e) {
+            log.error("채팅 메시지 파티션 생성 실패 month={}", current, e);
+        }
+        checkUpcoming(current);
+        if (!enabled) {
+            return;
+        }
+
+        List<String> partitions;
+        try {
+            partitions = partitionsToArchive(partitionNames(), current, hotMonths);
+        } catch (RuntimeException e) {
+            log.error("채팅 메시지 파티션 조회 실패", e);
+            return;
+        }
+        for (String partition : partitions) {
+            try {
+                Integer moved = archive(partition);
+                if (moved == null) {
+                    return;
+                }
+                archivedMessages.increment(moved);
+                log.info("채팅 메시지 파티션 보관 완료 partition={}, messages={}", partition, moved);
+            } catch (RuntimeException e) {
+                // lock_timeout 등. 다음 실행에서 다시 시도합니다.
+                log.warn("채팅 메시지 파티션 보관 실패 partition={}", partition, e);
+                return;
+            }
+        }
+    }
+
+    private void createUpcoming(YearMonth current) {
+        transaction.executeWithoutResult(status -> {
+            if (!tryLock()) {
+                return;
+            }
+            // 기본 파티션에서 행을 옮길 때는 chat_message 에 잠깐 배타 잠금을 잡습니다.
+            jdbcTemplate.execute("SET LOCAL lock_timeout = '" + lockTimeoutMillis + "ms'");
+            for (int i = 0; i <= premakeMonths; i++) {
+                jdbcTemplate.queryForObject("SELECT chat_message_ensure_partition(?)", String.class,
+                        Date.valueOf(current.plusMonths(i).atDay(1)));
+            }
+        });
+    }
+
+    private void checkUpcoming(YearMonth current) {
+        try {
+            int ahead = monthsAhead(partitionNames(), current);
+            monthsAhead.set(ahead);
+            if (ahead < 1) {
+                log.error("다음 달 채팅 메시지 파티션이 없습니다. 새 메시지가 chat_message_default 에 쌓입니다. monthsAhead={}", ahead);
+            }
+        } catch (RuntimeException e) {
+            log.error("채팅 메시지 파티션 확인 실패", e);
+        }
+    }
+
+    private List<String> partitionNames() {
+        return jdbcTemplate.queryForList("""
+                SELECT c.relname
+                FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = 'chat_message'::regclass
+                """, String.class);
+    }
+
+    /**
+     * @return 옮긴 메시지 수. 다른 노드가 작업 중이면 null
+     */
+    private Integer archive(String partition) {
+        return transaction.execute(status -> {
+            if (!tryLock()) {
+                return null;
+            }
+            // DETACH 는 chat_message 에 잠깐 배타 잠금을 잡습니다. 오래 기다리지 말고 다음 실행으로 미룹니다.
+            jdbcTemplate.execute("SET LOCAL lock_timeout = '" + lockTimeoutMillis + "ms'");
+            int moved = jdbcTemplate.update("""
+                    INSERT INTO chat_message_archive (message_id, chatroom_id, sender_id, content, sent_at, message_type, seq)
+                    SELECT message_id, chatroom_id, sender_id, content, sent_at, message_type, seq
+                    FROM %s
+                    ON CONFLICT (message_id) DO NOTHING
+                    """.formatted(partition));
+            jdbcTemplate.execute("ALTER TABLE chat_message DETACH PARTITION " + partition);
+            jdbcTemplate.execute("DROP TABLE " + partition);
+            return moved;
+        });
+    }
+
+    private boolean tryLock() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class, LOCK_KEY));
+    }
+
+    /**
+     * @return 이번 달부터 빈틈없이 파티션이 있는 마지막 달까지의 개월 수. 이번 달 파티션도 없으면 -1
+     */
+    static int monthsAhead(Collection<String> partitionNames, YearMonth current) {
+        int ahead = -1;
+        while (partitionNames.contains(partitionName(current.plusMonths(ahead + 1)))) {
+            ahead++;
+        }
+        return ahead;
+    }
+
+    static String partitionName(YearMonth month) {
+        return "chat_message_p%04d%02d".formatted(month.getYear(), month.getMonthValue());
+    }
+
+    /**
+     * @return 이번 달 기준 hotMonths 개월보다 오래된 월 파티션 이름, 오래된 순서
+     */
+    static List<String> partitionsToArchive(Collection<String> partitionNames, YearMonth current, int hotMonths) {
+        YearMonth oldestHot = current.minusMonths(hotMonths);
+        return partitionNames.stream()
+                .filter(name -> {
+                    Matcher matcher = PARTITION_NAME.matcher(name);
+                    return matcher.matches()
+                            && YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))).isBefore(oldestHot);
+                })
+                .sorted()
+                .toList();
+    }
+}
@@ -0,0 +1,108 @@
+package core.domain.chat.service;
+
+import core.domain.chat.entity.ChatMessage;
+import core.domain.chat.repository.ChatMessageRepository;
+import core.global.enums.ErrorCode;
+import core.global.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 최근 메시지(chat_message 월 파티션)와 보관 메시지(chat_message_archive)를 하나의 기록처럼 이어서 읽습니다.
+ * 최근 테이블만으로 요청을 채울 수 있으면 보관 테이블은 보지 않고,
+ * 커서가 최근 구간보다 오래된 쪽으로 넘어갈 때만 부족한 만큼 보관 테이블에서 이어 읽습니다.
+ * <p>
+ * 보관 테이블에는 최근 구간보다 오래된 달의 메시지만 있으므로 두 테이블의 메시지 ID 구간은 겹치지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatMessageHistory {
+
+    /** findTop20ByChatRoomIdAndIdGreaterThanOrderByIdAsc 와 맞춥니다. */
+    static final int AROUND_EACH = 20;
+
+    private final ChatMessageRepository chatMessageRepository;
+
+    /**
+     * (floorId, beforeId) 구간을 메시지 ID 내림차순으로 size 개. 최근 테이블에서 모자라면 보관 테이블에서 채웁니다.
+     */
+    public Slice<ChatMessage> pageBefore(Long roomId, long beforeId, long floorId, int size) {
+        PageRequest page = PageRequest.of(0, size);
+        Slice<ChatMessage> hot = chatMessageRepository.findPageBefore(roomId, beforeId, floorId, page);
+        if (hot.hasNext()) {
+            return hot;
+        }
+        List<ChatMessage> messages = new ArrayList<>(hot.getContent());
+        long archivedBefore = messages.isEmpty() ? beforeId : messages.get(messages.size() - 1).getId();
+        messages.addAll(chatMessageRepository.findArchivedBefore(roomId, archivedBefore, floorId, size + 1 - messages.size()));
+
+        boolean hasNext = messages.size() > size;
+        return new SliceImpl<>(hasNext ? messages.subList(0, size) : messages, page, hasNext);
+    }
+
+    /**
+     * @return 대상 메시지와 이전 최대 {@value #AROUND_EACH}개, 이후 최대 {@value #AROUND_EACH}개를 오래된 순서로
+     * @throws BusinessException 대상 메시지가 이 방에 없으면 MESSAGE_NOT_FOUND
+     */
+    public List<ChatMessage> around(Long roomId, Long targetMessageId) {
+        // (chatroom_id, message_id) 인덱스 범위 스캔 두 번: 대상 포함 이전 21개, 이후 20개
+        List<ChatMessage> targetAndOlder = new ArrayList<>(
+                chatMessageRepository.findTop21ByChatRoomIdAndIdLessThanEqualOrderByIdDesc(roomId, targetMessageId));
+        List<ChatMessage> newer;
+
+        if (isTarget(targetAndOlder, targetMessageId)) {
+            if (targetAndOlder.size() <= AROUND_EACH) {
+                long oldestId = targetAndOlder.get(targetAndOlder.size() - 1).getId();
+                targetAndOlder.addAll(chatMessageRepository.findArchivedBefore(
+                        roomId, oldestId, 0L, AROUND_EACH + 1 - targetAndOlder.size()));
+            }
+            newer = chatMessageRepository.findTop20ByChatRoomIdAndIdGreaterThanOrderByIdAsc(roomId, targetMessageId);
+        } else {
+            // 최근 테이블에 없으면 보관된 메시지일 수 있습니다. 이후 메시지는 보관 테이블에서 모자라면 최근 테이블로 이어집니다.
+            targetAndOlder = chatMessageRepository.findArchivedBefore(roomId, targetMessageId + 1, 0L, AROUND_EACH + 1);
+            if (!isTarget(targetAndOlder, targetMessageId)) {
+                throw new BusinessException(ErrorCode.MESSAGE_NOT_FOUND);
+            }
+            newer = new ArrayList<>(chatMessageRepository.findArchivedAfter(roomId, targetMessageId, AROUND_EACH));
+            if (newer.size() < AROUND_EACH) {
+                long newestId = newer.isEmpty() ? targetMessageId : newer.get(newer.size() - 1).getId();
+                List<ChatMessage> hot = chatMessageRepository.findTop20ByChatRoomIdAndIdGreaterThanOrderByIdAsc(roomId, newestId);
+                newer.addAll(hot.subList(0, Math.min(hot.size(), AROUND_EACH - newer.size())));
+            }
+        }
+
+        List<ChatMessage> messages = new ArrayList<>(targetAndOlder);
+        Collections.reverse(messages);
+        messages.addAll(newer);
+        return messages;
+    }
+
+    /**
+     * 최근 테이블에 없으면 보관 테이블에서 찾습니다.
+     */
+    public Optional<ChatMessage> findById(Long messageId) {
+        return chatMessageRepository.findById(messageId)
+                .or(() -> chatMessageRepository.findArchivedById(messageId));
+    }
+
+    /**
+     * 최근/보관 어느 쪽에 있든 지웁니다. 보관 테이블에서 읽은 엔티티는 최근 테이블에 행이 없으므로 엔티티 삭제 대신 ID 로 지웁니다.
+     */
+    public void delete(Long messageId) {
+        if (chatMessageRepository.deleteRecentById(messageId) == 0) {
+            chatMessageRepository.deleteArchivedById(messageId);
+        }
+    }
+
+    private static boolean isTarget(List<ChatMessage> targetAndOlder, Long targetMessageId) {
+        return !targetAndOlder.isEmpty() && targetAndOlder.get(0).getId().equals(targetMessageId);
+    }
+}
@@ -0,0 +1,433 @@
+package core.domain.chat.service;
+
+import core.domain.chat.dto.ChatMessageResponse;
+import core.domain.chat.dto.ChatRoomSummaryResponse;
+import core.domain.chat.dto.ChatTranslationReadyResponse;
+import core.domain.chat.entity.ChatInbox;
+import core.domain.chat.entity.ChatParticipant;
+import core.domain.chat.event.ChatMessageAcceptedEvent;
+import core.domain.chat.repository.ChatInboxRepository;
+import core.domain.chat.repository.ChatParticipantRepository;
+import core.domain.notification.dto.NotificationEvent;
+import core.domain.user.entity.User;
+import core.domain.user.service.BlockGraph;
+import core.global.enums.NotificationType;
+import core.global.service.ChatMessageRelay;
+import core.global.service.EncodedStompPayload;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 텍스트 메시지 전송 파이프라인.
+ * <ol>
+ *     <li>저장 (호출 스레드): 짧은 트랜잭션으로 저장하고, 커밋 후 발신자에게 바로 원문 프레임을 돌려줍니다.</li>
+ *     <li>가공 (enrich 레인): 수신자/차단/요약을 읽고 언어별 번역을 병렬로 시작합니다. 번역을 기다리지 않고 다음 메시지로 넘어갑니다.</li>
+ *     <li>전달 (deliver 레인): 번역 저장, 브로커 전송, 알림 이벤트, 방 요약 푸시.</li>
+ * </ol>
+ * 단계 사이는 용량이 정해진 큐로 잇고, 방은 항상 같은 번호의 레인으로 갑니다.
+ * 번역이 끝나는 순서는 메시지 순서와 다를 수 있으므로, 방마다 앞 메시지가 전달 큐에 들어간 뒤에만 다음 메시지를 넣어 순서를 지킵니다.
+ * 한 방의 느린 번역은 그 방의 다음 메시지만 기다리게 하고, 같은 레인의 다른 방은 막지 않습니다.
+ * <p>
+ * 가공 큐가 가득 차면 저장 단계가 offerTimeoutMillis 동안 기다리고(인바운드 채널 역압),
+ * 그래도 자리가 없으면 실시간 전송을 포기합니다. 메시지는 이미 커밋되었으므로 클라이언트는 순번 기반 재동기화로 받아갑니다.
+ * 전달 큐에 넣는 쪽은 번역/타이머 스레드라 기다리지 않고, 자리가 없으면 프레임을 버리고 셉니다.
+ */
+@Slf4j
+@Component
+public class ChatMessagePipeline {
+
+    private final ChatParticipantRepository chatParticipantRepository;
+    private final ChatInboxRepository chatInboxRepository;
+    private final ChatTranslationFanout chatTranslationFanout;
+    private final ChatMessageTranslationService chatMessageTranslationService;
+    private final ChatMessageRelay chatMessageRelay;
+    private final BlockGraph blockGraph;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate loadTransaction;
+    private final int roomBroadcastThreshold;
+    private final long offerTimeoutMillis;
+
+    private final Stage enrich;
+    private final Stage deliver;
+    private final Timer persistTimer;
+    private final Timer enrichTimer;
+    private final Timer deliverTimer;
+    private final Timer endToEndTimer;
+    private final Counter rejected;
+    private final Counter droppedMessages;
+    private final Counter droppedTranslations;
+    /** 방별로 마지막 메시지가 전달 큐에 들어가면 완료되는 future. 다음 메시지는 이것이 끝난 뒤에 넣습니다. */
+    private final Map<Long, CompletableFuture<Void>> forwardedTails = new ConcurrentHashMap<>();
+
+    public ChatMessagePipeline(ChatParticipantRepository chatParticipantRepository,
+                               ChatInboxRepository chatInboxRepository,
+                               ChatTranslationFanout chatTranslationFanout,
+                               ChatMessageTranslationService chatMessageTranslationService,
+                               ChatMessageRelay chatMessageRelay,
+                               BlockGraph blockGraph,
+                               ApplicationEventPublisher eventPublisher,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry registry,
+                               @Value("${app.chat.delivery.room-broadcast-threshold:30}") int roomBroadcastThreshold,
+                               @Value("${app.chat.pipeline.lanes:8}") int lanes,
+                               @Value("${app.chat.pipeline.queue-capacity:1000}") int queueCapacity,
+                               @Value("${app.chat.pipeline.offer-timeout-ms:200}") long offerTimeoutMillis) {
+        this.chatParticipantRepository = chatParticipantRepository;
+        this.chatInboxRepository = chatInboxRepository;
+        this.chatTranslationFanout = chatTranslationFanout;
+        this.chatMessageTranslationService = chatMessageTranslationService;
+        this.chatMessageRelay = chatMessageRelay;
+        this.blockGraph = blockGraph;
+        this.eventPublisher = eventPublisher;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+        this.roomBroadcastThreshold = roomBroadcastThreshold;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+
+        this.enrich = new Stage("chat-enrich", lanes, queueCapacity);
+        this.deliver = new Stage("chat-deliver", lanes, queueCapacity);
+
+        this.persistTimer = stageTimer(registry, "persist");
+        this.enrichTimer = stageTimer(registry, "enrich");
+        this.deliverTimer = stageTimer(registry, "deliver");
+        this.endToEndTimer = Timer.builder("chat_pipeline_latency_seconds")
+                .description("메시지 수신부터 전달 완료까지")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.rejected = Counter.builder("chat_pipeline_rejected_total")
+                .description("가공 큐가 가득 차 실시간 전송을 포기한 메시지 수")
+                .register(registry);
+        this.droppedMessages = droppedCounter(registry, "message");
+        this.droppedTranslations = droppedCounter(registry, "translation");
+        Gauge.builder("chat_pipeline_queue_size", enrich, Stage::queued)
+                .tag("stage", "enrich").description("단계별 대기 작업 수").register(registry);
+        Gauge.builder("chat_pipeline_queue_size", deliver, Stage::queued)
+                .tag("stage", "deliver").description("단계별 대기 작업 수").register(registry);
+    }
+
+    private static Counter droppedCounter(MeterRegistry registry, String frame) {
+        return Counter.builder("chat_pipeline_dropped_total")
+                .description("전달 큐가 가득 차 버린 프레임 수")
+                .tag("frame", frame)
+                .register(registry);
+    }
+
+    private static Timer stageTimer(MeterRegistry registry, String stage) {
+        return Timer.builder("chat_pipeline_stage_seconds")
+                .description("채팅 전송 파이프라인 단계별 처리 시간")
+                .tag("stage", stage)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    /**
+     * 커밋된 메시지를 받습니다. 발신자에게 원문을 바로 보내고(ack) 가공 단계로 넘깁니다.
+     */
+    public void submit(ChatMessageAcceptedEvent e) {
+        ChatMessageResponse message = e.message();
+        persistTimer.record(System.nanoTime() - e.acceptedAtNanos(), TimeUnit.NANOSECONDS);
+        chatMessageRelay.convertAndSend(userMessagesTopic(message.senderId(), message.roomId()), message);
+
+        boolean accepted = enrich.offer(message.roomId(), () -> enrichAndForward(e), offerTimeoutMillis);
+        if (!accepted) {
+            rejected.increment();
+            log.warn("전송 파이프라인 포화, 실시간 전송을 건너뜁니다. roomId={}, messageId={}",
+                    message.roomId(), message.id());
+        }
+    }
+
+    /**
+     * enrich 레인에서 실행됩니다. 번역을 시작만 하고, 번역이 끝나면(또는 예산이 지나면) 번역/타이머 스레드에서
+     * 같은 방의 앞 메시지가 전달 큐에 들어간 뒤에 전달 큐로 넘깁니다.
+     */
+    private void enrichAndForward(ChatMessageAcceptedEvent e) {
+        Long roomId = e.message().roomId();
+        long startedAt = System.nanoTime();
+        CompletableFuture<Void> originalQueued = new CompletableFuture<>();
+        CompletableFuture<Delivery> enriched;
+        try {
+            enriched = enrich(e, originalQueued);
+        } catch (RuntimeException ex) {
+            enriched = CompletableFuture.failedFuture(ex);
+        }
+
+        CompletableFuture<Void> previous = forwardedTails.getOrDefault(roomId, CompletableFuture.completedFuture(null));
+        CompletableFuture<Void> tail = previous.thenCombine(enriched, (ignored, delivery) -> delivery)
+                .handle((delivery, ex) -> {
+                    if (ex != null) {
+                        log.error("메시지 가공 실패 roomId={}, messageId={}", roomId, e.message().id(), ex);
+                    } else {
+                        enrichTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                        forward(delivery, e.acceptedAtNanos());
+                    }
+                    originalQueued.complete(null);
+                    return (Void) null;
+                });
+        forwardedTails.put(roomId, tail);
+        tail.whenComplete((ignored, ex) -> forwardedTails.remove(roomId, tail));
+    }
+
+    private void forward(Delivery delivery, long acceptedAtNanos) {
+        Long roomId = delivery.message().roomId();
+        boolean queued = deliver.offer(roomId, () -> {
+            deliverTimer.record(() -> deliver(delivery));
+            endToEndTimer.record(System.nanoTime() - acceptedAtNanos, TimeUnit.NANOSECONDS);
+        });
+        if (!queued) {
+            droppedMessages.increment();
+            log.warn("전달 큐 포화, 실시간 전송을 건너뜁니다. roomId={}, messageId={}", roomId, delivery.message().id());
+        }
+    }
+
+    /**
+     * 2단계: 수신자와 요약을 읽고, 수신자별이 아니라 언어별로 한 번씩 병렬 번역을 시작합니다.
+     * 예산을 넘긴 언어는 원문이 전달 큐에 들어간 뒤 번역 완료 프레임을 같은 레인으로 보내 원문보다 먼저 도착하지 않게 합니다.
+     *
+     * @return 예산 안에 끝난 번역까지 담은 전달 내용. 번역을 기다리는 동안 호출 레인은 막히지 않습니다.
+     */
+    CompletableFuture<Delivery> enrich(ChatMessageAcceptedEvent e, CompletableFuture<Void> originalQueued) {
+        ChatMessageResponse message = e.message();
+        Long roomId = message.roomId();
+        Long messageId = message.id();
+        Recipients loaded = loadTransaction.execute(status -> loadRecipients(roomId, message.senderId()));
+        boolean broadcast = useRoomBroadcast(loaded.recipients().size());
+
+        Map<String, List<Long>> recipientIdsByLanguage = loaded.recipients().stream()
+                .filter(recipient -> recipient.language() != null)
+                .collect(Collectors.groupingBy(Recipient::language,
+                        Collectors.mapping(Recipient::userId, Collectors.toList())));
+        return chatTranslationFanout.translate(
+                message.originContent(),
+                recipientIdsByLanguage.keySet(),
+                (language, translated) -> originalQueued.thenRun(() -> {
+                    boolean queued = deliver.offer(roomId, () -> {
+                        chatMessageTranslationService.saveAll(messageId, roomId, Map.of(language, translated));
+                        if (broadcast) {
+                            sendRoomTranslation(roomId, messageId, language, translated, loaded.excludedUserIds());
+                        } else {
+                            sendTranslationReady(recipientIdsByLanguage.get(language), roomId, messageId, language, translated);
+                        }
+                    });
+                    if (!queued) {
+                        droppedTranslations.increment();
+                        log.warn("전달 큐 포화, 지연 번역 프레임을 버립니다. roomId={}, messageId={}, language={}",
+                                roomId, messageId, language);
+                    }
+                })
+        ).thenApply(translations ->
+                new Delivery(message, loaded.recipients(), loaded.excludedUserIds(), broadcast, translations, loaded.summaries()));
+    }
+
+    private Recipients loadRecipients(Long roomId, Long senderId) {
+        List<ChatParticipant> participants = chatParticipantRepository.findByChatRoomId(roomId);
+        BlockGraph.Relations senderBlocks = blockGraph.of(senderId);
+
+        List<Recipient> recipients = new ArrayList<>();
+        List<Long> excludedUserIds = new ArrayList<>();
+        for (ChatParticipant participant : participants) {
+            User user = participant.getUser();
+            if (senderBlocks.eitherWay(user.getId())) {
+                excludedUserIds.add(user.getId());
+                continue;
+            }
+            String language = participant.isTranslateEnabled()
+                    && user.getTranslateLanguage() != null && !user.getTranslateLanguage().isEmpty()
+                    ? user.getTranslateLanguage()
+                    : null;
+            recipients.add(new Recipient(user.getId(), language));
+        }
+
+        Map<Long, ChatRoomSummaryResponse> summaries = chatInboxRepository.findByChatRoomId(roomId).stream()
+                .collect(Collectors.toMap(ChatInbox::getUserId, ChatRoomSummaryResponse::from));
+        return new Recipients(recipients, excludedUserIds, summaries);
+    }
+
+    /**
+     * 3단계: 번역 저장, 원문/번역 전송, 알림 이벤트, 방 요약 푸시. 발신자는 1단계에서 원문을 받았으므로 메시지 프레임은 보내지 않습니다.
+     */
+    void deliver(Delivery d) {
+        ChatMessageResponse message = d.message();
+        Long roomId = message.roomId();
+        Long senderId = message.senderId();
+        chatMessageTranslationService.saveAll(message.id(), roomId, d.translations());
+
+        if (d.broadcast()) {
+            List<Long> excludedWithSender = new ArrayList<>(d.excludedUserIds());
+            excludedWithSender.add(senderId);
+            chatMessageRelay.convertAndSend(roomMessagesTopic(roomId), message, excludedWithSender);
+            d.translations().forEach((language, translated) ->
+                    sendRoomTranslation(roomId, message.id(), language, translated, d.excludedUserIds()));
+        }
+
+        // 수신자별 전송에서도 내용이 같은 페이로드(원문 / 언어별 번역)는 한 번만 직렬화합니다.
+        Map<String, EncodedStompPayload> encodedByTargetContent = new HashMap<>();
+        Function<String, EncodedStompPayload> encode = targetContent ->
+                chatMessageRelay.encode(withTargetContent(message, targetContent));
+        for (Recipient recipient : d.recipients()) {
+            if (!recipient.userId().equals(senderId)) {
+                eventPublisher.publishEvent(new NotificationEvent(
+                        recipient.userId(),
+                        senderId,
+                        NotificationType.chat,
+                        roomId,
+                        message.originContent()
+                ));
+                if (!d.broadcast()) {
+                    String targetContent = recipient.language() != null ? d.translations().get(recipient.language()) : null;
+                    chatMessageRelay.send(userMessagesTopic(recipient.userId(), roomId),
+                            encodedByTargetContent.computeIfAbsent(targetContent, encode));
+                }
+            }
+            ChatRoomSummaryResponse summary = d.summaries().get(recipient.userId());
+            if (summary != null) {
+                chatMessageRelay.convertAndSend("/topic/user/" + recipient.userId() + "/rooms", summary);
+            }
+        }
+        log.debug("Delivered TEXT message roomId={} messageId={} recipients={} broadcast={}",
+                roomId, message.id(), d.recipients().size(), d.broadcast());
+    }
+
+    private boolean useRoomBroadcast(int recipientCount) {
+        return roomBroadcastThreshold > 0 && recipientCount >= roomBroadcastThreshold;
+    }
+
+    private static String roomMessagesTopic(Long roomId) {
+        return "/topic/rooms/" + roomId + "/messages";
+    }
+
+    private static String userMessagesTopic(Long userId, Long roomId) {
+        return String.format("/topic/user/%s/%s/messages", userId, roomId);
+    }
+
+    private static ChatMessageResponse withTargetContent(ChatMessageResponse m, String targetContent) {
+        if (targetContent == null) {
+            return m;
+        }
+        return new ChatMessageResponse(m.id(), m.roomId(), m.senderId(), m.originContent(), targetContent, m.sentAt(),
+                m.senderFirstName(), m.senderLastName(), m.senderImageUrl(), m.messageType(), m.seq());
+    }
+
+    private void sendRoomTranslation(Long roomId, Long messageId, String language, String translated, List<Long> excludedUserIds) {
+        chatMessageRelay.convertAndSend(
+                "/topic/rooms/" + roomId + "/lang/" + language,
+                new ChatTranslationReadyResponse(messageId, roomId, language, translated),
+                excludedUserIds
+        );
+    }
+
+    private void sendTranslationReady(List<Long> recipientIds, Long roomId, Long messageId, String language, String translated) {
+        EncodedStompPayload payload = chatMessageRelay.encode(
+                new ChatTranslationReadyResponse(messageId, roomId, language, translated));
+        for (Long recipientId : recipientIds) {
+            chatMessageRelay.send(
+                    String.format("/topic/user/%s/%s/translations", recipientId, roomId),
+                    payload
+            );
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        enrich.shutdown();
+        deliver.shutdown();
+    }
+
+    /** @param language 번역을 받을 언어 (번역을 켜지 않았으면 null) */
+    record Recipient(Long userId, String language) {
+    }
+
+    private record Recipients(List<Recipient> recipients, List<Long> excludedUserIds,
+                              Map<Long, ChatRoomSummaryResponse> summaries) {
+    }
+
+    record Delivery(ChatMessageResponse message, List<Recipient> recipients, List<Long> excludedUserIds,
+                    boolean broadcast, Map<String, String> translations,
+                    Map<Long, ChatRoomSummaryResponse> summaries) {
+    }
+
+    /**
+     * 방 ID 로 고른 레인(단일 스레드 + 용량 제한 큐)에서 작업을 순서대로 실행합니다.
+     */
+    static final class Stage {
+
+        private final List<BlockingQueue<Runnable>> queues = new ArrayList<>();
+        private final List<Thread> workers = new ArrayList<>();
+
+        Stage(String name, int lanes, int capacity) {
+            for (int i = 0; i < lanes; i++) {
+                BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(capacity);
+                Thread worker = new Thread(() -> run(queue), name + "-" + i);
+                worker.setDaemon(true);
+                worker.start();
+                queues.add(queue);
+                workers.add(worker);
+            }
+        }
+
+        private static void run(BlockingQueue<Runnable> queue) {
+            while (!Thread.currentThread().isInterrupted()) {
+                Runnable task;
+                try {
+                    task = queue.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    log.error("채팅 전송 파이프라인 작업 실패", e);
+                }
+            }
+        }
+
+        private BlockingQueue<Runnable> lane(Long roomId) {
+            return queues.get(Math.floorMod(Long.hashCode(roomId), queues.size()));
+        }
+
+        boolean offer(Long roomId, Runnable task, long timeoutMillis) {
+            try {
+                return lane(roomId).offer(task, timeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        /** 기다리지 않습니다. 자리가 없으면 false */
+        boolean offer(Long roomId, Runnable task) {
+            return lane(roomId).offer(task);
+        }
+
+        int queued() {
+            return queues.stream().mapToInt(BlockingQueue::size).sum();
+        }
+
+        void shutdown() {
+            workers.forEach(Thread::interrupt);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package core.domain.chat.service;
+
+import core.domain.chat.entity.ChatMessage;
+import core.domain.chat.entity.ChatMessageTranslation;
+import core.domain.chat.repository.ChatMessageTranslationRepository;
+import core.global.enums.MessageType;
+import core.global.service.TranslationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅 메시지 번역문을 (message, language) 단위로 저장하고 재사용합니다.
+ * 기록 조회/주변 메시지 조회는 저장된 번역을 붙여 쓰고, 없는 메시지만 번역 API 로 보냅니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChatMessageTranslationService {
+
+    private final ChatMessageTranslationRepository translationRepository;
+    private final TranslationService translationService;
+
+    /**
+     * @return messageId → 번역문. 미디어 메시지는 번역하지 않으므로 포함되지 않습니다.
+     */
+    @Transactional
+    public Map<Long, String> translate(List<ChatMessage> messages, String language) {
+        Map<Long, String> result = new HashMap<>();
+        if (messages.isEmpty()) {
+            return result;
+        }
+
+        List<Long> messageIds = messages.stream().map(ChatMessage::getId).toList();
+        translationRepository.findByMessageIdInAndLanguage(messageIds, language)
+                .forEach(t -> result.put(t.getMessageId(), t.getContent()));
+
+        List<ChatMessage> missing = messages.stream()
+                .filter(message -> !result.containsKey(message.getId()))
+                .filter(message -> message.getMessageType() == null || message.getMessageType() == MessageType.TEXT)
+                .toList();
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        List<String> translated = translationService.translateMessages(
+                missing.stream().map(ChatMessage::getContent).collect(Collectors.toList()), language);
+        for (int i = 0; i < missing.size(); i++) {
+            ChatMessage message = missing.get(i);
+            String content = translated.get(i);
+            result.put(message.getId(), content);
+            translationRepository.insertIgnore(message.getId(), message.getChatRoom().getId(), language, content);
+        }
+        return result;
+    }
+
+    /**
+     * 실시간 전송 중 만들어진 언어별 번역을 저장합니다.
+     */
+    @Transactional
+    public void saveAll(Long messageId, Long roomId, Map<String, String> contentByLanguage) {
+        contentByLanguage.forEach((language, content) ->
+                translationRepository.insertIgnore(messageId, roomId, language, content));
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Long, String> findStored(List<Long> messageIds, String language) {
+        if (messageIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        return translationRepository.findByMessageIdInAndLanguage(messageIds, language).stream()
+                .collect(Collectors.toMap(ChatMessageTranslation::getMessageId, ChatMessageTranslation::getContent));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> searchMessageIds(Long roomId, String language, String keyword, Long beforeId, int limit) {
+        return translationRepository.searchMessageIds(roomId, language, keyword, beforeId, limit);
+    }
+}
@@ -2,31 +2,47 @@ package core.domain.chat.service;
 
 
 import core.domain.chat.dto.*;
+import core.domain.chat.event.ChatMembershipChangedEvent;
+import core.domain.chat.event.ChatParticipantLeftEvent;
+import core.domain.chat.event.ChatMessageAcceptedEvent;
+import core.domain.chat.event.ChatMessageSavedEvent;
+import core.domain.chat.event.ChatMessagesDeletedEvent;
+import core.domain.chat.event.GroupChatRankingChangedEvent;
+import core.domain.chat.event.ReadWatermarkAdvancedEvent;
+import core.domain.chat.entity.ChatInbox;
 import core.domain.chat.entity.ChatMessage;
 import core.domain.chat.entity.ChatParticipant;
 import core.domain.chat.entity.ChatRoom;
+import core.domain.chat.repository.ChatInboxRepository;
 import core.domain.chat.repository.ChatMessageRepository;
+import core.domain.chat.repository.ChatMessageTranslationRepository;
 import core.domain.chat.repository.ChatParticipantRepository;
 import core.domain.chat.repository.ChatRoomRepository;
 import core.domain.notification.dto.NotificationEvent;
 import core.domain.user.entity.BlockUser;
 import core.domain.user.entity.User;
+import core.domain.user.event.UserBlockedEvent;
 import core.domain.user.repository.BlockRepository;
 import core.domain.user.repository.UserRepository;
+import core.domain.user.service.BlockGraph;
 import core.global.enums.*;
 import core.global.exception.BusinessException;
-import core.global.image.entity.Image;
-import core.global.image.repository.ImageRepository;
 import core.global.image.service.ImageService;
+import core.global.image.service.ProfileImageResolver;
 import core.global.metrics.SocialChatMetrics;
+import core.global.pagination.CursorPageResponse;
+import core.global.service.ChatMessageRelay;
+import core.global.service.EncodedStompPayload;
+import core.global.service.PresenceRegistry;
 import core.global.service.TranslationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -39,7 +55,6 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 @Service
 @Slf4j
@@ -47,20 +62,33 @@ import java.util.stream.IntStream;
 public class ChatService {
 
     private static final int MESSAGE_PAGE_SIZE = 20;
+    private static final int SINCE_PAGE_SIZE = 200;
+    private static final int FIRST_PAGE_SIZE = 50;
+    private static final int AROUND_PAGE_SIZE = 20;
+    private static final int GROUP_PAGE_SIZE = 10;
+    private static final int SEARCH_PAGE_SIZE = 50;
     private final ChatRoomRepository chatRoomRepo;
     private final ChatParticipantRepository participantRepo;
     private final ChatMessageRepository chatMessageRepository;
     private final UserRepository userRepository;
     private final ChatParticipantRepository chatParticipantRepository;
     private final TranslationService translationService;
-    private final ImageRepository imageRepository;
+    private final ProfileImageResolver profileImageResolver;
     private final ChatRoomRepository chatRoomRepository;
-    private final SimpMessagingTemplate messagingTemplate; // 주입 필요
+    private final ChatMessageRelay chatMessageRelay;
     private final ImageService imageService;
     private final ApplicationEventPublisher eventPublisher;
     private final BlockRepository blockRepository;
     private final S3Presigner s3Presigner;
     private final SocialChatMetrics socialChatMetrics;
+    private final ChatInboxRepository chatInboxRepository;
+    private final ChatMessageTranslationService chatMessageTranslationService;
+    private final ChatMessageTranslationRepository chatMessageTranslationRepository;
+    private final HotMessageBuffer hotMessageBuffer;
+    private final BlockGraph blockGraph;
+    private final GroupChatLeaderboard groupChatLeaderboard;
+    private final PresenceRegistry presenceRegistry;
+    private final ChatMessageHistory chatMessageHistory;
 
     private String countryOf(User u) {
         return Optional.ofNullable(u.getCountry()).orElse(null); // null/빈값은 metrics에서 UNK 처리
@@ -72,107 +100,45 @@ public class ChatService {
     @Value("${ncp.s3.bucket}")
     private String bucketName;
 
+    @Value("${app.chat.delivery.room-broadcast-threshold:30}")
+    private int roomBroadcastThreshold;
+
+    /**
+     * 내 채팅방 목록을 조회합니다.
+     * 메시지/읽음/입장/퇴장 시점에 갱신되는 chat_inbox 읽기 모델을 한 번 조회하므로 방 개수와 무관하게 쿼리 수가 일정합니다.
+     * 내가 차단한 상대와의 1:1 방은 숨기고, 마지막 메시지 미리보기에서는 내가 차단한 사용자의 메시지를 제외합니다.
+     */
     @Transactional(readOnly = true)
     public List<ChatRoomSummaryResponse> getMyAllChatRoomSummaries(Long userId) {
-        User currentUser = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-
-        List<ChatRoom> rooms = chatRoomRepo.findActiveHumanChatRoomsByUserId(userId, ChatParticipantStatus.ACTIVE);
-
-        return rooms.stream()
-                // 🚨 차단 필터링 로직
-                .filter(room -> {
-                    if (room.getGroup()) {
-                        return true;
-                    }
-                    Optional<User> opponentOpt = room.getParticipants().stream()
-                            .map(ChatParticipant::getUser)
-                            .filter(u -> !u.getId().equals(userId))
-                            .findFirst();
-
-                    if (opponentOpt.isPresent()) {
-                        User opponent = opponentOpt.get();
-                        Long opponentId = opponent.getId();
-
-                        boolean isBlockedByMe = blockRepository.existsBlock(userId, opponentId);
-
-                        return !isBlockedByMe; // '내가 차단한 경우만 숨김'이 일반적
-                    }
-
-                    return true;
-                })
-                .map(room -> new ChatRoomWithTime(room, getLastMessageTime(room.getId())))
-                .sorted(Comparator.comparing(
-                        ChatRoomWithTime::lastMessageTime,
-                        Comparator.nullsLast(Comparator.reverseOrder())
-                ))
-                .map(roomWithTime -> {
-                    ChatRoom room = roomWithTime.room();
-                    Instant lastMessageTime = roomWithTime.lastMessageTime();
-
-                    // 그룹 채팅방의 마지막 메시지는 차단된 유저 메시지를 제외
-                    String lastMessageContent = getLastNonBlockedMessageContent(room.getId(), userId);
-                    int unreadCount = countUnreadMessages(room.getId(), userId);
-                    int participantCount = room.getParticipants().size();
-                    String roomName;
-                    String roomImageUrl;
-
-                    if (!room.getGroup()) {
-                        User opponent = room.getParticipants().stream()
-                                .map(ChatParticipant::getUser)
-                                .filter(u -> !u.getId().equals(userId))
-                                .findFirst()
-                                .orElse(null);
-
-                        if (opponent != null) {
-                            roomName = opponent.getFirstName() + " " + opponent.getLastName();
-                            roomImageUrl = imageRepository.findFirstByImageTypeAndRelatedIdOrderByOrderIndexAsc(ImageType.USER, opponent.getId())
-                                    .map(Image::getUrl)
-                                    .orElse(null);
-                        } else {
-                            roomName = "(알 수 없는 사용자)";
-                            roomImageUrl = null;
-                        }
+        if (!userRepository.existsById(userId)) {
+            throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+        }
 
-                    } else {
-                        roomName = room.getRoomName();
-                        roomImageUrl = imageRepository.findFirstByImageTypeAndRelatedIdOrderByOrderIndexAsc(ImageType.CHAT_ROOM, room.getId())
-                                .map(Image::getUrl)
-                                .orElse(null);
-                    }
-
-                    return new ChatRoomSummaryResponse(
-                            room.getId(),
-                            roomName,
-                            lastMessageContent,
-                            lastMessageTime,
-                            roomImageUrl,
-                            unreadCount,
-                            participantCount
-                    );
-                })
+        return chatInboxRepository.findVisibleByUserId(userId).stream()
+                .map(ChatRoomSummaryResponse::from)
                 .toList();
     }
 
-    private String getLastNonBlockedMessageContent(Long roomId, Long userId) {
-        User currentUser = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-
-        List<User> blockedUsers = blockRepository.findByUser(currentUser)
-                .stream()
-                .map(BlockUser::getBlocked)
-                .toList();
+    /**
+     * (user, room) 의 chat_inbox 행을 원본 데이터로 다시 계산합니다.
+     */
+    private void refreshInbox(Long userId, Long roomId) {
+        chatInboxRepository.upsert(userId, roomId, ImageType.USER.ordinal(), ImageType.CHAT_ROOM.ordinal());
+    }
 
-        Optional<ChatMessage> lastMessage;
+    /**
+     * 방의 chat_inbox 행을 사용자 ID 기준으로 한 번에 가져옵니다. (요약 푸시용)
+     */
+    private Map<Long, ChatInbox> loadInboxByUserId(Long roomId) {
+        return chatInboxRepository.findByChatRoomId(roomId).stream()
+                .collect(Collectors.toMap(ChatInbox::getUserId, inbox -> inbox));
+    }
 
-        if (blockedUsers.isEmpty()) {
-            lastMessage = chatMessageRepository.findFirstByChatRoomIdOrderBySentAtDesc(roomId);
-        } else {
-            lastMessage = chatMessageRepository.findFirstByChatRoomIdAndSenderNotInOrderBySentAtDesc(roomId, blockedUsers);
+    private void sendRoomSummary(Long userId, ChatInbox inbox) {
+        if (inbox == null) {
+            return;
         }
-
-        return lastMessage.map(ChatMessage::getContent)
-                .orElse("새로운 메시지가 없습니다.");
+        chatMessageRelay.convertAndSend("/topic/user/" + userId + "/rooms", ChatRoomSummaryResponse.from(inbox));
     }
 
     @Transactional
@@ -184,18 +150,12 @@ public class ChatService {
             throw new BusinessException(ErrorCode.PROFILE_SET_NOT_COMPLETED);
         }
 
-        List<Long> userIds = Arrays.asList(currentUserId, otherUserId);
-        List<ChatRoom> existingRooms = chatRoomRepo.findOneToOneRoomByParticipantIds(userIds);
-
-        if (!existingRooms.isEmpty()) {
-            if (existingRooms.size() > 1) {
-                log.warn("중복된 1:1 채팅방 발견. 사용자 ID: {}, {}. 첫 번째 방을 사용합니다.", currentUserId, otherUserId);
-            }
-            ChatRoom room = existingRooms.get(0);
-            return handleExistingRoom(room, currentUserId);
-        } else {
-            return createNewOneToOneChatRoom(currentUserId, otherUserId);
+        String pairKey = ChatRoom.directPairKey(currentUserId, otherUserId);
+        Optional<ChatRoom> existingRoom = chatRoomRepo.findByDirectPairKey(pairKey);
+        if (existingRoom.isPresent()) {
+            return handleExistingRoom(existingRoom.get(), currentUserId);
         }
+        return createNewOneToOneChatRoom(pairKey, currentUserId, otherUserId);
     }
 
     private ChatRoom handleExistingRoom(ChatRoom room, Long currentUserId) {
@@ -205,18 +165,27 @@ public class ChatService {
                 .findFirst();
         if (currentParticipant.isPresent() && currentParticipant.get().getStatus() == ChatParticipantStatus.LEFT) {
             currentParticipant.get().reJoin();
+            refreshInbox(currentUserId, room.getId());
         }
 
         return room;
     }
 
-    private ChatRoom createNewOneToOneChatRoom(Long userId1, Long userId2) {
+    /**
+     * 같은 두 사용자의 방이 동시에 만들어지면 먼저 커밋한 요청의 방을 그대로 씁니다.
+     */
+    private ChatRoom createNewOneToOneChatRoom(String pairKey, Long userId1, Long userId2) {
         User currentUser = userRepository.findById(userId1)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
         User otherUser = userRepository.findById(userId2)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
-        ChatRoom newRoom = new ChatRoom(false, Instant.now(), "1:1 채팅방");
+        boolean created = chatRoomRepo.insertDirectRoomIfAbsent(pairKey, "1:1 채팅방", Instant.now()) == 1;
+        ChatRoom newRoom = chatRoomRepo.findByDirectPairKey(pairKey)
+                .orElseThrow(() -> new BusinessException(ErrorCode.CHAT_ROOM_NOT_FOUND));
+        if (!created) {
+            return handleExistingRoom(newRoom, userId1);
+        }
 
         ChatParticipant participant1 = new ChatParticipant(newRoom, currentUser);
         ChatParticipant participant2 = new ChatParticipant(newRoom, otherUser);
@@ -231,7 +200,10 @@ public class ChatService {
         );
 
 
-        return chatRoomRepo.save(newRoom);
+        ChatRoom savedRoom = chatRoomRepo.save(newRoom);
+        refreshInbox(userId1, savedRoom.getId());
+        refreshInbox(userId2, savedRoom.getId());
+        return savedRoom;
     }
 
     /**
@@ -253,7 +225,14 @@ public class ChatService {
 
         ChatParticipant participant = participantRepo.findByChatRoomIdAndUserIdAndStatusIsNot(roomId, userId, ChatParticipantStatus.LEFT)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CHAT_PARTICIPANT_NOT_FOUND));
-        participant.leave();
+        participant.leave(chatMessageRepository.findTopByChatRoomIdOrderByIdDesc(roomId)
+                .map(ChatMessage::getId)
+                .orElse(null));
+        chatInboxRepository.deleteByUserIdAndChatRoomId(userId, roomId);
+        eventPublisher.publishEvent(new ChatParticipantLeftEvent(roomId, userId));
+        if (Boolean.TRUE.equals(participant.getChatRoom().getGroup())) {
+            publishGroupRanking(roomId);
+        }
         deleteRoomIfEmpty(roomId);
         return true;
     }
@@ -272,8 +251,16 @@ public class ChatService {
         long remainingActiveParticipants = participantRepo.countByChatRoomIdAndStatus(roomId, ChatParticipantStatus.ACTIVE);
 
         if (remainingActiveParticipants == 0) {
+            chatMessageTranslationRepository.deleteByChatRoomId(roomId);
             chatMessageRepository.deleteByChatRoomId(roomId);
+            chatMessageRepository.deleteArchivedByChatRoomId(roomId);
+            chatInboxRepository.deleteByChatRoomId(roomId);
             chatRoomRepo.delete(room);
+            eventPublisher.publishEvent(new ChatMembershipChangedEvent(roomId));
+            if (Boolean.TRUE.equals(room.getGroup())) {
+                eventPublisher.publishEvent(GroupChatRankingChangedEvent.removed(roomId));
+            }
+            eventPublisher.publishEvent(new ChatMessagesDeletedEvent(roomId));
             // todo : 채팅방 내 동영상 사진 삭제 필요
         }
     }
@@ -293,12 +280,11 @@ public class ChatService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.CHAT_ROOM_NOT_FOUND));
 
         List<ChatParticipant> participants = chatParticipantRepository.findByChatRoom(chatRoom);
+        Map<Long, String> userImageUrls = profileImageResolver.resolve(ImageType.USER,
+                participants.stream().map(p -> p.getUser().getId()).toList());
         return participants.stream()
                 .map(p -> {
-                    String userImageUrl = imageRepository.findFirstByImageTypeAndRelatedIdOrderByOrderIndexAsc(
-                                    ImageType.USER, p.getUser().getId())
-                            .map(Image::getUrl)
-                            .orElse(null);
+                    String userImageUrl = userImageUrls.get(p.getUser().getId());
 
                     boolean isHost = chatRoom.getOwner() != null && chatRoom.getOwner().getId().equals(p.getUser().getId());
 
@@ -307,7 +293,8 @@ public class ChatService {
                             p.getUser().getFirstName(),
                             p.getUser().getLastName(),
                             userImageUrl,
-                            isHost
+                            isHost,
+                            presenceRegistry.isOnlineAnywhere(p.getUser().getId())
                     );
                 })
                 .collect(Collectors.toList());
@@ -317,55 +304,43 @@ public class ChatService {
      * @param roomId        채팅방 ID
      * @param userId        조회하는 사용자 ID
      * @param lastMessageId 마지막으로 조회된 메시지 ID (무한 스크롤용)
-     * @return ChatMessage 엔티티 목록
+     * @return 메시지 ID 내림차순 한 페이지. hasNext 로 이전 메시지가 더 있는지 알 수 있습니다.
      * @apiNote 채팅방 메시지를 무한 스크롤로 조회하는 핵심 로직입니다.
-     * 이 메서드는 항상 ChatMessage 엔티티 목록을 반환합니다.
+     * (chatroom_id, message_id) 키셋 페이지네이션이며, 나간 참여자는 나간 시점의 메시지 ID 를 하한으로 씁니다.
+     * 커서가 최근 파티션보다 오래된 쪽으로 넘어가면 보관 테이블에서 이어 읽습니다.
      */
     @Transactional(readOnly = true)
-    public List<ChatMessage> getRawMessages(Long roomId, Long userId, Long lastMessageId) {
+    public Slice<ChatMessage> getRawMessages(Long roomId, Long userId, Long lastMessageId) {
         ChatParticipant participant = chatParticipantRepository.findByChatRoomIdAndUserId(roomId, userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CHAT_PARTICIPANT_NOT_FOUND));
 
-        if (participant.getStatus() == ChatParticipantStatus.LEFT && participant.getLastLeftAt() != null) {
-            Instant lastLeftAt = participant.getLastLeftAt();
-
-            if (lastMessageId != null) {
-                return chatMessageRepository.findByChatRoomIdAndSentAtAfterAndIdBefore(
-                        roomId, lastLeftAt, lastMessageId,
-                        PageRequest.of(0, MESSAGE_PAGE_SIZE, Sort.by("sentAt").descending())
-                );
-            } else {
-                return chatMessageRepository.findByChatRoomIdAndSentAtAfter(
-                        roomId, lastLeftAt,
-                        PageRequest.of(0, MESSAGE_PAGE_SIZE, Sort.by("sentAt").descending())
-                );
-            }
-        } else {
-            if (lastMessageId != null) {
-                return chatMessageRepository.findByChatRoomIdAndIdBefore(
-                        roomId, lastMessageId,
-                        PageRequest.of(0, MESSAGE_PAGE_SIZE, Sort.by("sentAt").descending())
-                );
-            } else {
-                return chatMessageRepository.findByChatRoomId(
-                        roomId,
-                        PageRequest.of(0, MESSAGE_PAGE_SIZE, Sort.by("sentAt").descending())
-                );
-            }
+        long beforeId = lastMessageId == null ? Long.MAX_VALUE : lastMessageId;
+        long floorId = participant.visibleMessageIdFloor();
+        Pageable page = PageRequest.of(0, MESSAGE_PAGE_SIZE);
+
+        // 첫 페이지와 최근 몇 페이지는 최근 메시지 버퍼로 채우고, 그보다 깊은 페이지만 DB 로 조회합니다.
+        Optional<List<ChatMessage>> hot = hotMessageBuffer.latest(roomId,
+                message -> message.getId() < beforeId && message.getId() > floorId,
+                MESSAGE_PAGE_SIZE + 1);
+        if (hot.isPresent()) {
+            List<ChatMessage> messages = hot.get();
+            boolean hasNext = messages.size() > MESSAGE_PAGE_SIZE;
+            return new SliceImpl<>(hasNext ? messages.subList(0, MESSAGE_PAGE_SIZE) : messages, page, hasNext);
         }
+        return chatMessageHistory.pageBefore(roomId, beforeId, floorId, MESSAGE_PAGE_SIZE);
     }
 
     /**
      * @param roomId        채팅방 ID
      * @param userId        조회하는 사용자 ID
      * @param lastMessageId 마지막으로 조회된 메시지 ID (무한 스크롤용)
-     * @return ChatMessageResponse 목록
+     * @return ChatMessageResponse 페이지. nextCursor 는 다음 요청의 lastMessageId 입니다.
      * @apiNote 채팅방 메시지를 조회하고, 번역 요청에 따라 ChatMessageResponse 목록을 반환합니다.
      * 이 메서드가 컨트롤러에서 호출되는 주된 엔드포인트가 됩니다.
      */
 
     @Transactional
-    public List<ChatMessageResponse> getMessages(
+    public CursorPageResponse<ChatMessageResponse> getMessages(
             Long roomId,
             Long userId,
             Long lastMessageId
@@ -374,33 +349,77 @@ public class ChatService {
         ChatParticipant participant = chatParticipantRepository.findByChatRoomIdAndUserId(roomId, userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_CHAT_PARTICIPANT));
 
+        Slice<ChatMessage> messages = getRawMessages(roomId, userId, lastMessageId);
+        String nextCursor = messages.hasContent()
+                ? String.valueOf(messages.getContent().get(messages.getNumberOfElements() - 1).getId())
+                : null;
+        return new CursorPageResponse<>(toMessageResponses(messages.getContent(), participant, userId), messages.hasNext(), nextCursor);
+    }
+
+    /**
+     * 재연결한 클라이언트가 놓친 메시지만 돌려줍니다.
+     *
+     * @param seq 클라이언트가 마지막으로 받은 메시지 순번 (0 이면 처음부터)
+     * @return seq 이후 메시지를 순번 오름차순으로 최대 {@value #SINCE_PAGE_SIZE}개.
+     *         hasMore 가 true 이면 응답의 마지막 seq 로 이어서 요청합니다.
+     *         놓친 메시지가 없으면 lastSeq 는 요청한 seq, seq 를 보내지 않았으면 참여자의 읽은 순번입니다.
+     */
+    @Transactional
+    public ChatMessageSinceResponse getMessagesSince(Long roomId, Long userId, Long seq) {
+        ChatParticipant participant = chatParticipantRepository.findByChatRoomIdAndUserId(roomId, userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_CHAT_PARTICIPANT));
+
+        List<ChatMessage> messages = chatMessageRepository.findByChatRoomIdAndSeqGreaterThanOrderBySeqAsc(
+                roomId, Math.max(seq == null ? 0L : seq, 0L), PageRequest.of(0, SINCE_PAGE_SIZE + 1));
+        boolean hasMore = messages.size() > SINCE_PAGE_SIZE;
+        if (hasMore) {
+            messages = messages.subList(0, SINCE_PAGE_SIZE);
+        }
+        Long lastSeq = messages.isEmpty()
+                ? (seq != null ? seq : participant.getLastReadSeq())
+                : messages.get(messages.size() - 1).getSeq();
+
+        long floorId = participant.visibleMessageIdFloor();
+        if (floorId > 0) {
+            messages = messages.stream()
+                    .filter(message -> message.getId() > floorId)
+                    .toList();
+        }
+        return new ChatMessageSinceResponse(toMessageResponses(messages, participant, userId), lastSeq, hasMore);
+    }
+
+    private Map<Long, String> senderImageUrls(List<ChatMessage> messages) {
+        return profileImageResolver.resolve(ImageType.USER,
+                messages.stream().map(message -> message.getSender().getId()).toList());
+    }
+
+    private Map<Long, String> roomImageUrls(List<ChatRoom> rooms) {
+        return profileImageResolver.resolve(ImageType.CHAT_ROOM, rooms.stream().map(ChatRoom::getId).toList());
+    }
+
+    /**
+     * 차단한 사용자의 메시지를 빼고, 번역을 켠 참여자에게는 저장된(없으면 새로 번역한) 번역문을 붙입니다.
+     */
+    private List<ChatMessageResponse> toMessageResponses(List<ChatMessage> messages, ChatParticipant participant, Long userId) {
         boolean needsTranslation = participant.isTranslateEnabled();
         String targetLanguage = participant.getUser().getTranslateLanguage();
 
-        List<ChatMessage> messages = getRawMessages(roomId, userId, lastMessageId);
-
-        List<Long> blockedIds = getBlockedUserIds(userId);
-        if (!blockedIds.isEmpty()) {
+        BlockGraph.Relations blocks = blockGraph.of(userId);
+        if (blocks.hasBlocking()) {
             messages = messages.stream()
-                    .filter(msg -> !blockedIds.contains(msg.getSender().getId()))
+                    .filter(msg -> !blocks.blocks(msg.getSender().getId()))
                     .toList();
         }
+        Map<Long, String> senderImageUrls = senderImageUrls(messages);
 
         if (needsTranslation && targetLanguage != null && !targetLanguage.isEmpty()) {
-            List<String> originalContents = messages.stream()
-                    .map(ChatMessage::getContent)
-                    .collect(Collectors.toList());
-            List<String> translatedContents = translationService.translateMessages(originalContents, targetLanguage);
+            Map<Long, String> translatedContents = chatMessageTranslationService.translate(messages, targetLanguage);
 
-            List<ChatMessage> finalMessages = messages;
-            return IntStream.range(0, messages.size())
-                    .mapToObj(i -> {
-                        ChatMessage message = finalMessages.get(i);
-                        String translatedContent = translatedContents.get(i);
+            return messages.stream()
+                    .map(message -> {
+                        String translatedContent = translatedContents.get(message.getId());
                         User sender = message.getSender();
-                        String senderImageUrl = imageRepository.findFirstByImageTypeAndRelatedIdOrderByOrderIndexAsc(ImageType.USER, sender.getId())
-                                .map(Image::getUrl)
-                                .orElse(null);
+                        String senderImageUrl = senderImageUrls.get(sender.getId());
 
                         return new ChatMessageResponse(
                                 message.getId(),
@@ -412,16 +431,15 @@ public class ChatService {
                                 sender.getFirstName(),
                                 sender.getLastName(),
                                 senderImageUrl,
-                                message.getMessageType()
+                                message.getMessageType(),
+                                message.getSeq()
                         );
                     }).collect(Collectors.toList());
         } else {
             return messages.stream()
                     .map(message -> {
                         User sender = message.getSender();
-                        String senderImageUrl = imageRepository.findFirstByImageTypeAndRelatedIdOrderByOrderIndexAsc(ImageType.USER, sender.getId())
-                                .map(Image::getUrl)
-                                .orElse(null);
+                        String senderImageUrl = senderImageUrls.get(sender.getId());
 
                         return new ChatMessageResponse(
                                 message.getId(),
@@ -433,7 +451,8 @@ public class ChatService {
                                 sender.getFirstName(),
                                 sender.getLastName(),
                                 senderImageUrl,
-                                message.getMessageType()
+                                message.getMessageType(),
+                                message.getSeq()
                         );
                     }).collect(Collectors.toList());
         }
@@ -450,8 +469,10 @@ public class ChatService {
         ChatParticipant senderParticipant = chatParticipantRepository.findByChatRoomIdAndUserId(roomId, senderId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CHAT_PARTICIPANT_NOT_FOUND));
 
+        List<Long> rejoinedUserIds = new ArrayList<>();
         if (senderParticipant.getStatus() == ChatParticipantStatus.LEFT) {
             senderParticipant.reJoin();
+            rejoinedUserIds.add(senderId);
         }
 
         if (Boolean.FALSE.equals(room.getGroup())) {
@@ -459,16 +480,30 @@ public class ChatService {
             for (ChatParticipant participant : participants) {
                 if (!participant.getUser().getId().equals(senderId) && participant.getStatus() == ChatParticipantStatus.LEFT) {
                     participant.reJoin();
+                    rejoinedUserIds.add(participant.getUser().getId());
                 }
             }
         }
 
+        // 재입장한 참여자의 목록 행을 먼저 만든 뒤, 새 메시지는 방의 모든 행에 한 번에 반영합니다.
+        rejoinedUserIds.forEach(userId -> refreshInbox(userId, roomId));
+
         ChatMessage message = new ChatMessage(room, sender, content);
-        return chatMessageRepository.save(message);
+        message.assignSeq(chatRoomRepo.nextMessageSeq(roomId));
+        chatMessageRepository.save(message);
+        chatInboxRepository.applyNewMessage(roomId, senderId, message.getContent(), message.getSentAt());
+        eventPublisher.publishEvent(new ChatMessageSavedEvent(message));
+        return message;
     }
 
+    /**
+     * 채팅방 메시지를 키워드로 검색합니다. 번역을 켠 참여자는 저장된 번역문에서 찾습니다.
+     *
+     * @param lastMessageId 이전 페이지의 마지막 메시지 ID (첫 페이지는 null)
+     * @return 최신순으로 최대 SEARCH_PAGE_SIZE 개
+     */
     @Transactional(readOnly = true)
-    public List<ChatMessageResponse> searchMessages(Long roomId, Long userId, String keyword) {
+    public List<ChatMessageResponse> searchMessages(Long roomId, Long userId, String keyword, Long lastMessageId) {
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
 
         User user = userRepository.findByEmail(email)
@@ -481,17 +516,21 @@ public class ChatService {
         ChatParticipant participant = chatParticipantRepository.findByChatRoomIdAndUserId(roomId, userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_CHAT_PARTICIPANT));
 
+        if (keyword == null || keyword.isBlank()) {
+            return new ArrayList<>();
+        }
+        long beforeId = lastMessageId == null ? Long.MAX_VALUE : lastMessageId;
+
         boolean needsTranslation = participant.isTranslateEnabled();
         String targetLanguage = participant.getUser().getTranslateLanguage();
 
         if (!needsTranslation || targetLanguage == null || targetLanguage.isEmpty()) {
-            List<ChatMessage> messages = chatMessageRepository.findByChatRoomIdAndContentContaining(roomId, keyword);
+            List<ChatMessage> messages = chatMessageRepository.searchInRoom(roomId, keyword.trim(), beforeId, SEARCH_PAGE_SIZE);
+            Map<Long, String> senderImageUrls = senderImageUrls(messages);
             return messages.stream()
                     .map(message -> {
                         User sender = message.getSender();
-                        String userImageUrl = imageRepository.findFirstByImageTypeAndRelatedIdOrderByOrderIndexAsc(ImageType.USER, sender.getId())
-                                .map(Image::getUrl)
-                                .orElse(null);
+                        String userImageUrl = senderImageUrls.get(sender.getId());
 
                         return new ChatMessageResponse(
                                 message.getId(),
@@ -503,164 +542,80 @@ public class ChatService {
                                 sender.getFirstName(),
                                 sender.getLastName(),
                                 userImageUrl,
-                                message.getMessageType()
+                                message.getMessageType(),
+                                message.getSeq()
                         );
                     })
-                    .sorted(Comparator.comparing(ChatMessageResponse::sentAt, Comparator.reverseOrder()))
                     .collect(Collectors.toList());
         } else {
-            List<ChatMessage> allMessages = chatMessageRepository.findByChatRoomIdOrderByIdAsc(roomId);
-            if (allMessages.isEmpty()) {
+            // 저장된 번역문을 인덱스로 검색합니다. (방 전체를 번역 API 로 보내지 않음)
+            List<Long> matchedIds = chatMessageTranslationService.searchMessageIds(
+                    roomId, targetLanguage, keyword.trim(), beforeId, SEARCH_PAGE_SIZE);
+            if (matchedIds.isEmpty()) {
                 return new ArrayList<>();
             }
+            Map<Long, String> translatedContents = chatMessageTranslationService.findStored(matchedIds, targetLanguage);
 
-            List<String> originalContents = allMessages.stream().map(ChatMessage::getContent).collect(Collectors.toList());
-            List<String> translatedContents = translationService.translateMessages(originalContents, targetLanguage);
-
-            List<MessagePair> messagePairs = IntStream.range(0, allMessages.size())
-                    .mapToObj(i -> new MessagePair(allMessages.get(i), translatedContents.get(i)))
-                    .toList();
-
-            return messagePairs.stream()
-                    .filter(pair -> pair.translatedContent().toLowerCase().contains(keyword.toLowerCase()))
-                    .map(pair -> {
-                        User sender = pair.originalMessage().getSender();
-                        String userImageUrl = imageRepository.findFirstByImageTypeAndRelatedIdOrderByOrderIndexAsc(ImageType.USER, sender.getId())
-                                .map(Image::getUrl)
-                                .orElse(null);
+            List<ChatMessage> messages = chatMessageRepository.findAllById(matchedIds);
+            Map<Long, String> senderImageUrls = senderImageUrls(messages);
+            return messages.stream()
+                    .map(message -> {
+                        User sender = message.getSender();
+                        String userImageUrl = senderImageUrls.get(sender.getId());
 
                         return new ChatMessageResponse(
-                                pair.originalMessage().getId(),
-                                pair.originalMessage().getChatRoom().getId(),
+                                message.getId(),
+                                message.getChatRoom().getId(),
                                 sender.getId(),
-                                pair.originalMessage().getContent(),
-                                pair.translatedContent(),
-                                pair.originalMessage().getSentAt(),
+                                message.getContent(),
+                                translatedContents.get(message.getId()),
+                                message.getSentAt(),
                                 sender.getFirstName(),
                                 sender.getLastName(),
                                 userImageUrl,
-                                pair.originalMessage().getMessageType()
+                                message.getMessageType(),
+                                message.getSeq()
                         );
                     })
-                    .sorted(Comparator.comparing(ChatMessageResponse::sentAt, Comparator.reverseOrder()))
+                    .sorted(Comparator.comparing(ChatMessageResponse::id, Comparator.reverseOrder()))
                     .collect(Collectors.toList());
         }
     }
 
+    /**
+     * 읽음 위치를 옮깁니다. 메시지별 안 읽은 수는 여기서 계산하지 않고,
+     * 커밋 후 {@link ReadReceiptBroadcaster} 가 방 단위로 모아 바뀐 순번 구간만 보냅니다.
+     */
     @Transactional
     public void processMarkAsRead(MarkAsReadRequest req, Long readerId) {
         Long roomId = req.roomId();
-        Long newLastReadId = req.lastReadMessageId();
 
         ChatParticipant readerParticipant = chatParticipantRepository.findByChatRoomIdAndUserId(roomId, readerId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CHAT_ROOM_NOT_FOUND));
 
-        Long previousLastReadId = readerParticipant.getLastReadMessageId() == null ? 0L : readerParticipant.getLastReadMessageId();
-
-        readerParticipant.setLastReadMessageId(newLastReadId);
-
-        List<ChatParticipant> allParticipants = chatParticipantRepository.findByChatRoomId(roomId);
-
-        List<ChatMessage> affectedMessages = chatMessageRepository
-                .findByChatRoomIdAndIdGreaterThanAndIdLessThanEqualOrderByIdAsc(roomId, previousLastReadId, newLastReadId);
-
-        List<ReadCountInfo> updatedReadCounts = new ArrayList<>();
-        for (ChatMessage message : affectedMessages) {
-            if (!message.getSender().getId().equals(readerId)) {
-                int newUnreadCount = calculateUnreadCountForMessage(message, allParticipants);
-                updatedReadCounts.add(new ReadCountInfo(message.getId(), newUnreadCount));
-            }
-        }
+        ChatMessage lastReadMessage = chatMessageRepository.findById(req.lastReadMessageId())
+                .filter(message -> message.getChatRoom().getId().equals(roomId))
+                .orElseThrow(() -> new BusinessException(ErrorCode.MESSAGE_NOT_FOUND));
+        advanceReadWatermark(readerParticipant, lastReadMessage);
 
-        if (!updatedReadCounts.isEmpty()) {
-            messagingTemplate.convertAndSend(
-                    "/topic/rooms/" + roomId + "/read-counts",
-                    new MessageReadCountUpdateResponse(updatedReadCounts)
-            );
-        }
-        ChatRoomSummaryResponse summary = buildChatRoomSummaryResponse(roomId, readerId);
-        messagingTemplate.convertAndSend(
-                "/topic/user/" + readerId + "/rooms",
-                summary
-        );
+        chatInboxRepository.refreshUnreadCount(readerId, roomId);
+        sendRoomSummary(readerId, chatInboxRepository.findByUserIdAndChatRoomId(readerId, roomId).orElse(null));
 
     }
     /**
-     * 특정 사용자를 위한 ChatRoomSummaryResponse DTO를 생성합니다.
-     * 채팅방 목록 UI에 사용될 데이터를 만듭니다.
+     * 참여자의 읽은 위치를 message 까지 올립니다. 실제로 올라간 경우에만 워터마크 이벤트를 발행해
+     * 이전 순번 다음부터 새 순번까지의 읽음 수가 갱신되도록 합니다.
      *
-     * @param roomId    요약 정보를 생성할 채팅방의 ID
-     * @param forUserId 요약 정보의 기준이 되는 사용자('나')의 ID
-     * @return 생성된 ChatRoomSummaryResponse DTO
+     * @param participant 읽은 참여자
+     * @param message     읽은 마지막 메시지
      */
-    private ChatRoomSummaryResponse buildChatRoomSummaryResponse(Long roomId, Long forUserId) {
-         ChatRoom room = chatRoomRepository.findById(roomId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CHAT_ROOM_NOT_FOUND));
-
-        ChatMessage lastMessage = chatMessageRepository.findTopByChatRoomIdOrderBySentAtDesc(roomId)
-                .orElse(null);
-
-
-        String lastMessageContent = (lastMessage != null) ? lastMessage.getContent() : "대화를 시작해보세요.";
-        Instant lastMessageTime = (lastMessage != null) ? lastMessage.getSentAt() : room.getCreatedAt();
-        int unreadCount = countUnreadMessages(roomId, forUserId);
-
-        String roomName;
-        String roomImageUrl;
-
-        List<ChatParticipant> participants = room.getParticipants();
-        int participantCount = participants.size();
-
-        if (!room.getGroup()) {
-            User opponent = participants.stream()
-                    .map(ChatParticipant::getUser)
-                    .filter(user -> !user.getId().equals(forUserId))
-                    .findFirst()
-                    .orElse(null);
-
-            if (opponent == null) {
-                roomName = "(알 수 없음)";
-                roomImageUrl = null;
-            } else {
-                roomName = opponent. getFirstName() + " " + opponent.getLastName();
-                roomImageUrl = imageRepository.findFirstByImageTypeAndRelatedIdOrderByOrderIndexAsc(ImageType.USER, opponent.getId())
-                        .map(Image::getUrl)
-                        .orElse(null);
-            }
-        } else {
-            roomName = room.getRoomName();
-            roomImageUrl = imageRepository.findFirstByImageTypeAndRelatedIdOrderByOrderIndexAsc(ImageType.CHAT_ROOM, room.getId())
-                    .map(Image::getUrl)
-                    .orElse(null);
+    private void advanceReadWatermark(ChatParticipant participant, ChatMessage message) {
+        long previousSeq = participant.getLastReadSeq();
+        participant.markReadUpTo(message);
+        if (participant.getLastReadSeq() > previousSeq) {
+            eventPublisher.publishEvent(new ReadWatermarkAdvancedEvent(
+                    message.getChatRoom().getId(), participant.getUser().getId(), previousSeq, participant.getLastReadSeq()));
         }
-
-        return new ChatRoomSummaryResponse(
-                room.getId(),
-                roomName,
-                lastMessageContent,
-                lastMessageTime,
-                roomImageUrl,
-                unreadCount,
-                participantCount
-        );
-    }
-
-    /**
-     * 특정 메시지 하나를 몇 명의 참여자가 아직 읽지 않았는지 계산합니다.
-     *
-     * @param message         안 읽은 수를 계산할 대상 메시지
-     * @param allParticipants 해당 채팅방의 모든 참여자 목록 (성능 최적화를 위해 미리 조회해서 전달)
-     * @return 해당 메시지를 아직 읽지 않은 참여자의 수
-     */
-    private int calculateUnreadCountForMessage(ChatMessage message, List<ChatParticipant> allParticipants) {
-        int totalParticipantCount = allParticipants.size();
-        long readParticipantCount = allParticipants.stream()
-                .filter(participant ->
-                        participant.getLastReadMessageId() != null &&
-                                participant.getLastReadMessageId() >= message.getId()
-                )
-                .count();
-        return totalParticipantCount - (int) readParticipantCount;
     }
 
     public Instant getLastMessageTime(Long roomId) {
@@ -682,22 +637,19 @@ public class ChatService {
                 .filter(participant -> participant.getStatus() == ChatParticipantStatus.ACTIVE)
                 .collect(Collectors.toList());
 
-        String roomImageUrl = imageRepository.findFirstByImageTypeAndRelatedIdOrderByOrderIndexAsc(
-                ImageType.CHAT_ROOM, chatRoom.getId()
-        ).map(Image::getUrl).orElse(null);
-
         Long ownerId = chatRoom.getOwner().getId();
-        String ownerImageUrl = imageRepository.findFirstByImageTypeAndRelatedIdOrderByOrderIndexAsc(
-                ImageType.USER,
-                ownerId
-        ).map(Image::getUrl).orElse(null);
+        List<ProfileImageResolver.Key> imageKeys = new ArrayList<>();
+        imageKeys.add(ProfileImageResolver.Key.chatRoom(chatRoom.getId()));
+        imageKeys.add(ProfileImageResolver.Key.user(ownerId));
+        activeParticipants.forEach(participant -> imageKeys.add(ProfileImageResolver.Key.user(participant.getUser().getId())));
+        Map<ProfileImageResolver.Key, String> imageUrls = profileImageResolver.resolve(imageKeys);
+
+        String roomImageUrl = imageUrls.get(ProfileImageResolver.Key.chatRoom(chatRoom.getId()));
+        String ownerImageUrl = imageUrls.get(ProfileImageResolver.Key.user(ownerId));
 
         List<String> otherParticipantsImageUrls = activeParticipants.stream()
                 .filter(participant -> !participant.getUser().getId().equals(ownerId))
-                .map(participant -> imageRepository.findFirstByImageTypeAndRelatedIdOrderByOrderIndexAsc(
-                        ImageType.USER,
-                        participant.getUser().getId()
-                ).map(Image::getUrl).orElse(null))
+                .map(participant -> imageUrls.get(ProfileImageResolver.Key.user(participant.getUser().getId())))
                 .filter(Objects::nonNull)
                 .collect(Collectors.toList());
 
@@ -751,94 +703,118 @@ public class ChatService {
                             ChatParticipant newParticipant = new ChatParticipant(room, user);
                             room.addParticipant(newParticipant);
                             chatParticipantRepository.save(newParticipant);
+                            eventPublisher.publishEvent(new ChatMembershipChangedEvent(roomId));
                         }
                 );
+
+        refreshInbox(userId, roomId);
+        chatInboxRepository.refreshParticipantCount(roomId);
+        publishGroupRanking(roomId);
+    }
+
+    /**
+     * 그룹 채팅방 참여자 수를 다시 세고, 커밋 후 순위표에 반영되도록 알립니다.
+     */
+    private void publishGroupRanking(Long roomId) {
+        int participantCount = chatRoomRepository.refreshParticipantCount(roomId);
+        eventPublisher.publishEvent(new GroupChatRankingChangedEvent(roomId, participantCount));
     }
 
     /**
      * 그룹 채팅방을 이름 키워드로 검색합니다.
      *
      * @param keyword 검색 키워드
-     * @return 검색 결과 DTO 목록
+     * @param lastChatRoomId 이전 페이지의 마지막 방 ID (첫 페이지는 null)
+     * @return 최신순으로 최대 SEARCH_PAGE_SIZE 개의 검색 결과 DTO 목록
      */
-    public List<GroupChatSearchResponse> searchGroupChatRooms(String keyword) {
-        List<ChatRoom> chatRooms = chatRoomRepository.findGroupChatRoomsByKeyword(keyword);
+    public List<GroupChatSearchResponse> searchGroupChatRooms(String keyword, Long lastChatRoomId) {
+        if (keyword == null || keyword.isBlank()) {
+            return new ArrayList<>();
+        }
+        long beforeId = lastChatRoomId == null ? Long.MAX_VALUE : lastChatRoomId;
+        List<ChatRoom> chatRooms = chatRoomRepository.searchGroupRooms(keyword.trim(), beforeId, SEARCH_PAGE_SIZE);
+        Map<Long, String> roomImageUrls = roomImageUrls(chatRooms);
 
         return chatRooms.stream()
                 .map(chatRoom -> {
-                    String roomImageUrl = imageRepository.findFirstByImageTypeAndRelatedIdOrderByOrderIndexAsc(
-                            ImageType.CHAT_ROOM, chatRoom.getId()
-                    ).map(Image::getUrl).orElse(null);
+                    String roomImageUrl = roomImageUrls.get(chatRoom.getId());
 
-                    int participantCount = chatRoom.getParticipants().size();
+                    int participantCount = chatRoom.getParticipantCount();
 
                     return GroupChatSearchResponse.from(chatRoom, roomImageUrl, participantCount);
                 })
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 내 채팅방을 방 이름(1:1 방은 상대 이름)으로 검색합니다.
+     * 채팅방 목록과 같은 chat_inbox 읽기 모델을 한 번 조회하므로 결과 수와 무관하게 쿼리 수가 일정합니다.
+     */
+    @Transactional(readOnly = true)
     public List<ChatRoomSummaryResponse> searchRoomsByRoomName(Long userId, String roomName) {
-        List<ChatRoom> rooms = chatParticipantRepository.findChatRoomsByUserIdAndRoomName(userId, roomName);
-        List<ChatRoomSummaryResponse> summaries = new ArrayList<>();
-        for (ChatRoom room : rooms) {
-            ChatRoomSummaryResponse summary = buildChatRoomSummaryResponse(room.getId(), userId);
-            summaries.add(summary);
-        }
-        return summaries;
+        return chatInboxRepository.searchVisibleByUserIdAndRoomName(userId, roomName).stream()
+                .map(ChatRoomSummaryResponse::from)
+                .toList();
     }
 
 
+    /**
+     * 안 읽은 수 = 방의 마지막 순번 - 내가 읽은 순번. 메시지 테이블을 세지 않습니다.
+     */
     public int countUnreadMessages(Long roomId, Long userId) {
-        Long lastReadId = chatParticipantRepository.findByChatRoomIdAndUserId(roomId, userId)
-                .map(ChatParticipant::getLastReadMessageId)
-                .orElse(0L);
-
-        return chatMessageRepository.countUnreadMessages(roomId, lastReadId, userId);
+        return chatParticipantRepository.findByChatRoomIdAndUserId(roomId, userId)
+                .map(participant -> (int) Math.max(participant.getChatRoom().getLastSeq() - participant.getLastReadSeq(), 0))
+                .orElse(0);
     }
 
-    @Transactional
+    /**
+     * 최신 그룹 채팅방 한 페이지. 순위표에서 방 ID 를 꺼내고 방 정보와 이미지는 각각 한 번에 조회합니다.
+     *
+     * @param lastChatRoomId 이전 페이지의 마지막 방 ID (첫 페이지는 null)
+     */
+    @Transactional(readOnly = true)
     public List<GroupChatMainResponse> getLatestGroupChats(Long lastChatRoomId) {
-        List<ChatRoom> latestRooms;
-
-        if (lastChatRoomId == null) {
-            latestRooms = chatRoomRepository.findTop10ByGroupTrueOrderByCreatedAtDesc();
-        } else {
-            latestRooms = chatRoomRepository.findTop10ByGroupTrueAndIdLessThanOrderByCreatedAtDesc(lastChatRoomId);
-        }
+        List<ChatRoom> latestRooms = groupChatLeaderboard.latest(lastChatRoomId, GROUP_PAGE_SIZE)
+                .map(this::loadRankedRooms)
+                .orElseGet(() -> lastChatRoomId == null
+                        ? chatRoomRepository.findTop10ByGroupTrueOrderByCreatedAtDesc()
+                        : chatRoomRepository.findTop10ByGroupTrueAndIdLessThanOrderByCreatedAtDesc(lastChatRoomId));
+        return toGroupChatMainResponses(latestRooms);
+    }
 
-        return latestRooms.stream()
-                .map(this::toGroupChatMainResponse)
-                .collect(Collectors.toList());
+    /**
+     * 참여자가 많은 그룹 채팅방 한 페이지.
+     *
+     * @param page 0부터 시작하는 페이지 번호
+     */
+    @Transactional(readOnly = true)
+    public List<GroupChatMainResponse> getPopularGroupChats(int page, int size) {
+        List<ChatRoom> popularRooms = groupChatLeaderboard.popular(page * size, size)
+                .map(this::loadRankedRooms)
+                .orElseGet(() -> chatRoomRepository.findByGroupTrueOrderByParticipantCountDescIdDesc(PageRequest.of(page, size)));
+        return toGroupChatMainResponses(popularRooms);
     }
 
-    private GroupChatMainResponse toGroupChatMainResponse(ChatRoom chatRoom) {
-        String roomImageUrl = imageRepository.findFirstByImageTypeAndRelatedIdOrderByOrderIndexAsc(ImageType.CHAT_ROOM, chatRoom.getId())
-                .map(Image::getUrl)
-                .orElse(null);
-        String userCount = String.valueOf(chatRoom.getParticipants().size());
-        return new GroupChatMainResponse(
-                chatRoom.getId(),
-                chatRoom.getRoomName(),
-                chatRoom.getDescription(),
-                roomImageUrl,
-                userCount
-        );
+    /**
+     * 순위표 순서대로 방을 한 번에 읽습니다. 이미 삭제된 방은 빼고 순위표에서도 지웁니다.
+     */
+    private List<ChatRoom> loadRankedRooms(List<Long> roomIds) {
+        Map<Long, ChatRoom> roomsById = chatRoomRepository.findAllById(roomIds).stream()
+                .collect(Collectors.toMap(ChatRoom::getId, room -> room));
+        List<Long> missing = roomIds.stream().filter(id -> !roomsById.containsKey(id)).toList();
+        groupChatLeaderboard.evict(missing);
+        return roomIds.stream().map(roomsById::get).filter(Objects::nonNull).toList();
     }
 
-    @Transactional
-    public List<GroupChatMainResponse> getPopularGroupChats(int limit) {
-        List<ChatRoom> popularRooms = chatRoomRepository.findTopByGroupTrueOrderByParticipantCountDesc(limit);
-        return popularRooms.stream()
-                .map(this::toGroupChatSearchResponse)
+    private List<GroupChatMainResponse> toGroupChatMainResponses(List<ChatRoom> rooms) {
+        Map<Long, String> roomImageUrls = roomImageUrls(rooms);
+        return rooms.stream()
+                .map(chatRoom -> toGroupChatMainResponse(chatRoom, roomImageUrls.get(chatRoom.getId())))
                 .collect(Collectors.toList());
     }
 
-    private GroupChatMainResponse toGroupChatSearchResponse(ChatRoom chatRoom) {
-        String roomImageUrl = imageRepository.findFirstByImageTypeAndRelatedIdOrderByOrderIndexAsc(
-                        ImageType.CHAT_ROOM, chatRoom.getId())
-                .map(Image::getUrl)
-                .orElse(null);
-        String userCount = String.valueOf(chatRoom.getParticipants().size());
+    private GroupChatMainResponse toGroupChatMainResponse(ChatRoom chatRoom, String roomImageUrl) {
+        String userCount = String.valueOf(chatRoom.getParticipantCount());
         return new GroupChatMainResponse(
                 chatRoom.getId(),
                 chatRoom.getRoomName(),
@@ -865,17 +841,19 @@ public class ChatService {
         chatParticipantRepository.findByChatRoomIdAndUserId(roomId, userId)
                 .filter(participant -> participant.getStatus() != ChatParticipantStatus.LEFT)
                 .orElseThrow(() -> new IllegalArgumentException("채팅방에 참여하지 않았거나 나간 사용자입니다."));
-        List<ChatMessage> messages = chatMessageRepository.findTop50ByChatRoomIdOrderBySentAtDesc(roomId);
+        List<ChatMessage> messages = hotMessageBuffer.latest(roomId, FIRST_PAGE_SIZE)
+                .orElseGet(() -> chatMessageHistory.pageBefore(roomId, Long.MAX_VALUE, 0L, FIRST_PAGE_SIZE).getContent());
 
-        List<Long> blockedIds = getBlockedUserIds(userId);
-        if (!blockedIds.isEmpty()) {
+        BlockGraph.Relations blocks = blockGraph.of(userId);
+        if (blocks.hasBlocking()) {
             messages = messages.stream()
-                    .filter(msg -> !blockedIds.contains(msg.getSender().getId()))
+                    .filter(msg -> !blocks.blocks(msg.getSender().getId()))
                     .toList();
         }
 
+        Map<Long, String> senderImageUrls = senderImageUrls(messages);
         return messages.stream()
-                .map(message -> ChatMessageFirstResponse.fromEntity(message, chatRoom, imageRepository))
+                .map(message -> ChatMessageFirstResponse.fromEntity(message, senderImageUrls.get(message.getSender().getId())))
                 .collect(Collectors.toList());
     }
 
@@ -894,10 +872,12 @@ public class ChatService {
             throw new BusinessException(ErrorCode.PROFILE_SET_NOT_COMPLETED);
         }
 
-        Image image = imageRepository.findFirstByImageTypeAndRelatedIdOrderByOrderIndexAsc(ImageType.USER, userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.IMAGE_NOT_FOUND));
+        String imageUrl = profileImageResolver.resolve(ImageType.USER, userId);
+        if (imageUrl == null) {
+            throw new BusinessException(ErrorCode.IMAGE_NOT_FOUND);
+        }
 
-        return ChatUserProfileResponse.from(user, image.getUrl());
+        return ChatUserProfileResponse.from(user, imageUrl);
     }
 
     @Transactional
@@ -916,79 +896,68 @@ public class ChatService {
         participant.toggleTranslation(enable);
     }
 
+    /**
+     * 전송 파이프라인의 저장 단계입니다. 메시지 저장과 발신자 읽음 위치 갱신만 짧은 트랜잭션으로 처리하고,
+     * 번역/전달/알림은 커밋 후 {@link ChatMessagePipeline} 이 방별 순서를 지켜 이어서 처리합니다.
+     */
     @Transactional
     public void processAndSendChatMessage(SendMessageRequest req) {
-        Long startTime = System.currentTimeMillis();
+        long acceptedAtNanos = System.nanoTime();
         ChatMessage savedMessage = this.saveMessage(req.roomId(), req.senderId(), req.content());
-        String originalContent = savedMessage.getContent();
-
-
-        ChatRoom chatRoom = savedMessage.getChatRoom();
-        List<ChatParticipant> participants = chatRoom.getParticipants();
-        User senderUser = userRepository.findById(req.senderId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-        String userImageUrl = imageRepository.findFirstByImageTypeAndRelatedIdOrderByOrderIndexAsc(ImageType.USER, req.senderId())
-                .map(Image::getUrl)
-                .orElse(null);
+        User senderUser = savedMessage.getSender();
 
         chatParticipantRepository.findByChatRoomIdAndUserId(req.roomId(), req.senderId())
                 .ifPresent(participant -> {
-                    participant.setLastReadMessageId(savedMessage.getId());
+                    advanceReadWatermark(participant, savedMessage);
                     chatParticipantRepository.save(participant);
                 });
 
-        for (ChatParticipant participant : participants) {
-            User recipient = participant.getUser();
-            String targetContent = null;
-            boolean isBlockedByRecipient = blockRepository.findBlockRelationship(recipient, senderUser).isPresent();
-            boolean isBlockedByMe = blockRepository.findBlockRelationship(senderUser, recipient).isPresent();
+        String userImageUrl = profileImageResolver.resolve(ImageType.USER, senderUser.getId());
+        eventPublisher.publishEvent(new ChatMessageAcceptedEvent(
+                textMessageResponse(savedMessage, senderUser, userImageUrl, null), acceptedAtNanos));
+    }
 
-            if (isBlockedByRecipient || isBlockedByMe) {
-                continue;
-            }
+    private ChatMessageResponse textMessageResponse(ChatMessage message, User sender, String senderImageUrl, String targetContent) {
+        return new ChatMessageResponse(
+                message.getId(),
+                message.getChatRoom().getId(),
+                sender.getId(),
+                message.getContent(),
+                targetContent,
+                message.getSentAt(),
+                sender.getFirstName(),
+                sender.getLastName(),
+                senderImageUrl,
+                MessageType.TEXT,
+                message.getSeq()
+        );
+    }
 
+    /**
+     * 참여자가 많은 방은 수신자별 목적지 대신 방 토픽으로 한 번만 보냅니다.
+     * 원문은 /topic/rooms/{roomId}/messages 로 모든 참여자에게, 번역문은 언어별
+     * /topic/rooms/{roomId}/lang/{code} 로 그 언어를 켠 참여자에게 보내므로
+     * 메시지 하나당 직렬화/브로커 전달이 (1 + 언어 수) 번으로 줄어듭니다.
+     */
+    private boolean useRoomBroadcast(int recipientCount) {
+        return roomBroadcastThreshold > 0 && recipientCount >= roomBroadcastThreshold;
+    }
 
-            if (participant.isTranslateEnabled()) {
-                String targetLanguage = recipient.getTranslateLanguage();
-                if (targetLanguage != null && !targetLanguage.isEmpty()) {
-                    List<String> translatedList = translationService.translateMessages(List.of(originalContent), targetLanguage);
-                    if (!translatedList.isEmpty()) {
-                        targetContent = translatedList.get(0);
-                    }
-                }
-            }
-            if (!recipient.getId().equals(req.senderId())) {
-                NotificationEvent event = new NotificationEvent(
-                        recipient.getId(),
-                        senderUser.getId(),
-                        NotificationType.chat,
-                        chatRoom.getId(),
-                        originalContent
-                );
-                eventPublisher.publishEvent(event);
-            }
-            ChatMessageResponse messageResponse = new ChatMessageResponse(
-                    savedMessage.getId(),
-                    chatRoom.getId(),
-                    savedMessage.getSender().getId(),
-                    originalContent,
-                    targetContent,
-                    savedMessage.getSentAt(),
-                    senderUser.getFirstName(),
-                    senderUser.getLastName(),
-                    userImageUrl,
-                    MessageType.TEXT
-            );
-            String destination = String.format("/topic/user/%s/%s/messages",
-                    recipient.getId(),
-                    chatRoom.getId()
-            );
-            messagingTemplate.convertAndSend(destination, messageResponse);
-            ChatRoomSummaryResponse summary = buildChatRoomSummaryResponse(chatRoom.getId(), recipient.getId());
-            messagingTemplate.convertAndSend("/topic/user/" + recipient.getId() + "/rooms", summary);
-            long endTime = System.currentTimeMillis();
-            log.info("Processed MEDIA message for roomId={} in {}ms", req.roomId(), (endTime - startTime));
+    private static String roomMessagesTopic(Long roomId) {
+        return "/topic/rooms/" + roomId + "/messages";
+    }
+
+    /**
+     * 방 토픽을 구독하고 있어도 받지 않아야 하는 참여자(발신자와 차단 관계). 구독 세션 단위로 걸러집니다.
+     */
+    private static List<Long> excludedParticipantIds(List<ChatParticipant> participants, BlockGraph.Relations senderBlocks) {
+        if (senderBlocks.isEmpty()) {
+            return List.of();
         }
+        return participants.stream()
+                .map(participant -> participant.getUser().getId())
+                .filter(senderBlocks::eitherWay)
+                .toList();
     }
 
     @Transactional
@@ -997,8 +966,7 @@ public class ChatService {
 
         if (lastMessageOpt.isPresent()) {
             ChatMessage lastMessage = lastMessageOpt.get();
-            Long lastMessageId = lastMessage.getId();
-            AllmarkMessagesAsRead(roomId, readerId, lastMessageId);
+            AllmarkMessagesAsRead(roomId, readerId, lastMessage);
 
             // 문제의 그 로그 남겨둠
             log.info(">>>> All messages marked as read for userId: {} in roomId: {}", readerId, roomId);
@@ -1011,11 +979,12 @@ public class ChatService {
      * 특정 메시지 ID까지 읽음 처리하는 기존 메서드 (이전 답변의 효율적인 버전)
      */
     @Transactional
-    public void AllmarkMessagesAsRead(Long roomId, Long readerId, Long lastReadMessageId) {
+    public void AllmarkMessagesAsRead(Long roomId, Long readerId, ChatMessage lastReadMessage) {
         ChatParticipant readerParticipant = chatParticipantRepository.findByChatRoomIdAndUserId(roomId, readerId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CHAT_PARTICIPANT_NOT_FOUND));
 
-        readerParticipant.setLastReadMessageId(lastReadMessageId);
+        advanceReadWatermark(readerParticipant, lastReadMessage);
+        chatInboxRepository.refreshUnreadCount(readerId, roomId);
     }
 
     /**
@@ -1047,6 +1016,7 @@ public class ChatService {
 
         ChatParticipant ownerParticipant = new ChatParticipant(savedRoom, owner);
         chatParticipantRepository.save(ownerParticipant);
+        publishGroupRanking(savedRoom.getId());
 
         if (request.roomImageUrl() != null && !request.roomImageUrl().isBlank()) {
             try {
@@ -1056,6 +1026,7 @@ public class ChatService {
                 throw new BusinessException(ErrorCode.IMAGE_PROCESSING_FAILED);
             }
         }
+        refreshInbox(userId, savedRoom.getId());
     }
 
     /**
@@ -1066,36 +1037,21 @@ public class ChatService {
         ChatParticipant participant = chatParticipantRepository.findByChatRoomIdAndUserId(roomId, userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_CHAT_PARTICIPANT));
 
-        List<ChatMessage> olderMessages = chatMessageRepository.findTop20ByChatRoomIdAndIdLessThanOrderByIdDesc(roomId, targetMessageId);
-        Collections.reverse(olderMessages);
-
-        ChatMessage targetMessage = chatMessageRepository.findById(targetMessageId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.MESSAGE_NOT_FOUND));
-
-        List<ChatMessage> newerMessages = chatMessageRepository.findTop20ByChatRoomIdAndIdGreaterThanOrderByIdAsc(roomId, targetMessageId);
-
-        List<ChatMessage> combinedMessages = new ArrayList<>();
-        combinedMessages.addAll(olderMessages);
-        combinedMessages.add(targetMessage);
-        combinedMessages.addAll(newerMessages);
+        List<ChatMessage> combinedMessages = hotMessageBuffer.around(roomId, targetMessageId, AROUND_PAGE_SIZE)
+                .orElseGet(() -> chatMessageHistory.around(roomId, targetMessageId));
 
         boolean needsTranslation = participant.isTranslateEnabled();
         String targetLanguage = participant.getUser().getTranslateLanguage();
+        Map<Long, String> senderImageUrls = senderImageUrls(combinedMessages);
 
         if (needsTranslation && targetLanguage != null && !targetLanguage.isEmpty()) {
-            List<String> originalContents = combinedMessages.stream()
-                    .map(ChatMessage::getContent)
-                    .collect(Collectors.toList());
-            List<String> translatedContents = translationService.translateMessages(originalContents, targetLanguage);
+            Map<Long, String> translatedContents = chatMessageTranslationService.translate(combinedMessages, targetLanguage);
 
-            return IntStream.range(0, combinedMessages.size())
-                    .mapToObj(i -> {
-                        ChatMessage message = combinedMessages.get(i);
-                        String translatedContent = translatedContents.get(i);
+            return combinedMessages.stream()
+                    .map(message -> {
+                        String translatedContent = translatedContents.get(message.getId());
                         User sender = message.getSender();
-                        String senderImageUrl = imageRepository.findFirstByImageTypeAndRelatedIdOrderByOrderIndexAsc(ImageType.USER, sender.getId())
-                                .map(Image::getUrl)
-                                .orElse(null);
+                        String senderImageUrl = senderImageUrls.get(sender.getId());
 
                         return new ChatMessageResponse(
                                 message.getId(),
@@ -1107,16 +1063,15 @@ public class ChatService {
                                 sender.getFirstName(),
                                 sender.getLastName(),
                                 senderImageUrl,
-                                message.getMessageType()
+                                message.getMessageType(),
+                                message.getSeq()
                         );
                     }).collect(Collectors.toList());
         } else {
             return combinedMessages.stream()
                     .map(message -> {
                         User sender = message.getSender();
-                        String senderImageUrl = imageRepository.findFirstByImageTypeAndRelatedIdOrderByOrderIndexAsc(ImageType.USER, sender.getId())
-                                .map(Image::getUrl)
-                                .orElse(null);
+                        String senderImageUrl = senderImageUrls.get(sender.getId());
 
                         return new ChatMessageResponse(
                                 message.getId(),
@@ -1128,7 +1083,8 @@ public class ChatService {
                                 sender.getFirstName(),
                                 sender.getLastName(),
                                 senderImageUrl,
-                                message.getMessageType()
+                                message.getMessageType(),
+                                message.getSeq()
                         );
                     }).collect(Collectors.toList());
         }
@@ -1139,7 +1095,7 @@ public class ChatService {
      */
     @Transactional
     public void deleteMessageAndBroadcast(Long messageId, Long userId) {
-        ChatMessage message = chatMessageRepository.findById(messageId)
+        ChatMessage message = chatMessageHistory.findById(messageId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.MESSAGE_NOT_FOUND));
 
         if (!message.getSender().getId().equals(userId)) {
@@ -1150,16 +1106,12 @@ public class ChatService {
                 "type", "delete"
         );
 
-        chatMessageRepository.delete(message);
+        chatMessageTranslationRepository.deleteByMessageId(messageId);
+        chatMessageHistory.delete(messageId);
+        chatInboxRepository.refreshLastMessage(message.getChatRoom().getId());
+        eventPublisher.publishEvent(new ChatMessagesDeletedEvent(message.getChatRoom().getId()));
         String destination = "/topic/rooms/" + message.getChatRoom().getId();
-        messagingTemplate.convertAndSend(destination, payload);
-    }
-
-    private List<Long> getBlockedUserIds(Long userId) {
-        return blockRepository.findByUserId(userId).stream()
-                .map(BlockUser::getBlocked)
-                .map(User::getId)
-                .toList();
+        chatMessageRelay.convertAndSend(destination, payload);
     }
 
     /**
@@ -1201,12 +1153,9 @@ public class ChatService {
         }
 
         blockRepository.save(new BlockUser(me, blockedUser));
-    }
-
-    private record ChatRoomWithTime(ChatRoom room, Instant lastMessageTime) {
-    }
-
-    private record MessagePair(ChatMessage originalMessage, String translatedContent) {
+        eventPublisher.publishEvent(new UserBlockedEvent(me.getId(), blockedUser.getId()));
+        chatParticipantRepository.findSharedChatRoomIds(me.getId(), blockedUser.getId(), ChatParticipantStatus.ACTIVE)
+                .forEach(roomId -> refreshInbox(me.getId(), roomId));
     }
 
     @Transactional
@@ -1217,23 +1166,46 @@ public class ChatService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
         ChatMessage savedMessage = new ChatMessage(chatRoom, sender, req.mediaKey(), req.messageType());
+        savedMessage.assignSeq(chatRoomRepo.nextMessageSeq(chatRoom.getId()));
         chatMessageRepository.save(savedMessage);
+        chatInboxRepository.applyNewMessage(chatRoom.getId(), sender.getId(), savedMessage.getContent(), savedMessage.getSentAt());
+        eventPublisher.publishEvent(new ChatMessageSavedEvent(savedMessage));
 
         chatParticipantRepository.findByChatRoomIdAndUserId(req.roomId(), req.senderId())
-                .ifPresent(participant -> participant.setLastReadMessageId(savedMessage.getId()));
+                .ifPresent(participant -> advanceReadWatermark(participant, savedMessage));
+        Map<Long, ChatInbox> inboxByUserId = loadInboxByUserId(chatRoom.getId());
 
-        String senderImageUrl = imageRepository.findFirstByImageTypeAndRelatedIdOrderByOrderIndexAsc(ImageType.USER, sender.getId())
-                .map(Image::getUrl)
-                .orElse(null);
+        String senderImageUrl = profileImageResolver.resolve(ImageType.USER, sender.getId());
 
-        for (ChatParticipant participant : chatRoom.getParticipants()) {
-            User recipient = participant.getUser();
+        List<ChatParticipant> participants = chatRoom.getParticipants();
+        BlockGraph.Relations senderBlocks = blockGraph.of(sender.getId());
+        List<ChatParticipant> recipients = participants.stream()
+                .filter(participant -> !senderBlocks.eitherWay(participant.getUser().getId()))
+                .toList();
+        boolean broadcast = useRoomBroadcast(recipients.size());
 
-            boolean isBlocked = blockRepository.findBlockRelationship(recipient, sender).isPresent() ||
-                    blockRepository.findBlockRelationship(sender, recipient).isPresent();
-            if (isBlocked) {
-                continue;
-            }
+        String fullMediaUrl = cdnBaseUrl + "/" + savedMessage.getContent();
+        ChatMessageResponse messageResponse = new ChatMessageResponse(
+                savedMessage.getId(),
+                chatRoom.getId(),
+                sender.getId(),
+                fullMediaUrl,
+                null,
+                savedMessage.getSentAt(),
+                sender.getFirstName(),
+                sender.getLastName(),
+                senderImageUrl,
+                savedMessage.getMessageType(),
+                savedMessage.getSeq()
+        );
+        EncodedStompPayload encoded = chatMessageRelay.encode(messageResponse);
+        if (broadcast) {
+            chatMessageRelay.send(roomMessagesTopic(chatRoom.getId()), encoded,
+                    excludedParticipantIds(participants, senderBlocks));
+        }
+
+        for (ChatParticipant participant : recipients) {
+            User recipient = participant.getUser();
             if (!recipient.getId().equals(sender.getId())) {
                 String contentSnippet = req.messageType() == MessageType.IMAGE ? "사진을 보냈습니다." : "동영상을 보냈습니다.";
                 NotificationEvent event = new NotificationEvent(
@@ -1245,28 +1217,14 @@ public class ChatService {
                 );
                 eventPublisher.publishEvent(event);
             }
-            String fullMediaUrl = cdnBaseUrl + "/" + savedMessage.getContent();
-
-            ChatMessageResponse messageResponse = new ChatMessageResponse(
-                    savedMessage.getId(),
-                    chatRoom.getId(),
-                    sender.getId(),
-                    fullMediaUrl,
-                    null,
-                    savedMessage.getSentAt(),
-                    sender.getFirstName(),
-                    sender.getLastName(),
-                    senderImageUrl,
-                    savedMessage.getMessageType()
-            );
-
-            String destination = String.format("/topic/user/%s/%s/messages",
-                    recipient.getId(),
-                    chatRoom.getId()
-            );
-            messagingTemplate.convertAndSend(destination, messageResponse);
-            ChatRoomSummaryResponse summary = buildChatRoomSummaryResponse(chatRoom.getId(), recipient.getId());
-            messagingTemplate.convertAndSend("/topic/user/" + recipient.getId() + "/rooms", summary);
+            if (!broadcast) {
+                String destination = String.format("/topic/user/%s/%s/messages",
+                        recipient.getId(),
+                        chatRoom.getId()
+                );
+                chatMessageRelay.send(destination, encoded);
+            }
+            sendRoomSummary(recipient.getId(), inboxByUserId.get(recipient.getId()));
         }
     }
 
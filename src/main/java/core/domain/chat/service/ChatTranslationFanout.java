@@ -0,0 +1,84 @@
+package core.domain.chat.service;
+
+import core.global.service.TranslationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * 채팅 메시지 한 건을 수신자 언어별로 한 번씩, 병렬로 번역합니다.
+ * 전송 지연이 방 인원이 아니라 서로 다른 언어 수에만 좌우되도록 하고,
+ * 지연 예산을 넘긴 언어는 원문으로 먼저 보낸 뒤 번역이 끝나면 콜백으로 알려줍니다.
+ * 호출 스레드는 기다리지 않습니다. 예산 안에 끝난 번역은 돌려주는 future 로 받습니다.
+ */
+@Slf4j
+@Component
+public class ChatTranslationFanout {
+
+    private final TranslationService translationService;
+    private final Executor translationExecutor;
+    private final long budgetMillis;
+
+    public ChatTranslationFanout(TranslationService translationService,
+                                 @Qualifier("translationExecutor") Executor translationExecutor,
+                                 @Value("${app.chat.translation-budget-ms:800}") long budgetMillis) {
+        this.translationService = translationService;
+        this.translationExecutor = translationExecutor;
+        this.budgetMillis = budgetMillis;
+    }
+
+    /**
+     * @param content   원문
+     * @param languages 번역할 대상 언어 (중복 없음)
+     * @param onLate    예산 안에 끝나지 않은 언어의 번역이 완료되면 (언어, 번역문) 으로 호출. 번역 스레드에서 불리므로 막히면 안 됩니다.
+     * @return 모든 언어가 끝나거나 예산이 지나면 완료. 예산 안에 번역이 끝난 언어 → 번역문이며 실패/지연 언어는 포함하지 않음.
+     * 완료 스레드는 번역 스레드이거나 예산 타이머 스레드이므로, 이어지는 작업은 가볍게 하거나 다른 실행기로 넘깁니다.
+     */
+    public CompletableFuture<Map<String, String>> translate(String content, Set<String> languages, BiConsumer<String, String> onLate) {
+        if (content == null || content.isEmpty() || languages.isEmpty()) {
+            return CompletableFuture.completedFuture(new HashMap<>());
+        }
+
+        Map<String, CompletableFuture<String>> futures = new HashMap<>();
+        for (String language : languages) {
+            futures.put(language, CompletableFuture.supplyAsync(
+                    () -> translationService.translatePost(content, language), translationExecutor));
+        }
+
+        // 언어별 완료/실패/지연은 collect 에서 나눠 처리합니다.
+        return CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new))
+                .handle((ignored, e) -> (Void) null)
+                .completeOnTimeout(null, budgetMillis, TimeUnit.MILLISECONDS)
+                .thenApply(ignored -> collect(futures, onLate));
+    }
+
+    private Map<String, String> collect(Map<String, CompletableFuture<String>> futures, BiConsumer<String, String> onLate) {
+        Map<String, String> ready = new HashMap<>();
+        futures.forEach((language, future) -> {
+            if (!future.isDone()) {
+                log.info("번역 지연 예산 초과, 원문 우선 전송. language={}, budgetMs={}", language, budgetMillis);
+                future.whenComplete((translated, ex) -> {
+                    if (ex != null) {
+                        log.warn("지연 번역 실패. language={}", language, ex);
+                    } else if (translated != null) {
+                        onLate.accept(language, translated);
+                    }
+                });
+            } else if (future.isCompletedExceptionally()) {
+                log.warn("번역 실패, 원문으로 전송합니다. language={}", language);
+            } else {
+                ready.put(language, future.join());
+            }
+        });
+        return ready;
+    }
+}
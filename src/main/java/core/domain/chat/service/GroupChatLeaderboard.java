@@ -0,0 +1,133 @@
+package core.domain.chat.service;
+
+import core.domain.chat.repository.ChatRoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 그룹 채팅방 순위표 (Redis sorted set).
+ * <ul>
+ *     <li>인기순: score = ACTIVE 참여자 수</li>
+ *     <li>최신순: score = 방 ID (방 ID 는 생성 순서대로 증가)</li>
+ * </ul>
+ * 목록 API 는 여기서 한 페이지 분량의 방 ID 만 꺼내고, 방 정보는 한 번의 조회로 채웁니다.
+ * 순위는 커밋된 생성/입장/퇴장/삭제 이벤트로 갱신하며, 다 만들었다는 표시 키가 없으면(첫 사용, Redis 초기화/축출) DB 에서 다시 만듭니다.
+ * 이벤트 갱신만으로 순위표 키가 다시 생겨도 표시 키가 없으면 다시 만드므로, 방 몇 개만 든 순위표가 남지 않습니다.
+ * Redis 를 쓸 수 없으면 빈 값을 돌려주고 호출자가 DB 로 조회합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GroupChatLeaderboard {
+
+    static final String POPULAR_KEY = "chat:group:popular";
+    static final String LATEST_KEY = "chat:group:latest";
+    static final String BUILT_KEY = "chat:group:built";
+    /** 표시 키는 이 주기로 만료되어, 순위표 일부만 축출된 경우에도 주기적으로 DB 에서 빈 항목을 채웁니다. */
+    private static final Duration REBUILD_INTERVAL = Duration.ofMinutes(10);
+
+    private final StringRedisTemplate redis;
+    private final ChatRoomRepository chatRoomRepository;
+
+    /**
+     * @return 참여자 많은 순으로 offset 부터 size 개의 방 ID. Redis 를 쓸 수 없으면 빈 값
+     */
+    public Optional<List<Long>> popular(int offset, int size) {
+        try {
+            ensureBuilt();
+            return Optional.of(toIds(redis.opsForZSet().reverseRange(POPULAR_KEY, offset, offset + size - 1L)));
+        } catch (RuntimeException e) {
+            log.warn("인기 그룹 채팅방 순위 조회 실패, DB 로 조회합니다.", e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @param beforeRoomId 커서. 이 ID 보다 먼저 만든 방만 (첫 페이지는 null)
+     * @return 최신순으로 size 개의 방 ID. Redis 를 쓸 수 없으면 빈 값
+     */
+    public Optional<List<Long>> latest(Long beforeRoomId, int size) {
+        double max = beforeRoomId == null ? Double.POSITIVE_INFINITY : beforeRoomId - 1;
+        try {
+            ensureBuilt();
+            return Optional.of(toIds(redis.opsForZSet()
+                    .reverseRangeByScore(LATEST_KEY, Double.NEGATIVE_INFINITY, max, 0, size)));
+        } catch (RuntimeException e) {
+            log.warn("최신 그룹 채팅방 순위 조회 실패, DB 로 조회합니다.", e);
+            return Optional.empty();
+        }
+    }
+
+    public void update(Long roomId, int participantCount) {
+        try {
+            String member = String.valueOf(roomId);
+            redis.opsForZSet().add(POPULAR_KEY, member, participantCount);
+            redis.opsForZSet().add(LATEST_KEY, member, roomId);
+        } catch (RuntimeException e) {
+            log.warn("그룹 채팅방 순위 갱신 실패 roomId={}", roomId, e);
+        }
+    }
+
+    public void remove(Long roomId) {
+        evict(List.of(roomId));
+    }
+
+    /**
+     * 삭제된 방을 순위표에서 뺍니다. (목록을 채우다 없는 방을 발견한 경우 포함)
+     */
+    public void evict(Collection<Long> roomIds) {
+        if (roomIds.isEmpty()) {
+            return;
+        }
+        Object[] members = roomIds.stream().map(String::valueOf).toArray();
+        try {
+            redis.opsForZSet().remove(POPULAR_KEY, members);
+            redis.opsForZSet().remove(LATEST_KEY, members);
+        } catch (RuntimeException e) {
+            log.warn("그룹 채팅방 순위 삭제 실패 roomIds={}", roomIds, e);
+        }
+    }
+
+    /**
+     * 표시 키가 없으면 DB 의 그룹 채팅방 전체로 순위표를 채우고 표시 키를 남깁니다.
+     * 이미 있는 항목은 덮어쓰지 않으므로(ZADD NX), 다시 만드는 동안 반영된 이벤트 갱신이 오래된 값으로 돌아가지 않습니다.
+     */
+    private void ensureBuilt() {
+        if (Boolean.TRUE.equals(redis.hasKey(BUILT_KEY))
+                && Boolean.TRUE.equals(redis.hasKey(POPULAR_KEY)) && Boolean.TRUE.equals(redis.hasKey(LATEST_KEY))) {
+            return;
+        }
+        List<Object[]> rows = chatRoomRepository.findGroupRanking();
+        if (rows.isEmpty()) {
+            redis.opsForValue().set(BUILT_KEY, "1", REBUILD_INTERVAL);
+            return;
+        }
+        Set<ZSetOperations.TypedTuple<String>> popular = new HashSet<>(rows.size());
+        Set<ZSetOperations.TypedTuple<String>> latest = new HashSet<>(rows.size());
+        for (Object[] row : rows) {
+            Long roomId = (Long) row[0];
+            int participantCount = ((Number) row[1]).intValue();
+            popular.add(new DefaultTypedTuple<>(String.valueOf(roomId), (double) participantCount));
+            latest.add(new DefaultTypedTuple<>(String.valueOf(roomId), roomId.doubleValue()));
+        }
+        redis.opsForZSet().addIfAbsent(POPULAR_KEY, popular);
+        redis.opsForZSet().addIfAbsent(LATEST_KEY, latest);
+        redis.opsForValue().set(BUILT_KEY, "1", REBUILD_INTERVAL);
+        log.info("그룹 채팅방 순위표를 다시 만들었습니다. rooms={}", rows.size());
+    }
+
+    private static List<Long> toIds(Set<String> members) {
+        return members == null ? List.of() : members.stream().map(Long::valueOf).toList();
+    }
+}
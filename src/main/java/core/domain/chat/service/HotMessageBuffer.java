@@ -0,0 +1,329 @@
+package core.domain.chat.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import core.domain.chat.entity.ChatMessage;
+import core.domain.chat.repository.ChatMessageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * 최근에 활동한 채팅방의 마지막 N개 메시지를 메모리에 들고 있는 링 버퍼.
+ * 첫 페이지 조회(getFirstMessages, getRawMessages, getMessagesAround, AI 대화 맥락)는 여기서 바로 꺼내고,
+ * 버퍼보다 깊은 페이지만 DB 로 갑니다.
+ * <p>
+ * 버퍼는 항상 방 메시지의 "최신 구간" 을 빈틈없이 들고 있어야 합니다.
+ * 처음 조회할 때 DB 에서 적재하고, 이후에는 커밋된 새 메시지를 순번 순서대로 덧붙입니다.
+ * 순번이 건너뛰면 다음 조회에서 버퍼의 마지막 순번 이후 메시지만 DB 에서 읽어 따라잡고,
+ * 메시지가 삭제되면 방 버퍼를 버리고 다음 조회에서 다시 적재합니다.
+ * <p>
+ * redis 모드에서 새 메시지는 "이 방이 순번 N 까지 갔다" 는 알림만 다른 노드에 보냅니다. 받은 노드는 버퍼를 버리지 않고
+ * 다음 조회에서 모자란 몇 건만 따라잡습니다. 버퍼를 버리게 하는 무효화는 삭제에만 보냅니다.
+ */
+@Slf4j
+@Component
+public class HotMessageBuffer implements MessageListener {
+
+    static final String INVALIDATION_CHANNEL = "chat:hot-messages:invalidate";
+    private static final String ALL_ROOMS = "*";
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final TransactionTemplate loadTransaction;
+    private final StringRedisTemplate redis;
+    private final Cache<Long, RoomWindow> windows;
+    private final int capacity;
+    private final boolean redisMode;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Counter hit;
+    private final Counter miss;
+
+    public HotMessageBuffer(ChatMessageRepository chatMessageRepository,
+                            PlatformTransactionManager transactionManager,
+                            StringRedisTemplate redis,
+                            RedisMessageListenerContainer container,
+                            MeterRegistry registry,
+                            @Value("${app.chat.hot-messages.capacity:100}") int capacity,
+                            @Value("${app.chat.hot-messages.max-rooms:5000}") long maxRooms,
+                            @Value("${app.chat.hot-messages.idle-minutes:10}") long idleMinutes,
+                            @Value("${app.chat.hot-messages.invalidation:${app.chat.relay.mode:local}}") String invalidationMode) {
+        this.chatMessageRepository = chatMessageRepository;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+        this.redis = redis;
+        this.capacity = capacity;
+        this.windows = Caffeine.newBuilder()
+                .maximumSize(maxRooms)
+                .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+                .build();
+        this.redisMode = "redis".equalsIgnoreCase(invalidationMode);
+        if (redisMode) {
+            container.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+        }
+        this.hit = Counter.builder("chat_hot_messages_requests_total")
+                .tags("result", "hit")
+                .description("최근 메시지 버퍼 조회 수").register(registry);
+        this.miss = Counter.builder("chat_hot_messages_requests_total")
+                .tags("result", "miss")
+                .description("최근 메시지 버퍼 조회 수").register(registry);
+    }
+
+    /**
+     * @return 최신순으로 limit 개. 버퍼만으로 채울 수 없으면 빈 값 (DB 로 조회)
+     */
+    public Optional<List<ChatMessage>> latest(Long roomId, int limit) {
+        return latest(roomId, message -> true, limit);
+    }
+
+    /**
+     * @param filter 조건에 맞는 메시지만 셉니다 (커서 이전, 나간 시점 이후 등)
+     * @return 조건에 맞는 메시지를 최신순으로 limit 개. 버퍼만으로 채울 수 없으면 빈 값 (DB 로 조회)
+     */
+    public Optional<List<ChatMessage>> latest(Long roomId, Predicate<ChatMessage> filter, int limit) {
+        if (limit > capacity) {
+            return Optional.empty();
+        }
+        return record(window(roomId).latest(filter, limit));
+    }
+
+    /**
+     * @return 대상 메시지를 가운데에 두고 이전/이후 최대 each 개씩, 오래된 순서. 버퍼만으로 채울 수 없으면 빈 값
+     */
+    public Optional<List<ChatMessage>> around(Long roomId, Long messageId, int each) {
+        return record(window(roomId).around(messageId, each));
+    }
+
+    /**
+     * 커밋된 새 메시지를 덧붙입니다. 이 노드에 해당 방 버퍼가 없으면 아무것도 하지 않습니다.
+     */
+    public void append(ChatMessage message) {
+        Long roomId = message.getChatRoom().getId();
+        RoomWindow window = windows.getIfPresent(roomId);
+        if (window != null) {
+            window.append(message);
+        }
+        publish(roomId + ":" + message.getSeq());
+    }
+
+    /**
+     * @param roomId null 이면 모든 방
+     */
+    public void invalidate(Long roomId) {
+        if (roomId == null) {
+            windows.invalidateAll();
+            publish(ALL_ROOMS);
+        } else {
+            windows.invalidate(roomId);
+            publish(String.valueOf(roomId));
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator < 0 || body.substring(0, separator).equals(nodeId)) {
+            return;
+        }
+        // "{roomId}:{seq}" 는 새 메시지 알림, "{roomId}" / "*" 는 무효화
+        String[] target = body.substring(separator + 1).split(":");
+        if (ALL_ROOMS.equals(target[0])) {
+            windows.invalidateAll();
+            return;
+        }
+        Long roomId = Long.valueOf(target[0]);
+        if (target.length == 1) {
+            windows.invalidate(roomId);
+            return;
+        }
+        RoomWindow window = windows.getIfPresent(roomId);
+        if (window != null) {
+            window.advanceTo(Long.parseLong(target[1]));
+        }
+    }
+
+    private void publish(String target) {
+        if (!redisMode) {
+            return;
+        }
+        try {
+            redis.convertAndSend(INVALIDATION_CHANNEL, nodeId + ":" + target);
+        } catch (RuntimeException e) {
+            log.warn("최근 메시지 버퍼 알림 발행 실패 target={}", target, e);
+        }
+    }
+
+    private RoomWindow window(Long roomId) {
+        RoomWindow window = windows.get(roomId, id -> new RoomWindow(id, capacity));
+        window.ensureLoaded();
+        window.catchUp();
+        return window;
+    }
+
+    private Optional<List<ChatMessage>> record(Optional<List<ChatMessage>> result) {
+        (result.isPresent() ? hit : miss).increment();
+        return result;
+    }
+
+    /**
+     * 한 방의 최신 메시지 구간. slots 는 오래된 순서의 원형 배열이고 head 가 가장 오래된 칸입니다.
+     * 적재는 호출자의 트랜잭션과 분리된 읽기 전용 트랜잭션에서 하므로 커밋된 메시지만 들어갑니다.
+     */
+    private final class RoomWindow {
+        private final Long roomId;
+        private final ChatMessage[] slots;
+        private int head;
+        private int size;
+        private long lastSeq;
+        /** 커밋된 것으로 알려진 가장 큰 순번. lastSeq 보다 크면 다음 조회에서 따라잡습니다. */
+        private long knownSeq;
+        /**
+         * 방의 모든 메시지를 들고 있는지. 적재 시 capacity 보다 적었고, 보관 테이블에 이 방 메시지가 없고,
+         * 아직 밀려난 적이 없을 때만 true. 보관된 메시지가 있으면 버퍼 밖 조회는 ChatMessageHistory 가 이어 읽습니다.
+         */
+        private boolean complete;
+        private boolean loaded;
+
+        private RoomWindow(Long roomId, int capacity) {
+            this.roomId = roomId;
+            this.slots = new ChatMessage[capacity];
+        }
+
+        /**
+         * 덧붙이기와 같은 잠금 안에서 적재하므로, 적재 도중 커밋된 메시지는 적재 결과에 있거나 적재 후 덧붙여집니다.
+         */
+        private synchronized void ensureLoaded() {
+            if (loaded) {
+                return;
+            }
+            List<ChatMessage> newest = loadTransaction.execute(status ->
+                    chatMessageRepository.findRecentWithSender(roomId, PageRequest.of(0, slots.length)));
+            for (int i = newest.size() - 1; i >= 0; i--) {
+                push(newest.get(i));
+            }
+            complete = newest.size() < slots.length && !hasArchived();
+            loaded = true;
+        }
+
+        private boolean hasArchived() {
+            return Boolean.TRUE.equals(loadTransaction.execute(status -> chatMessageRepository.existsArchivedByChatRoomId(roomId)));
+        }
+
+        /**
+         * 바로 다음 순번이면 덧붙이고, 건너뛰었으면 다음 조회에서 DB 로 따라잡도록 표시만 합니다.
+         */
+        private synchronized void append(ChatMessage message) {
+            if (!loaded || message.getSeq() <= lastSeq) {
+                return;
+            }
+            if (message.getSeq() == lastSeq + 1 && knownSeq <= lastSeq) {
+                push(message);
+            } else {
+                advanceTo(message.getSeq());
+            }
+        }
+
+        private synchronized void advanceTo(long seq) {
+            knownSeq = Math.max(knownSeq, seq);
+        }
+
+        /**
+         * 마지막 순번 이후의 커밋된 메시지를 읽어 덧붙입니다. 중간에 삭제로 빈 순번이 있거나
+         * 버퍼보다 많이 밀렸으면 처음부터 다시 적재합니다.
+         */
+        private synchronized void catchUp() {
+            if (knownSeq <= lastSeq) {
+                return;
+            }
+            List<ChatMessage> newer = loadTransaction.execute(status ->
+                    chatMessageRepository.findNewerWithSender(roomId, lastSeq, PageRequest.of(0, slots.length)));
+            boolean consecutive = newer.size() < slots.length;
+            for (ChatMessage message : newer) {
+                if (!consecutive || message.getSeq() != lastSeq + 1) {
+                    consecutive = false;
+                    break;
+                }
+                push(message);
+            }
+            if (!consecutive) {
+                reload();
+            }
+            knownSeq = lastSeq;
+        }
+
+        private void reload() {
+            Arrays.fill(slots, null);
+            head = 0;
+            size = 0;
+            lastSeq = 0;
+            loaded = false;
+            ensureLoaded();
+        }
+
+        private void push(ChatMessage message) {
+            if (size == slots.length) {
+                slots[head] = message;
+                head = (head + 1) % slots.length;
+                complete = false;
+            } else {
+                slots[(head + size) % slots.length] = message;
+                size++;
+            }
+            lastSeq = message.getSeq();
+        }
+
+        private ChatMessage at(int index) {
+            return slots[(head + index) % slots.length];
+        }
+
+        private synchronized Optional<List<ChatMessage>> latest(Predicate<ChatMessage> filter, int limit) {
+            List<ChatMessage> result = new ArrayList<>(limit);
+            for (int i = size - 1; i >= 0 && result.size() < limit; i--) {
+                ChatMessage message = at(i);
+                if (filter.test(message)) {
+                    result.add(message);
+                }
+            }
+            return result.size() == limit || complete ? Optional.of(result) : Optional.empty();
+        }
+
+        private synchronized Optional<List<ChatMessage>> around(Long messageId, int each) {
+            int target = -1;
+            for (int i = size - 1; i >= 0; i--) {
+                if (at(i).getId().equals(messageId)) {
+                    target = i;
+                    break;
+                }
+            }
+            if (target < 0 || (target < each && !complete)) {
+                return Optional.empty();
+            }
+            List<ChatMessage> result = new ArrayList<>(each * 2 + 1);
+            for (int i = Math.max(target - each, 0); i <= Math.min(target + each, size - 1); i++) {
+                result.add(at(i));
+            }
+            return Optional.of(result);
+        }
+    }
+}
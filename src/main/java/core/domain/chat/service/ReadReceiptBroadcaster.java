@@ -0,0 +1,105 @@
+package core.domain.chat.service;
+
+import core.domain.chat.dto.ReadCountRange;
+import core.domain.chat.dto.ReadCountRangeUpdateResponse;
+import core.global.service.ChatMessageRelay;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 읽음 수 변경 브로드캐스트를 방별로 debounceMillis 동안 모았다가 한 번에 보냅니다.
+ * 모인 순번 구간은 합친 뒤, 보내는 시점의 워터마크로 구간별 안 읽은 수를 계산합니다.
+ */
+@Slf4j
+@Component
+public class ReadReceiptBroadcaster {
+
+    private final ReadWatermarkStore readWatermarkStore;
+    private final ChatMessageRelay chatMessageRelay;
+    private final long debounceMillis;
+
+    private final Object lock = new Object();
+    private final Map<Long, List<long[]>> pendingByRoomId = new HashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "read-receipt-flush");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public ReadReceiptBroadcaster(ReadWatermarkStore readWatermarkStore,
+                                  ChatMessageRelay chatMessageRelay,
+                                  @Value("${app.chat.read-receipt.debounce-ms:250}") long debounceMillis) {
+        this.readWatermarkStore = readWatermarkStore;
+        this.chatMessageRelay = chatMessageRelay;
+        this.debounceMillis = debounceMillis;
+    }
+
+    /**
+     * 순번 fromSeq ~ toSeq 메시지의 안 읽은 수가 바뀌었음을 알립니다.
+     */
+    public void enqueue(Long roomId, long fromSeq, long toSeq) {
+        synchronized (lock) {
+            List<long[]> pending = pendingByRoomId.get(roomId);
+            if (pending == null) {
+                pending = new ArrayList<>();
+                pendingByRoomId.put(roomId, pending);
+                scheduler.schedule(() -> flush(roomId), debounceMillis, TimeUnit.MILLISECONDS);
+            }
+            pending.add(new long[]{fromSeq, toSeq});
+        }
+    }
+
+    private void flush(Long roomId) {
+        List<long[]> pending;
+        synchronized (lock) {
+            pending = pendingByRoomId.remove(roomId);
+        }
+        if (pending == null || pending.isEmpty()) {
+            return;
+        }
+        try {
+            List<ReadCountRange> ranges = new ArrayList<>();
+            for (long[] range : merge(pending)) {
+                ranges.addAll(readWatermarkStore.unreadCounts(roomId, range[0], range[1]));
+            }
+            chatMessageRelay.convertAndSend("/topic/rooms/" + roomId + "/read-counts",
+                    new ReadCountRangeUpdateResponse(roomId, ranges));
+        } catch (RuntimeException e) {
+            log.warn("읽음 수 브로드캐스트 실패 roomId={}", roomId, e);
+        }
+    }
+
+    /**
+     * 겹치거나 맞닿은 구간을 합칩니다.
+     */
+    static List<long[]> merge(List<long[]> ranges) {
+        List<long[]> sorted = new ArrayList<>(ranges);
+        sorted.sort(Comparator.comparingLong(r -> r[0]));
+        List<long[]> merged = new ArrayList<>();
+        for (long[] range : sorted) {
+            long[] last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (last != null && range[0] <= last[1] + 1) {
+                last[1] = Math.max(last[1], range[1]);
+            } else {
+                merged.add(new long[]{range[0], range[1]});
+            }
+        }
+        return merged;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
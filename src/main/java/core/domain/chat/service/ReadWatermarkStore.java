@@ -0,0 +1,113 @@
+package core.domain.chat.service;
+
+import core.domain.chat.dto.ReadCountRange;
+import core.domain.chat.repository.ChatParticipantRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.connection.zset.DefaultTuple;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 방별 읽음 워터마크(참여자별 읽은 순번)를 Redis 정렬 집합으로 보관합니다. (member = userId, score = lastReadSeq)
+ * 순번 s 인 메시지의 안 읽은 수 = 읽은 순번이 s 보다 작은 참여자 수이므로, 메시지나 참여자를 훑지 않고
+ * 정렬 집합의 범위 개수(ZCOUNT) 로 구합니다. 키가 없으면 chat_participant 에서 다시 적재합니다.
+ */
+@Slf4j
+@Component
+public class ReadWatermarkStore {
+
+    private static final String KEY_PREFIX = "chat:read:";
+
+    private final StringRedisTemplate redis;
+    private final ChatParticipantRepository chatParticipantRepository;
+    private final Duration ttl;
+
+    public ReadWatermarkStore(StringRedisTemplate redis,
+                              ChatParticipantRepository chatParticipantRepository,
+                              @Value("${app.chat.read-receipt.ttl-hours:6}") long ttlHours) {
+        this.redis = redis;
+        this.chatParticipantRepository = chatParticipantRepository;
+        this.ttl = Duration.ofHours(ttlHours);
+    }
+
+    static String keyOf(Long roomId) {
+        return KEY_PREFIX + roomId;
+    }
+
+    /**
+     * 참여자의 읽은 순번을 올립니다. 더 작은 값으로는 내려가지 않습니다. (ZADD GT)
+     */
+    public void advance(Long roomId, Long userId, long seq) {
+        ensureLoaded(roomId);
+        zAddGreater(roomId, Set.of(new DefaultTuple(String.valueOf(userId).getBytes(StandardCharsets.UTF_8), (double) seq)));
+    }
+
+    public void invalidate(Long roomId) {
+        redis.delete(keyOf(roomId));
+    }
+
+    /**
+     * 순번 fromSeq ~ toSeq 구간을 안 읽은 수가 같은 구간들로 나눠 돌려줍니다.
+     * 안 읽은 수는 구간 안의 다른 참여자 워터마크 위치에서만 바뀌므로, 구간 안에 있는 워터마크만 조회합니다.
+     */
+    public List<ReadCountRange> unreadCounts(Long roomId, long fromSeq, long toSeq) {
+        ensureLoaded(roomId);
+        String key = keyOf(roomId);
+
+        Long below = redis.opsForZSet().count(key, Double.NEGATIVE_INFINITY, fromSeq - 1);
+        Set<ZSetOperations.TypedTuple<String>> inside = toSeq > fromSeq
+                ? redis.opsForZSet().rangeByScoreWithScores(key, fromSeq, toSeq - 1)
+                : Set.of();
+
+        List<ReadCountRange> ranges = new ArrayList<>();
+        int unread = below == null ? 0 : below.intValue();
+        long start = fromSeq;
+        if (inside != null) {
+            for (ZSetOperations.TypedTuple<String> watermark : inside) {
+                long seq = watermark.getScore().longValue();
+                if (seq >= start) {
+                    ranges.add(new ReadCountRange(start, seq, unread));
+                    start = seq + 1;
+                }
+                unread++;
+            }
+        }
+        ranges.add(new ReadCountRange(start, toSeq, unread));
+        return ranges;
+    }
+
+    private void ensureLoaded(Long roomId) {
+        if (Boolean.TRUE.equals(redis.hasKey(keyOf(roomId)))) {
+            return;
+        }
+        Set<Tuple> watermarks = new LinkedHashSet<>();
+        chatParticipantRepository.findReadWatermarks(roomId).forEach(w -> watermarks.add(new DefaultTuple(
+                String.valueOf(w.getUserId()).getBytes(StandardCharsets.UTF_8),
+                w.getLastReadSeq() == null ? 0d : w.getLastReadSeq().doubleValue())));
+        if (!watermarks.isEmpty()) {
+            zAddGreater(roomId, watermarks);
+        }
+        log.debug("읽음 워터마크 적재 roomId={}, participants={}", roomId, watermarks.size());
+    }
+
+    private void zAddGreater(Long roomId, Set<Tuple> tuples) {
+        byte[] key = keyOf(roomId).getBytes(StandardCharsets.UTF_8);
+        redis.execute((RedisCallback<Object>) connection -> {
+            connection.zSetCommands().zAdd(key, tuples, RedisZSetCommands.ZAddArgs.empty().gt());
+            connection.keyCommands().expire(key, ttl.toSeconds());
+            return null;
+        });
+    }
+}
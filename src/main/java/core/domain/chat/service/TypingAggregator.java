@@ -0,0 +1,231 @@
+package core.domain.chat.service;
+
+import core.domain.chat.dto.TypingEvent;
+import core.domain.chat.dto.TypingSnapshotResponse;
+import core.global.service.ChatMessageRelay;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 입력 중 표시를 방별로 모아 "누가 입력 중인지" 스냅샷을 방마다 intervalMillis 에 최대 한 번 보냅니다.
+ * 이미 입력 중인 사용자의 시작 이벤트는 만료 시각만 늘리고 전송하지 않으며,
+ * 종료 이벤트 없이 ttlMillis 동안 소식이 없는 사용자는 서버가 직접 뺍니다.
+ * <p>
+ * 스냅샷은 방 전체 상태이므로 노드마다 일부만 들고 보내면 서로 덮어씁니다.
+ * redis 모드에서는 받은 이벤트를 Redis 채널로 모든 노드에 돌리고, 각 노드가 같은 전체 상태를 만들어
+ * 자기 노드의 구독자에게만 보냅니다({@link ChatMessageRelay#convertAndSendLocal}). Redis 발행이 실패하면 이 노드에만 반영합니다.
+ */
+@Slf4j
+@Component
+public class TypingAggregator implements MessageListener {
+
+    static final String EVENT_CHANNEL = "chat:typing:events";
+
+    private final ChatMessageRelay chatMessageRelay;
+    private final StringRedisTemplate redis;
+    private final boolean redisMode;
+    private final long intervalMillis;
+    private final long ttlMillis;
+    private final Counter inbound;
+    private final Counter outbound;
+
+    private final Object lock = new Object();
+    private final Map<Long, RoomTyping> roomsById = new HashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "typing-flush");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public TypingAggregator(ChatMessageRelay chatMessageRelay,
+                            StringRedisTemplate redis,
+                            RedisMessageListenerContainer container,
+                            MeterRegistry registry,
+                            @Value("${app.chat.typing.interval-ms:500}") long intervalMillis,
+                            @Value("${app.chat.typing.ttl-ms:6000}") long ttlMillis,
+                            @Value("${app.chat.typing.mode:${app.chat.relay.mode:local}}") String mode) {
+        this.chatMessageRelay = chatMessageRelay;
+        this.redis = redis;
+        this.redisMode = "redis".equalsIgnoreCase(mode);
+        if (redisMode) {
+            container.addMessageListener(this, new ChannelTopic(EVENT_CHANNEL));
+        }
+        this.intervalMillis = intervalMillis;
+        this.ttlMillis = ttlMillis;
+        this.inbound = Counter.builder("chat_typing_frames_total")
+                .tag("direction", "inbound").description("입력 중 표시 프레임 수").register(registry);
+        this.outbound = Counter.builder("chat_typing_frames_total")
+                .tag("direction", "outbound").description("입력 중 표시 프레임 수").register(registry);
+        scheduler.scheduleWithFixedDelay(this::expire, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void onEvent(TypingEvent event) {
+        inbound.increment();
+        if (event.roomId() == null || event.senderId() == null) {
+            return;
+        }
+        if (redisMode) {
+            try {
+                // 발행한 노드도 구독으로 돌려받아 반영하므로 여기서는 반영하지 않습니다.
+                redis.convertAndSend(EVENT_CHANNEL, encode(event));
+                return;
+            } catch (RuntimeException e) {
+                log.warn("입력 중 표시 발행 실패, 이 노드에만 반영합니다. roomId={}", event.roomId(), e);
+            }
+        }
+        apply(event);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        TypingEvent event = decode(new String(message.getBody(), StandardCharsets.UTF_8));
+        if (event != null) {
+            apply(event);
+        }
+    }
+
+    /** roomId:senderId:1|0:이름. 이름에 ':' 가 있을 수 있으므로 맨 뒤에 둡니다. */
+    static String encode(TypingEvent event) {
+        return event.roomId() + ":" + event.senderId() + ":" + (event.isTyping() ? "1" : "0") + ":"
+                + (event.senderName() == null ? "" : event.senderName());
+    }
+
+    static TypingEvent decode(String body) {
+        String[] parts = body.split(":", 4);
+        if (parts.length < 4) {
+            return null;
+        }
+        try {
+            return new TypingEvent(Long.valueOf(parts[1]), parts[3], Long.valueOf(parts[0]), "1".equals(parts[2]));
+        } catch (NumberFormatException e) {
+            log.warn("입력 중 표시 메시지 형식 오류 body={}", body);
+            return null;
+        }
+    }
+
+    private void apply(TypingEvent event) {
+        long now = System.currentTimeMillis();
+        synchronized (lock) {
+            RoomTyping room = roomsById.computeIfAbsent(event.roomId(), id -> new RoomTyping());
+            boolean changed;
+            if (event.isTyping()) {
+                changed = room.typers.put(event.senderId(), new Typer(event.senderName(), now + ttlMillis)) == null;
+            } else {
+                changed = room.typers.remove(event.senderId()) != null;
+            }
+            if (changed) {
+                scheduleFlush(event.roomId(), room, now);
+            } else {
+                removeIfIdle(event.roomId(), room);
+            }
+        }
+    }
+
+    /**
+     * 만료된 입력자를 빼고, 바뀐 방은 스냅샷을 예약합니다.
+     */
+    void expire() {
+        long now = System.currentTimeMillis();
+        synchronized (lock) {
+            for (Map.Entry<Long, RoomTyping> entry : new ArrayList<>(roomsById.entrySet())) {
+                RoomTyping room = entry.getValue();
+                if (room.typers.values().removeIf(typer -> typer.expiresAt() <= now)) {
+                    scheduleFlush(entry.getKey(), room, now);
+                }
+            }
+        }
+    }
+
+    /**
+     * 방마다 직전 전송 후 intervalMillis 가 지나야 다음 스냅샷을 보냅니다. 그 사이의 변경은 한 번에 합쳐집니다.
+     */
+    private void scheduleFlush(Long roomId, RoomTyping room, long now) {
+        if (room.flushScheduled) {
+            return;
+        }
+        room.flushScheduled = true;
+        long delay = Math.max(0, room.lastSentAt + intervalMillis - now);
+        scheduler.schedule(() -> flush(roomId), delay, TimeUnit.MILLISECONDS);
+    }
+
+    void flush(Long roomId) {
+        TypingSnapshotResponse snapshot;
+        synchronized (lock) {
+            RoomTyping room = roomsById.get(roomId);
+            if (room == null) {
+                return;
+            }
+            room.flushScheduled = false;
+            Set<Long> userIds = new HashSet<>(room.typers.keySet());
+            if (userIds.equals(room.lastSentUserIds)) {
+                removeIfIdle(roomId, room);
+                return;
+            }
+            List<TypingSnapshotResponse.TypingUser> typingUsers = new ArrayList<>();
+            room.typers.forEach((userId, typer) ->
+                    typingUsers.add(new TypingSnapshotResponse.TypingUser(userId, typer.name())));
+            snapshot = new TypingSnapshotResponse(roomId, typingUsers);
+            room.lastSentUserIds = userIds;
+            room.lastSentAt = System.currentTimeMillis();
+            removeIfIdle(roomId, room);
+        }
+        try {
+            chatMessageRelay.convertAndSendLocal("/topic/chatrooms/" + roomId, snapshot);
+            outbound.increment();
+        } catch (RuntimeException e) {
+            log.warn("입력 중 표시 전송 실패 roomId={}", roomId, e);
+        }
+    }
+
+    /**
+     * 아무도 입력 중이 아니고 빈 스냅샷까지 보냈으면 방 상태를 지웁니다.
+     * 마지막 전송 시각은 사라지지만, 빈 상태에서 새로 시작하는 입력은 바로 보내도 됩니다.
+     */
+    private void removeIfIdle(Long roomId, RoomTyping room) {
+        if (room.typers.isEmpty() && room.lastSentUserIds.isEmpty() && !room.flushScheduled) {
+            roomsById.remove(roomId);
+        }
+    }
+
+    int trackedRooms() {
+        synchronized (lock) {
+            return roomsById.size();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private record Typer(String name, long expiresAt) {
+    }
+
+    private static final class RoomTyping {
+        private final Map<Long, Typer> typers = new LinkedHashMap<>();
+        private Set<Long> lastSentUserIds = Set.of();
+        private long lastSentAt = Long.MIN_VALUE / 2;
+        private boolean flushScheduled;
+    }
+}
@@ -8,8 +8,8 @@ import com.querydsl.jpa.impl.JPAQueryFactory;
 import core.domain.comment.entity.Comment;
 import core.domain.comment.entity.QComment;
 import core.domain.post.entity.QPost;
-import core.domain.user.entity.QBlockUser;
 import core.domain.user.entity.QUser;
+import core.domain.user.service.BlockGraph;
 import core.global.enums.LikeType;
 import core.global.like.entity.QLike;
 import lombok.RequiredArgsConstructor;
@@ -24,12 +24,11 @@ import java.util.List;
 public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
 
     private final JPAQueryFactory query;
+    private final BlockGraph blockGraph;
 
     private static final QComment c = QComment.comment;
     private static final QUser u = new QUser("u");
     private static final QPost p = QPost.post;
-    private static final QBlockUser bu1 = new QBlockUser("bu1");
-    private static final QBlockUser bu2 = new QBlockUser("bu2");
     private static final QLike l = QLike.like;
 
     // ───────────────────────── 최신 ─────────────────────────
@@ -139,20 +138,11 @@ public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
         return toSlice(rows, pageable);
     }
 
-    /** 차단(양방향) 필터: userId가 null이면 필터 비활성화 */
+    /** 차단(양방향) 필터: userId가 null이면 필터 비활성화. 차단 그래프에서 미리 구한 ID 목록을 NOT IN 으로 넘깁니다. */
     private BooleanExpression visibleTo(Long userId) {
         if (userId == null) return null;
-        BooleanExpression notMyBlocking = JPAExpressions.selectOne().from(bu1)
-                .where(bu1.user.id.eq(userId)
-                        .and(bu1.blocked.id.eq(u.id)))
-                .notExists();
-
-        BooleanExpression notTheirBlocking = JPAExpressions.selectOne().from(bu2)
-                .where(bu2.user.id.eq(u.id)
-                        .and(bu2.blocked.id.eq(userId)))
-                .notExists();
-
-        return notMyBlocking.and(notTheirBlocking);
+        List<Long> blockedIds = blockGraph.relatedIds(userId);
+        return blockedIds.isEmpty() ? null : u.id.notIn(blockedIds);
     }
 
     /** 인기 정렬용 좋아요 수 서브쿼리 */
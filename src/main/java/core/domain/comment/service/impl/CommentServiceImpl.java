@@ -12,6 +12,7 @@ import core.domain.post.entity.Post;
 import core.domain.post.repository.PostRepository;
 import core.domain.user.entity.BlockUser;
 import core.domain.user.entity.User;
+import core.domain.user.event.UserBlockedEvent;
 import core.domain.user.repository.BlockRepository;
 import core.domain.user.repository.UserRepository;
 import core.global.enums.*;
@@ -300,6 +301,7 @@ public class CommentServiceImpl implements CommentService {
         }
 
         blockRepository.save(new BlockUser(me, blockedUser));
+        eventPublisher.publishEvent(new UserBlockedEvent(me.getId(), blockedUser.getId()));
     }
 
 
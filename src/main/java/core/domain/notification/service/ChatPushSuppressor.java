@@ -0,0 +1,78 @@
+package core.domain.notification.service;
+
+import core.domain.notification.dto.NotificationEvent;
+import core.global.enums.NotificationType;
+import core.global.service.PresenceRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 알림 생략 여부.
+ * 수신자가 어느 노드에서든 그 채팅방 목적지를 구독 중이면 메시지 프레임과 방 요약(안 읽은 수)을 이미 받았으므로
+ * FCM 푸시를 보내지 않고, 설정에 따라 알림 목록 행도 만들지 않습니다.
+ */
+@Component
+public class ChatPushSuppressor {
+
+    private final PresenceRegistry presenceRegistry;
+    private final boolean enabled;
+    private final boolean keepNotificationRow;
+    private final Counter sent;
+    private final Counter suppressed;
+
+    public ChatPushSuppressor(PresenceRegistry presenceRegistry,
+                              MeterRegistry registry,
+                              @Value("${app.push.suppress-when-viewing:true}") boolean enabled,
+                              @Value("${app.push.keep-notification-when-viewing:false}") boolean keepNotificationRow) {
+        this.presenceRegistry = presenceRegistry;
+        this.enabled = enabled;
+        this.keepNotificationRow = keepNotificationRow;
+        this.sent = Counter.builder("chat_push_total")
+                .tag("result", "sent").description("채팅 푸시 발송/생략 수").register(registry);
+        this.suppressed = Counter.builder("chat_push_total")
+                .tag("result", "suppressed").description("채팅 푸시 발송/생략 수").register(registry);
+    }
+
+    /**
+     * 알림 처리(저장 + 푸시)를 시작할지. 이벤트를 발행한 스레드에서 불리므로
+     * false 이면 비동기 작업/트랜잭션/사용자 조회가 모두 생략됩니다.
+     * 알림 행을 남기도록 설정했으면 여기서는 조회하지 않고 {@link #shouldPush} 에 판단을 넘깁니다.
+     */
+    public boolean shouldNotify(NotificationEvent event) {
+        if (keepNotificationRow || !isViewingRoom(event)) {
+            return true;
+        }
+        suppressed.increment();
+        return false;
+    }
+
+    /**
+     * 알림 행을 저장한 뒤 FCM 푸시까지 보낼지.
+     * 알림 행을 남기지 않는 설정이면 {@link #shouldNotify} 가 이미 걸렀으므로 presence 를 다시 조회하지 않습니다.
+     */
+    public boolean shouldPush(NotificationEvent event) {
+        if (!keepNotificationRow || !isViewingRoom(event)) {
+            return true;
+        }
+        suppressed.increment();
+        return false;
+    }
+
+    /**
+     * 채팅 푸시를 실제로 보낸 뒤 호출합니다.
+     */
+    public void recordSent(NotificationEvent event) {
+        if (event.notificationType() == NotificationType.chat) {
+            sent.increment();
+        }
+    }
+
+    private boolean isViewingRoom(NotificationEvent event) {
+        return enabled
+                && event.notificationType() == NotificationType.chat
+                && event.recipientId() != null && event.referenceId() != null
+                && presenceRegistry.isViewingAnywhere(event.recipientId(), event.referenceId());
+    }
+}
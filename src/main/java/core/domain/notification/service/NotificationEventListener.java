@@ -22,10 +22,14 @@ public class NotificationEventListener {
     private final UserNotificationService notificationService;
     private final PushNotificationService pushNotificationService;
     private final NotificationMessageGenerator notificationMessageGenerator;
+    private final ChatPushSuppressor chatPushSuppressor;
 
 
+    /**
+     * 채팅방을 보고 있는 수신자의 채팅 알림은 {@link ChatPushSuppressor} 가 발행 시점에 걸러냅니다.
+     */
     @Async("dispatchExecutor")
-    @EventListener
+    @EventListener(condition = "@chatPushSuppressor.shouldNotify(#event)")
     @Transactional
     public void handleNotificationEvent(NotificationEvent event) {
         try {
@@ -44,7 +48,10 @@ public class NotificationEventListener {
 
             String message = notificationMessageGenerator.generateMessage(actor, event);
             notificationService.createAndSaveNotification(recipient, actor, event, message);
-            pushNotificationService.sendPushNotification(recipient, event, message);
+            if (chatPushSuppressor.shouldPush(event)) {
+                pushNotificationService.sendPushNotification(recipient, event, message);
+                chatPushSuppressor.recordSent(event);
+            }
 
         } catch (Exception e) {
             log.error("알림 이벤트 처리 중 오류 발생: {}", event, e);
@@ -14,8 +14,8 @@ import core.domain.post.dto.UserPostItem;
 import core.domain.post.entity.QBlockPost;
 import core.domain.post.entity.QPost;
 import core.domain.post.repository.PostRepositoryCustom;
-import core.domain.user.entity.QBlockUser;
 import core.domain.user.entity.QUser;
+import core.domain.user.service.BlockGraph;
 import core.global.enums.BoardCategory;
 import core.global.enums.ImageType;
 import core.global.enums.LikeType;
@@ -41,6 +41,7 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
     private static final LikeType LIKE_TYPE_POST = LikeType.POST;
 
     private final JPAQueryFactory query;
+    private final BlockGraph blockGraph;
 
     @Override
     public List<BoardItem> findLatestPosts(Long userId, Long boardId,
@@ -459,28 +460,12 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
                 .notExists();
     }
 
+    /** 차단(양방향) 필터: 차단 그래프에서 미리 구한 ID 목록을 NOT IN 으로 넘깁니다. */
     private BooleanExpression visibleTo(Long userId) {
         if (userId == null) return null; // 비로그인
 
-        QBlockUser bu = QBlockUser.blockUser;
-
-        BooleanExpression notMyBlocking = JPAExpressions
-                .selectOne()
-                .from(bu)
-                .where(bu.user.id.eq(userId)
-                        .and(bu.blocked.id.eq(user.id))
-                )
-                .notExists();
-
-        BooleanExpression notTheirBlocking = JPAExpressions
-                .selectOne()
-                .from(bu)
-                .where(bu.user.id.eq(user.id)
-                        .and(bu.blocked.id.eq(userId))
-                )
-                .notExists();
-
-        return notMyBlocking.and(notTheirBlocking);
+        List<Long> blockedIds = blockGraph.relatedIds(userId);
+        return blockedIds.isEmpty() ? null : user.id.notIn(blockedIds);
     }
 
     private Expression<Integer> postImageCountExpr() {
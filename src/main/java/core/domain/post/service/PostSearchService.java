@@ -7,8 +7,9 @@ import core.domain.board.repository.BoardRepository;
 import core.domain.post.dto.SearchResultView;
 import core.domain.post.repository.PostSearchRepositoryCustom;
 import core.domain.user.entity.User;
-import core.domain.user.repository.BlockRepository;
+import core.domain.user.service.BlockGraph;
 import core.domain.user.repository.UserRepository;
+import core.global.config.CustomUserDetails;
 import core.global.enums.ErrorCode;
 import core.global.exception.BusinessException;
 import core.global.pagination.CursorPageResponse;
@@ -30,7 +31,7 @@ public class PostSearchService {
     private static final int DB_FALLBACK_MAX = 3;  // DB 최대
     private final PostSearchRepositoryCustom searchRepository;
     private final BoardRepository boardRepository;
-    private final BlockRepository blockRepository;
+    private final BlockGraph blockGraph;
     private final UserRepository userRepository;
     private final SuggestMemoryIndex memoryIndex;
 
@@ -58,8 +59,7 @@ public class PostSearchService {
 
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
         User user = userRepository.findByEmail(email).orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-        List<Long> blockedIds = blockRepository.getBlockUsersByUserEmail(email)
-                .stream().map(User::getId).toList();
+        List<Long> blockedIds = blockGraph.blockingIds(user.getId());
 
         Map<String, Object> c = safeDecode(cursor);
         Instant afterTime = (c.get("t") instanceof String s) ? Instant.parse(s) : (Instant) c.get("t");
@@ -92,9 +92,10 @@ public class PostSearchService {
         Long resolvedBoardId = (boardId != null && boardId == 1L) ? null : boardId;
 
         // 차단 유저 목록
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        List<Long> blockedIds = blockRepository.getBlockUsersByUserEmail(email)
-                .stream().map(User::getId).toList();
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        List<Long> blockedIds = principal instanceof CustomUserDetails details
+                ? blockGraph.blockingIds(details.getUserId())
+                : List.of();
 
         // 1) 메모리 자동완성 우선 (최대 FAST_FIRST_MAX, 단 총 LIMIT 고려)
         int fastQuota = Math.min(FAST_FIRST_MAX, LIMIT);
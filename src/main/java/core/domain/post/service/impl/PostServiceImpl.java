@@ -15,9 +15,11 @@ import core.domain.post.service.PostService;
 import core.domain.user.entity.BlockUser;
 import core.domain.user.entity.Follow;
 import core.domain.user.entity.User;
+import core.domain.user.event.UserBlockedEvent;
 import core.domain.user.repository.BlockRepository;
 import core.domain.user.repository.FollowRepository;
 import core.domain.user.repository.UserRepository;
+import core.domain.user.service.BlockGraph;
 import core.global.enums.*;
 import core.global.exception.BusinessException;
 import core.global.image.repository.ImageRepository;
@@ -64,6 +66,7 @@ public class PostServiceImpl implements PostService {
 
     private final FollowRepository followRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final BlockGraph blockGraph;
     @Override
     @Transactional(readOnly = true)
     public CursorPageResponse<BoardItem> getPostList(Long boardId, SortOption sort, String cursor, int size) {
@@ -191,7 +194,7 @@ public class PostServiceImpl implements PostService {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
 
-        if(blockRepository.existsBlockedByEmail(email, post.getAuthor().getEmail()) || blockRepository.existsBlockedByEmail(post.getAuthor().getEmail(), email)) {
+        if (blockGraph.isBlockedEitherWay(user.getId(), post.getAuthor().getId())) {
             throw new BusinessException(ErrorCode.BLOCKED_USER_POST);
         }
 
@@ -501,6 +504,7 @@ public class PostServiceImpl implements PostService {
         }
 
         blockRepository.save(new BlockUser(me, blockedUser));
+        eventPublisher.publishEvent(new UserBlockedEvent(me.getId(), blockedUser.getId()));
     }
 
     @Override
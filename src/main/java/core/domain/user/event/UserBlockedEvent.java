@@ -0,0 +1,7 @@
+package core.domain.user.event;
+
+/**
+ * blockerId 가 blockedId 를 차단했습니다.
+ */
+public record UserBlockedEvent(Long blockerId, Long blockedId) {
+}
@@ -0,0 +1,7 @@
+package core.domain.user.event;
+
+/**
+ * userId 사용자의 이름(first_name/last_name)이 바뀌었습니다.
+ */
+public record UserNameChangedEvent(Long userId) {
+}
@@ -0,0 +1,31 @@
+package core.domain.user.listener;
+
+import core.domain.user.dto.UserWithdrawalEvent;
+import core.domain.user.event.UserBlockedEvent;
+import core.domain.user.service.BlockGraph;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 커밋된 차단/탈퇴만 차단 그래프에 반영합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BlockGraphListener {
+
+    private final BlockGraph blockGraph;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBlocked(UserBlockedEvent e) {
+        blockGraph.invalidate(List.of(e.blockerId(), e.blockedId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onWithdrawal(UserWithdrawalEvent e) {
+        blockGraph.invalidateWithRelations(e.getUserId());
+    }
+}
@@ -45,4 +45,17 @@ public interface BlockRepository extends JpaRepository<BlockUser, Long> {
             "UNION " +
             "SELECT b.user.id FROM BlockUser b WHERE b.blocked.id = :userId")
     Set<Long> findAllBlockedUserIds(@Param("userId") Long userId);
+
+    /**
+     * 사용자가 한쪽 끝인 차단 관계를 모두 조회합니다. (차단 그래프 적재용)
+     * getUserId() 가 기준 사용자이면 내가 차단한 관계, 아니면 나를 차단한 관계입니다.
+     */
+    @Query("SELECT b.user.id AS userId, b.blocked.id AS blockedId FROM BlockUser b " +
+            "WHERE b.user.id = :userId OR b.blocked.id = :userId")
+    List<BlockEdge> findEdgesOf(@Param("userId") Long userId);
+
+    interface BlockEdge {
+        Long getUserId();
+        Long getBlockedId();
+    }
 }
@@ -0,0 +1,266 @@
+package core.domain.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import core.domain.user.repository.BlockRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 차단 관계(내가 차단한 사용자 / 나를 차단한 사용자)를 메모리에 들고 있는 조회 전용 그래프.
+ * 채팅 전송, 메시지 조회, 피드/검색 필터가 매번 block_user 를 조회하지 않고 상수 시간으로 확인합니다.
+ * <p>
+ * 사용자 단위로 처음 필요할 때 적재하고, 차단/탈퇴가 커밋되면 관련 사용자 항목을 버립니다.
+ * redis 모드에서는 다른 노드에도 같은 사용자 무효화를 알립니다. 메시지가 유실되더라도 TTL 이 지나면 다시 적재합니다.
+ * 전체 크기는 항목 가중치(차단 관계 수) 합으로 제한합니다.
+ */
+@Slf4j
+@Component
+public class BlockGraph implements MessageListener {
+
+    static final String INVALIDATION_CHANNEL = "block-graph:invalidate";
+
+    private final BlockRepository blockRepository;
+    private final TransactionTemplate loadTransaction;
+    private final StringRedisTemplate redis;
+    private final Cache<Long, Relations> relations;
+    private final boolean redisMode;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public BlockGraph(BlockRepository blockRepository,
+                      PlatformTransactionManager transactionManager,
+                      StringRedisTemplate redis,
+                      RedisMessageListenerContainer container,
+                      @Value("${app.block-graph.max-weight:2000000}") long maxWeight,
+                      @Value("${app.block-graph.ttl-minutes:10}") long ttlMinutes,
+                      @Value("${app.block-graph.invalidation:${app.chat.relay.mode:local}}") String invalidationMode) {
+        this.blockRepository = blockRepository;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+        this.redis = redis;
+        this.relations = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((Long userId, Relations r) -> 1 + r.blocking.size() + r.blockedBy.size())
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+        this.redisMode = "redis".equalsIgnoreCase(invalidationMode);
+        if (redisMode) {
+            container.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+        }
+    }
+
+    /**
+     * 적재 중에 들어온 무효화는 적재가 끝난 뒤 그 결과를 지우므로, 커밋 전 상태가 남지 않습니다.
+     */
+    public Relations of(Long userId) {
+        if (userId == null) {
+            return Relations.EMPTY;
+        }
+        return relations.get(userId, this::load);
+    }
+
+    /**
+     * @return 두 사용자 사이에 어느 방향이든 차단이 있으면 true
+     */
+    public boolean isBlockedEitherWay(Long userId, Long otherUserId) {
+        return otherUserId != null && of(userId).eitherWay(otherUserId);
+    }
+
+    /**
+     * @return 사용자가 차단한 사용자 ID (SQL NOT IN 파라미터용)
+     */
+    public List<Long> blockingIds(Long userId) {
+        return of(userId).blocking.toList();
+    }
+
+    /**
+     * @return 어느 방향이든 차단 관계에 있는 사용자 ID (SQL NOT IN 파라미터용)
+     */
+    public List<Long> relatedIds(Long userId) {
+        return of(userId).relatedIds();
+    }
+
+    public void invalidate(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        relations.invalidateAll(userIds);
+        if (redisMode) {
+            try {
+                redis.convertAndSend(INVALIDATION_CHANNEL, nodeId + ":" + userIds.stream()
+                        .map(String::valueOf)
+                        .collect(Collectors.joining(",")));
+            } catch (RuntimeException e) {
+                log.warn("차단 그래프 무효화 발행 실패 userIds={}", userIds, e);
+            }
+        }
+    }
+
+    /**
+     * 탈퇴한 사용자와, 이 노드가 알고 있는 그 사용자의 차단 상대를 함께 버립니다.
+     * 다른 노드에만 남은 상대 항목은 이미 없는 사용자 ID 를 하나 더 들고 있을 뿐이라 TTL 로 정리됩니다.
+     */
+    public void invalidateWithRelations(Long userId) {
+        Set<Long> userIds = new LinkedHashSet<>();
+        userIds.add(userId);
+        Relations cached = relations.getIfPresent(userId);
+        if (cached != null) {
+            userIds.addAll(cached.relatedIds());
+        }
+        invalidate(userIds);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator < 0 || body.substring(0, separator).equals(nodeId)) {
+            return;
+        }
+        List<Long> userIds = new ArrayList<>();
+        for (String id : body.substring(separator + 1).split(",")) {
+            if (!id.isEmpty()) {
+                userIds.add(Long.valueOf(id));
+            }
+        }
+        relations.invalidateAll(userIds);
+    }
+
+    private Relations load(Long userId) {
+        List<BlockRepository.BlockEdge> edges = loadTransaction.execute(status -> blockRepository.findEdgesOf(userId));
+        long[] blocking = new long[edges.size()];
+        long[] blockedBy = new long[edges.size()];
+        int blockingCount = 0;
+        int blockedByCount = 0;
+        for (BlockRepository.BlockEdge edge : edges) {
+            if (userId.equals(edge.getUserId())) {
+                blocking[blockingCount++] = edge.getBlockedId();
+            } else {
+                blockedBy[blockedByCount++] = edge.getUserId();
+            }
+        }
+        return new Relations(LongSet.of(blocking, blockingCount), LongSet.of(blockedBy, blockedByCount));
+    }
+
+    /**
+     * 한 사용자의 차단 관계. 적재 후 바뀌지 않으므로 여러 스레드가 그대로 공유합니다.
+     */
+    public static final class Relations {
+        static final Relations EMPTY = new Relations(LongSet.EMPTY, LongSet.EMPTY);
+
+        private final LongSet blocking;
+        private final LongSet blockedBy;
+
+        private Relations(LongSet blocking, LongSet blockedBy) {
+            this.blocking = blocking;
+            this.blockedBy = blockedBy;
+        }
+
+        /** 내가 이 사용자를 차단했는지 */
+        public boolean blocks(long userId) {
+            return blocking.contains(userId);
+        }
+
+        /** 어느 방향이든 차단 관계인지 */
+        public boolean eitherWay(long userId) {
+            return blocking.contains(userId) || blockedBy.contains(userId);
+        }
+
+        public boolean hasBlocking() {
+            return blocking.size() > 0;
+        }
+
+        public boolean isEmpty() {
+            return blocking.size() == 0 && blockedBy.size() == 0;
+        }
+
+        public List<Long> relatedIds() {
+            Set<Long> ids = new LinkedHashSet<>(blocking.toList());
+            ids.addAll(blockedBy.toList());
+            return List.copyOf(ids);
+        }
+    }
+
+    /**
+     * 양의 long 만 담는 불변 해시 집합 (선형 탐사, 0 = 빈 칸). 박싱 없이 배열 하나로 들고 있습니다.
+     */
+    static final class LongSet {
+        static final LongSet EMPTY = new LongSet(new long[0], new long[1]);
+
+        private final long[] values;
+        private final long[] table;
+        private final int mask;
+
+        private LongSet(long[] values, long[] table) {
+            this.values = values;
+            this.table = table;
+            this.mask = table.length - 1;
+        }
+
+        static LongSet of(long[] source, int count) {
+            if (count == 0) {
+                return EMPTY;
+            }
+            long[] values = Arrays.stream(source, 0, count).distinct().toArray();
+            // 적재율 0.5 이하가 되도록 2의 거듭제곱 크기
+            int capacity = Integer.highestOneBit(Math.max(values.length, 1) * 2 - 1) << 1;
+            long[] table = new long[capacity];
+            for (long value : values) {
+                int slot = index(value, capacity - 1);
+                while (table[slot] != 0) {
+                    slot = (slot + 1) & (capacity - 1);
+                }
+                table[slot] = value;
+            }
+            return new LongSet(values, table);
+        }
+
+        boolean contains(long value) {
+            if (values.length == 0 || value <= 0) {
+                return false;
+            }
+            int slot = index(value, mask);
+            while (table[slot] != 0) {
+                if (table[slot] == value) {
+                    return true;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return false;
+        }
+
+        int size() {
+            return values.length;
+        }
+
+        List<Long> toList() {
+            return Arrays.stream(values).boxed().toList();
+        }
+
+        private static int index(long value, int mask) {
+            long h = value * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32)) & mask;
+        }
+    }
+}
@@ -2,14 +2,13 @@ package core.domain.user.service;
 
 import core.domain.user.dto.UserProfileResponse;
 import core.domain.user.entity.User;
-import core.domain.user.repository.BlockRepository;
 import core.domain.user.repository.FollowRepository;
 import core.domain.user.repository.UserRepository;
 import core.global.enums.ErrorCode;
 import core.global.enums.FollowStatus;
 import core.global.enums.ImageType;
 import core.global.exception.BusinessException;
-import core.global.image.repository.ImageRepository;
+import core.global.image.service.ProfileImageResolver;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -31,8 +30,8 @@ import java.util.stream.Collectors;
 public class ContentBasedRecommender {
 
     private final UserRepository userRepository;
-    private final ImageRepository imageRepository;
-    private final BlockRepository blockRepository;
+    private final ProfileImageResolver profileImageResolver;
+    private final BlockGraph blockGraph;
     private final FollowRepository followRepository;
 
     private static final double W_PURPOSE   = 0.35;
@@ -53,7 +52,7 @@ public class ContentBasedRecommender {
 
         List<FollowStatus> statusesToExclude = List.of(FollowStatus.PENDING, FollowStatus.ACCEPTED);
         Set<Long> followingIds = followRepository.findFollowingIdsByUserId(meId, statusesToExclude);
-        Set<Long> blockedIds = blockRepository.findAllBlockedUserIds(meId);
+        List<Long> blockedIds = blockGraph.relatedIds(meId);
 
         Set<Long> excludeIds = new HashSet<>(followingIds);
         excludeIds.addAll(blockedIds);
@@ -77,7 +76,9 @@ public class ContentBasedRecommender {
 
         List<User> chosen = pickGumbelTopK(scored, limit, TEMPERATURE);
 
-        return chosen.stream().map(this::toDto).toList();
+        Map<Long, String> imageKeys = profileImageResolver.resolve(ImageType.USER,
+                chosen.stream().map(User::getId).toList());
+        return chosen.stream().map(u -> toDto(u, imageKeys.get(u.getId()))).toList();
     }
 
 
@@ -169,11 +170,7 @@ public class ContentBasedRecommender {
     private static class Scored<T> { private T item; private double score; }
 
 
-    private UserProfileResponse toDto(User u) {
-        String imageKey = imageRepository.findFirstByImageTypeAndRelatedIdOrderByOrderIndexAsc(ImageType.USER, u.getId())
-                .map(image -> image.getUrl())
-                .orElse(null);
-
+    private UserProfileResponse toDto(User u, String imageKey) {
         return new UserProfileResponse(u,  csvToSet(u.getLanguage()).stream().toList(), csvToSet(u.getHobby()).stream().toList(),imageKey);
     }
 }
\ No newline at end of file
@@ -10,7 +10,7 @@ import core.domain.user.repository.FollowRepository;
 import core.domain.user.repository.UserRepository;
 import core.global.enums.*;
 import core.global.exception.BusinessException;
-import core.global.image.repository.ImageRepository;
+import core.global.image.service.ProfileImageResolver;
 import core.global.metrics.SocialChatMetrics;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
@@ -34,7 +34,7 @@ public class FollowService {
 
     private final UserRepository userRepository;
     private final FollowRepository followRepository;
-    private final ImageRepository imageRepository;
+    private final ProfileImageResolver profileImageResolver;
     private final ApplicationEventPublisher eventPublisher;
     private final SocialChatMetrics socialChatMetrics;
     private final FollowActivityLogRepository followActivityLogRepository;
@@ -88,14 +88,15 @@ public class FollowService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
         List<Follow> follows = followRepository.findAllAcceptedFollowsByUserId(me.getId(), FollowStatus.ACCEPTED);
+        Map<Long, String> imageKeys = profileImageResolver.resolve(ImageType.USER, follows.stream()
+                .map(f -> f.getUser().getId().equals(me.getId()) ? f.getFollowing().getId() : f.getUser().getId())
+                .toList());
 
         return follows.stream()
                 .map(f -> {
                     User target = f.getUser().getId().equals(me.getId()) ? f.getFollowing() : f.getUser();
 
-                    String imageKey = imageRepository.findFirstByImageTypeAndRelatedIdOrderByOrderIndexAsc(ImageType.USER, target.getId())
-                            .map(image -> image.getUrl())
-                            .orElse(null);
+                    String imageKey = imageKeys.get(target.getId());
 
                     List<String> languages = Arrays.stream(
                                     Optional.ofNullable(target.getLanguage()).orElse("")
@@ -334,21 +335,23 @@ public class FollowService {
                     return new BusinessException(ErrorCode.USER_NOT_FOUND);
                 });
 
-        Stream<Follow> followStream;
+        List<Follow> follows;
 
         if (isFollowers) {
-            followStream = followRepository.findByFollowingAndStatus(me, status).stream();
+            follows = followRepository.findByFollowingAndStatus(me, status);
         } else { // false이면 내가 팔로우하는 사람들을 조회
-            followStream = followRepository.findByUserAndStatus(me, status).stream();
+            follows = followRepository.findByUserAndStatus(me, status);
         }
+        Map<Long, String> imageKeys = profileImageResolver.resolve(ImageType.USER, follows.stream()
+                .map(follow -> isFollowers ? follow.getUser().getId() : follow.getFollowing().getId())
+                .toList());
+        Stream<Follow> followStream = follows.stream();
 
         List<FollowDTO> result = followStream
                 .map(follow -> {
                     User targetUser = isFollowers ? follow.getUser() : follow.getFollowing();
 
-                    String imageKey = imageRepository.findFirstByImageTypeAndRelatedIdOrderByOrderIndexAsc(ImageType.USER, targetUser.getId())
-                            .map(image -> image.getUrl())
-                            .orElse(null);
+                    String imageKey = imageKeys.get(targetUser.getId());
                     List<String> languages = (targetUser.getLanguage() != null && !targetUser.getLanguage().isBlank())
                             ? Arrays.stream(targetUser.getLanguage().split(","))
                             .map(String::trim)
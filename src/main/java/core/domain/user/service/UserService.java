@@ -5,7 +5,9 @@ import core.domain.bookmark.repository.BookmarkRepository;
 import core.domain.chat.dto.ChatUserProfileResponse;
 import core.domain.chat.entity.ChatParticipant;
 import core.domain.chat.entity.ChatRoom;
+import core.domain.chat.event.ChatMessagesDeletedEvent;
 import core.domain.chat.repository.ChatMessageRepository;
+import core.domain.chat.repository.ChatMessageTranslationRepository;
 import core.domain.chat.repository.ChatParticipantRepository;
 import core.domain.chat.repository.ChatRoomRepository;
 import core.domain.comment.repository.CommentRepository;
@@ -16,6 +18,7 @@ import core.domain.post.repository.BlockPostRepository;
 import core.domain.post.repository.PostRepository;
 import core.domain.user.dto.*;
 import core.domain.user.entity.User;
+import core.domain.user.event.UserNameChangedEvent;
 import core.domain.user.repository.BlockRepository;
 import core.domain.user.repository.FollowRepository;
 import core.domain.user.repository.UserRepository;
@@ -27,9 +30,9 @@ import core.global.enums.ErrorCode;
 import core.global.enums.ImageType;
 import core.global.enums.Ouathplatform;
 import core.global.exception.BusinessException;
-import core.global.image.entity.Image;
 import core.global.image.repository.ImageRepository;
 import core.global.image.service.ImageService;
+import core.global.image.service.ProfileImageResolver;
 import core.global.like.repository.LikeRepository;
 import core.global.service.AppleWithdrawalService;
 import core.global.service.RedisService;
@@ -89,9 +92,11 @@ public class UserService {
     private final CommentRepository commentRepository;
     private final BookmarkRepository bookmarkRepository;
     private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageTranslationRepository chatMessageTranslationRepository;
     private final ChatParticipantRepository chatParticipantRepository;
     private final PostRepository postRepository;
     private final ImageRepository imageRepository;
+    private final ProfileImageResolver profileImageResolver;
     private final FollowRepository followRepository;
     private final LikeRepository likeRepository;
     private final AppleWithdrawalService appleWithdrawalService;
@@ -167,6 +172,7 @@ public class UserService {
             }
             if (isUpdated) {
                 userRepository.save(user);
+                eventPublisher.publishEvent(new UserNameChangedEvent(user.getId()));
             }
         }
     }
@@ -196,6 +202,9 @@ public class UserService {
             if (notBlank(dto.lastname())) {
                 user.updateLastName(dto.lastname().trim());
             }
+            if (notBlank(dto.firstname()) || notBlank(dto.lastname())) {
+                eventPublisher.publishEvent(new UserNameChangedEvent(user.getId()));
+            }
         }
         if (dto.gender() != null) {
             user.updateSex(dto.gender());
@@ -508,6 +517,9 @@ public class UserService {
 
         if (notBlank(dto.firstname())) user.updateFirstName(dto.firstname().trim());
         if (notBlank(dto.lastname())) user.updateLastName(dto.lastname().trim());
+        if (notBlank(dto.firstname()) || notBlank(dto.lastname())) {
+            eventPublisher.publishEvent(new UserNameChangedEvent(user.getId()));
+        }
         if (dto.gender() != null) user.updateGender(dto.gender());
         if (dto.birthday() != null) user.updateBirthdate(dto.birthday());
         if (notBlank(dto.country())) user.updateCountry(dto.country().trim());
@@ -766,7 +778,10 @@ public class UserService {
         imageService.deleteUserProfileImage(userId);
         blockRepository.deleteAllByUserOrBlocked(user);
         chatParticipantRepository.deleteAllByUserId(userId);
+        chatMessageTranslationRepository.deleteAllBySenderId(userId);
         chatMessageRepository.deleteAllBySenderId(userId);
+        chatMessageRepository.deleteArchivedBySenderId(userId);
+        eventPublisher.publishEvent(ChatMessagesDeletedEvent.allRooms());
         userNotificationSettingRepository.deleteAllByUserId(userId);
         notificationRepository.deleteAllByUserId(userId);
         userDeviceTokenRepository.deleteAllByUserId(userId);
@@ -795,10 +810,7 @@ public class UserService {
         }
         List<User> users = userRepository.findAllById(userIds);
         List<Long> foundUserIds = users.stream().map(User::getId).toList();
-        Map<Long, String> imageUrlsMap = imageRepository
-                .findAllPrimaryImagesForUsers(ImageType.USER, foundUserIds)
-                .stream()
-                .collect(Collectors.toMap(Image::getRelatedId, Image::getUrl, (first, second) -> first));
+        Map<Long, String> imageUrlsMap = profileImageResolver.resolve(ImageType.USER, foundUserIds);
         return users.stream()
                 .map(user -> {
                     String imageUrl = imageUrlsMap.get(user.getId());
@@ -812,10 +824,12 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
-        Image image = imageRepository.findFirstByImageTypeAndRelatedIdOrderByOrderIndexAsc(ImageType.USER, userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.IMAGE_NOT_FOUND));
+        String imageUrl = profileImageResolver.resolve(ImageType.USER, userId);
+        if (imageUrl == null) {
+            throw new BusinessException(ErrorCode.IMAGE_NOT_FOUND);
+        }
 
-        return ChatUserProfileResponse.from(user, image.getUrl());
+        return ChatUserProfileResponse.from(user, imageUrl);
     }
 
     /**
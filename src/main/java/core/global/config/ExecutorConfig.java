@@ -22,4 +22,34 @@ public class ExecutorConfig {
 //        ExecutorServiceMetrics.monitor(registry, exec.getThreadPoolExecutor(), "dispatch");
         return exec;
     }
+
+    /**
+     * 채팅 메시지 언어별 번역 병렬 호출용. STOMP 인바운드 스레드가 번역 API 응답을 기다리지 않도록 분리합니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor translationExecutor() {
+        ThreadPoolTaskExecutor exec = new ThreadPoolTaskExecutor();
+        exec.setCorePoolSize(8);
+        exec.setMaxPoolSize(32);
+        exec.setQueueCapacity(500);
+        exec.setKeepAliveSeconds(60);
+        exec.setThreadNamePrefix("translate-");
+        exec.initialize();
+        return exec;
+    }
+
+    /**
+     * 번역 배치 RPC 전송용. 배치 결과를 기다리는 translationExecutor 스레드와 분리해 서로 막히지 않도록 합니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor translationBatchExecutor() {
+        ThreadPoolTaskExecutor exec = new ThreadPoolTaskExecutor();
+        exec.setCorePoolSize(8);
+        exec.setMaxPoolSize(16);
+        exec.setQueueCapacity(1000);
+        exec.setKeepAliveSeconds(60);
+        exec.setThreadNamePrefix("translate-rpc-");
+        exec.initialize();
+        return exec;
+    }
 }
@@ -1,5 +1,6 @@
 package core.global.config;
 
+import core.global.service.RelayChannels;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -29,9 +30,12 @@ public class RedisConfig {
         return new LettuceConnectionFactory(redisConfiguration);
     }
 
+    /**
+     * 사용자/방으로 나눌 수 없는 STOMP 목적지용 릴레이 채널 (모든 노드가 구독)
+     */
     @Bean
     public ChannelTopic chatTopic() {
-        return new ChannelTopic("chat-messages");
+        return new ChannelTopic(RelayChannels.BROADCAST);
     }
 
     @Bean
@@ -0,0 +1,156 @@
+package core.global.config;
+
+import core.global.service.ChatMessageRelay;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 방 브로드캐스트 토픽(/topic/rooms/{roomId}/...) 전달 필터 (clientOutboundChannel).
+ * 구독 시점에 {@link StompChannelInterceptor} 가 세션 → 사용자를 등록해 두고,
+ * 메시지에 붙은 제외 대상 헤더에 그 사용자가 있으면 해당 세션으로는 보내지 않습니다.
+ * 제외 헤더는 다른 참여자에게 노출되지 않도록 전달 전에 제거합니다.
+ * <p>
+ * 세션마다 구독을 허용한 방도 기억해 두고, 방을 나간 사용자({@link #revoke})의 세션으로는 그 방 토픽 메시지를 보내지 않습니다.
+ * 나간 사용자의 세션이 다른 노드에 있을 수 있으므로 redis 모드에서는 해제를 모든 노드에 알립니다.
+ */
+@Slf4j
+@Component
+public class RoomBroadcastFilter implements ChannelInterceptor, MessageListener {
+
+    static final String REVOKE_CHANNEL = "chat:room-subscriptions:revoke";
+    private static final Pattern ROOM_TOPIC = Pattern.compile("^/topic/rooms/(\\d+)/.+$");
+
+    private final StringRedisTemplate redis;
+    private final boolean redisMode;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, Long> userIdBySessionId = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> roomIdsBySessionId = new ConcurrentHashMap<>();
+
+    public RoomBroadcastFilter(StringRedisTemplate redis,
+                               RedisMessageListenerContainer container,
+                               @Value("${app.chat.room-subscriptions.revocation:${app.chat.relay.mode:local}}") String revocationMode) {
+        this.redis = redis;
+        this.redisMode = "redis".equalsIgnoreCase(revocationMode);
+        if (redisMode) {
+            container.addMessageListener(this, new ChannelTopic(REVOKE_CHANNEL));
+        }
+    }
+
+    /**
+     * @return 방 브로드캐스트 토픽이면 roomId, 아니면 null
+     */
+    public static Long roomIdOf(String destination) {
+        if (destination == null) {
+            return null;
+        }
+        Matcher matcher = ROOM_TOPIC.matcher(destination);
+        return matcher.matches() ? Long.valueOf(matcher.group(1)) : null;
+    }
+
+    /**
+     * 방 토픽 구독을 허용한 세션을 등록합니다.
+     */
+    public void register(String sessionId, Long userId, Long roomId) {
+        userIdBySessionId.put(sessionId, userId);
+        roomIdsBySessionId.computeIfAbsent(sessionId, id -> ConcurrentHashMap.newKeySet()).add(roomId);
+    }
+
+    /**
+     * 방을 나간 사용자의 세션에서 그 방 구독 허용을 뺍니다. redis 모드에서는 다른 노드에도 알립니다.
+     */
+    public void revoke(Long roomId, Long userId) {
+        revokeLocal(roomId, userId);
+        if (!redisMode) {
+            return;
+        }
+        try {
+            redis.convertAndSend(REVOKE_CHANNEL, nodeId + ":" + roomId + ":" + userId);
+        } catch (RuntimeException e) {
+            log.warn("방 토픽 구독 해제 발행 실패 roomId={}, userId={}", roomId, userId, e);
+        }
+    }
+
+    @Override
+    public void onMessage(org.springframework.data.redis.connection.Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(":");
+        if (parts.length != 3 || parts[0].equals(nodeId)) {
+            return;
+        }
+        revokeLocal(Long.valueOf(parts[1]), Long.valueOf(parts[2]));
+    }
+
+    /** 나가기는 드물므로 세션을 훑습니다. */
+    private void revokeLocal(Long roomId, Long userId) {
+        userIdBySessionId.forEach((sessionId, sessionUserId) -> {
+            if (sessionUserId.equals(userId)) {
+                Set<Long> roomIds = roomIdsBySessionId.get(sessionId);
+                if (roomIds != null) {
+                    roomIds.remove(roomId);
+                }
+            }
+        });
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        userIdBySessionId.remove(event.getSessionId());
+        roomIdsBySessionId.remove(event.getSessionId());
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        if (accessor.getMessageType() != SimpMessageType.MESSAGE) {
+            return message;
+        }
+        Long roomId = roomIdOf(accessor.getDestination());
+        if (roomId != null) {
+            Set<Long> roomIds = roomIdsBySessionId.get(accessor.getSessionId());
+            if (roomIds != null && !roomIds.contains(roomId)) {
+                return null;
+            }
+        }
+        String excluded = accessor.getFirstNativeHeader(ChatMessageRelay.EXCLUDED_USERS_HEADER);
+        if (excluded == null) {
+            return message;
+        }
+
+        Long userId = userIdBySessionId.get(accessor.getSessionId());
+        if (userId != null && isExcluded(excluded, userId)) {
+            return null;
+        }
+        accessor.removeNativeHeader(ChatMessageRelay.EXCLUDED_USERS_HEADER);
+        return MessageBuilder.createMessage(message.getPayload(), accessor.getMessageHeaders());
+    }
+
+    private static boolean isExcluded(String excluded, Long userId) {
+        String id = String.valueOf(userId);
+        for (String candidate : excluded.split(",")) {
+            if (candidate.equals(id)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,7 +1,6 @@
 package core.global.config;
 
 import core.global.metrics.ActiveUserRecordFilter;
-import core.global.metrics.PresenceActivityFilter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
@@ -29,7 +28,6 @@ public class SecurityConfig {
     private final JwtTokenFilter jwtTokenFilter;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final ActiveUserRecordFilter activeUserRecordFilter;
-    private final PresenceActivityFilter presenceActivityFilter;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -78,7 +76,6 @@ public class SecurityConfig {
                 );
         http.addFilterBefore(jwtTokenFilter, UsernamePasswordAuthenticationFilter.class);
         http.addFilterAfter(activeUserRecordFilter, UsernamePasswordAuthenticationFilter.class);
-        http.addFilterAfter(presenceActivityFilter, UsernamePasswordAuthenticationFilter.class);
         return http.build();
     }
 
@@ -1,8 +1,11 @@
 package core.global.config;
 
+import core.domain.chat.repository.ChatParticipantRepository;
 import core.domain.user.service.UserActivityService;
+import core.global.enums.ChatParticipantStatus;
 import core.global.enums.ErrorCode;
 import core.global.metrics.ChatRoomDwellRecorder;
+import core.global.service.PresenceRegistry;
 import core.global.service.RedisService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,6 +32,9 @@ public class StompChannelInterceptor implements ChannelInterceptor {
     private final RedisService redisService;
     private final UserActivityService userActivityService;
     private final ChatRoomDwellRecorder dwell;
+    private final ChatParticipantRepository chatParticipantRepository;
+    private final RoomBroadcastFilter roomBroadcastFilter;
+    private final PresenceRegistry presenceRegistry;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -69,6 +75,7 @@ public class StompChannelInterceptor implements ChannelInterceptor {
                     String userEmail = auth.getName();
                     userActivityService.updateLastSeenAt(userEmail);
                 }
+                presenceRegistry.connect(accessor.getSessionId(), userId);
 
                 // 필요 시 accessor.setUser(auth) 유지
                 log.info("STOMP JWT 인증 완료: WebSocket 세션에 사용자 정보 등록 (userId: {})", userId);
@@ -93,9 +100,17 @@ public class StompChannelInterceptor implements ChannelInterceptor {
                 dwell.onEnter(sessionId, roomId);
             }
 
+            if (auth != null && StompCommand.SUBSCRIBE.equals(accessor.getCommand())
+                    && !authorizeRoomBroadcast(accessor, (Long) sessionAttributes.get("userId"))) {
+                return null;
+            }
+
             if (auth != null) {
                 SecurityContextHolder.getContext().setAuthentication(auth);
                 log.debug("STOMP AUTHORIZED: SecurityContextHolder에 인증 정보 설정 완료, command={}", accessor.getCommand());
+                if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+                    presenceRegistry.subscribe(accessor.getSessionId(), accessor.getSubscriptionId(), accessor.getDestination());
+                }
             } else {
                 log.warn("STOMP UNAUTHORIZED: WebSocket 세션에 인증 정보가 없습니다, command={}", accessor.getCommand());
                 return null; // 인증 없으면 차단
@@ -114,13 +129,36 @@ public class StompChannelInterceptor implements ChannelInterceptor {
                     dwell.onLeave(accessor.getSessionId());
                 }
             }
+            presenceRegistry.disconnect(accessor.getSessionId());
         } else if (StompCommand.UNSUBSCRIBE.equals(accessor.getCommand())) {
             dwell.onLeave(accessor.getSessionId());
+            presenceRegistry.unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
         }
 
         return message;
     }
 
+    /**
+     * 방 브로드캐스트 토픽은 방 참여자만 구독할 수 있습니다.
+     * 허용한 세션은 {@link RoomBroadcastFilter} 에 등록해 차단 관계인 발신자의 메시지를 걸러내고,
+     * 구독한 뒤 방을 나가면 그 방 토픽 메시지도 걸러냅니다.
+     */
+    private boolean authorizeRoomBroadcast(StompHeaderAccessor accessor, Long userId) {
+        Long roomId = RoomBroadcastFilter.roomIdOf(accessor.getDestination());
+        if (roomId == null) {
+            return true;
+        }
+        boolean participant = userId != null && chatParticipantRepository
+                .findByChatRoomIdAndUserIdAndStatusIsNot(roomId, userId, ChatParticipantStatus.LEFT)
+                .isPresent();
+        if (!participant) {
+            log.warn("STOMP 방 토픽 구독 거부: 참여자가 아님, userId={}, destination={}", userId, accessor.getDestination());
+            return false;
+        }
+        roomBroadcastFilter.register(accessor.getSessionId(), userId, roomId);
+        return true;
+    }
+
     // 유틸: roomId만 뽑기 (컨트롤러가 사용 중인 topic 경로에 맞춤)
     private String parseRoomId(String dest) {
         if (dest == null) return "unknown";
@@ -0,0 +1,111 @@
+package core.global.config;
+
+import core.global.metrics.StompChannelMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 세션별 SEND 속도 제한 (clientInboundChannel).
+ * {@code @MessageMapping} 목적지마다 토큰 버킷을 두고, 토큰이 없으면 프레임을 버립니다.
+ * 따로 정하지 않은 /app 목적지는 기본 한도를 함께 씁니다.
+ */
+@Slf4j
+@Component
+public class StompRateLimitInterceptor implements ChannelInterceptor {
+
+    static final String DEFAULT_KEY = "default";
+    private static final String APP_PREFIX = "/app/";
+
+    private final StompChannelMetrics metrics;
+    private final Map<String, Limit> limitByDestination;
+    private final Limit defaultLimit;
+    private final Map<String, Map<String, TokenBucket>> bucketsBySessionId = new ConcurrentHashMap<>();
+
+    public StompRateLimitInterceptor(StompChannelMetrics metrics,
+                                     @Value("${app.websocket.rate-limit.send-message.per-second:5}") double sendMessageRate,
+                                     @Value("${app.websocket.rate-limit.send-message.burst:10}") int sendMessageBurst,
+                                     @Value("${app.websocket.rate-limit.send-media.per-second:1}") double sendMediaRate,
+                                     @Value("${app.websocket.rate-limit.send-media.burst:3}") int sendMediaBurst,
+                                     @Value("${app.websocket.rate-limit.typing.per-second:2}") double typingRate,
+                                     @Value("${app.websocket.rate-limit.typing.burst:4}") int typingBurst,
+                                     @Value("${app.websocket.rate-limit.default.per-second:10}") double defaultRate,
+                                     @Value("${app.websocket.rate-limit.default.burst:20}") int defaultBurst) {
+        this.metrics = metrics;
+        this.limitByDestination = Map.of(
+                "/app/chat.sendMessage", new Limit(sendMessageRate, sendMessageBurst),
+                "/app/chat.sendMedia", new Limit(sendMediaRate, sendMediaBurst),
+                "/app/chat.typing", new Limit(typingRate, typingBurst)
+        );
+        this.defaultLimit = new Limit(defaultRate, defaultBurst);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        String destination = accessor.getDestination();
+        String sessionId = accessor.getSessionId();
+        if (!StompCommand.SEND.equals(accessor.getCommand()) || sessionId == null
+                || destination == null || !destination.startsWith(APP_PREFIX)) {
+            return message;
+        }
+
+        String key = limitByDestination.containsKey(destination) ? destination : DEFAULT_KEY;
+        Limit limit = limitByDestination.getOrDefault(destination, defaultLimit);
+        TokenBucket bucket = bucketsBySessionId
+                .computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>())
+                .computeIfAbsent(key, k -> new TokenBucket(limit, System.nanoTime()));
+        if (!bucket.tryAcquire(System.nanoTime())) {
+            metrics.recordRejected(key);
+            log.debug("STOMP 속도 제한으로 프레임을 버립니다. sessionId={}, destination={}", sessionId, destination);
+            return null;
+        }
+        return message;
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        bucketsBySessionId.remove(event.getSessionId());
+    }
+
+    /**
+     * @param permitsPerSecond 초당 채워지는 토큰 수
+     * @param burst            버킷 크기 (연속으로 보낼 수 있는 최대 프레임 수)
+     */
+    record Limit(double permitsPerSecond, int burst) {
+    }
+
+    static final class TokenBucket {
+
+        private final Limit limit;
+        private double tokens;
+        private long refilledAtNanos;
+
+        TokenBucket(Limit limit, long nowNanos) {
+            this.limit = limit;
+            this.tokens = limit.burst();
+            this.refilledAtNanos = nowNanos;
+        }
+
+        synchronized boolean tryAcquire(long nowNanos) {
+            double elapsedSeconds = (nowNanos - refilledAtNanos) / 1_000_000_000.0;
+            tokens = Math.min(limit.burst(), tokens + elapsedSeconds * limit.permitsPerSecond());
+            refilledAtNanos = nowNanos;
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+    }
+}
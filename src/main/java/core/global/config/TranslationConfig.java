@@ -0,0 +1,22 @@
+package core.global.config;
+
+import com.google.cloud.translate.v3.TranslationServiceClient;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+
+import java.io.IOException;
+
+@Configuration
+public class TranslationConfig {
+
+    /**
+     * Google 번역 클라이언트는 gRPC 채널을 들고 있어 생성 비용이 크므로 하나만 만들어 재사용합니다.
+     * 자격 증명이 없는 로컬 환경에서도 기동되도록 첫 번역 호출 시점에 생성합니다.
+     */
+    @Bean(destroyMethod = "close")
+    @Lazy
+    public TranslationServiceClient translationServiceClient() throws IOException {
+        return TranslationServiceClient.create();
+    }
+}
@@ -1,32 +1,126 @@
 package core.global.config;
 
+import core.global.metrics.StompChannelMetrics;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
 import org.springframework.web.socket.server.support.HttpSessionHandshakeInterceptor;
 
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * STOMP 엔드포인트/브로커 설정.
+ * inbound/outbound 채널이 스레드 풀이라 그대로 두면 같은 세션의 프레임이 서로 다른 스레드에서 처리되어
+ * 순서가 뒤바뀔 수 있으므로, 받는 쪽(preserveReceiveOrder)과 보내는 쪽(preservePublishOrder) 모두 세션 단위 순서를 지킵니다.
+ * 대가로 한 세션의 프레임은 앞 프레임이 끝나야 다음 프레임이 풀에 올라가므로, 세션 하나의 처리량은 스레드 하나로 제한되고
+ * 느린 프레임 하나가 그 세션의 뒤 프레임을 지연시킵니다. 여러 세션 사이의 병렬성은 그대로입니다.
+ */
 @Configuration
 @EnableWebSocketMessageBroker
 @Slf4j
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final StompChannelInterceptor stompChannelInterceptor;
+    private final RoomBroadcastFilter roomBroadcastFilter;
+    private final StompRateLimitInterceptor stompRateLimitInterceptor;
+    private final StompChannelMetrics stompChannelMetrics;
+
+    @Value("${app.websocket.inbound.core-pool-size:8}")
+    private int inboundCorePoolSize;
+    @Value("${app.websocket.inbound.max-pool-size:32}")
+    private int inboundMaxPoolSize;
+    @Value("${app.websocket.inbound.queue-capacity:1000}")
+    private int inboundQueueCapacity;
+    @Value("${app.websocket.outbound.core-pool-size:8}")
+    private int outboundCorePoolSize;
+    @Value("${app.websocket.outbound.max-pool-size:32}")
+    private int outboundMaxPoolSize;
+    @Value("${app.websocket.outbound.queue-capacity:2000}")
+    private int outboundQueueCapacity;
+    @Value("${app.websocket.send-time-limit-ms:5000}")
+    private int sendTimeLimitMillis;
+    @Value("${app.websocket.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+    @Value("${app.websocket.message-size-limit:65536}")
+    private int messageSizeLimit;
 
-    public WebSocketConfig(StompChannelInterceptor stompChannelInterceptor) {
+    public WebSocketConfig(StompChannelInterceptor stompChannelInterceptor,
+                           RoomBroadcastFilter roomBroadcastFilter,
+                           StompRateLimitInterceptor stompRateLimitInterceptor,
+                           StompChannelMetrics stompChannelMetrics) {
         this.stompChannelInterceptor = stompChannelInterceptor;
+        this.roomBroadcastFilter = roomBroadcastFilter;
+        this.stompRateLimitInterceptor = stompRateLimitInterceptor;
+        this.stompChannelMetrics = stompChannelMetrics;
     }
 
+    /**
+     * 속도 제한을 인증보다 먼저 두어 과도한 프레임은 인증/DB 조회 전에 버립니다.
+     */
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.interceptors(stompChannelInterceptor);
+        registration.taskExecutor(channelExecutor("inbound",
+                inboundCorePoolSize, inboundMaxPoolSize, inboundQueueCapacity));
+        registration.interceptors(stompRateLimitInterceptor, stompChannelInterceptor);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor(channelExecutor("outbound",
+                outboundCorePoolSize, outboundMaxPoolSize, outboundQueueCapacity));
+        registration.interceptors(roomBroadcastFilter);
+    }
+
+    /**
+     * 큐가 가득 차고 스레드도 최대이면 호출 스레드에서 실행합니다.
+     * 인바운드는 소켓을 읽는 스레드가 느려져 클라이언트 쪽으로 역압이 걸리고, 프레임은 버리지 않습니다.
+     */
+    private ThreadPoolTaskExecutor channelExecutor(String channel, int corePoolSize, int maxPoolSize, int queueCapacity) {
+        ThreadPoolTaskExecutor exec = new ThreadPoolTaskExecutor();
+        exec.setCorePoolSize(corePoolSize);
+        exec.setMaxPoolSize(maxPoolSize);
+        exec.setQueueCapacity(queueCapacity);
+        exec.setKeepAliveSeconds(60);
+        exec.setThreadNamePrefix("stomp-" + channel + "-");
+        exec.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        stompChannelMetrics.bindExecutor(channel, exec);
+        return exec;
+    }
+
+    /**
+     * 세션별 전송 버퍼/전송 시간 한도. 넘기면 Spring 이 해당 세션을 끊으므로(SESSION_NOT_RELIABLE)
+     * 느린 클라이언트 하나가 outbound 스레드를 붙잡지 않습니다.
+     */
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMillis)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit)
+                .addDecoratorFactory(handler -> new WebSocketHandlerDecorator(handler) {
+                    @Override
+                    public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                        if (closeStatus.getCode() == CloseStatus.SESSION_NOT_RELIABLE.getCode()) {
+                            stompChannelMetrics.recordSlowSessionDisconnect();
+                            log.warn("느린 WebSocket 세션을 끊었습니다. sessionId={}", session.getId());
+                        }
+                        super.afterConnectionClosed(session, closeStatus);
+                    }
+                });
     }
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.setPreserveReceiveOrder(true);
         registry.addEndpoint("/ws")
                 .setAllowedOriginPatterns("*")
                 .addInterceptors(new HttpSessionHandshakeInterceptor() {
@@ -45,6 +139,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         config.enableSimpleBroker("/topic");
+        config.setPreservePublishOrder(true);
         config.setApplicationDestinationPrefixes("/app");
     }
 }
@@ -0,0 +1,9 @@
+package core.global.image.event;
+
+import core.global.enums.ImageType;
+
+/**
+ * 사용자/채팅방 프로필 이미지가 바뀌거나 삭제되었을 때 발행합니다.
+ */
+public record ProfileImageChangedEvent(ImageType imageType, Long relatedId) {
+}
@@ -0,0 +1,23 @@
+package core.global.image.listener;
+
+import core.global.image.event.ProfileImageChangedEvent;
+import core.global.image.service.ProfileImageResolver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커밋된 프로필 이미지 변경만 조회 캐시에 반영합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProfileImageCacheListener {
+
+    private final ProfileImageResolver profileImageResolver;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onChanged(ProfileImageChangedEvent e) {
+        profileImageResolver.invalidate(e.imageType(), e.relatedId());
+    }
+}
@@ -47,6 +47,19 @@ public interface ImageRepository extends JpaRepository<Image, Long> {
     List<Object[]> findAllUrlsByRelatedIds(@Param("imageType") ImageType imageType,
                                            @Param("relatedIds") List<Long> relatedIds);
 
+    /**
+     * 프로필 이미지 일괄 조회용. 관련 ID 별로 order_index 가 가장 작은 이미지가 먼저 오도록 정렬합니다.
+     */
+    @Query("""
+        select i.relatedId, i.url
+        from Image i
+        where i.imageType = :imageType
+          and i.relatedId in :relatedIds
+        order by i.relatedId asc, i.orderIndex asc, i.id asc
+    """)
+    List<Object[]> findOrderedUrlsByRelatedIds(@Param("imageType") ImageType imageType,
+                                               @Param("relatedIds") Collection<Long> relatedIds);
+
     @Query("select i from Image i " +
            "where i.imageType = :type and i.relatedId = :relatedId " +
            "order by i.orderIndex asc")
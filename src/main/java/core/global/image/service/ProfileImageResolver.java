@@ -0,0 +1,157 @@
+package core.global.image.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import core.global.enums.ImageType;
+import core.global.image.repository.ImageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자/채팅방 프로필 이미지(첫 번째 이미지) URL 을 한꺼번에 찾아 주는 조회기.
+ * 메시지/참여자/채팅방 목록처럼 항목마다 이미지를 붙이는 화면이 페이지당 한 번(이미지 타입별 한 번)만 조회하도록 합니다.
+ * <p>
+ * 결과는 Caffeine 에 보관하고, 이미지가 없다는 결과도 함께 보관합니다.
+ * 프로필 이미지 변경/삭제가 커밋되면 해당 항목을 버리고, redis 모드에서는 다른 노드에도 알립니다.
+ */
+@Slf4j
+@Component
+public class ProfileImageResolver implements MessageListener {
+
+    static final String INVALIDATION_CHANNEL = "profile-image:invalidate";
+    /** 이미지가 없다는 결과 */
+    private static final String NONE = "";
+
+    private final ImageRepository imageRepository;
+    private final TransactionTemplate loadTransaction;
+    private final StringRedisTemplate redis;
+    private final Cache<Key, String> urls;
+    private final boolean redisMode;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public ProfileImageResolver(ImageRepository imageRepository,
+                                PlatformTransactionManager transactionManager,
+                                StringRedisTemplate redis,
+                                RedisMessageListenerContainer container,
+                                @Value("${app.profile-image.max-entries:100000}") long maxEntries,
+                                @Value("${app.profile-image.ttl-minutes:30}") long ttlMinutes,
+                                @Value("${app.profile-image.invalidation:${app.chat.relay.mode:local}}") String invalidationMode) {
+        this.imageRepository = imageRepository;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+        this.redis = redis;
+        this.urls = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+        this.redisMode = "redis".equalsIgnoreCase(invalidationMode);
+        if (redisMode) {
+            container.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+        }
+    }
+
+    public record Key(ImageType type, Long relatedId) {
+        public static Key user(Long userId) {
+            return new Key(ImageType.USER, userId);
+        }
+
+        public static Key chatRoom(Long roomId) {
+            return new Key(ImageType.CHAT_ROOM, roomId);
+        }
+    }
+
+    /**
+     * @return 이미지가 있는 키만 담은 맵. 캐시에 없는 키는 이미지 타입별로 한 번에 조회합니다.
+     */
+    public Map<Key, String> resolve(Collection<Key> keys) {
+        Set<Key> distinct = keys.stream()
+                .filter(key -> key.relatedId() != null)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (distinct.isEmpty()) {
+            return Map.of();
+        }
+        Map<Key, String> found = new HashMap<>();
+        urls.getAll(distinct, this::load).forEach((key, url) -> {
+            if (!NONE.equals(url)) {
+                found.put(key, url);
+            }
+        });
+        return found;
+    }
+
+    /**
+     * @return 관련 ID → 첫 번째 이미지 URL. 이미지가 없는 ID 는 빠집니다.
+     */
+    public Map<Long, String> resolve(ImageType type, Collection<Long> relatedIds) {
+        Map<Long, String> byId = new HashMap<>();
+        resolve(relatedIds.stream().map(id -> new Key(type, id)).toList())
+                .forEach((key, url) -> byId.put(key.relatedId(), url));
+        return byId;
+    }
+
+    /**
+     * @return 첫 번째 이미지 URL, 없으면 null
+     */
+    public String resolve(ImageType type, Long relatedId) {
+        return resolve(List.of(new Key(type, relatedId))).get(new Key(type, relatedId));
+    }
+
+    public void invalidate(ImageType type, Long relatedId) {
+        urls.invalidate(new Key(type, relatedId));
+        if (redisMode) {
+            try {
+                redis.convertAndSend(INVALIDATION_CHANNEL, nodeId + ":" + type.name() + ":" + relatedId);
+            } catch (RuntimeException e) {
+                log.warn("프로필 이미지 캐시 무효화 발행 실패 type={} relatedId={}", type, relatedId, e);
+            }
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(":");
+        if (parts.length != 3 || parts[0].equals(nodeId)) {
+            return;
+        }
+        urls.invalidate(new Key(ImageType.valueOf(parts[1]), Long.valueOf(parts[2])));
+    }
+
+    /**
+     * 호출자의 트랜잭션과 분리된 읽기 전용 트랜잭션에서 조회하므로 커밋된 이미지만 캐시에 들어갑니다.
+     */
+    private Map<Key, String> load(Set<? extends Key> keys) {
+        Map<ImageType, List<Long>> idsByType = keys.stream()
+                .collect(Collectors.groupingBy(Key::type, Collectors.mapping(Key::relatedId, Collectors.toList())));
+
+        Map<Key, String> loaded = new HashMap<>();
+        loadTransaction.executeWithoutResult(status -> idsByType.forEach((type, ids) -> {
+            // 관련 ID 별로 order_index 가 가장 작은 이미지가 먼저 옵니다.
+            for (Object[] row : imageRepository.findOrderedUrlsByRelatedIds(type, ids)) {
+                loaded.putIfAbsent(new Key(type, (Long) row[0]), (String) row[1]);
+            }
+        }));
+        keys.forEach(key -> loaded.putIfAbsent(key, NONE));
+        return loaded;
+    }
+}
@@ -7,13 +7,16 @@ import core.global.image.dto.ImageDto;
 import core.global.image.dto.PresignedUrlRequest;
 import core.global.image.dto.PresignedUrlResponse;
 import core.global.image.entity.Image;
+import core.global.image.event.ProfileImageChangedEvent;
 import core.global.image.repository.ImageRepository;
 import core.global.image.service.ImageService;
+import core.global.image.service.ProfileImageResolver;
 import core.global.image.utils.UrlUtil;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import software.amazon.awssdk.core.exception.SdkException;
@@ -36,6 +39,8 @@ public class ImageServiceImpl implements ImageService {
     private final S3Presigner s3Presigner;
     private final S3Client s3Client;
     private final ImageRepository imageRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProfileImageResolver profileImageResolver;
 
     @Value("${ncp.s3.bucket}")
     private String bucket;
@@ -456,6 +461,7 @@ public class ImageServiceImpl implements ImageService {
         // 10) 저장
         String finalUrl = UrlUtil.buildCdnUrlFromKey(cdnBaseUrl, finalKey);
         imageRepository.save(Image.of(ImageType.USER, userId, finalUrl, 0));
+        eventPublisher.publishEvent(new ProfileImageChangedEvent(ImageType.USER, userId));
 
         // 11) 종료
         return finalUrl;
@@ -469,6 +475,7 @@ public class ImageServiceImpl implements ImageService {
     public void deleteUserProfileImage(Long userId) {
 
         imageRepository.deleteByImageTypeAndRelatedId(ImageType.USER, userId);
+        eventPublisher.publishEvent(new ProfileImageChangedEvent(ImageType.USER, userId));
         String folder = "users/%d/".formatted(userId);
         try {
             // 같은 클래스 내에 deleteFolder가 있다면 그대로 호출
@@ -540,6 +547,7 @@ public class ImageServiceImpl implements ImageService {
 
         String finalUrl = UrlUtil.buildCdnUrlFromKey(cdnBaseUrl, finalKey);
         imageRepository.save(Image.of(ImageType.CHAT_ROOM, chatRoomId, finalUrl, 0));
+        eventPublisher.publishEvent(new ProfileImageChangedEvent(ImageType.CHAT_ROOM, chatRoomId));
         return finalUrl;
     }
 
@@ -557,14 +565,12 @@ public class ImageServiceImpl implements ImageService {
         }
 
         imageRepository.deleteByImageTypeAndRelatedId(ImageType.CHAT_ROOM, chatRoomId);
+        eventPublisher.publishEvent(new ProfileImageChangedEvent(ImageType.CHAT_ROOM, chatRoomId));
     }
 
     @Override
     public String getUserProfileKey(Long userId) {
-        return imageRepository
-                .findFirstByImageTypeAndRelatedIdOrderByOrderIndexAsc(ImageType.USER, userId)
-                .map(Image::getUrl)
-                .orElse(null);
+        return profileImageResolver.resolve(ImageType.USER, userId);
     }
 
     private boolean isDefaultUrlOrKey(String keyOrUrl) {
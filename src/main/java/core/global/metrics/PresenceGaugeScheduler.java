@@ -1,7 +1,7 @@
 package core.global.metrics;
 
+import core.global.service.PresenceRegistry;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -9,18 +9,17 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class PresenceGaugeScheduler {
 
-    private final StringRedisTemplate redis;
+    private final PresenceRegistry presenceRegistry;
     private final PresenceMetrics presenceMetrics; // 기존 클래스 사용
-    private static final String ZKEY = "presence:active:zset";
 
+    /**
+     * app_users_connected_current 는 예전처럼 전체 접속자 수(노드 간 중복 제거),
+     * app_users_connected_node 는 이 노드에 STOMP 세션이 열린 사용자 수입니다.
+     * 전체 수 조회에 실패하면 전체 값은 직전 값을 유지합니다.
+     */
     @Scheduled(fixedDelay = 30000) // 30초마다
     public void refreshPresenceGauge() {
-        long now = System.currentTimeMillis();
-
-        redis.opsForZSet().removeRangeByScore(ZKEY, Double.NEGATIVE_INFINITY, now - 1);
-        Long count = redis.opsForZSet().count(ZKEY, now, Double.POSITIVE_INFINITY);
-        int online = (count == null ? 0 : count.intValue());
-
-        presenceMetrics.setCurrentConnected(online);
+        presenceMetrics.setNodeConnected(presenceRegistry.onlineUserCount());
+        presenceRegistry.onlineUserCountAnywhere().ifPresent(presenceMetrics::setCurrentConnected);
     }
 }
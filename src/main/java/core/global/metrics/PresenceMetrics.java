@@ -10,12 +10,18 @@ import java.util.concurrent.atomic.AtomicInteger;
 public class PresenceMetrics {
 
     private final AtomicInteger currentConnected = new AtomicInteger(0);
+    private final AtomicInteger nodeConnected = new AtomicInteger(0);
 
     public PresenceMetrics(MeterRegistry registry) {
         Gauge.builder("app_users_connected_current", currentConnected, AtomicInteger::get)
                 .description("현재 접속중인 사용자 수")
                 .register(registry);
+        Gauge.builder("app_users_connected_node", nodeConnected, AtomicInteger::get)
+                .description("이 노드에 STOMP 세션이 열린 사용자 수")
+                .register(registry);
     }
 
     public void setCurrentConnected(int v) { currentConnected.set(v); }
+
+    public void setNodeConnected(int v) { nodeConnected.set(v); }
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+package core.global.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * STOMP 채널 실행기/속도 제한/느린 세션 지표.
+ */
+@Component
+public class StompChannelMetrics {
+
+    private final MeterRegistry registry;
+    private final Counter slowSessionDisconnects;
+
+    public StompChannelMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.slowSessionDisconnects = Counter.builder("stomp_slow_session_disconnects_total")
+                .description("전송 버퍼/전송 시간 한도를 넘어 끊은 세션 수")
+                .register(registry);
+    }
+
+    /**
+     * @param channel inbound / outbound
+     */
+    public void bindExecutor(String channel, ThreadPoolTaskExecutor executor) {
+        Gauge.builder("stomp_channel_queue_size", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .tag("channel", channel).description("STOMP 채널 실행기 대기 작업 수").register(registry);
+        Gauge.builder("stomp_channel_active_threads", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .tag("channel", channel).description("STOMP 채널 실행기 활성 스레드 수").register(registry);
+    }
+
+    /**
+     * @param destination 속도 제한 키 (/app/... 또는 default)
+     */
+    public void recordRejected(String destination) {
+        Counter.builder("stomp_inbound_rejected_total")
+                .description("세션별 속도 제한으로 버린 인바운드 프레임 수")
+                .tag("destination", destination)
+                .register(registry)
+                .increment();
+    }
+
+    public void recordSlowSessionDisconnect() {
+        slowSessionDisconnects.increment();
+    }
+}
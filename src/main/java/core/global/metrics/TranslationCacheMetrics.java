@@ -0,0 +1,84 @@
+package core.global.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TranslationCacheMetrics {
+
+    private final Counter localHit;
+    private final Counter localMiss;
+    private final Counter redisHit;
+    private final Counter redisMiss;
+    private final Counter redisError;
+    private final Counter savedBytes;
+    private final Counter upstreamBytes;
+    private final Counter upstreamCalls;
+    private final DistributionSummary batchSize;
+    private final MeterRegistry registry;
+
+    public TranslationCacheMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        localHit = Counter.builder("translation_cache_requests_total")
+                .tags("tier", "local", "result", "hit")
+                .description("번역 캐시 조회 수").register(registry);
+        localMiss = Counter.builder("translation_cache_requests_total")
+                .tags("tier", "local", "result", "miss")
+                .description("번역 캐시 조회 수").register(registry);
+        redisHit = Counter.builder("translation_cache_requests_total")
+                .tags("tier", "redis", "result", "hit")
+                .description("번역 캐시 조회 수").register(registry);
+        redisMiss = Counter.builder("translation_cache_requests_total")
+                .tags("tier", "redis", "result", "miss")
+                .description("번역 캐시 조회 수").register(registry);
+        redisError = Counter.builder("translation_cache_redis_errors_total")
+                .description("번역 캐시 Redis 조회/저장 실패 수").register(registry);
+        savedBytes = Counter.builder("translation_cache_saved_bytes_total")
+                .baseUnit("bytes")
+                .description("캐시 적중으로 번역 API에 보내지 않은 원문 바이트 누계").register(registry);
+        upstreamBytes = Counter.builder("translation_upstream_bytes_total")
+                .baseUnit("bytes")
+                .description("번역 API로 보낸 원문 바이트 누계").register(registry);
+        upstreamCalls = Counter.builder("translation_upstream_calls_total")
+                .description("번역 API 호출 수").register(registry);
+        batchSize = DistributionSummary.builder("translation_upstream_batch_size")
+                .description("번역 API 호출 한 번에 묶인 원문 수")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    public void recordLocal(int hits, int misses) {
+        localHit.increment(hits);
+        localMiss.increment(misses);
+    }
+
+    public void recordRedis(int hits, int misses) {
+        redisHit.increment(hits);
+        redisMiss.increment(misses);
+    }
+
+    public void recordRedisError() {
+        redisError.increment();
+    }
+
+    public void recordSavedBytes(long bytes) {
+        savedBytes.increment(bytes);
+    }
+
+    public void recordUpstreamCall(long bytes, int contents) {
+        upstreamCalls.increment();
+        upstreamBytes.increment(bytes);
+        batchSize.record(contents);
+    }
+
+    /**
+     * 로컬 언어 판별로 번역 API 호출을 건너뛴 건수
+     *
+     * @param reason no_letters | same_language
+     */
+    public void recordSkipped(String reason) {
+        registry.counter("translation_skipped_total", "reason", reason).increment();
+    }
+}
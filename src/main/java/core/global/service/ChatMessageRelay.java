@@ -0,0 +1,119 @@
+package core.global.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅 STOMP 전송 진입점.
+ * local 모드: 이 노드의 SimpleBroker 로 바로 전달 (단일 인스턴스).
+ * redis 모드: Redis 채널로 발행하고, 각 노드의 {@link RedisChatSubscriber} 가 자기 세션에게만 전달 (다중 인스턴스).
+ * 두 모드 모두 직렬화된 바이트를 그대로 넘기므로, 같은 페이로드를 여러 목적지로 보낼 때는
+ * {@link #encode} 결과를 재사용하면 직렬화가 한 번으로 끝납니다.
+ */
+@Slf4j
+@Component
+public class ChatMessageRelay {
+
+    /**
+     * 방 브로드캐스트 토픽에서 받지 않아야 하는 사용자 ID 목록(쉼표 구분) 헤더.
+     * 클라이언트로 나가기 전에 {@code RoomBroadcastFilter} 가 확인하고 제거합니다.
+     */
+    public static final String EXCLUDED_USERS_HEADER = "x-excluded-user-ids";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final RedisChatPublisher redisChatPublisher;
+    private final boolean redisMode;
+
+    public ChatMessageRelay(SimpMessagingTemplate messagingTemplate,
+                            RedisChatPublisher redisChatPublisher,
+                            @Value("${app.chat.relay.mode:local}") String mode) {
+        this.messagingTemplate = messagingTemplate;
+        this.redisChatPublisher = redisChatPublisher;
+        this.redisMode = "redis".equalsIgnoreCase(mode);
+    }
+
+    public boolean isRedisMode() {
+        return redisMode;
+    }
+
+    public void convertAndSend(String destination, Object payload) {
+        send(destination, encode(payload), List.of());
+    }
+
+    /**
+     * @param excludedUserIds 이 목적지를 구독 중이어도 받지 않아야 하는 사용자 (차단 관계 등)
+     */
+    public void convertAndSend(String destination, Object payload, Collection<Long> excludedUserIds) {
+        send(destination, encode(payload), excludedUserIds);
+    }
+
+    /**
+     * 브로커와 같은 컨버터(Jackson)로 한 번만 직렬화합니다.
+     * 같은 페이로드를 여러 목적지로 보낼 때는 이 결과를 {@link #send} 에 재사용하세요.
+     */
+    public EncodedStompPayload encode(Object payload) {
+        Message<?> converted = messagingTemplate.getMessageConverter().toMessage(payload, null);
+        byte[] body;
+        if (converted != null && converted.getPayload() instanceof byte[] bytes) {
+            body = bytes;
+        } else if (converted != null && converted.getPayload() instanceof String text) {
+            body = text.getBytes(StandardCharsets.UTF_8);
+        } else {
+            throw new IllegalStateException("STOMP 페이로드 직렬화 실패: " + (payload == null ? null : payload.getClass()));
+        }
+        MimeType contentType = converted.getHeaders().get(MessageHeaders.CONTENT_TYPE) instanceof MimeType type
+                ? type
+                : MimeTypeUtils.APPLICATION_JSON;
+        return new EncodedStompPayload(body, contentType);
+    }
+
+    /**
+     * redis 모드에서도 Redis 를 거치지 않고 이 노드의 구독자에게만 보냅니다.
+     * 모든 노드가 같은 상태를 들고 각자 자기 세션에게 보내는 경우(입력 중 표시 등)에 씁니다.
+     */
+    public void convertAndSendLocal(String destination, Object payload) {
+        sendLocal(destination, encode(payload), "");
+    }
+
+    public void send(String destination, EncodedStompPayload payload) {
+        send(destination, payload, List.of());
+    }
+
+    public void send(String destination, EncodedStompPayload payload, Collection<Long> excludedUserIds) {
+        String excluded = excludedUserIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        if (!redisMode) {
+            sendLocal(destination, payload, excluded);
+            return;
+        }
+        try {
+            redisChatPublisher.publishRaw(destination, excluded, payload.body());
+        } catch (RuntimeException e) {
+            // Redis 장애 시 최소한 이 노드의 구독자에게는 전달
+            log.warn("Redis 릴레이 발행 실패, 로컬 전달로 대체합니다. destination={}", destination, e);
+            sendLocal(destination, payload, excluded);
+        }
+    }
+
+    private void sendLocal(String destination, EncodedStompPayload payload, String excluded) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+        accessor.setContentType(payload.contentType());
+        if (!excluded.isEmpty()) {
+            accessor.setNativeHeader(EXCLUDED_USERS_HEADER, excluded);
+        }
+        accessor.setLeaveMutable(true);
+        messagingTemplate.send(destination, MessageBuilder.createMessage(payload.body(), accessor.getMessageHeaders()));
+    }
+}
@@ -0,0 +1,11 @@
+package core.global.service;
+
+import org.springframework.util.MimeType;
+
+/**
+ * 브로커 메시지 컨버터로 한 번 직렬화한 STOMP 본문.
+ * 같은 내용을 여러 목적지로 보낼 때 목적지마다 다시 직렬화하지 않고 이 바이트를 그대로 재사용합니다.
+ * 본문 배열은 보내는 쪽과 브로커가 읽기 전용으로 공유하므로 만든 뒤에는 수정하지 않습니다.
+ */
+public record EncodedStompPayload(byte[] body, MimeType contentType) {
+}
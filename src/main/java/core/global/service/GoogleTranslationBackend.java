@@ -0,0 +1,42 @@
+package core.global.service;
+
+import com.google.cloud.translate.v3.LocationName;
+import com.google.cloud.translate.v3.TranslateTextRequest;
+import com.google.cloud.translate.v3.TranslateTextResponse;
+import com.google.cloud.translate.v3.Translation;
+import com.google.cloud.translate.v3.TranslationServiceClient;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class GoogleTranslationBackend implements TranslationBackend {
+
+    @Value("${google.cloud.project.id}")
+    private String projectId;
+    private final ObjectProvider<TranslationServiceClient> translationClientProvider;
+
+    @Override
+    public List<String> translate(List<String> contents, String targetLanguage) {
+        TranslationServiceClient client = translationClientProvider.getObject();
+        LocationName parent = LocationName.of(projectId, "global");
+
+        TranslateTextRequest request = TranslateTextRequest.newBuilder()
+                .setParent(parent.toString())
+                .setMimeType("text/plain")
+                .setTargetLanguageCode(targetLanguage)
+                .addAllContents(contents)
+                .build();
+
+        TranslateTextResponse response = client.translateText(request);
+
+        return response.getTranslationsList().stream()
+                .map(Translation::getTranslatedText)
+                .collect(Collectors.toList());
+    }
+}
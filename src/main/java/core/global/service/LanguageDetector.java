@@ -0,0 +1,148 @@
+package core.global.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * 번역 API 호출 전에 쓰는 가벼운 언어 판별기.
+ * 문자 체계(한글/가나/태국 문자)로 바로 판별하고, 라틴 문자는 번들된 고빈도 단어 목록
+ * (langid/latin-stopwords.txt) 과의 일치 비율로 판별합니다.
+ * 확신이 없으면 판별하지 않으므로(빈 값) 그 경우에는 평소처럼 번역 API 로 보냅니다.
+ */
+@Slf4j
+@Component
+public class LanguageDetector {
+
+    private static final String PROFILE_PATH = "langid/latin-stopwords.txt";
+    private static final Pattern URL = Pattern.compile("(https?://|www\\.)\\S+|\\S+@\\S+\\.\\S+");
+    private static final Pattern WORD_SPLIT = Pattern.compile("[^\\p{L}']+");
+    private static final double SCRIPT_SHARE = 0.8;
+    private static final int MIN_WORDS = 3;
+    private static final int MIN_HITS = 2;
+    private static final double MIN_HIT_RATIO = 0.3;
+
+    private final Map<String, Set<String>> latinProfiles;
+
+    public LanguageDetector() {
+        this.latinProfiles = loadProfiles();
+    }
+
+    /**
+     * URL/이메일을 빼고 나면 글자가 하나도 없는 텍스트(이모지, 숫자, 문장부호만)인지 확인합니다.
+     */
+    public boolean hasNoLetters(String text) {
+        return strip(text).codePoints().noneMatch(Character::isLetter);
+    }
+
+    /**
+     * 텍스트가 대상 언어로 쓰였다고 확신할 수 있으면 true.
+     *
+     * @param targetLanguage 번역 대상 언어 코드 (ko, en, pt-BR 등. 주 언어 태그만 비교)
+     */
+    public boolean isConfidentlyIn(String text, String targetLanguage) {
+        return detect(text)
+                .map(detected -> detected.equals(primaryTag(targetLanguage)))
+                .orElse(false);
+    }
+
+    /**
+     * @return 확신할 수 있을 때만 언어 코드(ISO 639-1), 아니면 빈 값
+     */
+    public Optional<String> detect(String text) {
+        String stripped = strip(text);
+
+        int letters = 0, hangul = 0, kana = 0, han = 0, thai = 0, latin = 0;
+        for (int i = 0; i < stripped.length(); ) {
+            int cp = stripped.codePointAt(i);
+            i += Character.charCount(cp);
+            if (!Character.isLetter(cp)) {
+                continue;
+            }
+            letters++;
+            switch (Character.UnicodeScript.of(cp)) {
+                case HANGUL -> hangul++;
+                case HIRAGANA, KATAKANA -> kana++;
+                case HAN -> han++;
+                case THAI -> thai++;
+                case LATIN -> latin++;
+                default -> { }
+            }
+        }
+        if (letters == 0) {
+            return Optional.empty();
+        }
+
+        if (hangul >= letters * SCRIPT_SHARE) return Optional.of("ko");
+        if (kana > 0 && kana + han >= letters * SCRIPT_SHARE) return Optional.of("ja");
+        if (thai >= letters * SCRIPT_SHARE) return Optional.of("th");
+        if (latin >= letters * SCRIPT_SHARE) return detectLatin(stripped);
+        // 한자만 있는 경우는 간체/번체 구분이 필요해 판별하지 않습니다.
+        return Optional.empty();
+    }
+
+    private Optional<String> detectLatin(String text) {
+        List<String> words = Arrays.stream(WORD_SPLIT.split(text.toLowerCase(Locale.ROOT)))
+                .filter(w -> !w.isBlank())
+                .toList();
+        if (words.size() < MIN_WORDS) {
+            return Optional.empty();
+        }
+
+        String best = null;
+        int bestHits = 0, secondHits = 0;
+        for (Map.Entry<String, Set<String>> profile : latinProfiles.entrySet()) {
+            int hits = (int) words.stream().filter(profile.getValue()::contains).count();
+            if (hits > bestHits) {
+                secondHits = bestHits;
+                bestHits = hits;
+                best = profile.getKey();
+            } else if (hits > secondHits) {
+                secondHits = hits;
+            }
+        }
+
+        boolean confident = bestHits >= MIN_HITS
+                && bestHits >= secondHits * 2
+                && bestHits >= words.size() * MIN_HIT_RATIO;
+        return confident ? Optional.of(best) : Optional.empty();
+    }
+
+    private static String strip(String text) {
+        return text == null ? "" : URL.matcher(text).replaceAll(" ");
+    }
+
+    private static String primaryTag(String language) {
+        int dash = language.indexOf('-');
+        String primary = dash < 0 ? language : language.substring(0, dash);
+        return primary.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Map<String, Set<String>> loadProfiles() {
+        Map<String, Set<String>> profiles = new LinkedHashMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ClassPathResource(PROFILE_PATH).getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                int eq = line.indexOf('=');
+                profiles.put(line.substring(0, eq).strip(),
+                        new HashSet<>(Arrays.asList(line.substring(eq + 1).strip().split("\\s+"))));
+            }
+        } catch (IOException e) {
+            // 목록이 없으면 라틴 문자 판별만 비활성화 (항상 번역 API 사용)
+            log.warn("언어 판별 단어 목록을 읽지 못했습니다. path={}", PROFILE_PATH, e);
+        }
+        return profiles;
+    }
+}
@@ -0,0 +1,362 @@
+package core.global.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 이 노드의 STOMP 세션 기준 접속 상태.
+ * CONNECT/SUBSCRIBE/UNSUBSCRIBE/DISCONNECT 로 사용자 → 세션, 방 → 보고 있는 사용자를 메모리에 유지하므로
+ * "접속 중인가", "이 방을 보고 있는가" 를 Redis 조회 없이 바로 답합니다.
+ * <p>
+ * 여러 노드로 운영할 때(redis 모드)는 heartbeatMillis 마다 이 노드의 접속자/방 보기를 만료 시각을 점수로 한
+ * 노드별 sorted set(presence:online:{nodeId}, presence:viewing:{nodeId}) 에 한 번에 기록하고, 살아 있는 노드 목록(presence:nodes) 을 갱신합니다.
+ * 다른 노드의 세션은 {@link #isOnlineAnywhere}/{@link #isViewingAnywhere} 가 살아 있는 다른 노드의 집합을 차례로 확인합니다.
+ * 이 노드의 마지막 세션이 끊기면 이 노드의 집합에서만 바로 지우므로, 같은 사용자가 다른 노드에 남긴 세션은 영향을 받지 않습니다.
+ * 죽은 노드의 집합은 키 만료로 사라집니다.
+ */
+@Slf4j
+@Component
+public class PresenceRegistry {
+
+    static final String ONLINE_KEY = "presence:online";
+    static final String VIEWING_KEY = "presence:viewing";
+    static final String NODES_KEY = "presence:nodes";
+
+    private static final Pattern USER_ROOM_DESTINATION = Pattern.compile("^/topic/user/(\\d+)/(\\d+)/.+$");
+    private static final Pattern ROOM_DESTINATION = Pattern.compile("^/topic/(?:rooms|chatrooms)/(\\d+)(/.*)?$");
+
+    private final StringRedisTemplate redis;
+    private final boolean redisMode;
+    private final long ttlMillis;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Object lock = new Object();
+    private final Map<String, Session> sessionsById = new HashMap<>();
+    private final Map<Long, Set<String>> sessionIdsByUserId = new HashMap<>();
+    /** roomId → (userId → 그 방을 보는 구독 수) */
+    private final Map<Long, Map<Long, Integer>> viewersByRoomId = new HashMap<>();
+
+    public PresenceRegistry(StringRedisTemplate redis,
+                            @Value("${app.presence.heartbeat-ms:15000}") long heartbeatMillis,
+                            @Value("${app.presence.heartbeat:${app.chat.relay.mode:local}}") String heartbeatMode) {
+        this.redis = redis;
+        this.redisMode = "redis".equalsIgnoreCase(heartbeatMode);
+        this.ttlMillis = heartbeatMillis * 3;
+    }
+
+    public void connect(String sessionId, Long userId) {
+        if (sessionId == null || userId == null) {
+            return;
+        }
+        synchronized (lock) {
+            disconnectLocked(sessionId);
+            sessionsById.put(sessionId, new Session(userId));
+            sessionIdsByUserId.computeIfAbsent(userId, id -> new HashSet<>()).add(sessionId);
+        }
+    }
+
+    /**
+     * 채팅방 목적지(/topic/user/{me}/{roomId}/..., /topic/rooms/{roomId}/..., /topic/chatrooms/{roomId}) 구독을 방 보기로 기록합니다.
+     */
+    public void subscribe(String sessionId, String subscriptionId, String destination) {
+        synchronized (lock) {
+            Session session = sessionsById.get(sessionId);
+            if (session == null || subscriptionId == null) {
+                return;
+            }
+            Long roomId = roomIdOf(destination, session.userId);
+            if (roomId == null) {
+                return;
+            }
+            Long previous = session.roomIdBySubscriptionId.put(subscriptionId, roomId);
+            if (previous != null) {
+                removeViewerLocked(previous, session.userId);
+            }
+            viewersByRoomId.computeIfAbsent(roomId, id -> new HashMap<>()).merge(session.userId, 1, Integer::sum);
+        }
+    }
+
+    public void unsubscribe(String sessionId, String subscriptionId) {
+        Long userId;
+        Long roomId;
+        boolean stoppedViewing;
+        synchronized (lock) {
+            Session session = sessionsById.get(sessionId);
+            if (session == null || subscriptionId == null) {
+                return;
+            }
+            roomId = session.roomIdBySubscriptionId.remove(subscriptionId);
+            if (roomId == null) {
+                return;
+            }
+            userId = session.userId;
+            stoppedViewing = removeViewerLocked(roomId, userId);
+        }
+        if (stoppedViewing) {
+            forget(VIEWING_KEY, viewingMember(userId, roomId));
+        }
+    }
+
+    /**
+     * 같은 세션에 대해 여러 번 불려도 됩니다. (클라이언트 DISCONNECT 프레임 + 소켓 종료)
+     */
+    public void disconnect(String sessionId) {
+        Removed removed;
+        synchronized (lock) {
+            removed = disconnectLocked(sessionId);
+        }
+        if (removed == null) {
+            return;
+        }
+        removed.stoppedViewingRoomIds.forEach(roomId -> forget(VIEWING_KEY, viewingMember(removed.userId, roomId)));
+        if (removed.wentOffline) {
+            forget(ONLINE_KEY, String.valueOf(removed.userId));
+        }
+    }
+
+    private Removed disconnectLocked(String sessionId) {
+        Session session = sessionsById.remove(sessionId);
+        if (session == null) {
+            return null;
+        }
+        Set<Long> stoppedViewing = new HashSet<>();
+        session.roomIdBySubscriptionId.values().forEach(roomId -> {
+            if (removeViewerLocked(roomId, session.userId)) {
+                stoppedViewing.add(roomId);
+            }
+        });
+        Set<String> sessionIds = sessionIdsByUserId.get(session.userId);
+        sessionIds.remove(sessionId);
+        boolean wentOffline = sessionIds.isEmpty();
+        if (wentOffline) {
+            sessionIdsByUserId.remove(session.userId);
+        }
+        return new Removed(session.userId, stoppedViewing, wentOffline);
+    }
+
+    /**
+     * @return 이 사용자가 이 방을 더 이상 보지 않게 되었으면 true
+     */
+    private boolean removeViewerLocked(Long roomId, Long userId) {
+        Map<Long, Integer> viewers = viewersByRoomId.get(roomId);
+        if (viewers == null) {
+            return false;
+        }
+        Integer remaining = viewers.computeIfPresent(userId, (id, count) -> count > 1 ? count - 1 : null);
+        if (viewers.isEmpty()) {
+            viewersByRoomId.remove(roomId);
+        }
+        return remaining == null;
+    }
+
+    /** 이 노드에 열린 세션이 있는지 */
+    public boolean isOnline(Long userId) {
+        synchronized (lock) {
+            return sessionIdsByUserId.containsKey(userId);
+        }
+    }
+
+    /** 이 노드에서 이 방 목적지를 구독 중인지 */
+    public boolean isViewing(Long userId, Long roomId) {
+        synchronized (lock) {
+            Map<Long, Integer> viewers = viewersByRoomId.get(roomId);
+            return viewers != null && viewers.containsKey(userId);
+        }
+    }
+
+    public Set<Long> viewers(Long roomId) {
+        synchronized (lock) {
+            Map<Long, Integer> viewers = viewersByRoomId.get(roomId);
+            return viewers == null ? Set.of() : Set.copyOf(viewers.keySet());
+        }
+    }
+
+    public int onlineUserCount() {
+        synchronized (lock) {
+            return sessionIdsByUserId.size();
+        }
+    }
+
+    /**
+     * 전체 노드의 접속자 수. 이 노드는 메모리 값을, 살아 있는 다른 노드는 만료되지 않은 heartbeat 기록을 합집합으로 셉니다.
+     * 여러 노드에 세션을 연 사용자는 한 번만 셉니다. local 모드면 이 노드의 값과 같습니다.
+     *
+     * @return Redis 조회에 실패하면 empty
+     */
+    public OptionalInt onlineUserCountAnywhere() {
+        Set<String> userIds = new HashSet<>();
+        synchronized (lock) {
+            sessionIdsByUserId.keySet().forEach(userId -> userIds.add(String.valueOf(userId)));
+        }
+        if (!redisMode) {
+            return OptionalInt.of(userIds.size());
+        }
+        try {
+            double now = System.currentTimeMillis();
+            Set<String> nodes = redis.opsForZSet().rangeByScore(NODES_KEY, now, Double.POSITIVE_INFINITY);
+            if (nodes != null) {
+                for (String node : nodes) {
+                    if (node.equals(nodeId)) {
+                        continue;
+                    }
+                    Set<String> online = redis.opsForZSet().rangeByScore(keyOf(ONLINE_KEY, node), now, Double.POSITIVE_INFINITY);
+                    if (online != null) {
+                        userIds.addAll(online);
+                    }
+                }
+            }
+            return OptionalInt.of(userIds.size());
+        } catch (RuntimeException e) {
+            log.warn("전체 접속자 수 조회 실패", e);
+            return OptionalInt.empty();
+        }
+    }
+
+    public int sessionCount() {
+        synchronized (lock) {
+            return sessionsById.size();
+        }
+    }
+
+    /**
+     * 이 노드를 먼저 보고, redis 모드면 다른 노드의 heartbeat 도 확인합니다.
+     */
+    public boolean isOnlineAnywhere(Long userId) {
+        return isOnline(userId) || isLiveElsewhere(ONLINE_KEY, String.valueOf(userId));
+    }
+
+    public boolean isViewingAnywhere(Long userId, Long roomId) {
+        return isViewing(userId, roomId) || isLiveElsewhere(VIEWING_KEY, viewingMember(userId, roomId));
+    }
+
+    /**
+     * 살아 있는 다른 노드의 집합을 차례로 봅니다. 노드 수만큼 조회하지만 노드 수는 적습니다.
+     */
+    private boolean isLiveElsewhere(String prefix, String member) {
+        if (!redisMode) {
+            return false;
+        }
+        try {
+            double now = System.currentTimeMillis();
+            Set<String> nodes = redis.opsForZSet().rangeByScore(NODES_KEY, now, Double.POSITIVE_INFINITY);
+            if (nodes == null) {
+                return false;
+            }
+            for (String node : nodes) {
+                if (node.equals(nodeId)) {
+                    continue;
+                }
+                Double expiresAt = redis.opsForZSet().score(keyOf(prefix, node), member);
+                if (expiresAt != null && expiresAt > now) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (RuntimeException e) {
+            log.warn("접속 상태 조회 실패 key={}", prefix, e);
+            return false;
+        }
+    }
+
+    /**
+     * 이 노드의 접속자/방 보기를 만료 시각과 함께 한 번에 기록하고, 만료된 항목을 지웁니다.
+     */
+    @Scheduled(fixedDelayString = "${app.presence.heartbeat-ms:15000}")
+    public void heartbeat() {
+        if (!redisMode) {
+            return;
+        }
+        double expiresAt = System.currentTimeMillis() + ttlMillis;
+        Set<ZSetOperations.TypedTuple<String>> online = new HashSet<>();
+        Set<ZSetOperations.TypedTuple<String>> viewing = new HashSet<>();
+        synchronized (lock) {
+            sessionIdsByUserId.keySet().forEach(userId ->
+                    online.add(new DefaultTypedTuple<>(String.valueOf(userId), expiresAt)));
+            viewersByRoomId.forEach((roomId, viewers) -> viewers.keySet().forEach(userId ->
+                    viewing.add(new DefaultTypedTuple<>(viewingMember(userId, roomId), expiresAt))));
+        }
+        try {
+            double now = System.currentTimeMillis();
+            redis.opsForZSet().add(NODES_KEY, nodeId, expiresAt);
+            redis.opsForZSet().removeRangeByScore(NODES_KEY, Double.NEGATIVE_INFINITY, now);
+            for (String prefix : List.of(ONLINE_KEY, VIEWING_KEY)) {
+                redis.opsForZSet().removeRangeByScore(keyOf(prefix, nodeId), Double.NEGATIVE_INFINITY, now);
+            }
+            if (!online.isEmpty()) {
+                redis.opsForZSet().add(keyOf(ONLINE_KEY, nodeId), online);
+            }
+            if (!viewing.isEmpty()) {
+                redis.opsForZSet().add(keyOf(VIEWING_KEY, nodeId), viewing);
+            }
+            for (String prefix : List.of(ONLINE_KEY, VIEWING_KEY)) {
+                redis.expire(keyOf(prefix, nodeId), Duration.ofMillis(ttlMillis));
+            }
+        } catch (RuntimeException e) {
+            log.warn("접속 상태 heartbeat 실패 users={}", online.size(), e);
+        }
+    }
+
+    /** 이 노드의 기록만 지웁니다. */
+    private void forget(String prefix, String member) {
+        if (!redisMode) {
+            return;
+        }
+        try {
+            redis.opsForZSet().remove(keyOf(prefix, nodeId), member);
+        } catch (RuntimeException e) {
+            log.warn("접속 상태 삭제 실패 key={}, member={}", prefix, member, e);
+        }
+    }
+
+    static String keyOf(String prefix, String nodeId) {
+        return prefix + ":" + nodeId;
+    }
+
+    String nodeId() {
+        return nodeId;
+    }
+
+    static Long roomIdOf(String destination, Long userId) {
+        if (destination == null) {
+            return null;
+        }
+        Matcher userRoom = USER_ROOM_DESTINATION.matcher(destination);
+        if (userRoom.matches()) {
+            return String.valueOf(userId).equals(userRoom.group(1)) ? Long.valueOf(userRoom.group(2)) : null;
+        }
+        Matcher room = ROOM_DESTINATION.matcher(destination);
+        return room.matches() ? Long.valueOf(room.group(1)) : null;
+    }
+
+    private static String viewingMember(Long userId, Long roomId) {
+        return userId + ":" + roomId;
+    }
+
+    private static final class Session {
+        private final Long userId;
+        private final Map<String, Long> roomIdBySubscriptionId = new HashMap<>();
+
+        private Session(Long userId) {
+            this.userId = userId;
+        }
+    }
+
+    private record Removed(Long userId, Set<Long> stoppedViewingRoomIds, boolean wentOffline) {
+    }
+}
@@ -1,20 +1,35 @@
 package core.global.service;
 
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+
+/**
+ * STOMP 메시지를 Redis 채널로 발행합니다.
+ * 본문은 STOMP 브로커 컨버터로 한 번 직렬화한 바이트 그대로 싣고, 수신 노드는 다시 역직렬화하지 않고 전달합니다.
+ * 형식: {@code <destination>\n<excluded user ids>\n<payload bytes>} (제외 대상이 없으면 두 번째 줄은 비어 있음)
+ */
 @Component
 public class RedisChatPublisher {
-    private final RedisTemplate<String, String> redisTemplate;
-    private final ChannelTopic topic;
 
-    public RedisChatPublisher(RedisTemplate<String, String> redisTemplate, ChannelTopic topic) {
+    static final byte SEPARATOR = '\n';
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisChatPublisher(StringRedisTemplate redisTemplate) {
         this.redisTemplate = redisTemplate;
-        this.topic = topic;
     }
 
-    public void publish(String messageJson) {
-        redisTemplate.convertAndSend(topic.getTopic(), messageJson);
+    public void publishRaw(String destination, String excludedUserIds, byte[] body) {
+        byte[] head = (destination + (char) SEPARATOR + excludedUserIds + (char) SEPARATOR).getBytes(StandardCharsets.UTF_8);
+        byte[] frame = new byte[head.length + body.length];
+        System.arraycopy(head, 0, frame, 0, head.length);
+        System.arraycopy(body, 0, frame, head.length, body.length);
+
+        byte[] channel = RelayChannels.channelOf(destination).getBytes(StandardCharsets.UTF_8);
+        redisTemplate.execute((RedisCallback<Long>) (RedisConnection connection) -> connection.publish(channel, frame));
     }
-}
\ No newline at end of file
+}
@@ -1,10 +1,22 @@
 package core.global.service;
 
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Redis 채널로 받은 STOMP 메시지를 이 노드에 연결된 세션에게만 전달합니다.
+ * 본문은 이미 직렬화된 JSON 바이트이므로 파싱하지 않고 그대로 보냅니다.
+ */
+@Slf4j
 @Component
 public class RedisChatSubscriber implements MessageListener {
 
@@ -16,15 +28,32 @@ public class RedisChatSubscriber implements MessageListener {
 
     @Override
     public void onMessage(Message message, byte[] pattern) {
+        byte[] frame = message.getBody();
+        int destinationEnd = indexOf(frame, RedisChatPublisher.SEPARATOR, 0);
+        int excludedEnd = destinationEnd < 0 ? -1 : indexOf(frame, RedisChatPublisher.SEPARATOR, destinationEnd + 1);
+        if (excludedEnd < 0) {
+            log.warn("잘못된 릴레이 프레임 무시. channel={}", new String(message.getChannel(), StandardCharsets.UTF_8));
+            return;
+        }
+        String destination = new String(frame, 0, destinationEnd, StandardCharsets.UTF_8);
+        String excluded = new String(frame, destinationEnd + 1, excludedEnd - destinationEnd - 1, StandardCharsets.UTF_8);
+        byte[] body = Arrays.copyOfRange(frame, excludedEnd + 1, frame.length);
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        if (!excluded.isEmpty()) {
+            accessor.setNativeHeader(ChatMessageRelay.EXCLUDED_USERS_HEADER, excluded);
+        }
+        accessor.setLeaveMutable(true);
+        simp.send(destination, MessageBuilder.createMessage(body, accessor.getMessageHeaders()));
+    }
 
-        String payload = new String(message.getBody());
-        try {
-            com.fasterxml.jackson.databind.ObjectMapper om = new com.fasterxml.jackson.databind.ObjectMapper();
-            var node = om.readTree(payload);
-            Long roomId = node.get("roomId").asLong();
-            simp.convertAndSend("/topic/room." + roomId, payload);
-        } catch (Exception e) {
-            e.printStackTrace();
+    private static int indexOf(byte[] bytes, byte target, int from) {
+        for (int i = from; i < bytes.length; i++) {
+            if (bytes[i] == target) {
+                return i;
+            }
         }
+        return -1;
     }
-}
\ No newline at end of file
+}
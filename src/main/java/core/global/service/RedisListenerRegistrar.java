@@ -1,17 +1,107 @@
 package core.global.service;
 
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.annotation.Configuration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
 
-@Configuration
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * redis 릴레이 모드에서 이 노드의 STOMP 구독 상태에 맞춰 Redis 채널 구독을 늘리고 줄입니다.
+ * 사용자/방 채널은 이 노드에 해당 구독자가 하나 이상 있을 때만 구독하므로,
+ * 구독자가 없는 트래픽은 받지도 역직렬화하지도 않습니다.
+ */
+@Slf4j
+@Component
 public class RedisListenerRegistrar {
 
-    @Autowired
-    public void register(RedisMessageListenerContainer container,
-                         RedisChatSubscriber subscriber,
-                         org.springframework.data.redis.listener.ChannelTopic topic) {
-        container.addMessageListener(new MessageListenerAdapter(subscriber), topic);
+    private final RedisMessageListenerContainer container;
+    private final RedisChatSubscriber subscriber;
+    private final boolean enabled;
+
+    /** channel → 이 노드의 구독 수 */
+    private final Map<String, Integer> channelRefCounts = new ConcurrentHashMap<>();
+    /** sessionId → (subscriptionId → channel) */
+    private final Map<String, Map<String, String>> sessionSubscriptions = new ConcurrentHashMap<>();
+
+    public RedisListenerRegistrar(RedisMessageListenerContainer container,
+                                  RedisChatSubscriber subscriber,
+                                  ChannelTopic chatTopic,
+                                  ChatMessageRelay relay) {
+        this.container = container;
+        this.subscriber = subscriber;
+        this.enabled = relay.isRedisMode();
+        if (enabled) {
+            container.addMessageListener(subscriber, chatTopic);
+        }
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        if (!enabled) return;
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String sessionId = accessor.getSessionId();
+        String subscriptionId = accessor.getSubscriptionId();
+        String destination = accessor.getDestination();
+        if (sessionId == null || subscriptionId == null || destination == null) return;
+
+        String channel = RelayChannels.channelOf(destination);
+        if (RelayChannels.BROADCAST.equals(channel)) return;
+
+        String previous = sessionSubscriptions
+                .computeIfAbsent(sessionId, k -> new ConcurrentHashMap<>())
+                .put(subscriptionId, channel);
+        if (previous != null) {
+            release(previous);
+        }
+        acquire(channel);
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        if (!enabled) return;
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, String> subs = sessionSubscriptions.get(accessor.getSessionId());
+        if (subs == null || accessor.getSubscriptionId() == null) return;
+        String channel = subs.remove(accessor.getSubscriptionId());
+        if (channel != null) {
+            release(channel);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        if (!enabled) return;
+        Map<String, String> subs = sessionSubscriptions.remove(event.getSessionId());
+        if (subs != null) {
+            subs.values().forEach(this::release);
+        }
+    }
+
+    private void acquire(String channel) {
+        channelRefCounts.compute(channel, (k, count) -> {
+            if (count == null) {
+                container.addMessageListener(subscriber, new ChannelTopic(channel));
+                return 1;
+            }
+            return count + 1;
+        });
+    }
+
+    private void release(String channel) {
+        channelRefCounts.compute(channel, (k, count) -> {
+            if (count == null || count <= 1) {
+                container.removeMessageListener(subscriber, new ChannelTopic(channel));
+                return null;
+            }
+            return count - 1;
+        });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,36 @@
+package core.global.service;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * STOMP 목적지 → Redis 채널 매핑.
+ * 사용자 개인 목적지는 사용자별, 방 목적지는 방별 채널로 나눠 보내므로
+ * 노드는 자기에게 구독자가 있는 채널의 메시지만 받습니다.
+ */
+public final class RelayChannels {
+
+    public static final String PREFIX = "chat:relay:";
+    public static final String BROADCAST = PREFIX + "broadcast";
+
+    private static final Pattern USER_DESTINATION = Pattern.compile("^/topic/user/(\\d+)(/.*)?$");
+    private static final Pattern ROOM_DESTINATION = Pattern.compile("^/topic/(?:rooms|chatrooms)/(\\d+)(/.*)?$");
+
+    private RelayChannels() {
+    }
+
+    public static String channelOf(String destination) {
+        if (destination == null) {
+            return BROADCAST;
+        }
+        Matcher user = USER_DESTINATION.matcher(destination);
+        if (user.matches()) {
+            return PREFIX + "user:" + user.group(1);
+        }
+        Matcher room = ROOM_DESTINATION.matcher(destination);
+        if (room.matches()) {
+            return PREFIX + "room:" + room.group(1);
+        }
+        return BROADCAST;
+    }
+}
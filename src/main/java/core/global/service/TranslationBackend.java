@@ -0,0 +1,12 @@
+package core.global.service;
+
+import java.util.List;
+
+/**
+ * 실제 번역 API 호출 한 번(RPC 한 번)을 나타냅니다.
+ * 반환 목록은 입력 contents 와 같은 순서/크기여야 합니다.
+ */
+public interface TranslationBackend {
+
+    List<String> translate(List<String> contents, String targetLanguage) throws Exception;
+}
@@ -0,0 +1,159 @@
+package core.global.service;
+
+import core.global.metrics.TranslationCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시에 들어오는 번역 요청을 대상 언어별로 잠깐(windowMillis) 모아 한 번의 번역 API 호출로 보냅니다.
+ * 결과는 요청마다 받은 CompletableFuture 로 나눠 돌려줍니다.
+ * 배치가 maxBatchSize 개 또는 maxBatchChars 자에 도달하면 창이 끝나기 전에 바로 보냅니다.
+ */
+@Slf4j
+@Component
+public class TranslationBatcher {
+
+    private final TranslationBackend backend;
+    private final Executor rpcExecutor;
+    private final TranslationCacheMetrics metrics;
+    private final long windowMillis;
+    private final int maxBatchSize;
+    private final int maxBatchChars;
+
+    private final Object lock = new Object();
+    private final Map<String, Batch> pending = new HashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "translate-batch-timer");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public TranslationBatcher(TranslationBackend backend,
+                              @Qualifier("translationBatchExecutor") Executor rpcExecutor,
+                              TranslationCacheMetrics metrics,
+                              @Value("${app.translation.batch.window-ms:5}") long windowMillis,
+                              @Value("${app.translation.batch.max-size:100}") int maxBatchSize,
+                              @Value("${app.translation.batch.max-chars:20000}") int maxBatchChars) {
+        this.backend = backend;
+        this.rpcExecutor = rpcExecutor;
+        this.metrics = metrics;
+        this.windowMillis = windowMillis;
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchChars = maxBatchChars;
+    }
+
+    /**
+     * @return 입력과 같은 순서의 번역문 목록. 배치 RPC 가 실패하면 그 배치의 모든 호출자가 같은 예외로 실패합니다.
+     */
+    public CompletableFuture<List<String>> submit(List<String> contents, String targetLanguage) {
+        List<CompletableFuture<String>> futures = new ArrayList<>(contents.size());
+        for (String content : contents) {
+            futures.add(enqueue(content, targetLanguage));
+        }
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> futures.stream().map(CompletableFuture::join).toList());
+    }
+
+    private CompletableFuture<String> enqueue(String content, String language) {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        Batch full = null;
+        synchronized (lock) {
+            Batch batch = pending.get(language);
+            if (batch == null) {
+                batch = new Batch(language);
+                pending.put(language, batch);
+                Batch scheduled = batch;
+                scheduler.schedule(() -> flushIfPending(scheduled), windowMillis, TimeUnit.MILLISECONDS);
+            }
+            batch.add(content, future);
+            if (batch.contents.size() >= maxBatchSize || batch.chars >= maxBatchChars) {
+                pending.remove(language);
+                full = batch;
+            }
+        }
+        if (full != null) {
+            dispatch(full);
+        }
+        return future;
+    }
+
+    private void flushIfPending(Batch batch) {
+        synchronized (lock) {
+            if (pending.get(batch.language) != batch) {
+                return; // 이미 크기 초과로 보낸 배치
+            }
+            pending.remove(batch.language);
+        }
+        dispatch(batch);
+    }
+
+    /**
+     * RPC 실행기가 포화되어 배치를 거절하면 그 배치의 호출자 모두를 같은 예외로 실패시킵니다.
+     * 거절 예외를 그대로 던지면 타이머 경로에서는 삼켜지고, 크기 초과 경로에서는 배치를 채운 호출자 하나에게만 가서
+     * 나머지 호출자의 future 가 영영 완료되지 않습니다.
+     */
+    private void dispatch(Batch batch) {
+        try {
+            execute(batch);
+        } catch (RejectedExecutionException e) {
+            log.warn("번역 배치 실행기 포화, 배치를 실패 처리합니다. language={}, size={}", batch.language, batch.contents.size());
+            batch.futures.forEach(f -> f.completeExceptionally(e));
+        }
+    }
+
+    private void execute(Batch batch) {
+        rpcExecutor.execute(() -> {
+            metrics.recordUpstreamCall(batch.bytes, batch.contents.size());
+            try {
+                List<String> results = backend.translate(batch.contents, batch.language);
+                if (results.size() != batch.contents.size()) {
+                    throw new IllegalStateException("번역 결과 개수 불일치: expected=" + batch.contents.size() + ", actual=" + results.size());
+                }
+                for (int i = 0; i < results.size(); i++) {
+                    batch.futures.get(i).complete(results.get(i));
+                }
+            } catch (Throwable e) {
+                batch.futures.forEach(f -> f.completeExceptionally(e));
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private static final class Batch {
+        private final String language;
+        private final List<String> contents = new ArrayList<>();
+        private final List<CompletableFuture<String>> futures = new ArrayList<>();
+        private int chars;
+        private long bytes;
+
+        private Batch(String language) {
+            this.language = language;
+        }
+
+        private void add(String content, CompletableFuture<String> future) {
+            contents.add(content);
+            futures.add(future);
+            chars += content.length();
+            bytes += content.getBytes(StandardCharsets.UTF_8).length;
+        }
+    }
+}
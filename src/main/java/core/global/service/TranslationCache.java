@@ -0,0 +1,130 @@
+package core.global.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import core.global.metrics.TranslationCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 번역 결과 캐시. (정규화한 원문 해시, 대상 언어) 를 키로 사용합니다.
+ * 1차: 인스턴스 로컬 Caffeine (크기 제한), 2차: 인스턴스 간 공유 Redis (TTL).
+ * Redis 장애 시에는 로컬 캐시만으로 동작하고 번역 API 로 넘어갑니다.
+ */
+@Slf4j
+@Component
+public class TranslationCache {
+
+    private static final String KEY_PREFIX = "translation:";
+
+    private final StringRedisTemplate redis;
+    private final TranslationCacheMetrics metrics;
+    private final Cache<String, String> local;
+    private final long redisTtlSeconds;
+
+    public TranslationCache(StringRedisTemplate redis,
+                            TranslationCacheMetrics metrics,
+                            @Value("${app.translation.cache.local-max-size:20000}") long localMaxSize,
+                            @Value("${app.translation.cache.local-ttl-minutes:60}") long localTtlMinutes,
+                            @Value("${app.translation.cache.redis-ttl-hours:72}") long redisTtlHours) {
+        this.redis = redis;
+        this.metrics = metrics;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofMinutes(localTtlMinutes))
+                .build();
+        this.redisTtlSeconds = Duration.ofHours(redisTtlHours).toSeconds();
+    }
+
+    public static String keyOf(String text, String targetLanguage) {
+        return KEY_PREFIX + targetLanguage.trim().toLowerCase(Locale.ROOT) + ":" + sha256Hex(normalize(text));
+    }
+
+    /**
+     * 앞뒤 공백 제거 + 유니코드 NFC 정규화. 같은 문장이 다른 형태로 들어와도 같은 키가 되도록 합니다.
+     */
+    static String normalize(String text) {
+        return Normalizer.normalize(text.strip(), Normalizer.Form.NFC);
+    }
+
+    /**
+     * 여러 키를 한 번에 조회합니다. 로컬에 없는 키만 Redis MGET 한 번으로 가져오고,
+     * Redis 적중 값은 로컬에도 채워 둡니다.
+     *
+     * @return 찾은 키 → 번역문 (없는 키는 포함하지 않음)
+     */
+    public Map<String, String> getAll(Collection<String> keys) {
+        Map<String, String> found = new HashMap<>(local.getAllPresent(keys));
+        metrics.recordLocal(found.size(), keys.size() - found.size());
+
+        List<String> remaining = keys.stream()
+                .filter(key -> !found.containsKey(key))
+                .toList();
+        if (remaining.isEmpty()) {
+            return found;
+        }
+
+        try {
+            List<String> values = redis.opsForValue().multiGet(remaining);
+            int hits = 0;
+            if (values != null) {
+                for (int i = 0; i < remaining.size(); i++) {
+                    String value = values.get(i);
+                    if (value != null) {
+                        found.put(remaining.get(i), value);
+                        local.put(remaining.get(i), value);
+                        hits++;
+                    }
+                }
+            }
+            metrics.recordRedis(hits, remaining.size() - hits);
+        } catch (RuntimeException e) {
+            metrics.recordRedisError();
+            log.warn("번역 캐시 Redis 조회 실패, 번역 API로 대체합니다. keys={}", remaining.size(), e);
+        }
+        return found;
+    }
+
+    /**
+     * 새로 번역한 결과를 두 계층 모두에 저장합니다. Redis 저장은 파이프라인 한 번으로 처리합니다.
+     */
+    public void putAll(Map<String, String> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        local.putAll(entries);
+
+        try {
+            redis.executePipelined((RedisCallback<Object>) connection -> {
+                entries.forEach((key, value) -> connection.stringCommands().setEx(
+                        key.getBytes(StandardCharsets.UTF_8),
+                        redisTtlSeconds,
+                        value.getBytes(StandardCharsets.UTF_8)
+                ));
+                return null;
+            });
+        } catch (RuntimeException e) {
+            metrics.recordRedisError();
+            log.warn("번역 캐시 Redis 저장 실패. entries={}", entries.size(), e);
+        }
+    }
+
+    private static String sha256Hex(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -1,10 +1,10 @@
 package core.global.service;
 
-import com.google.cloud.translate.v3.*;
 import core.domain.user.entity.User;
 import core.domain.user.repository.UserRepository;
 import core.global.enums.ErrorCode;
 import core.global.exception.BusinessException;
+import core.global.metrics.TranslationCacheMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -12,7 +12,9 @@ import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Service
@@ -20,43 +22,21 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class TranslationService {
 
-    @Value("${google.cloud.project.id}")
-    private String projectId;
+    @Value("${app.translation.batch.timeout-ms:10000}")
+    private long batchTimeoutMillis;
     private final UserRepository userRepository;
+    private final TranslationBatcher translationBatcher;
+    private final TranslationCache translationCache;
+    private final TranslationCacheMetrics translationCacheMetrics;
+    private final LanguageDetector languageDetector;
 
     public List<String> translateMessages(List<String> messages, String targetLanguage) {
         if (messages == null || messages.isEmpty() || targetLanguage == null || targetLanguage.isEmpty()) {
             return messages;
         }
-
-         try (TranslationServiceClient client = TranslationServiceClient.create()) {
-            LocationName parent = LocationName.of(projectId, "global");
-
-            TranslateTextRequest request = TranslateTextRequest.newBuilder()
-                    .setParent(parent.toString())
-                    .setMimeType("text/plain")
-                    .setTargetLanguageCode(targetLanguage)
-                    .addAllContents(messages)
-                    .build();
-
-            TranslateTextResponse response = client.translateText(request);
-
-            return response.getTranslationsList().stream()
-                    .map(Translation::getTranslatedText)
-                    .collect(Collectors.toList());
-
-        } catch (Exception e) {
-            log.error(">>>> [GOOGLE_TRANSLATE_API_ERROR] Google 번역 API 호출 실패! 상세 원인: ", e);
-            throw new BusinessException(
-                    ErrorCode.TRANSLATE_FAIL.getErrorCode(),
-                    ErrorCode.TRANSLATE_FAIL,
-                    ErrorCode.TRANSLATE_FAIL.getMessage(),
-                    e
-            );
-        }
+        return translateWithCache(messages, targetLanguage);
     }
 
-
     @Transactional
     public void saveUserLanguage(Authentication auth, String language) {
         User user = userRepository.findByEmail(auth.getName())
@@ -73,30 +53,7 @@ public class TranslationService {
         if (post == null || post.isEmpty() || targetLanguage == null || targetLanguage.isEmpty()) {
             return post;
         }
-
-        try (TranslationServiceClient client = TranslationServiceClient.create()) {
-            LocationName parent = LocationName.of(projectId, "global");
-
-            TranslateTextRequest request = TranslateTextRequest.newBuilder()
-                    .setParent(parent.toString())
-                    .setMimeType("text/plain")
-                    .setTargetLanguageCode(targetLanguage)
-                    .addContents(post)
-                    .build();
-
-            TranslateTextResponse response = client.translateText(request);
-
-            return response.getTranslationsList().get(0).getTranslatedText();
-
-        } catch (Exception e) {
-            log.error(">>>> [GOOGLE_TRANSLATE_API_ERROR] Google 번역 API 호출 실패! 상세 원인: ", e);
-            throw new BusinessException(
-                    ErrorCode.TRANSLATE_FAIL.getErrorCode(),
-                    ErrorCode.TRANSLATE_FAIL,
-                    ErrorCode.TRANSLATE_FAIL.getMessage(),
-                    e
-            );
-        }
+        return translateWithCache(List.of(post), targetLanguage).get(0);
     }
 
 
@@ -104,24 +61,66 @@ public class TranslationService {
         if (comments == null || comments.isEmpty() || targetLanguage == null || targetLanguage.isEmpty()) {
             return comments;
         }
+        return translateWithCache(comments, targetLanguage);
+    }
 
-        try (TranslationServiceClient client = TranslationServiceClient.create()) {
-            LocationName parent = LocationName.of(projectId, "global");
-
-            TranslateTextRequest request = TranslateTextRequest.newBuilder()
-                    .setParent(parent.toString())
-                    .setMimeType("text/plain")
-                    .setTargetLanguageCode(targetLanguage)
-                    .addAllContents(comments)
-                    .build();
-
-            TranslateTextResponse response = client.translateText(request);
+    /**
+     * 캐시에서 한 번에 조회한 뒤, 없는 원문만 중복 없이 모아 번역 API 를 한 번 호출합니다.
+     * 반환 목록의 순서/크기는 입력과 같습니다.
+     * 빈 문자열, 글자가 없는 텍스트(이모지/URL/숫자/문장부호), 이미 대상 언어로 쓰인 텍스트는 번역하지 않고 그대로 돌려줍니다.
+     */
+    private List<String> translateWithCache(List<String> texts, String targetLanguage) {
+        List<String> keys = texts.stream()
+                .map(text -> needsTranslation(text, targetLanguage) ? TranslationCache.keyOf(text, targetLanguage) : null)
+                .toList();
+
+        Map<String, String> translated = translationCache.getAll(
+                keys.stream().filter(Objects::nonNull).collect(Collectors.toCollection(LinkedHashSet::new)));
+
+        Map<String, String> missTextByKey = new LinkedHashMap<>();
+        long savedBytes = 0;
+        for (int i = 0; i < texts.size(); i++) {
+            String key = keys.get(i);
+            if (key == null) {
+                continue;
+            }
+            if (translated.containsKey(key)) {
+                savedBytes += utf8Length(texts.get(i));
+            } else {
+                missTextByKey.putIfAbsent(key, texts.get(i));
+            }
+        }
+        translationCacheMetrics.recordSavedBytes(savedBytes);
+
+        if (!missTextByKey.isEmpty()) {
+            List<String> missTexts = new ArrayList<>(missTextByKey.values());
+            List<String> results = callTranslateApi(missTexts, targetLanguage);
+
+            Map<String, String> fresh = new HashMap<>();
+            Iterator<String> missKeys = missTextByKey.keySet().iterator();
+            for (String result : results) {
+                fresh.put(missKeys.next(), result);
+            }
+            translated.putAll(fresh);
+            translationCache.putAll(fresh);
+        }
 
-            return response.getTranslationsList().stream()
-                    .map(Translation::getTranslatedText)
-                    .collect(Collectors.toList());
+        List<String> out = new ArrayList<>(texts.size());
+        for (int i = 0; i < texts.size(); i++) {
+            String key = keys.get(i);
+            out.add(key == null ? texts.get(i) : translated.get(key));
+        }
+        return out;
+    }
 
+    private List<String> callTranslateApi(List<String> contents, String targetLanguage) {
+        try {
+            return translationBatcher.submit(contents, targetLanguage)
+                    .get(batchTimeoutMillis, TimeUnit.MILLISECONDS);
         } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
             log.error(">>>> [GOOGLE_TRANSLATE_API_ERROR] Google 번역 API 호출 실패! 상세 원인: ", e);
             throw new BusinessException(
                     ErrorCode.TRANSLATE_FAIL.getErrorCode(),
@@ -132,5 +131,22 @@ public class TranslationService {
         }
     }
 
+    private boolean needsTranslation(String text, String targetLanguage) {
+        if (text == null || text.isBlank()) {
+            return false;
+        }
+        if (languageDetector.hasNoLetters(text)) {
+            translationCacheMetrics.recordSkipped("no_letters");
+            return false;
+        }
+        if (languageDetector.isConfidentlyIn(text, targetLanguage)) {
+            translationCacheMetrics.recordSkipped("same_language");
+            return false;
+        }
+        return true;
+    }
 
-}
\ No newline at end of file
+    private static long utf8Length(String text) {
+        return text.getBytes(StandardCharsets.UTF_8).length;
+    }
+}
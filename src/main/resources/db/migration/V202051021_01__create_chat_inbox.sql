@@ -0,0 +1,90 @@
+-- 채팅방 목록 읽기 모델 (user, room) 당 한 행
+CREATE TABLE IF NOT EXISTS chat_inbox (
+    chat_inbox_id        BIGSERIAL PRIMARY KEY,
+    user_id              BIGINT       NOT NULL,
+    chatroom_id          BIGINT       NOT NULL,
+    opponent_id          BIGINT       NULL,
+    room_name            VARCHAR(255) NULL,
+    room_image_url       VARCHAR(150) NULL,
+    last_message_content TEXT         NULL,
+    last_message_at      TIMESTAMP(6) WITH TIME ZONE NULL,
+    unread_count         INTEGER      NOT NULL DEFAULT 0,
+    participant_count    INTEGER      NOT NULL DEFAULT 0,
+    updated_at           TIMESTAMP(6) WITH TIME ZONE NULL,
+    CONSTRAINT uk_chat_inbox_user_room UNIQUE (user_id, chatroom_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_chat_inbox_room ON chat_inbox (chatroom_id);
+
+-- 기존 ACTIVE 참여 정보로 채워 넣기 (image_type: USER = 1, CHAT_ROOM = 2 ordinal)
+INSERT INTO chat_inbox (user_id, chatroom_id, opponent_id, room_name, room_image_url,
+                        last_message_content, last_message_at, unread_count, participant_count, updated_at)
+SELECT me.user_id,
+       cr.chatroom_id,
+       opp.user_id,
+       CASE WHEN cr.is_group THEN cr.room_name
+            WHEN opp.user_id IS NULL THEN '(알 수 없는 사용자)'
+            ELSE COALESCE(opp.first_name, '') || ' ' || COALESCE(opp.last_name, '') END,
+       img.url,
+       lm.content,
+       lt.sent_at,
+       uc.unread_count,
+       pc.participant_count,
+       now()
+FROM chat_participant me
+JOIN chat_room cr ON cr.chatroom_id = me.chatroom_id
+CROSS JOIN LATERAL (
+    SELECT COUNT(*) AS participant_count
+    FROM chat_participant p
+    WHERE p.chatroom_id = cr.chatroom_id
+) pc
+LEFT JOIN LATERAL (
+    SELECT u.user_id, u.first_name, u.last_name
+    FROM chat_participant p
+    JOIN users u ON u.user_id = p.user_id
+    WHERE p.chatroom_id = cr.chatroom_id
+      AND p.user_id <> me.user_id
+      AND cr.is_group = false
+    ORDER BY p.joined_at ASC
+    LIMIT 1
+) opp ON true
+LEFT JOIN LATERAL (
+    SELECT m.sent_at
+    FROM chat_message m
+    WHERE m.chatroom_id = cr.chatroom_id
+    ORDER BY m.sent_at DESC
+    LIMIT 1
+) lt ON true
+LEFT JOIN LATERAL (
+    SELECT m.content
+    FROM chat_message m
+    WHERE m.chatroom_id = cr.chatroom_id
+      AND NOT EXISTS (
+          SELECT 1 FROM block_user b
+          WHERE b.user_id = me.user_id AND b.people_id = m.sender_id
+      )
+    ORDER BY m.sent_at DESC
+    LIMIT 1
+) lm ON true
+CROSS JOIN LATERAL (
+    SELECT COUNT(*) AS unread_count
+    FROM chat_message m
+    WHERE m.chatroom_id = cr.chatroom_id
+      AND m.message_id > COALESCE(me.last_read_message_id, 0)
+      AND m.sender_id <> me.user_id
+) uc
+LEFT JOIN LATERAL (
+    SELECT i.url
+    FROM image i
+    WHERE (cr.is_group = true AND i.image_type = 2 AND i.related_id = cr.chatroom_id)
+       OR (cr.is_group = false AND i.image_type = 1 AND i.related_id = opp.user_id)
+    ORDER BY i.order_index ASC
+    LIMIT 1
+) img ON true
+WHERE me.status = 'ACTIVE'
+  AND NOT EXISTS (
+      SELECT 1 FROM chat_participant sp
+      JOIN users su ON su.user_id = sp.user_id
+      WHERE sp.chatroom_id = cr.chatroom_id AND su.provider = 'SYSTEM'
+  )
+ON CONFLICT (user_id, chatroom_id) DO NOTHING;
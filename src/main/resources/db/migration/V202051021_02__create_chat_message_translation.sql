@@ -0,0 +1,13 @@
+-- 채팅 메시지 언어별 번역 저장 (message, language) 당 한 행
+CREATE TABLE IF NOT EXISTS chat_message_translation (
+    translation_id BIGSERIAL PRIMARY KEY,
+    message_id     BIGINT      NOT NULL,
+    chatroom_id    BIGINT      NOT NULL,
+    language       VARCHAR(16) NOT NULL,
+    content        TEXT        NOT NULL,
+    created_at     TIMESTAMP(6) WITH TIME ZONE NULL,
+    CONSTRAINT uk_chat_message_translation_message_lang UNIQUE (message_id, language)
+);
+
+CREATE INDEX IF NOT EXISTS idx_chat_message_translation_room_lang
+    ON chat_message_translation (chatroom_id, language);
@@ -0,0 +1,11 @@
+-- flyway:executeInTransaction=false
+SET lock_timeout = '5s';
+SET statement_timeout = '30min';
+
+-- 채팅 번역문 검색용 (CJK/혼합 범용 바이그램)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS chat_message_translation_content_pgroonga
+    ON chat_message_translation USING pgroonga (content)
+    WITH (
+    tokenizer   = 'TokenBigramSplitSymbolAlphaDigit',
+    normalizers = 'NormalizerNFKC100'
+    );
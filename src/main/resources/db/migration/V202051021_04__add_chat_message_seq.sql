@@ -0,0 +1,28 @@
+-- 방별 메시지 순번: chat_room.last_seq 가 방에서 마지막으로 발급한 번호, chat_message.seq 가 메시지 번호
+-- 안 읽은 수 = chat_room.last_seq - chat_participant.last_read_seq
+ALTER TABLE chat_room ADD COLUMN IF NOT EXISTS last_seq BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE chat_message ADD COLUMN IF NOT EXISTS seq BIGINT;
+ALTER TABLE chat_participant ADD COLUMN IF NOT EXISTS last_read_seq BIGINT NOT NULL DEFAULT 0;
+
+-- 기존 메시지는 방 안에서 message_id 순서대로 1부터 번호를 매깁니다.
+UPDATE chat_message m
+SET seq = numbered.seq
+FROM (
+    SELECT message_id, ROW_NUMBER() OVER (PARTITION BY chatroom_id ORDER BY message_id) AS seq
+    FROM chat_message
+) numbered
+WHERE m.message_id = numbered.message_id;
+
+UPDATE chat_room r
+SET last_seq = COALESCE((SELECT MAX(m.seq) FROM chat_message m WHERE m.chatroom_id = r.chatroom_id), 0);
+
+UPDATE chat_participant p
+SET last_read_seq = COALESCE((
+    SELECT MAX(m.seq) FROM chat_message m
+    WHERE m.chatroom_id = p.chatroom_id
+      AND m.message_id <= p.last_read_message_id
+), 0)
+WHERE p.last_read_message_id IS NOT NULL;
+
+ALTER TABLE chat_message ALTER COLUMN seq SET NOT NULL;
+CREATE UNIQUE INDEX IF NOT EXISTS uk_chat_message_room_seq ON chat_message (chatroom_id, seq);
@@ -0,0 +1,16 @@
+-- 나간 참여자가 볼 수 있는 범위를 시각(last_left_at) 대신 메시지 ID 하한으로 둡니다.
+-- 나간 시점의 방 마지막 메시지 ID. 이 값보다 큰 메시지만 보입니다.
+-- 컬럼 추가와 기존 행 채우기는 한 트랜잭션이라, 채우다 실패하면 컬럼도 남지 않고 다음 실행에서 처음부터 다시 합니다.
+SET LOCAL lock_timeout = '5s';
+
+ALTER TABLE chat_participant ADD COLUMN IF NOT EXISTS left_after_message_id BIGINT;
+
+UPDATE chat_participant p
+SET left_after_message_id = COALESCE((
+    SELECT MAX(m.message_id) FROM chat_message m
+    WHERE m.chatroom_id = p.chatroom_id
+      AND m.sent_at <= p.last_left_at
+), 0)
+WHERE p.status = 'LEFT'
+  AND p.last_left_at IS NOT NULL
+  AND p.left_after_message_id IS NULL;
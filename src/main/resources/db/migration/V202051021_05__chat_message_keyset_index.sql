@@ -0,0 +1,11 @@
+-- flyway:executeInTransaction=false
+-- CONCURRENTLY 는 트랜잭션 안에서 실행할 수 없으므로 이 파일에는 인덱스만 둡니다.
+-- (컬럼 추가와 기존 행 채우기는 V202051021_05_1 에서 한 트랜잭션으로 합니다.)
+-- 중간에 실패하면 INVALID 인덱스가 남을 수 있으니 DROP INDEX CONCURRENTLY 후 다시 실행합니다.
+SET lock_timeout = '5s';
+SET statement_timeout = '30min';
+
+-- 채팅 기록 키셋 페이지네이션: WHERE chatroom_id = ? AND message_id < ? ORDER BY message_id DESC LIMIT n
+-- 방의 최신 메시지(findTopByChatRoomIdOrderByIdDesc) 와 특정 메시지 주변 조회도 같은 인덱스의 범위 스캔으로 끝납니다.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_chat_message_room_id_desc
+    ON chat_message (chatroom_id, message_id DESC);
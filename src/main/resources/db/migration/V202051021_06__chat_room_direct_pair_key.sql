@@ -0,0 +1,27 @@
+-- 1:1 채팅방을 두 사용자 ID 로 바로 찾기 위한 키: 'min(userId):max(userId)'. 그룹 방은 NULL 입니다.
+ALTER TABLE chat_room ADD COLUMN IF NOT EXISTS direct_pair_key VARCHAR(40);
+
+-- 참여자가 정확히 두 명인 기존 1:1 방에 키를 채웁니다.
+-- 같은 쌍의 방이 이미 여러 개 있으면 가장 먼저 만든 방만 키를 가지고, 나머지는 기존 방으로만 남습니다.
+WITH pairs AS (
+    SELECT cp.chatroom_id,
+           MIN(cp.user_id)::text || ':' || MAX(cp.user_id)::text AS pair_key
+    FROM chat_participant cp
+    JOIN chat_room r ON r.chatroom_id = cp.chatroom_id
+    WHERE r.is_group = false
+    GROUP BY cp.chatroom_id
+    HAVING COUNT(DISTINCT cp.user_id) = 2
+), ranked AS (
+    SELECT chatroom_id, pair_key,
+           ROW_NUMBER() OVER (PARTITION BY pair_key ORDER BY chatroom_id) AS rn
+    FROM pairs
+)
+UPDATE chat_room r
+SET direct_pair_key = ranked.pair_key
+FROM ranked
+WHERE r.chatroom_id = ranked.chatroom_id
+  AND ranked.rn = 1
+  AND r.direct_pair_key IS NULL;
+
+-- 같은 두 사용자의 1:1 방은 하나만 존재합니다. (동시 생성 요청은 INSERT ... ON CONFLICT 로 합쳐집니다)
+CREATE UNIQUE INDEX IF NOT EXISTS uk_chat_room_direct_pair_key ON chat_room (direct_pair_key);
@@ -0,0 +1,15 @@
+-- 방의 ACTIVE 참여자 수. 그룹 채팅방 생성/입장/퇴장 시 ChatRoomRepository#refreshParticipantCount 로 다시 셉니다.
+-- 인기 그룹 채팅방 정렬이 방마다 참여자를 세지 않도록 합니다.
+ALTER TABLE chat_room ADD COLUMN IF NOT EXISTS participant_count INT NOT NULL DEFAULT 0;
+
+UPDATE chat_room r
+SET participant_count = (
+    SELECT COUNT(*) FROM chat_participant p
+    WHERE p.chatroom_id = r.chatroom_id
+      AND p.status = 'ACTIVE'
+);
+
+-- Redis 순위표를 쓸 수 없을 때의 인기 그룹 채팅방 조회용
+CREATE INDEX IF NOT EXISTS idx_chat_room_group_popular
+    ON chat_room (participant_count DESC, chatroom_id DESC)
+    WHERE is_group = true;
@@ -0,0 +1,19 @@
+-- flyway:executeInTransaction=false
+SET lock_timeout = '5s';
+SET statement_timeout = '30min';
+
+-- 그룹 채팅방 이름 검색용 (CJK/혼합 범용 바이그램, 대소문자/전각 무시)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS chat_room_room_name_pgroonga
+    ON chat_room USING pgroonga (room_name)
+    WITH (
+    tokenizer   = 'TokenBigramSplitSymbolAlphaDigit',
+    normalizers = 'NormalizerNFKC100'
+    );
+
+-- 채팅방 내 원문 메시지 검색용. 방/커서 조건은 (chatroom_id, message_id DESC) 인덱스와 함께 씁니다.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS chat_message_content_pgroonga
+    ON chat_message USING pgroonga (content)
+    WITH (
+    tokenizer   = 'TokenBigramSplitSymbolAlphaDigit',
+    normalizers = 'NormalizerNFKC100'
+    );
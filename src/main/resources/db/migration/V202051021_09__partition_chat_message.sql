@@ -0,0 +1,125 @@
+-- chat_message 를 sent_at 기준 월 단위 범위 파티션(chat_message_pYYYYMM, UTC 월 경계)으로 바꿉니다.
+-- 보관 기간이 지난 달은 ChatMessageArchiver 가 chat_message_archive 로 옮기고 파티션째 지우므로,
+-- 최근 메시지 테이블의 인덱스 크기와 vacuum 비용은 기록이 쌓여도 보관 기간만큼으로 유지됩니다.
+--
+-- 파티션 키가 기본 키에 들어가야 하므로 기본 키는 (message_id, sent_at) 이고, (chatroom_id, seq) 는 일반 인덱스가 됩니다.
+-- (방 순번은 chat_room.last_seq 행을 잠그고 발급하므로 유니크 인덱스 없이도 겹치지 않습니다.)
+-- 다음 달 파티션은 ChatMessageArchiver 가 미리 만들어 둡니다. 작업이 밀려 그 달 파티션이 없더라도 저장이 실패하지 않도록
+-- 기본 파티션(chat_message_default)을 두고, 나중에 그 달 파티션을 만들 때 기본 파티션에 들어간 행을 옮겨 담습니다.
+--
+-- 기존 테이블을 옮겨 담고 인덱스를 다시 만드는 동안 chat_message 는 한 트랜잭션 안에서 잠겨 있으므로,
+-- 메시지 수에 비례하는 시간만큼 채팅 저장/조회가 멈춥니다. 트래픽이 적은 시간에 배포합니다.
+SET LOCAL lock_timeout = '5s';
+SET LOCAL statement_timeout = '60min';
+
+ALTER TABLE chat_message RENAME TO chat_message_legacy;
+
+CREATE SEQUENCE IF NOT EXISTS chat_message_id_seq;
+
+CREATE TABLE chat_message (
+    message_id   BIGINT       NOT NULL DEFAULT nextval('chat_message_id_seq'),
+    chatroom_id  BIGINT       NOT NULL,
+    sender_id    BIGINT       NOT NULL,
+    content      TEXT         NOT NULL,
+    sent_at      TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    message_type VARCHAR(255) NOT NULL,
+    seq          BIGINT       NOT NULL
+) PARTITION BY RANGE (sent_at);
+
+ALTER SEQUENCE chat_message_id_seq OWNED BY chat_message.message_id;
+
+CREATE TABLE chat_message_default PARTITION OF chat_message DEFAULT;
+
+-- 월 파티션 하나를 만들고 이름을 돌려줍니다. 이미 있으면 아무것도 하지 않습니다.
+-- 그 달 메시지가 이미 기본 파티션에 들어가 있으면 기본 파티션을 잠깐 떼어 내 새 파티션으로 옮긴 뒤 다시 붙입니다.
+CREATE OR REPLACE FUNCTION chat_message_ensure_partition(month_start date)
+    RETURNS text
+    LANGUAGE plpgsql
+AS $$
+DECLARE
+    from_month     date := date_trunc('month', month_start)::date;
+    from_ts        timestamptz := from_month::timestamp AT TIME ZONE 'UTC';
+    to_ts          timestamptz := (from_month + interval '1 month')::timestamp AT TIME ZONE 'UTC';
+    partition_name text := 'chat_message_p' || to_char(from_month, 'YYYYMM');
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN partition_name;
+    END IF;
+
+    IF NOT EXISTS (SELECT 1 FROM chat_message_default WHERE sent_at >= from_ts AND sent_at < to_ts) THEN
+        EXECUTE format('CREATE TABLE %I PARTITION OF chat_message FOR VALUES FROM (%L) TO (%L)',
+                       partition_name, from_ts, to_ts);
+        RETURN partition_name;
+    END IF;
+
+    ALTER TABLE chat_message DETACH PARTITION chat_message_default;
+    EXECUTE format('CREATE TABLE %I PARTITION OF chat_message FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, from_ts, to_ts);
+    WITH moved AS (
+        DELETE FROM chat_message_default
+        WHERE sent_at >= from_ts AND sent_at < to_ts
+        RETURNING message_id, chatroom_id, sender_id, content, sent_at, message_type, seq
+    )
+    INSERT INTO chat_message (message_id, chatroom_id, sender_id, content, sent_at, message_type, seq)
+    SELECT message_id, chatroom_id, sender_id, content, sent_at, message_type, seq FROM moved;
+    ALTER TABLE chat_message ATTACH PARTITION chat_message_default DEFAULT;
+    RETURN partition_name;
+END;
+$$;
+
+-- 가장 오래된 메시지의 달부터 석 달 뒤까지
+DO $$
+DECLARE
+    month_start date;
+BEGIN
+    FOR month_start IN
+        SELECT generate_series(
+                       date_trunc('month', COALESCE((SELECT MIN(sent_at) FROM chat_message_legacy), now()) AT TIME ZONE 'UTC'),
+                       date_trunc('month', now() AT TIME ZONE 'UTC') + interval '3 months',
+                       interval '1 month')::date
+    LOOP
+        PERFORM chat_message_ensure_partition(month_start);
+    END LOOP;
+END;
+$$;
+
+INSERT INTO chat_message (message_id, chatroom_id, sender_id, content, sent_at, message_type, seq)
+SELECT message_id, chatroom_id, sender_id, content, COALESCE(sent_at, now()), message_type, seq
+FROM chat_message_legacy;
+
+SELECT setval('chat_message_id_seq', COALESCE((SELECT MAX(message_id) FROM chat_message), 0) + 1, false);
+
+DROP TABLE chat_message_legacy;
+
+-- 인덱스는 옮겨 담은 뒤에 한 번에 만듭니다. 새 파티션에는 자동으로 같은 인덱스가 생깁니다.
+ALTER TABLE chat_message ADD CONSTRAINT chat_message_pkey PRIMARY KEY (message_id, sent_at);
+ALTER TABLE chat_message ADD CONSTRAINT fk_chat_message_chat_room
+    FOREIGN KEY (chatroom_id) REFERENCES chat_room (chatroom_id);
+ALTER TABLE chat_message ADD CONSTRAINT fk_chat_message_sender
+    FOREIGN KEY (sender_id) REFERENCES users (user_id);
+
+CREATE INDEX idx_chat_message_room_id_desc ON chat_message (chatroom_id, message_id DESC);
+CREATE INDEX idx_chat_message_room_seq ON chat_message (chatroom_id, seq);
+CREATE INDEX chat_message_content_pgroonga
+    ON chat_message USING pgroonga (content)
+    WITH (
+    tokenizer   = 'TokenBigramSplitSymbolAlphaDigit',
+    normalizers = 'NormalizerNFKC100'
+    );
+
+-- 보관 메시지. 최근 테이블과 같은 컬럼이고, 파티션을 옮길 때 한 번 쓰고 나면 지울 때 말고는 바뀌지 않습니다.
+-- 방/사용자 삭제는 애플리케이션이 직접 지우므로 외래 키는 두지 않습니다.
+CREATE TABLE IF NOT EXISTS chat_message_archive (
+    message_id   BIGINT       PRIMARY KEY,
+    chatroom_id  BIGINT       NOT NULL,
+    sender_id    BIGINT       NOT NULL,
+    content      TEXT         NOT NULL,
+    sent_at      TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    message_type VARCHAR(255) NOT NULL,
+    seq          BIGINT       NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_chat_message_archive_room_id_desc
+    ON chat_message_archive (chatroom_id, message_id DESC);
+CREATE INDEX IF NOT EXISTS idx_chat_message_archive_sender
+    ON chat_message_archive (sender_id);
@@ -0,0 +1,35 @@
+package core.domain.chat.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatMessageArchiverTest {
+
+    @Test
+    @DisplayName("이번 달 기준 보관 기간보다 오래된 월 파티션만 오래된 순서로 고른다")
+    void selectsPartitionsOlderThanHotWindow() {
+        List<String> partitions = List.of("chat_message_p202605", "chat_message_p202603", "chat_message_p202604",
+                "chat_message_p202610", "chat_message_p202511", "chat_message_legacy");
+
+        List<String> selected = ChatMessageArchiver.partitionsToArchive(partitions, YearMonth.of(2026, 10), 6);
+
+        assertThat(selected).containsExactly("chat_message_p202511", "chat_message_p202603");
+    }
+
+    @Test
+    @DisplayName("이번 달부터 빈틈없이 이어진 파티션 개월 수를 센다")
+    void countsMonthsAhead() {
+        YearMonth current = YearMonth.of(2026, 12);
+
+        assertThat(ChatMessageArchiver.monthsAhead(
+                List.of("chat_message_p202612", "chat_message_p202701", "chat_message_p202703", "chat_message_default"), current))
+                .isEqualTo(1);
+        assertThat(ChatMessageArchiver.monthsAhead(List.of("chat_message_p202612"), current)).isZero();
+        assertThat(ChatMessageArchiver.monthsAhead(List.of("chat_message_p202701"), current)).isEqualTo(-1);
+    }
+}
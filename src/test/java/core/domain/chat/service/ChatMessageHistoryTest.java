@@ -0,0 +1,159 @@
+package core.domain.chat.service;
+
+import core.domain.chat.entity.ChatMessage;
+import core.domain.chat.entity.ChatRoom;
+import core.domain.chat.repository.ChatMessageRepository;
+import core.domain.user.entity.User;
+import core.global.exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class ChatMessageHistoryTest {
+
+    private static final Long ROOM_ID = 7L;
+    /** 1..ARCHIVED_UNTIL 은 보관 테이블, 그 뒤 LAST_ID 까지는 최근 파티션 */
+    private static final long ARCHIVED_UNTIL = 100;
+    private static final long LAST_ID = 130;
+
+    private final ChatMessageRepository chatMessageRepository = mock(ChatMessageRepository.class);
+    private final ChatMessageHistory history = new ChatMessageHistory(chatMessageRepository);
+    private final ChatRoom room = new ChatRoom();
+    private final User sender = new User();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(room, "id", ROOM_ID);
+        ReflectionTestUtils.setField(sender, "id", 2L);
+
+        given(chatMessageRepository.findPageBefore(eq(ROOM_ID), anyLong(), anyLong(), any(Pageable.class))).willAnswer(invocation -> {
+            long beforeId = invocation.getArgument(1);
+            long floorId = invocation.getArgument(2);
+            Pageable page = invocation.getArgument(3);
+            List<ChatMessage> rows = recent(id -> id < beforeId && id > floorId, true, page.getPageSize() + 1);
+            boolean hasNext = rows.size() > page.getPageSize();
+            return new SliceImpl<>(hasNext ? rows.subList(0, page.getPageSize()) : rows, page, hasNext);
+        });
+        given(chatMessageRepository.findTop21ByChatRoomIdAndIdLessThanEqualOrderByIdDesc(eq(ROOM_ID), anyLong())).willAnswer(invocation -> {
+            long targetId = invocation.getArgument(1);
+            return recent(id -> id <= targetId, true, 21);
+        });
+        given(chatMessageRepository.findTop20ByChatRoomIdAndIdGreaterThanOrderByIdAsc(eq(ROOM_ID), anyLong())).willAnswer(invocation -> {
+            long afterId = invocation.getArgument(1);
+            return recent(id -> id > afterId, false, 20);
+        });
+        given(chatMessageRepository.findArchivedBefore(eq(ROOM_ID), anyLong(), anyLong(), anyInt())).willAnswer(invocation -> {
+            long beforeId = invocation.getArgument(1);
+            long floorId = invocation.getArgument(2);
+            return archived(id -> id < beforeId && id > floorId, true, invocation.getArgument(3));
+        });
+        given(chatMessageRepository.findArchivedAfter(eq(ROOM_ID), anyLong(), anyInt())).willAnswer(invocation -> {
+            long afterId = invocation.getArgument(1);
+            return archived(id -> id > afterId, false, invocation.getArgument(2));
+        });
+    }
+
+    private List<ChatMessage> recent(Predicate<Long> filter, boolean newestFirst, int limit) {
+        return select(LongStream.rangeClosed(ARCHIVED_UNTIL + 1, LAST_ID), filter, newestFirst, limit);
+    }
+
+    private List<ChatMessage> archived(Predicate<Long> filter, boolean newestFirst, int limit) {
+        return select(LongStream.rangeClosed(1, ARCHIVED_UNTIL), filter, newestFirst, limit);
+    }
+
+    private List<ChatMessage> select(LongStream ids, Predicate<Long> filter, boolean newestFirst, int limit) {
+        Comparator<Long> order = newestFirst ? Comparator.reverseOrder() : Comparator.naturalOrder();
+        return ids.boxed().filter(filter).sorted(order).limit(limit).map(this::message).toList();
+    }
+
+    private ChatMessage message(long id) {
+        ChatMessage message = new ChatMessage(room, sender, "message-" + id);
+        ReflectionTestUtils.setField(message, "id", id);
+        return message;
+    }
+
+    private static List<Long> ids(List<ChatMessage> messages) {
+        return messages.stream().map(ChatMessage::getId).toList();
+    }
+
+    @Nested
+    @DisplayName("pageBefore")
+    class PageBefore {
+
+        @Test
+        @DisplayName("최근 파티션만으로 채워지면 보관 테이블은 조회하지 않는다")
+        void staysInRecentPartitions() {
+            Slice<ChatMessage> page = history.pageBefore(ROOM_ID, Long.MAX_VALUE, 0L, 20);
+
+            assertThat(ids(page.getContent())).startsWith(130L).endsWith(111L);
+            assertThat(page.hasNext()).isTrue();
+            verify(chatMessageRepository, never()).findArchivedBefore(anyLong(), anyLong(), anyLong(), anyInt());
+        }
+
+        @Test
+        @DisplayName("커서가 최근 구간 끝을 넘으면 모자란 만큼 보관 테이블에서 이어 읽는다")
+        void continuesIntoArchive() {
+            Slice<ChatMessage> page = history.pageBefore(ROOM_ID, 111L, 0L, 20);
+
+            assertThat(ids(page.getContent())).startsWith(110L).endsWith(91L).doesNotHaveDuplicates().hasSize(20);
+            assertThat(page.hasNext()).isTrue();
+        }
+
+        @Test
+        @DisplayName("보관 테이블도 나간 참여자의 하한을 지키고, 끝에 닿으면 hasNext 가 false 다")
+        void respectsFloorInArchive() {
+            Slice<ChatMessage> page = history.pageBefore(ROOM_ID, 105L, 95L, 20);
+
+            assertThat(ids(page.getContent())).containsExactly(104L, 103L, 102L, 101L, 100L, 99L, 98L, 97L, 96L);
+            assertThat(page.hasNext()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("around")
+    class Around {
+
+        @Test
+        @DisplayName("최근 구간 가장자리의 메시지는 이전 메시지를 보관 테이블에서 채운다")
+        void fillsOlderFromArchive() {
+            List<ChatMessage> messages = history.around(ROOM_ID, 105L);
+
+            assertThat(ids(messages)).startsWith(85L).contains(105L).endsWith(125L).hasSize(41).isSorted();
+        }
+
+        @Test
+        @DisplayName("보관된 메시지를 중심으로 조회하면 이후 메시지는 최근 파티션까지 이어진다")
+        void aroundArchivedMessage() {
+            List<ChatMessage> messages = history.around(ROOM_ID, 95L);
+
+            assertThat(ids(messages)).startsWith(75L).contains(95L, 100L, 101L).endsWith(115L).hasSize(41).isSorted();
+        }
+
+        @Test
+        @DisplayName("어느 쪽에도 없는 메시지는 MESSAGE_NOT_FOUND")
+        void notFound() {
+            assertThatThrownBy(() -> history.around(ROOM_ID, 500L)).isInstanceOf(BusinessException.class);
+        }
+    }
+}
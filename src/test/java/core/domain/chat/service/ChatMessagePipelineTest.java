@@ -0,0 +1,195 @@
+package core.domain.chat.service;
+
+import core.domain.chat.dto.ChatMessageResponse;
+import core.domain.chat.entity.ChatParticipant;
+import core.domain.chat.entity.ChatRoom;
+import core.domain.chat.event.ChatMessageAcceptedEvent;
+import core.domain.chat.repository.ChatInboxRepository;
+import core.domain.chat.repository.ChatParticipantRepository;
+import core.domain.notification.dto.NotificationEvent;
+import core.domain.user.entity.User;
+import core.domain.user.service.BlockGraph;
+import core.global.enums.MessageType;
+import core.global.service.ChatMessageRelay;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class ChatMessagePipelineTest {
+
+    private static final Long ROOM_ID = 7L;
+    private static final Long SENDER_ID = 2L;
+    private static final Long RECIPIENT_ID = 3L;
+
+    private final ChatParticipantRepository chatParticipantRepository = mock(ChatParticipantRepository.class);
+    private final ChatMessageRelay chatMessageRelay = mock(ChatMessageRelay.class);
+    private final BlockGraph blockGraph = mock(BlockGraph.class);
+    private final ChatTranslationFanout chatTranslationFanout = mock(ChatTranslationFanout.class);
+    private final List<Object> published = Collections.synchronizedList(new ArrayList<>());
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private ChatMessagePipeline pipeline;
+
+    private ChatMessagePipeline pipeline(int lanes, int capacity, long offerTimeoutMillis) {
+        given(blockGraph.of(anyLong())).willReturn(mock(BlockGraph.Relations.class));
+        given(chatTranslationFanout.translate(any(), any(), any()))
+                .willReturn(CompletableFuture.completedFuture(Map.of()));
+        pipeline = new ChatMessagePipeline(chatParticipantRepository, mock(ChatInboxRepository.class),
+                chatTranslationFanout, mock(ChatMessageTranslationService.class), chatMessageRelay,
+                blockGraph, published::add, mock(PlatformTransactionManager.class), registry,
+                30, lanes, capacity, offerTimeoutMillis);
+        return pipeline;
+    }
+
+    @AfterEach
+    void tearDown() {
+        pipeline.shutdown();
+    }
+
+    private static ChatParticipant participant(ChatRoom room, Long userId) {
+        User user = new User();
+        ReflectionTestUtils.setField(user, "id", userId);
+        return new ChatParticipant(room, user);
+    }
+
+    private void givenParticipants() {
+        ChatRoom room = new ChatRoom();
+        ReflectionTestUtils.setField(room, "id", ROOM_ID);
+        given(chatParticipantRepository.findByChatRoomId(ROOM_ID))
+                .willReturn(List.of(participant(room, SENDER_ID), participant(room, RECIPIENT_ID)));
+    }
+
+    private static ChatMessageAcceptedEvent accepted(long messageId) {
+        return new ChatMessageAcceptedEvent(new ChatMessageResponse(messageId, ROOM_ID, SENDER_ID, "message-" + messageId,
+                null, Instant.now(), "first", "last", null, MessageType.TEXT, messageId), System.nanoTime());
+    }
+
+    private List<String> notifiedContents(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (published.size() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        synchronized (published) {
+            return published.stream().map(e -> ((NotificationEvent) e).contentSnippet()).toList();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 방의 메시지는 여러 레인에서도 받은 순서대로 전달된다")
+    void keepsOrderWithinRoom() throws InterruptedException {
+        givenParticipants();
+        pipeline(4, 100, 100);
+
+        List<String> expected = new ArrayList<>();
+        for (long id = 1; id <= 30; id++) {
+            pipeline.submit(accepted(id));
+            expected.add("message-" + id);
+        }
+
+        assertThat(notifiedContents(expected.size())).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("발신자는 커밋 직후 원문을 받고, 전달 단계에서는 다시 받지 않는다")
+    void acksSenderOnce() {
+        givenParticipants();
+        pipeline(1, 10, 100);
+
+        pipeline.submit(accepted(1));
+
+        verify(chatMessageRelay).convertAndSend(eq("/topic/user/2/7/messages"), any(ChatMessageResponse.class));
+        verify(chatMessageRelay, timeout(5_000)).send(eq("/topic/user/3/7/messages"), any());
+        verify(chatMessageRelay, never()).send(eq("/topic/user/2/7/messages"), any());
+    }
+
+    @Test
+    @DisplayName("가공 큐가 가득 차면 잠시 기다린 뒤 포기하고 거절 수를 센다")
+    void rejectsWhenQueueIsFull() throws InterruptedException {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(chatParticipantRepository.findByChatRoomId(ROOM_ID)).willAnswer(invocation -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of();
+        });
+        pipeline(1, 1, 10);
+
+        pipeline.submit(accepted(1));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        pipeline.submit(accepted(2));
+        pipeline.submit(accepted(3));
+
+        assertThat(registry.get("chat_pipeline_rejected_total").counter().count()).isEqualTo(1.0);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("번역을 기다리는 동안 가공 레인은 다음 메시지를 처리하고, 전달은 방 안의 순서를 지킨다")
+    void slowTranslationDoesNotBlockLane() throws InterruptedException {
+        givenParticipants();
+        pipeline(1, 10, 100);
+        CompletableFuture<Map<String, String>> slow = new CompletableFuture<>();
+        given(chatTranslationFanout.translate(eq("message-1"), any(), any())).willReturn(slow);
+
+        pipeline.submit(accepted(1));
+        pipeline.submit(accepted(2));
+
+        verify(chatTranslationFanout, timeout(5_000)).translate(eq("message-2"), any(), any());
+        Thread.sleep(50);
+        assertThat(published).isEmpty();
+
+        slow.complete(Map.of());
+        assertThat(notifiedContents(2)).containsExactly("message-1", "message-2");
+    }
+
+    @Test
+    @DisplayName("전달 큐가 가득 차면 기다리지 않고 프레임을 버린 뒤 버린 수를 센다")
+    void dropsWhenDeliverQueueIsFull() throws InterruptedException {
+        givenParticipants();
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(chatMessageRelay.encode(any())).willAnswer(invocation -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        });
+        pipeline(1, 1, 100);
+
+        pipeline.submit(accepted(1));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        pipeline.submit(accepted(2));
+        pipeline.submit(accepted(3));
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (droppedMessages() < 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(droppedMessages()).isEqualTo(1.0);
+        release.countDown();
+    }
+
+    private double droppedMessages() {
+        return registry.get("chat_pipeline_dropped_total").tag("frame", "message").counter().count();
+    }
+}
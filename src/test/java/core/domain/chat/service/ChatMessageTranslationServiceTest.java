@@ -0,0 +1,105 @@
+package core.domain.chat.service;
+
+import core.domain.chat.entity.ChatMessage;
+import core.domain.chat.entity.ChatMessageTranslation;
+import core.domain.chat.entity.ChatRoom;
+import core.domain.chat.repository.ChatMessageTranslationRepository;
+import core.domain.user.entity.User;
+import core.global.enums.MessageType;
+import core.global.service.TranslationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ChatMessageTranslationServiceTest {
+
+    private static final Long ROOM_ID = 7L;
+
+    private final ChatMessageTranslationRepository translationRepository = mock(ChatMessageTranslationRepository.class);
+    private final TranslationService translationService = mock(TranslationService.class);
+    private final ChatMessageTranslationService service =
+            new ChatMessageTranslationService(translationRepository, translationService);
+
+    private final ChatRoom room = room();
+
+    private static ChatRoom room() {
+        ChatRoom room = new ChatRoom();
+        ReflectionTestUtils.setField(room, "id", ROOM_ID);
+        return room;
+    }
+
+    private ChatMessage text(Long id, String content) {
+        ChatMessage message = new ChatMessage(room, new User(), content);
+        ReflectionTestUtils.setField(message, "id", id);
+        return message;
+    }
+
+    private ChatMessage image(Long id) {
+        ChatMessage message = new ChatMessage(room, new User(), "chat/7/image.png", MessageType.IMAGE);
+        ReflectionTestUtils.setField(message, "id", id);
+        return message;
+    }
+
+    private static ChatMessageTranslation stored(Long messageId, String content) {
+        ChatMessageTranslation translation = new ChatMessageTranslation();
+        ReflectionTestUtils.setField(translation, "messageId", messageId);
+        ReflectionTestUtils.setField(translation, "content", content);
+        return translation;
+    }
+
+    @Test
+    @DisplayName("저장된 번역은 재사용하고, 없는 텍스트 메시지만 번역해 insertIgnore 로 저장한다")
+    void translatesOnlyMissingText() {
+        given(translationRepository.findByMessageIdInAndLanguage(List.of(1L, 2L, 3L), "ko"))
+                .willReturn(List.of(stored(1L, "저장된 번역")));
+        given(translationService.translateMessages(List.of("second"), "ko")).willReturn(List.of("두 번째"));
+
+        Map<Long, String> result = service.translate(List.of(text(1L, "first"), text(2L, "second"), image(3L)), "ko");
+
+        assertThat(result).containsOnly(Map.entry(1L, "저장된 번역"), Map.entry(2L, "두 번째"));
+        verify(translationService).translateMessages(List.of("second"), "ko");
+        verify(translationRepository).insertIgnore(2L, ROOM_ID, "ko", "두 번째");
+        verify(translationRepository, times(1)).insertIgnore(any(), any(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("모두 저장되어 있으면 번역 API 를 부르지 않는다")
+    void skipsApiWhenAllStored() {
+        given(translationRepository.findByMessageIdInAndLanguage(List.of(1L), "ko"))
+                .willReturn(List.of(stored(1L, "저장된 번역")));
+
+        assertThat(service.translate(List.of(text(1L, "first")), "ko")).containsOnly(Map.entry(1L, "저장된 번역"));
+        verify(translationService, never()).translateMessages(anyList(), anyString());
+        verify(translationRepository, never()).insertIgnore(any(), any(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("빈 목록은 저장소도 조회하지 않는다")
+    void skipsEmptyMessages() {
+        assertThat(service.translate(List.of(), "ko")).isEmpty();
+        verify(translationRepository, never()).findByMessageIdInAndLanguage(anyList(), anyString());
+    }
+
+    @Test
+    @DisplayName("실시간 번역 저장도 언어마다 insertIgnore 로 저장해 먼저 저장된 값을 덮지 않는다")
+    void saveAllUsesInsertIgnore() {
+        service.saveAll(1L, ROOM_ID, Map.of("ko", "안녕", "ja", "こんにちは"));
+
+        verify(translationRepository).insertIgnore(1L, ROOM_ID, "ko", "안녕");
+        verify(translationRepository).insertIgnore(1L, ROOM_ID, "ja", "こんにちは");
+        verify(translationRepository, never()).save(any());
+    }
+}
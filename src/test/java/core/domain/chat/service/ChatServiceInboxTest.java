@@ -0,0 +1,158 @@
+package core.domain.chat.service;
+
+import core.domain.chat.dto.ChatRoomSummaryResponse;
+import core.domain.chat.entity.ChatInbox;
+import core.domain.chat.repository.ChatInboxRepository;
+import core.domain.chat.repository.ChatMessageRepository;
+import core.domain.chat.repository.ChatParticipantRepository;
+import core.domain.chat.repository.ChatRoomRepository;
+import core.domain.user.repository.BlockRepository;
+import core.domain.user.repository.UserRepository;
+import core.global.exception.BusinessException;
+import core.global.image.service.ProfileImageResolver;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class ChatServiceInboxTest {
+
+    private static final Long ME = 1L;
+
+    @Mock
+    ChatInboxRepository chatInboxRepository;
+    @Mock
+    ChatRoomRepository chatRoomRepository;
+    @Mock
+    ChatParticipantRepository chatParticipantRepository;
+    @Mock
+    ChatMessageRepository chatMessageRepository;
+    @Mock
+    UserRepository userRepository;
+    @Mock
+    BlockRepository blockRepository;
+    @Mock
+    ProfileImageResolver profileImageResolver;
+
+    @InjectMocks
+    ChatService chatService;
+
+    private static ChatInbox inbox(long roomId, String roomName, Instant lastAt, String content, int unread, int participants) {
+        ChatInbox inbox = new ChatInbox();
+        ReflectionTestUtils.setField(inbox, "userId", ME);
+        ReflectionTestUtils.setField(inbox, "chatRoomId", roomId);
+        ReflectionTestUtils.setField(inbox, "roomName", roomName);
+        ReflectionTestUtils.setField(inbox, "roomImageUrl", "room.png");
+        ReflectionTestUtils.setField(inbox, "lastMessageAt", lastAt);
+        ReflectionTestUtils.setField(inbox, "lastMessageContent", content);
+        ReflectionTestUtils.setField(inbox, "unreadCount", unread);
+        ReflectionTestUtils.setField(inbox, "participantCount", participants);
+        return inbox;
+    }
+
+    @Nested
+    @DisplayName("getMyAllChatRoomSummaries")
+    class GetMyAllChatRoomSummaries {
+
+        @ParameterizedTest(name = "방 {0}개")
+        @ValueSource(ints = {1, 10, 150})
+        @DisplayName("방 개수와 무관하게 chat_inbox 조회 한 번으로 끝난다")
+        void queryCountStaysFlat(int roomCount) {
+            List<ChatInbox> rows = new ArrayList<>();
+            Instant base = Instant.parse("2025-10-01T00:00:00Z");
+            for (int i = 0; i < roomCount; i++) {
+                rows.add(inbox(i, "room-" + i, base.minusSeconds(i), "hi " + i, i, 2));
+            }
+            given(userRepository.existsById(ME)).willReturn(true);
+            given(chatInboxRepository.findVisibleByUserId(ME)).willReturn(rows);
+
+            List<ChatRoomSummaryResponse> result = chatService.getMyAllChatRoomSummaries(ME);
+
+            assertThat(result).hasSize(roomCount);
+            verify(userRepository, times(1)).existsById(ME);
+            verify(chatInboxRepository, times(1)).findVisibleByUserId(ME);
+            verifyNoInteractions(chatRoomRepository, chatMessageRepository, chatParticipantRepository,
+                    blockRepository, profileImageResolver);
+        }
+
+        @Test
+        @DisplayName("읽기 모델 행을 요약 응답으로 변환한다")
+        void mapsInboxToSummaries() {
+            Instant t = Instant.parse("2025-10-01T12:00:00Z");
+            given(userRepository.existsById(ME)).willReturn(true);
+            given(chatInboxRepository.findVisibleByUserId(ME)).willReturn(List.of(
+                    inbox(10L, "Kim Minsu", t, "안녕", 3, 2),
+                    inbox(20L, "group-20", null, null, 0, 5)
+            ));
+
+            List<ChatRoomSummaryResponse> result = chatService.getMyAllChatRoomSummaries(ME);
+
+            assertThat(result.get(0)).isEqualTo(
+                    new ChatRoomSummaryResponse(10L, "Kim Minsu", "안녕", t, "room.png", 3, 2));
+            assertThat(result.get(1)).isEqualTo(
+                    new ChatRoomSummaryResponse(20L, "group-20", "새로운 메시지가 없습니다.", null, "room.png", 0, 5));
+        }
+
+        @Test
+        @DisplayName("사용자가 없으면 BusinessException을 던진다")
+        void throwsWhenUserMissing() {
+            given(userRepository.existsById(ME)).willReturn(false);
+
+            assertThatThrownBy(() -> chatService.getMyAllChatRoomSummaries(ME))
+                    .isInstanceOf(BusinessException.class);
+            verifyNoInteractions(chatInboxRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("searchRoomsByRoomName")
+    class SearchRoomsByRoomName {
+
+        @ParameterizedTest(name = "방 {0}개")
+        @ValueSource(ints = {1, 10, 150})
+        @DisplayName("결과 수와 무관하게 chat_inbox 조회 한 번으로 끝난다")
+        void queryCountStaysFlat(int roomCount) {
+            List<ChatInbox> rows = new ArrayList<>();
+            for (int i = 0; i < roomCount; i++) {
+                rows.add(inbox(i, "study-" + i, null, null, 0, 3));
+            }
+            given(chatInboxRepository.searchVisibleByUserIdAndRoomName(ME, "study")).willReturn(rows);
+
+            List<ChatRoomSummaryResponse> result = chatService.searchRoomsByRoomName(ME, "study");
+
+            assertThat(result).hasSize(roomCount);
+            verify(chatInboxRepository, times(1)).searchVisibleByUserIdAndRoomName(ME, "study");
+            verifyNoInteractions(chatRoomRepository, chatMessageRepository, chatParticipantRepository,
+                    blockRepository, profileImageResolver);
+        }
+
+        @Test
+        @DisplayName("읽기 모델 행을 목록과 같은 요약 응답으로 변환한다")
+        void mapsInboxToSummaries() {
+            Instant t = Instant.parse("2025-10-01T12:00:00Z");
+            given(chatInboxRepository.searchVisibleByUserIdAndRoomName(ME, "Kim"))
+                    .willReturn(List.of(inbox(10L, "Kim Minsu", t, "안녕", 3, 2)));
+
+            assertThat(chatService.searchRoomsByRoomName(ME, "Kim")).containsExactly(
+                    new ChatRoomSummaryResponse(10L, "Kim Minsu", "안녕", t, "room.png", 3, 2));
+        }
+    }
+}
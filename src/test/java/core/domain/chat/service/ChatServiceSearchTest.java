@@ -0,0 +1,191 @@
+package core.domain.chat.service;
+
+import core.domain.chat.dto.ChatMessageResponse;
+import core.domain.chat.dto.GroupChatSearchResponse;
+import core.domain.chat.entity.ChatMessage;
+import core.domain.chat.entity.ChatParticipant;
+import core.domain.chat.entity.ChatRoom;
+import core.domain.chat.repository.ChatMessageRepository;
+import core.domain.chat.repository.ChatParticipantRepository;
+import core.domain.chat.repository.ChatRoomRepository;
+import core.domain.user.entity.User;
+import core.domain.user.repository.UserRepository;
+import core.global.image.service.ProfileImageResolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class ChatServiceSearchTest {
+
+    private static final Long ME = 1L;
+    private static final Long ROOM_ID = 7L;
+    private static final int SEARCH_PAGE_SIZE = 50;
+
+    @Mock
+    ChatRoomRepository chatRoomRepository;
+    @Mock
+    ChatParticipantRepository chatParticipantRepository;
+    @Mock
+    ChatMessageRepository chatMessageRepository;
+    @Mock
+    UserRepository userRepository;
+    @Mock
+    ProfileImageResolver profileImageResolver;
+    @Mock
+    ChatMessageTranslationService chatMessageTranslationService;
+
+    @InjectMocks
+    ChatService chatService;
+
+    private static ChatRoom groupRoom(Long id, String name) {
+        ChatRoom room = new ChatRoom(true, null, name);
+        ReflectionTestUtils.setField(room, "id", id);
+        ReflectionTestUtils.setField(room, "participantCount", 3);
+        return room;
+    }
+
+    @Nested
+    @DisplayName("searchGroupChatRooms")
+    class SearchGroupChatRooms {
+
+        @Test
+        @DisplayName("첫 페이지는 커서 없이 최대 SEARCH_PAGE_SIZE 개를 다듬은 키워드로 찾는다")
+        void firstPage() {
+            given(chatRoomRepository.searchGroupRooms("study", Long.MAX_VALUE, SEARCH_PAGE_SIZE))
+                    .willReturn(List.of(groupRoom(30L, "study group"), groupRoom(20L, "study night")));
+
+            List<GroupChatSearchResponse> result = chatService.searchGroupChatRooms("  study ", null);
+
+            assertThat(result).extracting(GroupChatSearchResponse::chatRoomId).containsExactly(30L, 20L);
+            assertThat(result).extracting(GroupChatSearchResponse::participantCount).containsOnly(3);
+        }
+
+        @Test
+        @DisplayName("다음 페이지는 이전 페이지의 마지막 방 ID 를 커서로 쓴다")
+        void nextPage() {
+            given(chatRoomRepository.searchGroupRooms("study", 20L, SEARCH_PAGE_SIZE))
+                    .willReturn(List.of(groupRoom(10L, "study club")));
+
+            assertThat(chatService.searchGroupChatRooms("study", 20L))
+                    .extracting(GroupChatSearchResponse::chatRoomId).containsExactly(10L);
+        }
+
+        @ParameterizedTest
+        @NullAndEmptySource
+        @ValueSource(strings = {"   "})
+        @DisplayName("빈 키워드는 조회하지 않고 빈 목록을 돌려준다")
+        void blankKeyword(String keyword) {
+            assertThat(chatService.searchGroupChatRooms(keyword, null)).isEmpty();
+            verifyNoInteractions(chatRoomRepository, profileImageResolver);
+        }
+    }
+
+    @Nested
+    @DisplayName("searchMessages")
+    class SearchMessages {
+
+        private final User me = profileCompletedUser();
+        private final ChatRoom room = groupRoom(ROOM_ID, "room");
+
+        private User profileCompletedUser() {
+            User user = new User();
+            ReflectionTestUtils.setField(user, "id", ME);
+            ReflectionTestUtils.setField(user, "email", "me@test.com");
+            ReflectionTestUtils.setField(user, "birthdate", "2000-01-01");
+            ReflectionTestUtils.setField(user, "purpose", "study");
+            ReflectionTestUtils.setField(user, "introduction", "hi");
+            ReflectionTestUtils.setField(user, "language", "en");
+            ReflectionTestUtils.setField(user, "hobby", "music");
+            ReflectionTestUtils.setField(user, "sex", "F");
+            return user;
+        }
+
+        private ChatMessage message(Long id, String content) {
+            ChatMessage message = new ChatMessage(room, me, content);
+            ReflectionTestUtils.setField(message, "id", id);
+            message.assignSeq(id);
+            return message;
+        }
+
+        private ChatParticipant givenParticipant() {
+            ChatParticipant participant = new ChatParticipant(room, me);
+            given(userRepository.findByEmail("me@test.com")).willReturn(Optional.of(me));
+            given(chatParticipantRepository.findByChatRoomIdAndUserId(ROOM_ID, ME)).willReturn(Optional.of(participant));
+            return participant;
+        }
+
+        @BeforeEach
+        void authenticate() {
+            SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("me@test.com", null));
+        }
+
+        @AfterEach
+        void clearAuthentication() {
+            SecurityContextHolder.clearContext();
+        }
+
+        @Test
+        @DisplayName("원문 검색은 커서와 SEARCH_PAGE_SIZE 를 그대로 넘긴다")
+        void searchesOriginalWithCursor() {
+            givenParticipant();
+            given(chatMessageRepository.searchInRoom(ROOM_ID, "hello", 100L, SEARCH_PAGE_SIZE))
+                    .willReturn(List.of(message(90L, "hello there"), message(80L, "hello again")));
+
+            List<ChatMessageResponse> result = chatService.searchMessages(ROOM_ID, ME, " hello ", 100L);
+
+            assertThat(result).extracting(ChatMessageResponse::id).containsExactly(90L, 80L);
+            assertThat(result).extracting(ChatMessageResponse::targetContent).containsOnlyNulls();
+            verifyNoInteractions(chatMessageTranslationService);
+        }
+
+        @Test
+        @DisplayName("번역을 켠 참여자는 저장된 번역문 인덱스에서 찾고 최신순으로 돌려준다")
+        void searchesStoredTranslations() {
+            ReflectionTestUtils.setField(me, "translateLanguage", "ko");
+            givenParticipant().toggleTranslation(true);
+            given(chatMessageTranslationService.searchMessageIds(ROOM_ID, "ko", "안녕", Long.MAX_VALUE, SEARCH_PAGE_SIZE))
+                    .willReturn(List.of(90L, 80L));
+            given(chatMessageTranslationService.findStored(List.of(90L, 80L), "ko"))
+                    .willReturn(Map.of(90L, "안녕하세요", 80L, "안녕"));
+            given(chatMessageRepository.findAllById(List.of(90L, 80L)))
+                    .willReturn(List.of(message(80L, "hi"), message(90L, "hello")));
+
+            List<ChatMessageResponse> result = chatService.searchMessages(ROOM_ID, ME, "안녕", null);
+
+            assertThat(result).extracting(ChatMessageResponse::id).containsExactly(90L, 80L);
+            assertThat(result).extracting(ChatMessageResponse::targetContent).containsExactly("안녕하세요", "안녕");
+            verify(chatMessageRepository).findAllById(List.of(90L, 80L));
+        }
+
+        @Test
+        @DisplayName("빈 키워드는 검색하지 않는다")
+        void blankKeyword() {
+            givenParticipant();
+
+            assertThat(chatService.searchMessages(ROOM_ID, ME, " ", null)).isEmpty();
+            verifyNoInteractions(chatMessageRepository, chatMessageTranslationService);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package core.domain.chat.service;
+
+import core.domain.chat.dto.ChatMessageResponse;
+import core.domain.chat.dto.ChatMessageSinceResponse;
+import core.domain.chat.entity.ChatMessage;
+import core.domain.chat.entity.ChatParticipant;
+import core.domain.chat.entity.ChatRoom;
+import core.domain.chat.repository.ChatMessageRepository;
+import core.domain.chat.repository.ChatParticipantRepository;
+import core.domain.user.entity.User;
+import core.domain.user.service.BlockGraph;
+import core.global.exception.BusinessException;
+import core.global.image.service.ProfileImageResolver;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class ChatServiceSeqTest {
+
+    private static final Long ME = 1L;
+    private static final Long OTHER = 2L;
+    private static final Long ROOM_ID = 7L;
+
+    @Mock
+    ChatParticipantRepository chatParticipantRepository;
+    @Mock
+    ChatMessageRepository chatMessageRepository;
+    @Mock
+    BlockGraph blockGraph;
+    @Mock
+    ProfileImageResolver profileImageResolver;
+
+    @InjectMocks
+    ChatService chatService;
+
+    private final ChatRoom room = room();
+    private final User other = user(OTHER);
+
+    private static ChatRoom room() {
+        ChatRoom room = new ChatRoom();
+        ReflectionTestUtils.setField(room, "id", ROOM_ID);
+        return room;
+    }
+
+    private static User user(Long id) {
+        User user = new User();
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+
+    private ChatParticipant me(long lastReadSeq) {
+        ChatParticipant participant = new ChatParticipant(room, user(ME));
+        ReflectionTestUtils.setField(participant, "lastReadSeq", lastReadSeq);
+        return participant;
+    }
+
+    /** id 와 seq 를 같게 둡니다. */
+    private ChatMessage message(long seq) {
+        ChatMessage message = new ChatMessage(room, other, "message-" + seq);
+        ReflectionTestUtils.setField(message, "id", seq);
+        message.assignSeq(seq);
+        return message;
+    }
+
+    private List<ChatMessage> messages(long fromSeq, long toSeq) {
+        List<ChatMessage> messages = new ArrayList<>();
+        for (long seq = fromSeq; seq <= toSeq; seq++) {
+            messages.add(message(seq));
+        }
+        return messages;
+    }
+
+    @Nested
+    @DisplayName("countUnreadMessages")
+    class CountUnreadMessages {
+
+        @Test
+        @DisplayName("방의 마지막 순번과 읽은 순번의 차이로 계산하고 메시지 테이블은 보지 않는다")
+        void usesSeqDifference() {
+            ReflectionTestUtils.setField(room, "lastSeq", 10L);
+            given(chatParticipantRepository.findByChatRoomIdAndUserId(ROOM_ID, ME)).willReturn(Optional.of(me(4)));
+
+            assertThat(chatService.countUnreadMessages(ROOM_ID, ME)).isEqualTo(6);
+            verifyNoInteractions(chatMessageRepository);
+        }
+
+        @Test
+        @DisplayName("읽은 순번이 방 순번보다 앞서 있어도 음수가 되지 않는다")
+        void neverNegative() {
+            ReflectionTestUtils.setField(room, "lastSeq", 3L);
+            given(chatParticipantRepository.findByChatRoomIdAndUserId(ROOM_ID, ME)).willReturn(Optional.of(me(5)));
+
+            assertThat(chatService.countUnreadMessages(ROOM_ID, ME)).isZero();
+        }
+
+        @Test
+        @DisplayName("참여자가 아니면 0")
+        void zeroWhenNotParticipant() {
+            given(chatParticipantRepository.findByChatRoomIdAndUserId(ROOM_ID, ME)).willReturn(Optional.empty());
+
+            assertThat(chatService.countUnreadMessages(ROOM_ID, ME)).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("getMessagesSince")
+    class GetMessagesSince {
+
+        private void givenParticipant(ChatParticipant participant) {
+            given(chatParticipantRepository.findByChatRoomIdAndUserId(ROOM_ID, ME)).willReturn(Optional.of(participant));
+            given(blockGraph.of(ME)).willReturn(mock(BlockGraph.Relations.class));
+        }
+
+        @Test
+        @DisplayName("seq 이후를 순번 인덱스로 한 장 더 읽어 다음 페이지 여부를 정한다")
+        void pagesBySeq() {
+            givenParticipant(me(0));
+            given(chatMessageRepository.findByChatRoomIdAndSeqGreaterThanOrderBySeqAsc(ROOM_ID, 5L, PageRequest.of(0, 201)))
+                    .willReturn(messages(6, 206));
+
+            ChatMessageSinceResponse response = chatService.getMessagesSince(ROOM_ID, ME, 5L);
+
+            assertThat(response.messages()).hasSize(200);
+            assertThat(response.messages()).extracting(ChatMessageResponse::seq).startsWith(6L, 7L).endsWith(205L);
+            assertThat(response.lastSeq()).isEqualTo(205L);
+            assertThat(response.hasMore()).isTrue();
+        }
+
+        @Test
+        @DisplayName("마지막 페이지는 hasMore 가 false 이고, 놓친 메시지가 없으면 요청한 seq 를 그대로 돌려준다")
+        void lastPage() {
+            givenParticipant(me(0));
+            given(chatMessageRepository.findByChatRoomIdAndSeqGreaterThanOrderBySeqAsc(ROOM_ID, 5L, PageRequest.of(0, 201)))
+                    .willReturn(messages(6, 8));
+            given(chatMessageRepository.findByChatRoomIdAndSeqGreaterThanOrderBySeqAsc(ROOM_ID, 8L, PageRequest.of(0, 201)))
+                    .willReturn(List.of());
+
+            ChatMessageSinceResponse page = chatService.getMessagesSince(ROOM_ID, ME, 5L);
+            ChatMessageSinceResponse empty = chatService.getMessagesSince(ROOM_ID, ME, 8L);
+
+            assertThat(page.lastSeq()).isEqualTo(8L);
+            assertThat(page.hasMore()).isFalse();
+            assertThat(empty.messages()).isEmpty();
+            assertThat(empty.lastSeq()).isEqualTo(8L);
+            assertThat(empty.hasMore()).isFalse();
+        }
+
+        @Test
+        @DisplayName("seq 가 없거나 음수면 처음부터 읽는다")
+        void clampsSeq() {
+            givenParticipant(me(0));
+            given(chatMessageRepository.findByChatRoomIdAndSeqGreaterThanOrderBySeqAsc(ROOM_ID, 0L, PageRequest.of(0, 201)))
+                    .willReturn(messages(1, 2));
+
+            assertThat(chatService.getMessagesSince(ROOM_ID, ME, null).messages()).hasSize(2);
+            assertThat(chatService.getMessagesSince(ROOM_ID, ME, -3L).messages()).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("seq 없이 요청했는데 놓친 메시지가 없으면 lastSeq 는 참여자의 읽은 순번이다")
+        void emptyPageWithoutSeqReturnsLastReadSeq() {
+            givenParticipant(me(4));
+            given(chatMessageRepository.findByChatRoomIdAndSeqGreaterThanOrderBySeqAsc(ROOM_ID, 0L, PageRequest.of(0, 201)))
+                    .willReturn(List.of());
+
+            ChatMessageSinceResponse response = chatService.getMessagesSince(ROOM_ID, ME, null);
+
+            assertThat(response.messages()).isEmpty();
+            assertThat(response.lastSeq()).isEqualTo(4L);
+            assertThat(response.hasMore()).isFalse();
+        }
+
+        @Test
+        @DisplayName("나간 참여자는 나간 시점 이후 메시지만 받지만, lastSeq 는 읽은 곳까지 나아간다")
+        void leftParticipantSeesOnlyAfterLeaving() {
+            ChatParticipant participant = me(0);
+            participant.leave(3L);
+            givenParticipant(participant);
+            given(chatMessageRepository.findByChatRoomIdAndSeqGreaterThanOrderBySeqAsc(ROOM_ID, 0L, PageRequest.of(0, 201)))
+                    .willReturn(messages(1, 5));
+
+            ChatMessageSinceResponse response = chatService.getMessagesSince(ROOM_ID, ME, 0L);
+
+            assertThat(response.messages()).extracting(ChatMessageResponse::seq).containsExactly(4L, 5L);
+            assertThat(response.lastSeq()).isEqualTo(5L);
+        }
+
+        @Test
+        @DisplayName("참여자가 아니면 BusinessException 을 던지고 메시지를 읽지 않는다")
+        void throwsWhenNotParticipant() {
+            given(chatParticipantRepository.findByChatRoomIdAndUserId(ROOM_ID, ME)).willReturn(Optional.empty());
+
+            assertThatThrownBy(() -> chatService.getMessagesSince(ROOM_ID, ME, 0L))
+                    .isInstanceOf(BusinessException.class);
+            verifyNoInteractions(chatMessageRepository);
+        }
+    }
+}
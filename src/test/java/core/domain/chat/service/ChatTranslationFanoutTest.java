@@ -0,0 +1,113 @@
+package core.domain.chat.service;
+
+import core.global.service.TranslationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class ChatTranslationFanoutTest {
+
+    private static final long BUDGET_MILLIS = 100;
+
+    private final TranslationService translationService = mock(TranslationService.class);
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final ChatTranslationFanout fanout = new ChatTranslationFanout(translationService, executor, BUDGET_MILLIS);
+    private final Map<String, String> late = new ConcurrentHashMap<>();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("언어마다 한 번씩 번역하고, 모두 끝나면 예산을 기다리지 않고 완료한다")
+    void translatesEachLanguageOnce() throws Exception {
+        given(translationService.translatePost("hello", "ko")).willReturn("안녕");
+        given(translationService.translatePost("hello", "ja")).willReturn("こんにちは");
+
+        long startedAt = System.nanoTime();
+        Map<String, String> ready = fanout.translate("hello", Set.of("ko", "ja"), late::put).get(5, TimeUnit.SECONDS);
+
+        assertThat(ready).containsOnly(Map.entry("ko", "안녕"), Map.entry("ja", "こんにちは"));
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(BUDGET_MILLIS * 5);
+        assertThat(late).isEmpty();
+    }
+
+    @Test
+    @DisplayName("예산이 지나면 늦은 언어는 빼고 완료하고, 번역이 끝나면 onLate 로 알린다")
+    void reportsLateLanguage() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch delivered = new CountDownLatch(1);
+        given(translationService.translatePost("hello", "ko")).willReturn("안녕");
+        given(translationService.translatePost("hello", "ja")).willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return "こんにちは";
+        });
+
+        long startedAt = System.nanoTime();
+        CompletableFuture<Map<String, String>> result = fanout.translate("hello", Set.of("ko", "ja"), (language, translated) -> {
+            late.put(language, translated);
+            delivered.countDown();
+        });
+
+        assertThat(result.get(5, TimeUnit.SECONDS)).containsOnly(Map.entry("ko", "안녕"));
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(BUDGET_MILLIS);
+        assertThat(late).isEmpty();
+
+        release.countDown();
+        assertThat(delivered.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(late).containsOnly(Map.entry("ja", "こんにちは"));
+    }
+
+    @Test
+    @DisplayName("실패한 언어는 결과에서 빼고 onLate 도 부르지 않는다")
+    void omitsFailedLanguage() throws Exception {
+        given(translationService.translatePost("hello", "ko")).willReturn("안녕");
+        given(translationService.translatePost("hello", "ja")).willThrow(new IllegalStateException("upstream"));
+
+        Map<String, String> ready = fanout.translate("hello", Set.of("ko", "ja"), late::put).get(5, TimeUnit.SECONDS);
+
+        assertThat(ready).containsOnly(Map.entry("ko", "안녕"));
+        Thread.sleep(BUDGET_MILLIS);
+        assertThat(late).isEmpty();
+    }
+
+    @Test
+    @DisplayName("예산 뒤에 실패한 언어도 onLate 를 부르지 않는다")
+    void omitsLateFailure() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        given(translationService.translatePost("hello", "ja")).willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            throw new IllegalStateException("upstream");
+        });
+
+        assertThat(fanout.translate("hello", Set.of("ja"), late::put).get(5, TimeUnit.SECONDS)).isEmpty();
+        release.countDown();
+        Thread.sleep(BUDGET_MILLIS);
+        assertThat(late).isEmpty();
+    }
+
+    @Test
+    @DisplayName("원문이 비었거나 대상 언어가 없으면 번역하지 않는다")
+    void skipsEmptyInput() {
+        assertThat(fanout.translate("", Set.of("ko"), late::put)).isCompletedWithValue(Map.of());
+        assertThat(fanout.translate("hello", Set.of(), late::put)).isCompletedWithValue(Map.of());
+        verify(translationService, never()).translatePost(any(), any());
+    }
+}
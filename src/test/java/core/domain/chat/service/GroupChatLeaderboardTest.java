@@ -0,0 +1,91 @@
+package core.domain.chat.service;
+
+import core.domain.chat.repository.ChatRoomRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class GroupChatLeaderboardTest {
+
+    @SuppressWarnings("unchecked")
+    private final ZSetOperations<String, String> zSet = mock(ZSetOperations.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> values = mock(ValueOperations.class);
+    private final StringRedisTemplate redis = mock(StringRedisTemplate.class);
+    private final ChatRoomRepository chatRoomRepository = mock(ChatRoomRepository.class);
+    private GroupChatLeaderboard leaderboard;
+
+    @BeforeEach
+    void setUp() {
+        given(redis.opsForZSet()).willReturn(zSet);
+        given(redis.opsForValue()).willReturn(values);
+        leaderboard = new GroupChatLeaderboard(redis, chatRoomRepository);
+    }
+
+    @Test
+    @DisplayName("순위표가 있으면 DB 를 읽지 않고 페이지 범위의 방 ID 만 꺼낸다")
+    void readsPageFromSortedSet() {
+        given(redis.hasKey(anyString())).willReturn(true);
+        given(zSet.reverseRange(GroupChatLeaderboard.POPULAR_KEY, 10, 19))
+                .willReturn(new LinkedHashSet<>(List.of("7", "3")));
+
+        assertThat(leaderboard.popular(10, 10)).contains(List.of(7L, 3L));
+        verify(chatRoomRepository, never()).findGroupRanking();
+    }
+
+    @Test
+    @DisplayName("순위표가 없으면 DB 로 만들되 이미 반영된 항목은 덮어쓰지 않는다")
+    void rebuildsWithoutOverwriting() {
+        given(redis.hasKey(anyString())).willReturn(false);
+        given(chatRoomRepository.findGroupRanking()).willReturn(List.<Object[]>of(new Object[]{5L, 12}));
+        given(zSet.reverseRangeByScore(eq(GroupChatLeaderboard.LATEST_KEY), eq(Double.NEGATIVE_INFINITY), eq(8.0), eq(0L), eq(10L)))
+                .willReturn(Set.of("5"));
+
+        assertThat(leaderboard.latest(9L, 10)).contains(List.of(5L));
+        verify(zSet).addIfAbsent(eq(GroupChatLeaderboard.POPULAR_KEY), anySet());
+        verify(zSet).addIfAbsent(eq(GroupChatLeaderboard.LATEST_KEY), anySet());
+        verify(values).set(eq(GroupChatLeaderboard.BUILT_KEY), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Redis 초기화 후 이벤트 갱신으로 순위표 키만 다시 생겨도 표시 키가 없으면 DB 로 채운다")
+    void rebuildsWhenOnlyEventUpdatesExist() {
+        given(redis.hasKey(GroupChatLeaderboard.BUILT_KEY)).willReturn(false);
+        given(redis.hasKey(GroupChatLeaderboard.POPULAR_KEY)).willReturn(true);
+        given(redis.hasKey(GroupChatLeaderboard.LATEST_KEY)).willReturn(true);
+        given(chatRoomRepository.findGroupRanking()).willReturn(List.<Object[]>of(new Object[]{5L, 12}, new Object[]{6L, 3}));
+
+        leaderboard.update(6L, 3);
+        leaderboard.popular(0, 10);
+
+        verify(chatRoomRepository).findGroupRanking();
+        verify(zSet).addIfAbsent(eq(GroupChatLeaderboard.POPULAR_KEY), anySet());
+    }
+
+    @Test
+    @DisplayName("Redis 를 쓸 수 없으면 빈 값 (호출자가 DB 로 조회)")
+    void fallsBackWhenRedisFails() {
+        given(redis.hasKey(anyString())).willThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(leaderboard.popular(0, 10)).isEmpty();
+        assertThat(leaderboard.latest(null, 10)).isEmpty();
+    }
+}
@@ -0,0 +1,252 @@
+package core.domain.chat.service;
+
+import core.domain.chat.entity.ChatMessage;
+import core.domain.chat.entity.ChatRoom;
+import core.domain.chat.repository.ChatMessageRepository;
+import core.domain.user.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class HotMessageBufferTest {
+
+    private static final Long ROOM_ID = 7L;
+    private static final int CAPACITY = 5;
+
+    private final ChatMessageRepository chatMessageRepository = mock(ChatMessageRepository.class);
+    private final ChatRoom room = new ChatRoom();
+    private final User sender = new User();
+    private HotMessageBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(room, "id", ROOM_ID);
+        ReflectionTestUtils.setField(sender, "id", 2L);
+        buffer = new HotMessageBuffer(chatMessageRepository, mock(PlatformTransactionManager.class),
+                mock(StringRedisTemplate.class), mock(RedisMessageListenerContainer.class), new SimpleMeterRegistry(),
+                CAPACITY, 100, 10, "local");
+    }
+
+    private ChatMessage message(long seq) {
+        ChatMessage message = new ChatMessage(room, sender, "message-" + seq);
+        ReflectionTestUtils.setField(message, "id", seq * 10);
+        message.assignSeq(seq);
+        return message;
+    }
+
+    /**
+     * DB 에 seq 1..count 메시지가 있는 것처럼 최신순으로 돌려줍니다.
+     */
+    private void givenStored(int count) {
+        List<ChatMessage> newest = new ArrayList<>();
+        for (long seq = count; seq > Math.max(count - CAPACITY, 0); seq--) {
+            newest.add(message(seq));
+        }
+        given(chatMessageRepository.findRecentWithSender(eq(ROOM_ID), any(Pageable.class))).willReturn(newest);
+    }
+
+    private static List<Long> seqs(Optional<List<ChatMessage>> messages) {
+        return messages.orElseThrow().stream().map(ChatMessage::getSeq).toList();
+    }
+
+    @Nested
+    @DisplayName("latest")
+    class Latest {
+
+        @Test
+        @DisplayName("적재 후에는 커밋된 새 메시지가 덧붙고, 같은 방은 DB 를 다시 읽지 않는다")
+        void appendsAfterLoad() {
+            givenStored(3);
+            assertThat(seqs(buffer.latest(ROOM_ID, 2))).containsExactly(3L, 2L);
+
+            buffer.append(message(4));
+
+            assertThat(seqs(buffer.latest(ROOM_ID, 2))).containsExactly(4L, 3L);
+            verify(chatMessageRepository, times(1)).findRecentWithSender(eq(ROOM_ID), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("방 전체를 들고 있으면 limit 보다 적어도 버퍼에서 돌려준다")
+        void servesSmallRoom() {
+            givenStored(2);
+
+            assertThat(seqs(buffer.latest(ROOM_ID, 4))).containsExactly(2L, 1L);
+        }
+
+        @Test
+        @DisplayName("최근 파티션의 메시지가 적어도 보관된 메시지가 있으면 방 전체로 보지 않는다")
+        void missesWhenOlderMessagesAreArchived() {
+            givenStored(2);
+            given(chatMessageRepository.existsArchivedByChatRoomId(ROOM_ID)).willReturn(true);
+
+            assertThat(buffer.latest(ROOM_ID, 4)).isEmpty();
+            assertThat(seqs(buffer.latest(ROOM_ID, 2))).containsExactly(2L, 1L);
+        }
+
+        @Test
+        @DisplayName("밀려난 메시지까지 필요하면 빈 값 (DB 로 조회)")
+        void missesBeyondWindow() {
+            givenStored(5);
+            buffer.latest(ROOM_ID, 1);
+            buffer.append(message(6));
+
+            assertThat(buffer.latest(ROOM_ID, m -> m.getSeq() < 4, 3)).isEmpty();
+            assertThat(seqs(buffer.latest(ROOM_ID, m -> m.getSeq() < 5, 2))).containsExactly(4L, 3L);
+        }
+
+        @Test
+        @DisplayName("순번이 건너뛰면 다음 조회에서 빠진 메시지만 DB 에서 읽어 따라잡는다")
+        void catchesUpOnGap() {
+            givenStored(3);
+            buffer.latest(ROOM_ID, 1);
+
+            buffer.append(message(5));
+            given(chatMessageRepository.findNewerWithSender(eq(ROOM_ID), eq(3L), any(Pageable.class)))
+                    .willReturn(List.of(message(4), message(5)));
+
+            assertThat(seqs(buffer.latest(ROOM_ID, 3))).containsExactly(5L, 4L, 3L);
+            verify(chatMessageRepository, times(1)).findRecentWithSender(eq(ROOM_ID), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("따라잡을 구간에 삭제로 빈 순번이 있으면 다시 적재한다")
+        void reloadsWhenCatchUpHasGap() {
+            givenStored(3);
+            buffer.latest(ROOM_ID, 1);
+
+            buffer.append(message(5));
+            given(chatMessageRepository.findNewerWithSender(eq(ROOM_ID), eq(3L), any(Pageable.class)))
+                    .willReturn(List.of(message(5)));
+            givenStored(5);
+
+            assertThat(seqs(buffer.latest(ROOM_ID, 1))).containsExactly(5L);
+            verify(chatMessageRepository, times(2)).findRecentWithSender(eq(ROOM_ID), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("삭제로 무효화하면 다시 적재한다")
+        void reloadsAfterInvalidate() {
+            givenStored(3);
+            buffer.latest(ROOM_ID, 1);
+
+            buffer.invalidate(ROOM_ID);
+            buffer.latest(ROOM_ID, 1);
+
+            verify(chatMessageRepository, times(2)).findRecentWithSender(eq(ROOM_ID), any(Pageable.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("around")
+    class Around {
+
+        @Test
+        @DisplayName("대상 앞뒤 메시지를 오래된 순서로 돌려준다")
+        void returnsNeighbours() {
+            givenStored(5);
+
+            assertThat(seqs(buffer.around(ROOM_ID, 30L, 1))).containsExactly(2L, 3L, 4L);
+            assertThat(seqs(buffer.around(ROOM_ID, 50L, 2))).containsExactly(3L, 4L, 5L);
+        }
+
+        @Test
+        @DisplayName("이전 메시지가 버퍼 밖에 있으면 빈 값")
+        void missesWhenOlderOutsideWindow() {
+            givenStored(5);
+            buffer.latest(ROOM_ID, 1);
+            buffer.append(message(6));
+
+            assertThat(buffer.around(ROOM_ID, 30L, 2)).isEmpty();
+            assertThat(buffer.around(ROOM_ID, 999L, 2)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("이전 메시지가 보관 테이블에 있으면 빈 값 (보관 테이블까지 이어 읽도록)")
+        void missesWhenOlderMessagesAreArchived() {
+            givenStored(3);
+            given(chatMessageRepository.existsArchivedByChatRoomId(ROOM_ID)).willReturn(true);
+
+            assertThat(buffer.around(ROOM_ID, 10L, 1)).isEmpty();
+            assertThat(seqs(buffer.around(ROOM_ID, 20L, 1))).containsExactly(1L, 2L, 3L);
+        }
+    }
+
+    @Nested
+    @DisplayName("redis 모드")
+    class Cluster {
+
+        private final StringRedisTemplate redis = mock(StringRedisTemplate.class);
+
+        @BeforeEach
+        void setUp() {
+            buffer = new HotMessageBuffer(chatMessageRepository, mock(PlatformTransactionManager.class),
+                    redis, mock(RedisMessageListenerContainer.class), new SimpleMeterRegistry(),
+                    CAPACITY, 100, 10, "redis");
+        }
+
+        private static Message notice(String body) {
+            return new DefaultMessage(HotMessageBuffer.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                    body.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Test
+        @DisplayName("새 메시지는 무효화가 아니라 방 순번 알림만 보낸다")
+        void publishesSeqNotice() {
+            givenStored(3);
+            buffer.latest(ROOM_ID, 1);
+
+            buffer.append(message(4));
+
+            verify(redis).convertAndSend(eq(HotMessageBuffer.INVALIDATION_CHANNEL), endsWith(":7:4"));
+        }
+
+        @Test
+        @DisplayName("다른 노드의 순번 알림을 받으면 버퍼를 버리지 않고 다음 조회에서 따라잡는다")
+        void catchesUpOnPeerNotice() {
+            givenStored(3);
+            buffer.latest(ROOM_ID, 1);
+            given(chatMessageRepository.findNewerWithSender(eq(ROOM_ID), eq(3L), any(Pageable.class)))
+                    .willReturn(List.of(message(4)));
+
+            buffer.onMessage(notice("other-node:7:4"), null);
+
+            assertThat(seqs(buffer.latest(ROOM_ID, 2))).containsExactly(4L, 3L);
+            verify(chatMessageRepository, times(1)).findRecentWithSender(eq(ROOM_ID), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("다른 노드의 삭제 무효화를 받으면 다시 적재한다")
+        void reloadsOnPeerInvalidation() {
+            givenStored(3);
+            buffer.latest(ROOM_ID, 1);
+
+            buffer.onMessage(notice("other-node:7"), null);
+            buffer.latest(ROOM_ID, 1);
+
+            verify(chatMessageRepository, times(2)).findRecentWithSender(eq(ROOM_ID), any(Pageable.class));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package core.domain.chat.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadReceiptBroadcasterTest {
+
+    private static List<long[]> ranges(long... bounds) {
+        List<long[]> ranges = new ArrayList<>();
+        for (int i = 0; i < bounds.length; i += 2) {
+            ranges.add(new long[]{bounds[i], bounds[i + 1]});
+        }
+        return ranges;
+    }
+
+    @Test
+    @DisplayName("한 칸짜리 구간(from == to) 은 그대로 남는다")
+    void keepsSingleSeq() {
+        assertThat(ReadReceiptBroadcaster.merge(ranges(5, 5))).containsExactly(new long[]{5, 5});
+    }
+
+    @Test
+    @DisplayName("맞닿은 구간은 하나로 합친다")
+    void mergesAdjacent() {
+        assertThat(ReadReceiptBroadcaster.merge(ranges(1, 3, 4, 6, 7, 7))).containsExactly(new long[]{1, 7});
+    }
+
+    @Test
+    @DisplayName("겹치거나 안에 포함된 구간은 하나로 합친다")
+    void mergesOverlapping() {
+        assertThat(ReadReceiptBroadcaster.merge(ranges(1, 5, 3, 8, 4, 6))).containsExactly(new long[]{1, 8});
+    }
+
+    @Test
+    @DisplayName("떨어진 구간은 순서대로 따로 남고, 들어온 순서와 상관없이 정렬된다")
+    void keepsGapsSorted() {
+        assertThat(ReadReceiptBroadcaster.merge(ranges(10, 12, 1, 3, 5, 5)))
+                .containsExactly(new long[]{1, 3}, new long[]{5, 5}, new long[]{10, 12});
+    }
+
+    @Test
+    @DisplayName("입력 배열을 바꾸지 않는다")
+    void doesNotMutateInput() {
+        List<long[]> input = ranges(1, 3, 2, 5);
+
+        ReadReceiptBroadcaster.merge(input);
+
+        assertThat(input.get(0)).containsExactly(1, 3);
+    }
+}
@@ -0,0 +1,112 @@
+package core.domain.chat.service;
+
+import core.domain.chat.dto.ReadCountRange;
+import core.domain.chat.repository.ChatParticipantRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class ReadWatermarkStoreTest {
+
+    private static final Long ROOM_ID = 7L;
+    private static final String KEY = ReadWatermarkStore.keyOf(ROOM_ID);
+
+    @SuppressWarnings("unchecked")
+    private final ZSetOperations<String, String> zSet = mock(ZSetOperations.class);
+    private final StringRedisTemplate redis = mock(StringRedisTemplate.class);
+    private ReadWatermarkStore store;
+
+    @BeforeEach
+    void setUp() {
+        given(redis.opsForZSet()).willReturn(zSet);
+        given(redis.hasKey(anyString())).willReturn(true);
+        store = new ReadWatermarkStore(redis, mock(ChatParticipantRepository.class), 6);
+    }
+
+    /** 순번이 fromSeq 보다 작은 워터마크 수와, fromSeq ~ toSeq-1 안의 워터마크(오름차순) */
+    private void givenWatermarks(long fromSeq, long toSeq, long below, long... inside) {
+        given(zSet.count(KEY, Double.NEGATIVE_INFINITY, fromSeq - 1)).willReturn(below);
+        Set<ZSetOperations.TypedTuple<String>> tuples = Arrays.stream(inside)
+                .mapToObj(seq -> (ZSetOperations.TypedTuple<String>) new DefaultTypedTuple<>("u" + seq, (double) seq))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        given(zSet.rangeByScoreWithScores(KEY, fromSeq, toSeq - 1)).willReturn(tuples);
+    }
+
+    @Test
+    @DisplayName("구간 안에 워터마크가 없으면 구간 전체가 아래쪽 워터마크 수 하나로 묶인다")
+    void singleRangeWithoutWatermarksInside() {
+        givenWatermarks(10, 20, 2);
+
+        assertThat(store.unreadCounts(ROOM_ID, 10, 20)).containsExactly(new ReadCountRange(10, 20, 2));
+    }
+
+    @Test
+    @DisplayName("fromSeq 와 toSeq 가 같으면 범위 조회 없이 한 칸짜리 구간을 돌려준다")
+    void singleSeq() {
+        given(zSet.count(KEY, Double.NEGATIVE_INFINITY, 14)).willReturn(3L);
+
+        assertThat(store.unreadCounts(ROOM_ID, 15, 15)).containsExactly(new ReadCountRange(15, 15, 3));
+        verify(zSet, never()).rangeByScoreWithScores(anyString(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("워터마크 위치 다음 순번부터 안 읽은 수가 하나씩 늘어난다")
+    void splitsAtWatermarks() {
+        givenWatermarks(10, 20, 1, 12, 15);
+
+        assertThat(store.unreadCounts(ROOM_ID, 10, 20)).containsExactly(
+                new ReadCountRange(10, 12, 1),
+                new ReadCountRange(13, 15, 2),
+                new ReadCountRange(16, 20, 3));
+    }
+
+    @Test
+    @DisplayName("toSeq-1 에 있는 워터마크는 마지막 순번만 따로 떼어 낸다")
+    void watermarkJustBeforeTo() {
+        givenWatermarks(10, 20, 0, 19);
+
+        assertThat(store.unreadCounts(ROOM_ID, 10, 20)).containsExactly(
+                new ReadCountRange(10, 19, 0),
+                new ReadCountRange(20, 20, 1));
+    }
+
+    @Test
+    @DisplayName("같은 순번의 워터마크가 여러 개면 구간은 하나이고 안 읽은 수만 그만큼 늘어난다")
+    void duplicateWatermarks() {
+        given(zSet.count(KEY, Double.NEGATIVE_INFINITY, 9)).willReturn(0L);
+        Set<ZSetOperations.TypedTuple<String>> tuples = new LinkedHashSet<>();
+        tuples.add(new DefaultTypedTuple<>("1", 12.0));
+        tuples.add(new DefaultTypedTuple<>("2", 12.0));
+        given(zSet.rangeByScoreWithScores(KEY, 10, 19)).willReturn(tuples);
+
+        assertThat(store.unreadCounts(ROOM_ID, 10, 20)).containsExactly(
+                new ReadCountRange(10, 12, 0),
+                new ReadCountRange(13, 20, 2));
+    }
+
+    @Test
+    @DisplayName("fromSeq 에 있는 워터마크는 첫 순번만 따로 떼어 낸다")
+    void watermarkAtFrom() {
+        givenWatermarks(10, 20, 0, 10);
+
+        assertThat(store.unreadCounts(ROOM_ID, 10, 20)).containsExactly(
+                new ReadCountRange(10, 10, 0),
+                new ReadCountRange(11, 20, 1));
+    }
+}
@@ -0,0 +1,135 @@
+package core.domain.chat.service;
+
+import core.domain.chat.dto.TypingEvent;
+import core.domain.chat.dto.TypingSnapshotResponse;
+import core.global.service.ChatMessageRelay;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class TypingAggregatorTest {
+
+    private static final Long ROOM_ID = 7L;
+    private static final String TOPIC = "/topic/chatrooms/7";
+
+    private final ChatMessageRelay chatMessageRelay = mock(ChatMessageRelay.class);
+    private final StringRedisTemplate redis = mock(StringRedisTemplate.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private TypingAggregator aggregator;
+
+    private TypingAggregator aggregator(long intervalMillis, long ttlMillis) {
+        return aggregator(intervalMillis, ttlMillis, "local");
+    }
+
+    private TypingAggregator aggregator(long intervalMillis, long ttlMillis, String mode) {
+        aggregator = new TypingAggregator(chatMessageRelay, redis, mock(RedisMessageListenerContainer.class), registry,
+                intervalMillis, ttlMillis, mode);
+        return aggregator;
+    }
+
+    @AfterEach
+    void tearDown() {
+        aggregator.shutdown();
+    }
+
+    private static TypingEvent typing(long userId, boolean isTyping) {
+        return new TypingEvent(userId, "user-" + userId, ROOM_ID, isTyping);
+    }
+
+    private List<TypingSnapshotResponse> snapshots(int expected) {
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(chatMessageRelay, timeout(2_000).times(expected)).convertAndSendLocal(eq(TOPIC), captor.capture());
+        return captor.getAllValues().stream().map(TypingSnapshotResponse.class::cast).toList();
+    }
+
+    private static List<Long> userIds(TypingSnapshotResponse snapshot) {
+        return snapshot.typingUsers().stream().map(TypingSnapshotResponse.TypingUser::userId).toList();
+    }
+
+    @Test
+    @DisplayName("이미 입력 중인 사용자의 시작 이벤트는 다시 보내지 않는다")
+    void dropsRedundantStarts() throws InterruptedException {
+        aggregator(20, 10_000);
+
+        for (int i = 0; i < 20; i++) {
+            aggregator.onEvent(typing(1, true));
+        }
+        Thread.sleep(200);
+
+        assertThat(snapshots(1)).extracting(TypingAggregatorTest::userIds).containsExactly(List.of(1L));
+        assertThat(registry.get("chat_typing_frames_total").tag("direction", "inbound").counter().count()).isEqualTo(20.0);
+        assertThat(registry.get("chat_typing_frames_total").tag("direction", "outbound").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("주기 안의 변경은 다음 스냅샷 하나로 합쳐진다")
+    void coalescesWithinInterval() throws InterruptedException {
+        aggregator(200, 10_000);
+
+        aggregator.onEvent(typing(1, true));
+        verify(chatMessageRelay, timeout(1_000)).convertAndSendLocal(eq(TOPIC), any());
+        aggregator.onEvent(typing(2, true));
+        aggregator.onEvent(typing(3, true));
+        aggregator.onEvent(typing(2, false));
+        Thread.sleep(400);
+
+        List<TypingSnapshotResponse> snapshots = snapshots(2);
+        assertThat(userIds(snapshots.get(1))).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("종료 이벤트 없이 만료된 사용자는 서버가 빼고, 빈 스냅샷 뒤 방 상태를 지운다")
+    void expiresStaleTypers() {
+        aggregator(20, 100);
+
+        aggregator.onEvent(typing(1, true));
+
+        List<TypingSnapshotResponse> snapshots = snapshots(2);
+        assertThat(userIds(snapshots.get(0))).containsExactly(1L);
+        assertThat(snapshots.get(1).typingUsers()).isEmpty();
+        verify(chatMessageRelay, times(2)).convertAndSendLocal(eq(TOPIC), any());
+        assertThat(aggregator.trackedRooms()).isZero();
+    }
+
+    private static DefaultMessage published(String body) {
+        return new DefaultMessage(TypingAggregator.EVENT_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("redis 모드에서는 이벤트를 모든 노드에 돌리고, 돌려받은 이벤트로 만든 전체 스냅샷을 이 노드 구독자에게만 보낸다")
+    void sharesEventsAcrossNodes() throws InterruptedException {
+        aggregator(200, 10_000, "redis");
+
+        aggregator.onEvent(typing(1, true));
+        verify(redis).convertAndSend(TypingAggregator.EVENT_CHANNEL, "7:1:1:user-1");
+        Thread.sleep(50);
+        verify(chatMessageRelay, never()).convertAndSendLocal(eq(TOPIC), any());
+
+        aggregator.onMessage(published("7:1:1:user-1"), null);
+        verify(chatMessageRelay, timeout(1_000)).convertAndSendLocal(eq(TOPIC), any());
+        aggregator.onMessage(published("7:2:1:다른 노드:사용자"), null);
+
+        List<TypingSnapshotResponse> snapshots = snapshots(2);
+        assertThat(snapshots.get(1).typingUsers()).extracting(TypingSnapshotResponse.TypingUser::name)
+                .containsExactly("user-1", "다른 노드:사용자");
+        verify(chatMessageRelay, never()).convertAndSend(any(), any());
+    }
+}
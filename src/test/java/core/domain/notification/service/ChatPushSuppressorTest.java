@@ -0,0 +1,94 @@
+package core.domain.notification.service;
+
+import core.domain.notification.dto.NotificationEvent;
+import core.global.enums.NotificationType;
+import core.global.service.PresenceRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ChatPushSuppressorTest {
+
+    private static final Long RECIPIENT_ID = 1L;
+    private static final Long ROOM_ID = 7L;
+
+    private final PresenceRegistry presenceRegistry = mock(PresenceRegistry.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private ChatPushSuppressor suppressor(boolean keepNotificationRow) {
+        return new ChatPushSuppressor(presenceRegistry, registry, true, keepNotificationRow);
+    }
+
+    private static NotificationEvent chat() {
+        return new NotificationEvent(RECIPIENT_ID, 2L, NotificationType.chat, ROOM_ID, "hi");
+    }
+
+    private double count(String result) {
+        return registry.get("chat_push_total").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("방을 보고 있는 수신자는 알림 처리 자체를 건너뛴다")
+    void skipsWhenViewing() {
+        given(presenceRegistry.isViewingAnywhere(RECIPIENT_ID, ROOM_ID)).willReturn(true);
+
+        assertThat(suppressor(false).shouldNotify(chat())).isFalse();
+        assertThat(count("suppressed")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("알림 행을 남기도록 설정하면 저장은 하고 푸시만 생략한다")
+    void keepsRowButSkipsPush() {
+        given(presenceRegistry.isViewingAnywhere(RECIPIENT_ID, ROOM_ID)).willReturn(true);
+        ChatPushSuppressor suppressor = suppressor(true);
+
+        assertThat(suppressor.shouldNotify(chat())).isTrue();
+        assertThat(suppressor.shouldPush(chat())).isFalse();
+        assertThat(count("suppressed")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("presence 는 이벤트 하나당 한 번만 조회한다")
+    void looksUpPresenceOnce() {
+        ChatPushSuppressor dropRow = suppressor(false);
+        dropRow.shouldNotify(chat());
+        dropRow.shouldPush(chat());
+        verify(presenceRegistry, times(1)).isViewingAnywhere(RECIPIENT_ID, ROOM_ID);
+
+        ChatPushSuppressor keepRow = suppressor(true);
+        keepRow.shouldNotify(chat());
+        keepRow.shouldPush(chat());
+        verify(presenceRegistry, times(2)).isViewingAnywhere(RECIPIENT_ID, ROOM_ID);
+    }
+
+    @Test
+    @DisplayName("방을 보고 있지 않거나 채팅 알림이 아니면 그대로 보낸다")
+    void sendsOtherwise() {
+        ChatPushSuppressor suppressor = suppressor(false);
+        NotificationEvent follow = new NotificationEvent(RECIPIENT_ID, 2L, NotificationType.follow, 2L, null);
+
+        assertThat(suppressor.shouldNotify(chat())).isTrue();
+        assertThat(suppressor.shouldPush(chat())).isTrue();
+        assertThat(suppressor.shouldNotify(follow)).isTrue();
+        assertThat(suppressor.shouldPush(follow)).isTrue();
+        assertThat(count("sent")).isZero();
+        assertThat(count("suppressed")).isZero();
+    }
+
+    @Test
+    @DisplayName("발송 수는 실제로 보낸 채팅 푸시만 센다")
+    void countsSentAfterSending() {
+        ChatPushSuppressor suppressor = suppressor(false);
+
+        suppressor.recordSent(chat());
+        suppressor.recordSent(new NotificationEvent(RECIPIENT_ID, 2L, NotificationType.follow, 2L, null));
+
+        assertThat(count("sent")).isEqualTo(1.0);
+    }
+}
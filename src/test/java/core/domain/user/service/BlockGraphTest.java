@@ -0,0 +1,98 @@
+package core.domain.user.service;
+
+import core.domain.user.repository.BlockRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class BlockGraphTest {
+
+    private static final Long ME = 1L;
+
+    private final BlockRepository blockRepository = mock(BlockRepository.class);
+    private BlockGraph blockGraph;
+
+    @BeforeEach
+    void setUp() {
+        blockGraph = new BlockGraph(blockRepository, mock(PlatformTransactionManager.class),
+                mock(StringRedisTemplate.class), mock(RedisMessageListenerContainer.class), 10_000, 10, "local");
+    }
+
+    private static BlockRepository.BlockEdge edge(long userId, long blockedId) {
+        return new BlockRepository.BlockEdge() {
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public Long getBlockedId() {
+                return blockedId;
+            }
+        };
+    }
+
+    @Nested
+    @DisplayName("of")
+    class Of {
+
+        @Test
+        @DisplayName("내가 차단한 사용자와 나를 차단한 사용자를 구분한다")
+        void separatesDirections() {
+            given(blockRepository.findEdgesOf(ME)).willReturn(List.of(edge(ME, 2L), edge(3L, ME)));
+
+            BlockGraph.Relations relations = blockGraph.of(ME);
+
+            assertThat(relations.blocks(2L)).isTrue();
+            assertThat(relations.blocks(3L)).isFalse();
+            assertThat(relations.eitherWay(3L)).isTrue();
+            assertThat(relations.eitherWay(4L)).isFalse();
+            assertThat(blockGraph.blockingIds(ME)).containsExactly(2L);
+            assertThat(blockGraph.relatedIds(ME)).containsExactlyInAnyOrder(2L, 3L);
+        }
+
+        @Test
+        @DisplayName("한 번 적재하면 무효화 전까지 다시 조회하지 않는다")
+        void loadsOncePerUser() {
+            given(blockRepository.findEdgesOf(ME)).willReturn(List.of(edge(ME, 2L)));
+
+            blockGraph.isBlockedEitherWay(ME, 2L);
+            blockGraph.isBlockedEitherWay(ME, 5L);
+            verify(blockRepository, times(1)).findEdgesOf(ME);
+
+            given(blockRepository.findEdgesOf(ME)).willReturn(List.of(edge(ME, 2L), edge(ME, 5L)));
+            blockGraph.invalidate(List.of(ME, 5L));
+
+            assertThat(blockGraph.isBlockedEitherWay(ME, 5L)).isTrue();
+            verify(blockRepository, times(2)).findEdgesOf(ME);
+        }
+
+        @Test
+        @DisplayName("차단 관계가 많아도 모든 ID 를 찾는다")
+        void containsAllOfLargeSet() {
+            List<BlockRepository.BlockEdge> edges = LongStream.rangeClosed(2, 1_000)
+                    .mapToObj(id -> edge(ME, id * 7919))
+                    .toList();
+            given(blockRepository.findEdgesOf(ME)).willReturn(edges);
+
+            BlockGraph.Relations relations = blockGraph.of(ME);
+
+            assertThat(LongStream.rangeClosed(2, 1_000).allMatch(id -> relations.blocks(id * 7919))).isTrue();
+            assertThat(relations.blocks(7919 + 1)).isFalse();
+            assertThat(relations.blocks(0)).isFalse();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package core.global.config;
+
+import core.global.service.ChatMessageRelay;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class RoomBroadcastFilterTest {
+
+    private final StringRedisTemplate redis = mock(StringRedisTemplate.class);
+    private final MessageChannel channel = mock(MessageChannel.class);
+
+    private RoomBroadcastFilter filter(String mode) {
+        return new RoomBroadcastFilter(redis, mock(RedisMessageListenerContainer.class), mode);
+    }
+
+    private static Message<byte[]> outbound(String sessionId, String destination, String excluded) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setDestination(destination);
+        if (excluded != null) {
+            accessor.setNativeHeader(ChatMessageRelay.EXCLUDED_USERS_HEADER, excluded);
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    @Test
+    @DisplayName("제외 대상 헤더에 있는 사용자의 세션으로는 보내지 않는다")
+    void dropsExcludedUser() {
+        RoomBroadcastFilter filter = filter("local");
+        filter.register("s1", 1L, 7L);
+        filter.register("s2", 2L, 7L);
+
+        assertThat(filter.preSend(outbound("s1", "/topic/rooms/7/messages", "1,3"), channel)).isNull();
+        assertThat(filter.preSend(outbound("s2", "/topic/rooms/7/messages", "1,3"), channel)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("방을 나간 사용자의 세션으로는 그 방 토픽만 보내지 않는다")
+    void dropsRevokedRoom() {
+        RoomBroadcastFilter filter = filter("local");
+        filter.register("s1", 1L, 7L);
+        filter.register("s1", 1L, 8L);
+        filter.register("s2", 2L, 7L);
+
+        filter.revoke(7L, 1L);
+
+        assertThat(filter.preSend(outbound("s1", "/topic/rooms/7/messages", null), channel)).isNull();
+        assertThat(filter.preSend(outbound("s1", "/topic/rooms/8/messages", null), channel)).isNotNull();
+        assertThat(filter.preSend(outbound("s2", "/topic/rooms/7/messages", null), channel)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("다시 구독하면 다시 받는다")
+    void resubscribeAfterRevoke() {
+        RoomBroadcastFilter filter = filter("local");
+        filter.register("s1", 1L, 7L);
+        filter.revoke(7L, 1L);
+
+        filter.register("s1", 1L, 7L);
+
+        assertThat(filter.preSend(outbound("s1", "/topic/rooms/7/lang/ko", null), channel)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("redis 모드에서는 해제를 다른 노드에 알리고, 다른 노드가 보낸 해제도 반영한다")
+    void revokesAcrossNodes() {
+        RoomBroadcastFilter filter = filter("redis");
+        filter.register("s1", 1L, 7L);
+
+        filter.revoke(9L, 2L);
+        verify(redis).convertAndSend(eq(RoomBroadcastFilter.REVOKE_CHANNEL), endsWith(":9:2"));
+
+        filter.onMessage(new DefaultMessage(RoomBroadcastFilter.REVOKE_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "other-node:7:1".getBytes(StandardCharsets.UTF_8)), null);
+
+        assertThat(filter.preSend(outbound("s1", "/topic/rooms/7/messages", null), channel)).isNull();
+    }
+}
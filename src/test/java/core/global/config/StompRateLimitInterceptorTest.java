@@ -0,0 +1,87 @@
+package core.global.config;
+
+import core.global.metrics.StompChannelMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class StompRateLimitInterceptorTest {
+
+    private final StompChannelMetrics metrics = mock(StompChannelMetrics.class);
+    private final MessageChannel channel = mock(MessageChannel.class);
+    private final StompRateLimitInterceptor interceptor =
+            new StompRateLimitInterceptor(metrics, 0.001, 3, 0.001, 1, 0.001, 2, 0.001, 5);
+
+    private static Message<byte[]> frame(StompCommand command, String sessionId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(sessionId);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private int accepted(String sessionId, String destination, int attempts) {
+        int accepted = 0;
+        for (int i = 0; i < attempts; i++) {
+            if (interceptor.preSend(frame(StompCommand.SEND, sessionId, destination), channel) != null) {
+                accepted++;
+            }
+        }
+        return accepted;
+    }
+
+    @Test
+    @DisplayName("목적지별 버킷 크기만큼만 통과시키고 나머지는 버린다")
+    void dropsAfterBurst() {
+        assertThat(accepted("s1", "/app/chat.sendMessage", 5)).isEqualTo(3);
+        assertThat(accepted("s1", "/app/chat.typing", 5)).isEqualTo(2);
+        verify(metrics, times(2)).recordRejected("/app/chat.sendMessage");
+        verify(metrics, times(3)).recordRejected("/app/chat.typing");
+    }
+
+    @Test
+    @DisplayName("세션마다 따로 세고, 정하지 않은 목적지는 기본 한도를 함께 쓴다")
+    void limitsPerSession() {
+        assertThat(accepted("s1", "/app/chat.sendMessage", 3)).isEqualTo(3);
+        assertThat(accepted("s2", "/app/chat.sendMessage", 3)).isEqualTo(3);
+
+        assertThat(accepted("s1", "/app/chat.markAsRead", 3) + accepted("s1", "/app/chat.deleteMessage", 3)).isEqualTo(5);
+        verify(metrics).recordRejected(StompRateLimitInterceptor.DEFAULT_KEY);
+    }
+
+    @Test
+    @DisplayName("SEND 가 아니거나 /app 목적지가 아니면 제한하지 않는다")
+    void ignoresOtherFrames() {
+        for (int i = 0; i < 10; i++) {
+            assertThat(interceptor.preSend(frame(StompCommand.SUBSCRIBE, "s1", "/app/chat.sendMessage"), channel)).isNotNull();
+            assertThat(interceptor.preSend(frame(StompCommand.SEND, "s1", "/topic/rooms/1/messages"), channel)).isNotNull();
+        }
+    }
+
+    @Test
+    @DisplayName("토큰은 경과 시간만큼 다시 채워지고 버킷 크기를 넘지 않는다")
+    void refillsOverTime() {
+        StompRateLimitInterceptor.TokenBucket bucket =
+                new StompRateLimitInterceptor.TokenBucket(new StompRateLimitInterceptor.Limit(2, 2), 0);
+
+        assertThat(bucket.tryAcquire(0)).isTrue();
+        assertThat(bucket.tryAcquire(0)).isTrue();
+        assertThat(bucket.tryAcquire(0)).isFalse();
+
+        assertThat(bucket.tryAcquire(500_000_000L)).isTrue();
+        assertThat(bucket.tryAcquire(500_000_000L)).isFalse();
+
+        long tenSecondsLater = 10_500_000_000L;
+        assertThat(bucket.tryAcquire(tenSecondsLater)).isTrue();
+        assertThat(bucket.tryAcquire(tenSecondsLater)).isTrue();
+        assertThat(bucket.tryAcquire(tenSecondsLater)).isFalse();
+    }
+}
@@ -0,0 +1,75 @@
+package core.global.image.service;
+
+import core.global.enums.ImageType;
+import core.global.image.repository.ImageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ProfileImageResolverTest {
+
+    private final ImageRepository imageRepository = mock(ImageRepository.class);
+    private ProfileImageResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new ProfileImageResolver(imageRepository, mock(PlatformTransactionManager.class),
+                mock(StringRedisTemplate.class), mock(RedisMessageListenerContainer.class), 1_000, 30, "local");
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return List.of(rows);
+    }
+
+    @Test
+    @DisplayName("이미지 타입별로 한 번씩만 조회하고, 관련 ID 별 첫 번째 이미지를 돌려준다")
+    void resolvesInOneQueryPerType() {
+        given(imageRepository.findOrderedUrlsByRelatedIds(eq(ImageType.USER), anyCollection()))
+                .willReturn(rows(new Object[]{1L, "u1-first"}, new Object[]{1L, "u1-second"}, new Object[]{2L, "u2"}));
+        given(imageRepository.findOrderedUrlsByRelatedIds(eq(ImageType.CHAT_ROOM), anyCollection()))
+                .willReturn(rows(new Object[]{10L, "room10"}));
+
+        Map<ProfileImageResolver.Key, String> urls = resolver.resolve(List.of(
+                ProfileImageResolver.Key.user(1L), ProfileImageResolver.Key.user(2L), ProfileImageResolver.Key.user(3L),
+                ProfileImageResolver.Key.user(1L), ProfileImageResolver.Key.chatRoom(10L)));
+
+        assertThat(urls).containsOnly(
+                Map.entry(ProfileImageResolver.Key.user(1L), "u1-first"),
+                Map.entry(ProfileImageResolver.Key.user(2L), "u2"),
+                Map.entry(ProfileImageResolver.Key.chatRoom(10L), "room10"));
+        verify(imageRepository, times(1)).findOrderedUrlsByRelatedIds(eq(ImageType.USER), anyCollection());
+        verify(imageRepository, times(1)).findOrderedUrlsByRelatedIds(eq(ImageType.CHAT_ROOM), anyCollection());
+    }
+
+    @Test
+    @DisplayName("이미지가 없다는 결과도 캐시하고, 무효화하면 다시 조회한다")
+    void cachesMissesUntilInvalidated() {
+        given(imageRepository.findOrderedUrlsByRelatedIds(eq(ImageType.USER), anyCollection())).willReturn(rows());
+
+        assertThat(resolver.resolve(ImageType.USER, 5L)).isNull();
+        assertThat(resolver.resolve(ImageType.USER, List.of(5L))).isEmpty();
+        verify(imageRepository, times(1)).findOrderedUrlsByRelatedIds(any(), anyCollection());
+
+        given(imageRepository.findOrderedUrlsByRelatedIds(eq(ImageType.USER), anyCollection()))
+                .willReturn(rows(new Object[]{5L, "new.png"}));
+        resolver.invalidate(ImageType.USER, 5L);
+
+        assertThat(resolver.resolve(ImageType.USER, 5L)).isEqualTo("new.png");
+        verify(imageRepository, times(2)).findOrderedUrlsByRelatedIds(any(), anyCollection());
+    }
+}
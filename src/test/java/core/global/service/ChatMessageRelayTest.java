@@ -0,0 +1,137 @@
+package core.global.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import core.domain.chat.dto.ChatMessageResponse;
+import core.global.enums.MessageType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ChatMessageRelayTest {
+
+    private final List<Message<?>> sent = new ArrayList<>();
+    private SimpMessagingTemplate messagingTemplate;
+    private ChatMessageRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        MessageChannel brokerChannel = (message, timeout) -> sent.add(message);
+        messagingTemplate = new SimpMessagingTemplate(brokerChannel);
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+        converter.setObjectMapper(new ObjectMapper().registerModule(new JavaTimeModule()));
+        messagingTemplate.setMessageConverter(converter);
+        relay = new ChatMessageRelay(messagingTemplate, mock(RedisChatPublisher.class), "local");
+    }
+
+    private static ChatMessageResponse message(long id) {
+        return new ChatMessageResponse(id, 1L, 2L, "안녕하세요, 오늘 모임 몇 시에 시작하나요?", null,
+                Instant.parse("2025-10-21T09:00:00Z"), "Kim", "Minsu", "https://cdn.example.com/u/2.jpg", MessageType.TEXT, id);
+    }
+
+    @Nested
+    @DisplayName("send")
+    class Send {
+
+        @Test
+        @DisplayName("한 번 직렬화한 본문을 모든 목적지가 같은 바이트 배열로 공유한다")
+        void reusesEncodedBody() {
+            EncodedStompPayload encoded = relay.encode(message(10L));
+
+            relay.send("/topic/user/1/1/messages", encoded);
+            relay.send("/topic/user/2/1/messages", encoded);
+
+            assertThat(sent).hasSize(2);
+            assertThat(sent).allSatisfy(m -> assertThat(m.getPayload()).isSameAs(encoded.body()));
+            assertThat(SimpMessageHeaderAccessor.getDestination(sent.get(1).getHeaders())).isEqualTo("/topic/user/2/1/messages");
+        }
+
+        @Test
+        @DisplayName("convertAndSend 와 같은 JSON 과 Content-Type 으로 보낸다")
+        void matchesConverterOutput() {
+            messagingTemplate.convertAndSend("/topic/a", message(11L));
+            relay.convertAndSend("/topic/b", message(11L));
+
+            assertThat((byte[]) sent.get(1).getPayload()).isEqualTo((byte[]) sent.get(0).getPayload());
+            assertThat(sent.get(1).getHeaders().get("contentType")).isEqualTo(sent.get(0).getHeaders().get("contentType"));
+        }
+
+        @Test
+        @DisplayName("제외 대상은 네이티브 헤더로 붙는다")
+        void attachesExcludedUsers() {
+            relay.send("/topic/rooms/1/messages", relay.encode(message(12L)), List.of(3L, 4L));
+
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(sent.get(0));
+            assertThat(accessor.getFirstNativeHeader(ChatMessageRelay.EXCLUDED_USERS_HEADER)).isEqualTo("3,4");
+        }
+    }
+
+    /**
+     * 수신자별 convertAndSend(목적지마다 직렬화) 와 encode 1회 + send 의 팬아웃당 할당량 비교.
+     * 실행: ./gradlew test --tests '*ChatMessageRelayTest*' -Dbenchmark=true
+     */
+    @Nested
+    @DisplayName("benchmark")
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    class Benchmark {
+
+        private static final int WARMUP = 200;
+        private static final int ITERATIONS = 1_000;
+
+        @Test
+        @DisplayName("2 / 50 / 500명 방: 팬아웃 1회당 할당 바이트")
+        void compareAllocation() {
+            for (int members : new int[]{2, 50, 500}) {
+                List<String> destinations = new ArrayList<>(members);
+                for (int i = 0; i < members; i++) {
+                    destinations.add("/topic/user/" + i + "/1/messages");
+                }
+
+                long perDestination = allocatedPerFanOut(() -> {
+                    ChatMessageResponse payload = message(1L);
+                    destinations.forEach(d -> messagingTemplate.convertAndSend(d, payload));
+                });
+                long encodeOnce = allocatedPerFanOut(() -> {
+                    EncodedStompPayload payload = relay.encode(message(1L));
+                    destinations.forEach(d -> relay.send(d, payload));
+                });
+
+                System.out.printf("[stomp-fanout-benchmark] members=%d convertAndSend=%dB encodeOnce=%dB (%.1fx)%n",
+                        members, perDestination, encodeOnce, (double) perDestination / encodeOnce);
+                if (members > 2) {
+                    assertThat(encodeOnce).isLessThan(perDestination);
+                }
+            }
+        }
+
+        private long allocatedPerFanOut(Runnable fanOut) {
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            long threadId = Thread.currentThread().getId();
+            for (int i = 0; i < WARMUP; i++) {
+                fanOut.run();
+                sent.clear();
+            }
+            long before = threads.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < ITERATIONS; i++) {
+                fanOut.run();
+                sent.clear();
+            }
+            return (threads.getThreadAllocatedBytes(threadId) - before) / ITERATIONS;
+        }
+    }
+}
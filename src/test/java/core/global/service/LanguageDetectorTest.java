@@ -0,0 +1,130 @@
+package core.global.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LanguageDetectorTest {
+
+    private final LanguageDetector detector = new LanguageDetector();
+
+    @Nested
+    @DisplayName("문자 체계")
+    class Script {
+
+        @Test
+        @DisplayName("한글, 가나, 태국 문자는 문자 체계만으로 판별한다")
+        void detectsByScript() {
+            assertThat(detector.detect("안녕하세요 반갑습니다")).contains("ko");
+            assertThat(detector.detect("こんにちは、元気ですか")).contains("ja");
+            assertThat(detector.detect("สวัสดีครับ")).contains("th");
+        }
+
+        @Test
+        @DisplayName("가나 없이 한자만 있으면 판별하지 않는다")
+        void skipsHanOnly() {
+            assertThat(detector.detect("你好世界")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("한 문자 체계가 글자의 80% 이상이어야 한다")
+        void scriptShareThreshold() {
+            // 한글 4 / 라틴 1 = 80%
+            assertThat(detector.detect("안녕하세a")).contains("ko");
+            // 한글 3 / 라틴 2 = 60%
+            assertThat(detector.detect("안녕하ab")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("여러 문자 체계가 섞여 어느 쪽도 80% 에 못 미치면 판별하지 않는다")
+        void skipsMixedScript() {
+            assertThat(detector.detect("오늘 meeting 어때요")).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("라틴 문자")
+    class Latin {
+
+        @Test
+        @DisplayName("고빈도 단어가 충분히 맞으면 그 언어로 판별한다")
+        void detectsByStopwords() {
+            assertThat(detector.detect("Thank you so much for the help")).contains("en");
+            assertThat(detector.detect("Hola, ¿cómo estás? Gracias por todo")).contains("es");
+            assertThat(detector.detect("Danke, das ist sehr gut")).contains("de");
+        }
+
+        @Test
+        @DisplayName("단어가 세 개보다 적으면 판별하지 않는다")
+        void needsMinimumWords() {
+            assertThat(detector.detect("the and")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("맞는 단어가 두 개보다 적으면 판별하지 않는다")
+        void needsMinimumHits() {
+            assertThat(detector.detect("the purple elephant")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("맞는 단어 비율이 30% 경계를 넘어야 한다")
+        void hitRatioThreshold() {
+            // 2 / 6 ≈ 33%
+            assertThat(detector.detect("the weather and mountains rivers forests")).contains("en");
+            // 2 / 7 ≈ 29%
+            assertThat(detector.detect("the weather and mountains rivers forests valleys")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("두 언어의 일치 수가 비슷하면 판별하지 않는다")
+        void skipsAmbiguous() {
+            // es, fr 모두 de, la 두 개씩 일치
+            assertThat(detector.detect("de la casa")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("URL 과 이메일은 단어로 세지 않는다")
+        void ignoresUrls() {
+            assertThat(detector.detect("see https://example.com/the/and/of/you")).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("짧거나 글자가 없는 입력")
+    class NoLetters {
+
+        @Test
+        @DisplayName("이모지, 숫자, 문장부호, URL 만 있으면 글자가 없다고 보고 판별하지 않는다")
+        void emojiOnly() {
+            assertThat(detector.hasNoLetters("😀👍!! 123")).isTrue();
+            assertThat(detector.hasNoLetters("https://example.com/path")).isTrue();
+            assertThat(detector.detect("😀👍!!")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("빈 문자열과 null 은 판별하지 않는다")
+        void emptyInput() {
+            assertThat(detector.detect("")).isEmpty();
+            assertThat(detector.detect(null)).isEmpty();
+            assertThat(detector.hasNoLetters(null)).isTrue();
+        }
+
+        @Test
+        @DisplayName("한 글자라도 있으면 글자가 있다고 본다")
+        void singleLetter() {
+            assertThat(detector.hasNoLetters("ㅋ")).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("대상 언어는 주 언어 태그만 비교한다")
+    void comparesPrimaryTag() {
+        assertThat(detector.isConfidentlyIn("안녕하세요", "ko")).isTrue();
+        assertThat(detector.isConfidentlyIn("안녕하세요", "ko-KR")).isTrue();
+        assertThat(detector.isConfidentlyIn("Thank you so much for the help", "en-US")).isTrue();
+        assertThat(detector.isConfidentlyIn("안녕하세요", "en")).isFalse();
+        assertThat(detector.isConfidentlyIn("the purple elephant", "en")).isFalse();
+    }
+}
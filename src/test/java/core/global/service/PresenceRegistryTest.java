@@ -0,0 +1,198 @@
+package core.global.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class PresenceRegistryTest {
+
+    private final StringRedisTemplate redis = mock(StringRedisTemplate.class);
+
+    @Nested
+    @DisplayName("노드 내 상태")
+    class Local {
+
+        private final PresenceRegistry registry = new PresenceRegistry(redis, 15_000, "local");
+
+        @Test
+        @DisplayName("마지막 세션이 끊겨야 오프라인이 되고, 같은 세션을 두 번 끊어도 된다")
+        void onlineUntilLastSession() {
+            registry.connect("s1", 1L);
+            registry.connect("s2", 1L);
+
+            registry.disconnect("s1");
+            registry.disconnect("s1");
+            assertThat(registry.isOnline(1L)).isTrue();
+            assertThat(registry.sessionCount()).isEqualTo(1);
+
+            registry.disconnect("s2");
+            assertThat(registry.isOnline(1L)).isFalse();
+            assertThat(registry.onlineUserCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("방 목적지 구독이 모두 풀려야 방을 떠난 것으로 본다")
+        void viewingUntilLastSubscription() {
+            registry.connect("s1", 1L);
+            registry.subscribe("s1", "sub-1", "/topic/user/1/7/messages");
+            registry.subscribe("s1", "sub-2", "/topic/rooms/7/messages");
+            registry.subscribe("s1", "sub-3", "/topic/user/1/rooms");
+
+            assertThat(registry.viewers(7L)).containsExactly(1L);
+
+            registry.unsubscribe("s1", "sub-1");
+            assertThat(registry.isViewing(1L, 7L)).isTrue();
+            registry.unsubscribe("s1", "sub-2");
+            assertThat(registry.isViewing(1L, 7L)).isFalse();
+            assertThat(registry.isOnline(1L)).isTrue();
+        }
+
+        @Test
+        @DisplayName("연결이 끊기면 그 세션의 방 보기도 함께 사라진다")
+        void disconnectClearsViewing() {
+            registry.connect("s1", 1L);
+            registry.subscribe("s1", "sub-1", "/topic/user/1/7/messages");
+
+            registry.disconnect("s1");
+
+            assertThat(registry.isViewing(1L, 7L)).isFalse();
+            assertThat(registry.viewers(7L)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("다른 사용자의 개인 목적지는 방 보기로 치지 않는다")
+        void ignoresOtherUsersDestination() {
+            registry.connect("s1", 1L);
+            registry.subscribe("s1", "sub-1", "/topic/user/2/7/messages");
+
+            assertThat(registry.isViewing(1L, 7L)).isFalse();
+        }
+
+        @Test
+        @DisplayName("local 모드에서는 Redis 를 쓰지 않는다")
+        void localModeSkipsRedis() {
+            registry.connect("s1", 1L);
+            registry.heartbeat();
+
+            assertThat(registry.isOnlineAnywhere(2L)).isFalse();
+            assertThat(registry.onlineUserCountAnywhere()).hasValue(1);
+            registry.disconnect("s1");
+            verifyNoInteractions(redis);
+        }
+    }
+
+    @Nested
+    @DisplayName("redis 모드")
+    class Cluster {
+
+        @SuppressWarnings("unchecked")
+        private final ZSetOperations<String, String> zSet = mock(ZSetOperations.class);
+        private final PresenceRegistry registry = new PresenceRegistry(redis, 15_000, "redis");
+
+        Cluster() {
+            given(redis.opsForZSet()).willReturn(zSet);
+        }
+
+        @Test
+        @DisplayName("heartbeat 는 접속자와 방 보기를 키마다 한 번에 기록한다")
+        void heartbeatWritesBatches() {
+            registry.connect("s1", 1L);
+            registry.connect("s2", 2L);
+            registry.subscribe("s1", "sub-1", "/topic/user/1/7/messages");
+
+            registry.heartbeat();
+
+            String node = registry.nodeId();
+            verify(zSet).add(eq(PresenceRegistry.NODES_KEY), eq(node), anyDouble());
+            verify(zSet).add(eq(PresenceRegistry.keyOf(PresenceRegistry.ONLINE_KEY, node)), anySet());
+            verify(zSet).add(eq(PresenceRegistry.keyOf(PresenceRegistry.VIEWING_KEY, node)), anySet());
+            verify(redis).expire(eq(PresenceRegistry.keyOf(PresenceRegistry.ONLINE_KEY, node)), any());
+        }
+
+        @Test
+        @DisplayName("이 노드에 없으면 살아 있는 다른 노드의 heartbeat 를 확인한다")
+        void checksOtherNodes() {
+            given(zSet.rangeByScore(eq(PresenceRegistry.NODES_KEY), anyDouble(), eq(Double.POSITIVE_INFINITY)))
+                    .willReturn(new LinkedHashSet<>(List.of("n2", "n3")));
+            given(zSet.score(PresenceRegistry.keyOf(PresenceRegistry.ONLINE_KEY, "n3"), "3"))
+                    .willReturn((double) System.currentTimeMillis() + 10_000);
+            given(zSet.score(PresenceRegistry.keyOf(PresenceRegistry.VIEWING_KEY, "n2"), "3:7"))
+                    .willReturn((double) System.currentTimeMillis() - 1);
+
+            assertThat(registry.isOnlineAnywhere(3L)).isTrue();
+            assertThat(registry.isViewingAnywhere(3L, 7L)).isFalse();
+        }
+
+        @Test
+        @DisplayName("전체 접속자 수는 살아 있는 노드의 접속자를 중복 없이 센다")
+        void countsOnlineUsersAcrossNodes() {
+            given(zSet.rangeByScore(eq(PresenceRegistry.NODES_KEY), anyDouble(), eq(Double.POSITIVE_INFINITY)))
+                    .willReturn(new LinkedHashSet<>(List.of(registry.nodeId(), "n2")));
+            given(zSet.rangeByScore(eq(PresenceRegistry.keyOf(PresenceRegistry.ONLINE_KEY, "n2")), anyDouble(), eq(Double.POSITIVE_INFINITY)))
+                    .willReturn(Set.of("1", "3"));
+            registry.connect("s1", 1L);
+            registry.connect("s2", 2L);
+
+            assertThat(registry.onlineUserCountAnywhere()).hasValue(3);
+            assertThat(registry.onlineUserCount()).isEqualTo(2);
+            verify(zSet, never()).rangeByScore(eq(PresenceRegistry.keyOf(PresenceRegistry.ONLINE_KEY, registry.nodeId())), anyDouble(), anyDouble());
+        }
+
+        @Test
+        @DisplayName("전체 접속자 수 조회가 실패하면 값을 내지 않는다")
+        void emptyWhenRedisFails() {
+            given(zSet.rangeByScore(eq(PresenceRegistry.NODES_KEY), anyDouble(), eq(Double.POSITIVE_INFINITY)))
+                    .willThrow(new IllegalStateException("down"));
+
+            assertThat(registry.onlineUserCountAnywhere()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("마지막 세션이 끊기면 heartbeat 를 기다리지 않고 이 노드의 기록만 지운다")
+        void forgetsOnLastDisconnect() {
+            registry.connect("s1", 1L);
+            registry.subscribe("s1", "sub-1", "/topic/rooms/7/messages");
+
+            registry.disconnect("s1");
+
+            String node = registry.nodeId();
+            verify(zSet).remove(PresenceRegistry.keyOf(PresenceRegistry.ONLINE_KEY, node), "1");
+            verify(zSet).remove(PresenceRegistry.keyOf(PresenceRegistry.VIEWING_KEY, node), "1:7");
+            verify(zSet, never()).remove(PresenceRegistry.ONLINE_KEY, "1");
+        }
+
+        @Test
+        @DisplayName("다른 노드에 남은 세션은 이 노드의 연결이 끊겨도 계속 보인다")
+        void otherNodeSessionSurvivesDisconnect() {
+            given(zSet.rangeByScore(eq(PresenceRegistry.NODES_KEY), anyDouble(), eq(Double.POSITIVE_INFINITY)))
+                    .willReturn(new LinkedHashSet<>(List.of(registry.nodeId(), "n2")));
+            given(zSet.score(PresenceRegistry.keyOf(PresenceRegistry.ONLINE_KEY, "n2"), "1"))
+                    .willReturn((double) System.currentTimeMillis() + 10_000);
+            registry.connect("s1", 1L);
+
+            registry.disconnect("s1");
+
+            assertThat(registry.isOnline(1L)).isFalse();
+            assertThat(registry.isOnlineAnywhere(1L)).isTrue();
+            verify(zSet, never()).score(eq(PresenceRegistry.keyOf(PresenceRegistry.ONLINE_KEY, registry.nodeId())), anyString());
+        }
+    }
+}
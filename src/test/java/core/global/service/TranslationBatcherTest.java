@@ -0,0 +1,247 @@
+package core.global.service;
+
+import core.global.metrics.TranslationCacheMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TranslationBatcherTest {
+
+    private final ExecutorService rpcExecutor = Executors.newFixedThreadPool(8);
+    private final TranslationCacheMetrics metrics = new TranslationCacheMetrics(new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        rpcExecutor.shutdownNow();
+    }
+
+    /**
+     * 로컬 가짜 번역 서버. RPC 한 번마다 고정 지연 + 원문 수에 비례한 지연이 있고,
+     * 실제 API 처럼 동시에 처리할 수 있는 요청 수가 제한되어 있습니다.
+     */
+    static class FakeTranslationServer implements TranslationBackend {
+        private final long perCallMillis;
+        private final long perItemMicros;
+        private final Semaphore concurrency;
+        final AtomicInteger calls = new AtomicInteger();
+
+        FakeTranslationServer(long perCallMillis, long perItemMicros, int maxConcurrentCalls) {
+            this.perCallMillis = perCallMillis;
+            this.perItemMicros = perItemMicros;
+            this.concurrency = new Semaphore(maxConcurrentCalls);
+        }
+
+        @Override
+        public List<String> translate(List<String> contents, String targetLanguage) throws InterruptedException {
+            calls.incrementAndGet();
+            concurrency.acquire();
+            try {
+                TimeUnit.MICROSECONDS.sleep(perCallMillis * 1000 + perItemMicros * contents.size());
+            } finally {
+                concurrency.release();
+            }
+            return contents.stream().map(c -> "[" + targetLanguage + "]" + c).toList();
+        }
+    }
+
+    @Nested
+    @DisplayName("submit")
+    class Submit {
+
+        @Test
+        @DisplayName("창 안에 들어온 같은 언어 요청은 한 번의 호출로 묶이고 결과는 각 호출자에게 순서대로 돌아간다")
+        void coalescesConcurrentCallers() throws Exception {
+            FakeTranslationServer server = new FakeTranslationServer(1, 0, 8);
+            TranslationBatcher batcher = new TranslationBatcher(server, rpcExecutor, metrics, 50, 100, 20000);
+
+            CompletableFuture<List<String>> a = batcher.submit(List.of("a1", "a2"), "ko");
+            CompletableFuture<List<String>> b = batcher.submit(List.of("b1"), "ko");
+            CompletableFuture<List<String>> c = batcher.submit(List.of("c1"), "en");
+
+            assertThat(a.get(1, TimeUnit.SECONDS)).containsExactly("[ko]a1", "[ko]a2");
+            assertThat(b.get(1, TimeUnit.SECONDS)).containsExactly("[ko]b1");
+            assertThat(c.get(1, TimeUnit.SECONDS)).containsExactly("[en]c1");
+            assertThat(server.calls.get()).isEqualTo(2);
+            batcher.shutdown();
+        }
+
+        @Test
+        @DisplayName("최대 배치 크기에 도달하면 창을 기다리지 않고 바로 보낸다")
+        void flushesWhenFull() throws Exception {
+            FakeTranslationServer server = new FakeTranslationServer(1, 0, 8);
+            TranslationBatcher batcher = new TranslationBatcher(server, rpcExecutor, metrics, 10_000, 2, 20000);
+
+            List<String> result = batcher.submit(List.of("x", "y"), "ja").get(1, TimeUnit.SECONDS);
+
+            assertThat(result).containsExactly("[ja]x", "[ja]y");
+            batcher.shutdown();
+        }
+
+        @Test
+        @DisplayName("배치 호출이 실패하면 묶인 호출자 모두 실패한다")
+        void propagatesFailure() {
+            TranslationBackend failing = (contents, lang) -> {
+                throw new IllegalStateException("upstream down");
+            };
+            TranslationBatcher batcher = new TranslationBatcher(failing, rpcExecutor, metrics, 5, 100, 20000);
+
+            assertThatThrownBy(() -> batcher.submit(List.of("a"), "ko").get(1, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasRootCauseMessage("upstream down");
+            batcher.shutdown();
+        }
+    }
+
+    @Nested
+    @DisplayName("RPC 실행기 포화")
+    class Saturated {
+
+        private final CountDownLatch release = new CountDownLatch(1);
+        /** 스레드 하나, 대기열 없음, 기본 AbortPolicy. 첫 작업이 스레드를 붙잡고 있으면 이후 작업은 모두 거절됩니다. */
+        private final ThreadPoolExecutor saturated = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new SynchronousQueue<>());
+
+        Saturated() throws InterruptedException {
+            CountDownLatch busy = new CountDownLatch(1);
+            saturated.execute(() -> {
+                busy.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            busy.await(5, TimeUnit.SECONDS);
+        }
+
+        @AfterEach
+        void tearDown() {
+            release.countDown();
+            saturated.shutdownNow();
+        }
+
+        @Test
+        @DisplayName("창이 끝나 보낸 배치가 거절되면 묶인 호출자 모두 실패한다")
+        void failsCallersOnTimerFlush() {
+            FakeTranslationServer server = new FakeTranslationServer(1, 0, 8);
+            TranslationBatcher batcher = new TranslationBatcher(server, saturated, metrics, 5, 100, 20000);
+
+            CompletableFuture<List<String>> a = batcher.submit(List.of("a"), "ko");
+            CompletableFuture<List<String>> b = batcher.submit(List.of("b"), "ko");
+
+            for (CompletableFuture<List<String>> future : List.of(a, b)) {
+                assertThatThrownBy(() -> future.get(1, TimeUnit.SECONDS))
+                        .isInstanceOf(ExecutionException.class)
+                        .hasCauseInstanceOf(RejectedExecutionException.class);
+            }
+            assertThat(server.calls.get()).isZero();
+            batcher.shutdown();
+        }
+
+        @Test
+        @DisplayName("크기 초과로 보낸 배치가 거절되어도 배치를 채운 호출자에게 예외를 던지지 않고 모두 실패시킨다")
+        void failsCallersOnSizeFlush() {
+            FakeTranslationServer server = new FakeTranslationServer(1, 0, 8);
+            TranslationBatcher batcher = new TranslationBatcher(server, saturated, metrics, 10_000, 2, 20000);
+
+            CompletableFuture<List<String>> a = batcher.submit(List.of("a"), "ko");
+            CompletableFuture<List<String>> b = batcher.submit(List.of("b"), "ko");
+
+            for (CompletableFuture<List<String>> future : List.of(a, b)) {
+                assertThatThrownBy(() -> future.get(1, TimeUnit.SECONDS))
+                        .isInstanceOf(ExecutionException.class)
+                        .hasCauseInstanceOf(RejectedExecutionException.class);
+            }
+            batcher.shutdown();
+        }
+    }
+
+    /**
+     * 요청당 한 번 호출(기존 방식) 과 배칭의 지연(p50/p99) 비교.
+     * 실행: ./gradlew test --tests '*TranslationBatcherTest*' -Dbenchmark=true
+     */
+    @Nested
+    @DisplayName("benchmark")
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    class Benchmark {
+
+        private static final int CALLERS = 64;
+        private static final int REQUESTS_PER_CALLER = 20;
+
+        @Test
+        @DisplayName("동시 64명 × 20건: 요청당 호출 vs 배칭")
+        void compareLatency() throws Exception {
+            FakeTranslationServer direct = new FakeTranslationServer(20, 50, 8);
+            List<Long> directLatencies = run(text -> direct.translate(List.of(text), "ko"));
+
+            FakeTranslationServer batched = new FakeTranslationServer(20, 50, 8);
+            TranslationBatcher batcher = new TranslationBatcher(batched, rpcExecutor, metrics, 5, 100, 20000);
+            List<Long> batchedLatencies = run(text -> batcher.submit(List.of(text), "ko").get(10, TimeUnit.SECONDS));
+            batcher.shutdown();
+
+            System.out.printf("[translation-benchmark] direct : p50=%dms p99=%dms rpc=%d%n",
+                    percentile(directLatencies, 50), percentile(directLatencies, 99), direct.calls.get());
+            System.out.printf("[translation-benchmark] batched: p50=%dms p99=%dms rpc=%d%n",
+                    percentile(batchedLatencies, 50), percentile(batchedLatencies, 99), batched.calls.get());
+
+            assertThat(batched.calls.get()).isLessThan(direct.calls.get());
+        }
+
+        private List<Long> run(Call call) throws InterruptedException {
+            ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+            List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+            CountDownLatch done = new CountDownLatch(CALLERS);
+            for (int c = 0; c < CALLERS; c++) {
+                int caller = c;
+                callers.execute(() -> {
+                    try {
+                        for (int i = 0; i < REQUESTS_PER_CALLER; i++) {
+                            long start = System.nanoTime();
+                            call.translate("message-" + caller + "-" + i);
+                            latencies.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                        }
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            done.await(5, TimeUnit.MINUTES);
+            callers.shutdownNow();
+            return latencies;
+        }
+
+        private long percentile(List<Long> values, int p) {
+            List<Long> sorted = new ArrayList<>(values);
+            Collections.sort(sorted);
+            int index = (int) Math.ceil(p / 100.0 * sorted.size()) - 1;
+            return sorted.get(Math.max(index, 0));
+        }
+    }
+
+    @FunctionalInterface
+    interface Call {
+        Object translate(String text) throws Exception;
+    }
+}
@@ -0,0 +1,90 @@
+package core.global.service;
+
+import core.global.metrics.TranslationCacheMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class TranslationCacheTest {
+
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> values = mock(ValueOperations.class);
+    private final StringRedisTemplate redis = mock(StringRedisTemplate.class);
+    private final TranslationCacheMetrics metrics = mock(TranslationCacheMetrics.class);
+    private TranslationCache cache;
+
+    @BeforeEach
+    void setUp() {
+        given(redis.opsForValue()).willReturn(values);
+        cache = new TranslationCache(redis, metrics, 100, 60, 72);
+    }
+
+    @Test
+    @DisplayName("앞뒤 공백과 NFC/NFD 차이는 같은 키가 된다")
+    void normalizesText() {
+        String nfc = "\uD55C\uAE00 caf\u00E9"; // 한글 café (완성형)
+        String nfd = "\u1112\u1161\u11AB\u1100\u1173\u11AF cafe\u0301"; // 한글 café (조합형)
+
+        assertThat(TranslationCache.keyOf("  " + nfd + "\n", "en")).isEqualTo(TranslationCache.keyOf(nfc, "en"));
+    }
+
+    @Test
+    @DisplayName("대상 언어는 대소문자와 공백을 무시하고, 다른 언어나 다른 원문은 다른 키가 된다")
+    void separatesLanguagesAndTexts() {
+        assertThat(TranslationCache.keyOf("hello", " KO ")).isEqualTo(TranslationCache.keyOf("hello", "ko"));
+        assertThat(TranslationCache.keyOf("hello", "ko")).isNotEqualTo(TranslationCache.keyOf("hello", "ja"));
+        assertThat(TranslationCache.keyOf("hello", "ko")).isNotEqualTo(TranslationCache.keyOf("hello!", "ko"));
+    }
+
+    @Test
+    @DisplayName("로컬에 없는 키만 Redis 에서 한 번에 읽고, 찾은 값은 로컬에 채워 다음에는 Redis 를 읽지 않는다")
+    void fallsThroughToRedisAndBackfills() {
+        String cached = TranslationCache.keyOf("cached", "ko");
+        String shared = TranslationCache.keyOf("shared", "ko");
+        String missing = TranslationCache.keyOf("missing", "ko");
+        cache.putAll(Map.of(cached, "캐시"));
+        given(values.multiGet(List.of(shared, missing))).willReturn(Arrays.asList("공유", null));
+
+        assertThat(cache.getAll(List.of(cached, shared, missing))).containsOnly(
+                Map.entry(cached, "캐시"), Map.entry(shared, "공유"));
+        verify(metrics).recordLocal(1, 2);
+        verify(metrics).recordRedis(1, 1);
+
+        assertThat(cache.getAll(List.of(shared))).containsOnly(Map.entry(shared, "공유"));
+        verify(values, times(1)).multiGet(anyList());
+    }
+
+    @Test
+    @DisplayName("정규화가 다른 같은 문장도 로컬 캐시에서 같은 항목을 찾는다")
+    void variantsHitSameEntry() {
+        cache.putAll(Map.of(TranslationCache.keyOf("caf\u00E9", "en"), "cafe"));
+
+        assertThat(cache.getAll(List.of(TranslationCache.keyOf(" cafe\u0301 ", "en")))).containsValue("cafe");
+        verify(values, never()).multiGet(anyList());
+    }
+
+    @Test
+    @DisplayName("Redis 조회가 실패하면 로컬에서 찾은 것만 돌려주고 오류 수를 센다")
+    void survivesRedisFailure() {
+        String key = TranslationCache.keyOf("hello", "ko");
+        given(values.multiGet(anyList())).willThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(cache.getAll(List.of(key))).isEmpty();
+        verify(metrics).recordRedisError();
+    }
+}